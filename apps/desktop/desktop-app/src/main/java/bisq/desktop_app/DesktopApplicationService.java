@@ -25,6 +25,7 @@ import bisq.bonded_roles.BondedRolesService;
 import bisq.bonded_roles.security_manager.alert.AlertNotificationsService;
 import bisq.chat.ChatService;
 import bisq.common.application.Service;
+import bisq.common.application.ServiceGraph;
 import bisq.common.observable.Observable;
 import bisq.common.platform.OS;
 import bisq.common.util.CompletableFutureUtils;
@@ -106,6 +107,7 @@ public class DesktopApplicationService extends JavaSeApplicationService {
     private final WebcamAppService webcamAppService;
     private final HttpApiService httpApiService;
     private final OpenTradeItemsService openTradeItemsService;
+    private final ServiceGraph serviceGraph;
 
     public DesktopApplicationService(String[] args, ShutDownHandler shutDownHandler) {
         super("desktop", args);
@@ -164,7 +166,8 @@ public class DesktopApplicationService extends JavaSeApplicationService {
                 networkService,
                 userService,
                 settingsService,
-                systemNotificationService);
+                systemNotificationService,
+                bondedRolesService.getMarketPriceService());
 
         supportService = new SupportService(SupportService.Config.from(getConfig("support")),
                 persistenceService,
@@ -240,6 +243,32 @@ public class DesktopApplicationService extends JavaSeApplicationService {
                 tradeService,
                 settingsService,
                 openTradeItemsService);
+
+        // Services initialized after the network. Dependencies follow the constructor arguments.
+        serviceGraph = new ServiceGraph()
+                .add(identityService)
+                .add(bondedRolesService)
+                .add(accountService)
+                .add(contractService)
+                .add(userService, identityService, bondedRolesService)
+                .add(settingsService)
+                .add(systemNotificationService)
+                .add(offerService, identityService)
+                .add(chatService, userService, settingsService, systemNotificationService, bondedRolesService)
+                .add(supportService, chatService, userService, bondedRolesService)
+                .add(tradeService, identityService, offerService, contractService, supportService, chatService,
+                        bondedRolesService, userService, settingsService)
+                .add(updaterService, settingsService, bondedRolesService)
+                .add(bisqEasyService, identityService, bondedRolesService, accountService, offerService,
+                        contractService, userService, chatService, settingsService, supportService,
+                        systemNotificationService, tradeService)
+                .add(alertNotificationsService, settingsService, bondedRolesService)
+                .add(favouriteMarketsService, settingsService)
+                .add(dontShowAgainService, settingsService)
+                .add(webcamAppService)
+                .add(openTradeItemsService, chatService, tradeService, userService)
+                .add(httpApiService, userService, bondedRolesService, chatService, supportService, tradeService,
+                        settingsService, openTradeItemsService);
     }
 
     @Override
@@ -272,25 +301,7 @@ public class DesktopApplicationService extends JavaSeApplicationService {
                         setState(State.INITIALIZE_SERVICES);
                     }
                 })
-                .thenCompose(result -> identityService.initialize())
-                .thenCompose(result -> bondedRolesService.initialize())
-                .thenCompose(result -> accountService.initialize())
-                .thenCompose(result -> contractService.initialize())
-                .thenCompose(result -> userService.initialize())
-                .thenCompose(result -> settingsService.initialize())
-                .thenCompose(result -> offerService.initialize())
-                .thenCompose(result -> chatService.initialize())
-                .thenCompose(result -> systemNotificationService.initialize())
-                .thenCompose(result -> supportService.initialize())
-                .thenCompose(result -> tradeService.initialize())
-                .thenCompose(result -> updaterService.initialize())
-                .thenCompose(result -> bisqEasyService.initialize())
-                .thenCompose(result -> alertNotificationsService.initialize())
-                .thenCompose(result -> favouriteMarketsService.initialize())
-                .thenCompose(result -> dontShowAgainService.initialize())
-                .thenCompose(result -> webcamAppService.initialize())
-                .thenCompose(result -> openTradeItemsService.initialize())
-                .thenCompose(result -> httpApiService.initialize())
+                .thenCompose(result -> serviceGraph.initialize())
                 .orTimeout(STARTUP_TIMEOUT_SEC, TimeUnit.SECONDS)
                 .handle((result, throwable) -> {
                     if (throwable == null) {
@@ -0,0 +1,313 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.desktop.common.observable;
+
+import bisq.common.observable.Pin;
+import bisq.common.observable.collection.CollectionObserver;
+import bisq.common.observable.collection.ObservableCollection;
+import bisq.desktop.common.threading.UIThread;
+import com.google.common.annotations.VisibleForTesting;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bridges an observable collection to a JavaFX list. Adds and removes are collected on the calling thread and get
+ * applied on the JavaFX thread once per pulse with a single addAll and removeAll call. This avoids that a burst of
+ * changes (e.g. at inventory sync) queues one runnable per change on the JavaFX thread, each triggering the sorting
+ * and filtering of the list.
+ * <p>
+ * The list items are indexed by the key of their source element, so that removals and duplicate checks are O(1).
+ * The index is only accessed on the JavaFX thread.
+ * <p>
+ * Usage:
+ * <pre>
+ * Pin pin = new BatchingListBinding&lt;&gt;(listItems, ChatMessage::getId, ChatMessageListItem::new)
+ *         .filter(message -> ...)
+ *         .onItemRemoved(ChatMessageListItem::dispose)
+ *         .to(channel.getChatMessages());
+ * </pre>
+ *
+ * @param <S> The type of the source elements
+ * @param <K> The type of the key of the source elements
+ * @param <T> The type of the list items
+ */
+@Slf4j
+public class BatchingListBinding<S, K, T> implements CollectionObserver<S> {
+    private final ObservableList<T> observableList;
+    private final Function<S, K> keyFunction;
+    private final Function<S, T> mapFunction;
+    private final Consumer<Runnable> updateScheduler;
+    private Predicate<S> filter = e -> true;
+    private Consumer<T> itemAddedHandler = e -> {
+    };
+    private Consumer<T> itemRemovedHandler = e -> {
+    };
+    private Runnable changesAppliedHandler = () -> {
+    };
+
+    // Pending changes, guarded by pendingChangesLock
+    private final Object pendingChangesLock = new Object();
+    private final Map<K, S> pendingAdds = new LinkedHashMap<>();
+    private final Set<K> pendingRemoves = new LinkedHashSet<>();
+    private boolean isClearPending;
+    private boolean isUpdateScheduled;
+    private boolean isUnbound;
+
+    // Only accessed on the JavaFX thread
+    private final Map<K, T> itemByKey = new HashMap<>();
+
+    /**
+     * @param mapFunction Maps the source element to the list item. Gets called on the JavaFX thread. If it returns
+     *                    null or throws an exception, the source element is ignored.
+     */
+    public BatchingListBinding(ObservableList<T> observableList,
+                               Function<S, K> keyFunction,
+                               Function<S, T> mapFunction) {
+        this(observableList, keyFunction, mapFunction, UIThread::runOnNextRenderFrame);
+    }
+
+    /**
+     * @param updateScheduler Schedules the application of the pending changes. Allows tests to apply the changes
+     *                        without the JavaFX toolkit.
+     */
+    @VisibleForTesting
+    BatchingListBinding(ObservableList<T> observableList,
+                        Function<S, K> keyFunction,
+                        Function<S, T> mapFunction,
+                        Consumer<Runnable> updateScheduler) {
+        this.observableList = observableList;
+        this.keyFunction = keyFunction;
+        this.mapFunction = mapFunction;
+        this.updateScheduler = updateScheduler;
+    }
+
+    /**
+     * Only source elements passing the filter get added. The filter is applied on the calling thread at add.
+     */
+    public BatchingListBinding<S, K, T> filter(Predicate<S> filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    public BatchingListBinding<S, K, T> onItemAdded(Consumer<T> itemAddedHandler) {
+        this.itemAddedHandler = itemAddedHandler;
+        return this;
+    }
+
+    /**
+     * Gets called for each item removed from the list, also at clear. Can be used to dispose the item.
+     */
+    public BatchingListBinding<S, K, T> onItemRemoved(Consumer<T> itemRemovedHandler) {
+        this.itemRemovedHandler = itemRemovedHandler;
+        return this;
+    }
+
+    /**
+     * Gets called on the JavaFX thread after a batch of changes has been applied to the list.
+     */
+    public BatchingListBinding<S, K, T> onChangesApplied(Runnable changesAppliedHandler) {
+        this.changesAppliedHandler = changesAppliedHandler;
+        return this;
+    }
+
+    /**
+     * Observes the given collection. If called on the JavaFX thread, the current elements get applied immediately,
+     * otherwise at the next pulse. At unbind, pending changes get discarded, the list is left unchanged.
+     * An instance can only be bound once.
+     */
+    public Pin to(ObservableCollection<S> observableCollection) {
+        Pin pin = observableCollection.addObserver(this);
+        if (Platform.isFxApplicationThread()) {
+            applyPendingChanges();
+        }
+        return () -> {
+            pin.unbind();
+            synchronized (pendingChangesLock) {
+                isUnbound = true;
+                pendingAdds.clear();
+                pendingRemoves.clear();
+                isClearPending = false;
+            }
+        };
+    }
+
+
+    /* --------------------------------------------------------------------- */
+    // CollectionObserver
+    /* --------------------------------------------------------------------- */
+
+    @Override
+    public void add(S element) {
+        addAll(List.of(element));
+    }
+
+    @Override
+    public void addAll(Collection<? extends S> values) {
+        List<S> filtered = new ArrayList<>();
+        values.forEach(element -> {
+            if (filter.test(element)) {
+                filtered.add(element);
+            }
+        });
+        if (filtered.isEmpty()) {
+            return;
+        }
+        synchronized (pendingChangesLock) {
+            filtered.forEach(element -> {
+                K key = keyFunction.apply(element);
+                pendingRemoves.remove(key);
+                pendingAdds.put(key, element);
+            });
+            maybeScheduleUpdate();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void remove(Object element) {
+        try {
+            removeByKey(keyFunction.apply((S) element));
+        } catch (ClassCastException e) {
+            log.warn("Removed element {} is not of the expected type", element);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (pendingChangesLock) {
+            pendingAdds.clear();
+            pendingRemoves.clear();
+            isClearPending = true;
+            maybeScheduleUpdate();
+        }
+    }
+
+
+    /* --------------------------------------------------------------------- */
+    // API
+    /* --------------------------------------------------------------------- */
+
+    public void removeByKey(K key) {
+        synchronized (pendingChangesLock) {
+            pendingAdds.remove(key);
+            pendingRemoves.add(key);
+            maybeScheduleUpdate();
+        }
+    }
+
+    /**
+     * Must be called on the JavaFX thread.
+     */
+    public Optional<T> findItem(K key) {
+        return Optional.ofNullable(itemByKey.get(key));
+    }
+
+
+    /* --------------------------------------------------------------------- */
+    // Private
+    /* --------------------------------------------------------------------- */
+
+    private void maybeScheduleUpdate() {
+        if (!isUpdateScheduled && !isUnbound) {
+            isUpdateScheduled = true;
+            updateScheduler.accept(this::applyPendingChanges);
+        }
+    }
+
+    // Must be called on the JavaFX thread, or by tests on the thread owning the list.
+    @VisibleForTesting
+    void applyPendingChanges() {
+        Map<K, S> adds;
+        Set<K> removes;
+        boolean clear;
+        synchronized (pendingChangesLock) {
+            isUpdateScheduled = false;
+            if (isUnbound) {
+                return;
+            }
+            adds = new LinkedHashMap<>(pendingAdds);
+            removes = new LinkedHashSet<>(pendingRemoves);
+            clear = isClearPending;
+            pendingAdds.clear();
+            pendingRemoves.clear();
+            isClearPending = false;
+        }
+
+        boolean hasChanged = false;
+        if (clear && !itemByKey.isEmpty()) {
+            itemByKey.values().forEach(itemRemovedHandler);
+            observableList.removeAll(newIdentitySet(itemByKey.values()));
+            itemByKey.clear();
+            hasChanged = true;
+        }
+
+        List<T> itemsToRemove = new ArrayList<>();
+        removes.forEach(key -> {
+            T item = itemByKey.remove(key);
+            if (item != null) {
+                itemsToRemove.add(item);
+            }
+        });
+        if (!itemsToRemove.isEmpty()) {
+            itemsToRemove.forEach(itemRemovedHandler);
+            observableList.removeAll(newIdentitySet(itemsToRemove));
+            hasChanged = true;
+        }
+
+        List<T> itemsToAdd = new ArrayList<>();
+        adds.forEach((key, element) -> {
+            if (!itemByKey.containsKey(key)) {
+                T item;
+                try {
+                    item = mapFunction.apply(element);
+                } catch (Exception e) {
+                    // We must not fail the whole batch, otherwise the already indexed items would never be added
+                    log.error("Mapping element with key {} failed", key, e);
+                    return;
+                }
+                if (item != null) {
+                    itemByKey.put(key, item);
+                    itemsToAdd.add(item);
+                }
+            }
+        });
+        if (!itemsToAdd.isEmpty()) {
+            observableList.addAll(itemsToAdd);
+            itemsToAdd.forEach(itemAddedHandler);
+            hasChanged = true;
+        }
+
+        if (hasChanged) {
+            changesAppliedHandler.run();
+        }
+    }
+
+    // ObservableList.removeAll calls contains on the given collection for each list element
+    private Set<T> newIdentitySet(Collection<T> items) {
+        Set<T> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(items);
+        return set;
+    }
+}
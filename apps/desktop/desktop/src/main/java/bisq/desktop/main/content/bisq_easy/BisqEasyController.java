@@ -36,6 +36,8 @@ import bisq.i18n.Res;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -44,6 +46,7 @@ public class BisqEasyController extends ContentTabController<BisqEasyModel> {
     private final BisqEasyView view;
     private final ChatNotificationService chatNotificationService;
     private final BisqEasyNotificationsService bisqEasyNotificationsService;
+    private final Map<ChatChannelDomain, ChatNotification> lastChangedNotificationByDomain = new HashMap<>();
     private Pin changedChatNotificationPin;
 
     public BisqEasyController(ServiceProvider serviceProvider) {
@@ -91,18 +94,32 @@ public class BisqEasyController extends ContentTabController<BisqEasyModel> {
             return;
         }
 
-        UIThread.run(() -> {
-            ChatChannelDomain domain = notification.getChatChannelDomain();
-            findTab(domain).ifPresent(tabButton -> {
-                // If we are a mediator, and we are dealing with a BISQ_EASY_OPEN_TRADES domain we do not show the notifications
-                if (domain == ChatChannelDomain.BISQ_EASY_OPEN_TRADES &&
-                        bisqEasyNotificationsService.isMediatorsNotification(notification)) {
-                    tabButton.setNumNotifications(0);
-                } else {
-                    tabButton.setNumNotifications(chatNotificationService.getNumNotifications(domain));
-                }
-            });
-        });
+        // A burst of notifications results in one update per domain at the next render frame
+        boolean isUpdateScheduled;
+        synchronized (lastChangedNotificationByDomain) {
+            isUpdateScheduled = !lastChangedNotificationByDomain.isEmpty();
+            lastChangedNotificationByDomain.put(notification.getChatChannelDomain(), notification);
+        }
+        if (!isUpdateScheduled) {
+            UIThread.runOnNextRenderFrame(this::updateNotifications);
+        }
+    }
+
+    private void updateNotifications() {
+        Map<ChatChannelDomain, ChatNotification> notificationByDomain;
+        synchronized (lastChangedNotificationByDomain) {
+            notificationByDomain = new HashMap<>(lastChangedNotificationByDomain);
+            lastChangedNotificationByDomain.clear();
+        }
+        notificationByDomain.forEach((domain, notification) -> findTab(domain).ifPresent(tabButton -> {
+            // If we are a mediator, and we are dealing with a BISQ_EASY_OPEN_TRADES domain we do not show the notifications
+            if (domain == ChatChannelDomain.BISQ_EASY_OPEN_TRADES &&
+                    bisqEasyNotificationsService.isMediatorsNotification(notification)) {
+                tabButton.setNumNotifications(0);
+            } else {
+                tabButton.setNumNotifications(chatNotificationService.getNumNotifications(domain));
+            }
+        }));
     }
 
     private Optional<TabButton> findTab(ChatChannelDomain chatChannelDomain) {
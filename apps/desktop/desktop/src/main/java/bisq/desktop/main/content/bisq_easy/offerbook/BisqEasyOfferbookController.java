@@ -357,6 +357,7 @@ public final class BisqEasyOfferbookController extends ChatController<BisqEasyOf
     private void createMarketChannels() {
         List<MarketChannelItem> marketChannelItems = bisqEasyOfferbookChannelService.getChannels().stream()
                 .map(channel -> new MarketChannelItem(channel,
+                        bisqEasyOfferbookChannelService,
                         favouriteMarketsService,
                         chatNotificationService,
                         marketPriceService,
@@ -20,10 +20,9 @@ package bisq.desktop.main.content.bisq_easy.offerbook;
 import bisq.bisq_easy.BisqEasySellersReputationBasedTradeAmountService;
 import bisq.bonded_roles.market_price.MarketPriceService;
 import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookChannel;
-import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookMessage;
+import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookChannelService;
 import bisq.chat.notifications.ChatNotificationService;
 import bisq.common.currency.Market;
-import bisq.common.observable.Pin;
 import bisq.desktop.common.threading.UIThread;
 import bisq.desktop.components.overlay.Popup;
 import bisq.i18n.Res;
@@ -38,6 +37,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Set;
+
 @Slf4j
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Getter
@@ -50,6 +51,7 @@ public class MarketChannelItem {
     @EqualsAndHashCode.Include
     private final BisqEasyOfferbookChannel channel;
 
+    private final BisqEasyOfferbookChannelService bisqEasyOfferbookChannelService;
     private final FavouriteMarketsService favouriteMarketsService;
     private final ChatNotificationService chatNotificationService;
     private final Market market;
@@ -60,9 +62,10 @@ public class MarketChannelItem {
     private final SimpleIntegerProperty numOffers = new SimpleIntegerProperty(0);
     private final SimpleBooleanProperty isFavourite = new SimpleBooleanProperty(false);
     private final SimpleStringProperty numMarketNotifications = new SimpleStringProperty();
-    private Pin channelPin;
+    private final BisqEasyOfferbookChannelService.NumOffersListener numOffersListener = this::onNumOffersChanged;
 
     MarketChannelItem(BisqEasyOfferbookChannel channel,
+                      BisqEasyOfferbookChannelService bisqEasyOfferbookChannelService,
                       FavouriteMarketsService favouriteMarketsService,
                       ChatNotificationService chatNotificationService,
                       MarketPriceService marketPriceService,
@@ -70,6 +73,7 @@ public class MarketChannelItem {
                       ReputationService reputationService,
                       BisqEasySellersReputationBasedTradeAmountService bisqEasySellersReputationBasedTradeAmountService) {
         this.channel = channel;
+        this.bisqEasyOfferbookChannelService = bisqEasyOfferbookChannelService;
 
         this.favouriteMarketsService = favouriteMarketsService;
         this.chatNotificationService = chatNotificationService;
@@ -84,11 +88,12 @@ public class MarketChannelItem {
     }
 
     private void initialize() {
-        channelPin = channel.getChatMessages().addObserver(this::updateNumOffers);
+        bisqEasyOfferbookChannelService.addNumOffersListener(numOffersListener);
+        updateNumOffers();
     }
 
     public void dispose() {
-        channelPin.unbind();
+        bisqEasyOfferbookChannelService.removeNumOffersListener(numOffersListener);
     }
 
     void refreshNotifications() {
@@ -104,10 +109,15 @@ public class MarketChannelItem {
         numMarketNotifications.set(value);
     }
 
+    private void onNumOffersChanged(Set<Market> markets) {
+        if (markets.contains(market)) {
+            updateNumOffers();
+        }
+    }
+
     private void updateNumOffers() {
         UIThread.run(() -> {
-            int numOffers = (int) channel.getChatMessages().stream()
-                    .filter(BisqEasyOfferbookMessage::hasBisqEasyOffer)
+            int numOffers = (int) bisqEasyOfferbookChannelService.getOfferbookIndex().getOffers(market).stream()
                     .filter(bisqEasySellersReputationBasedTradeAmountService::hasSellerSufficientReputation)
                     .count();
             getNumOffers().set(numOffers);
@@ -26,9 +26,9 @@ import bisq.bonded_roles.market_price.MarketPriceService;
 import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookChannel;
 import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookMessage;
 import bisq.common.observable.Pin;
-import bisq.common.observable.collection.CollectionObserver;
 import bisq.common.util.ExceptionUtil;
 import bisq.desktop.ServiceProvider;
+import bisq.desktop.common.observable.BatchingListBinding;
 import bisq.desktop.common.observable.FxBindings;
 import bisq.desktop.common.threading.UIThread;
 import bisq.i18n.Res;
@@ -47,7 +47,6 @@ import org.fxmisc.easybind.EasyBind;
 import org.fxmisc.easybind.Subscription;
 
 import java.util.Arrays;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -132,48 +131,16 @@ public class OfferbookListController implements bisq.desktop.common.view.Control
         model.getAvailableMarketPayments().setAll(FiatPaymentMethodUtil.getPaymentMethods(channel.getMarket().getQuoteCurrencyCode()));
         applyCookiePaymentFilters();
 
-        offerMessagesPin = channel.getChatMessages().addObserver(new CollectionObserver<>() {
-            @Override
-            public void add(BisqEasyOfferbookMessage bisqEasyOfferbookMessage) {
-                if (BisqEasyServiceUtil.authorNotBannedOrIgnored(userProfileService, bannedUserService, bisqEasyOfferbookMessage) &&
-                        bisqEasyOfferbookMessage.hasBisqEasyOffer()) {
-                    UIThread.runOnNextRenderFrame(() -> {
-                        if (model.getOfferbookListItems().stream()
-                                .noneMatch(item -> item.getBisqEasyOfferbookMessage().equals(bisqEasyOfferbookMessage))) {
-                            OfferbookListItem item = new OfferbookListItem(bisqEasyOfferbookMessage,
-                                    userProfileService.findUserProfile(bisqEasyOfferbookMessage.getAuthorUserProfileId()).orElseThrow(), // authorNotBannedOrIgnored guarantees it is present
-                                    reputationService,
-                                    marketPriceService);
-                            model.getOfferbookListItems().add(item);
-                        }
-                    });
-                }
-            }
-
-            @Override
-            public void remove(Object element) {
-                if (element instanceof BisqEasyOfferbookMessage && ((BisqEasyOfferbookMessage) element).hasBisqEasyOffer()) {
-                    UIThread.runOnNextRenderFrame(() -> {
-                        BisqEasyOfferbookMessage offerMessage = (BisqEasyOfferbookMessage) element;
-                        Optional<OfferbookListItem> toRemove = model.getOfferbookListItems().stream()
-                                .filter(item -> item.getBisqEasyOfferbookMessage().getId().equals(offerMessage.getId()))
-                                .findAny();
-                        toRemove.ifPresent(item -> {
-                            item.dispose();
-                            model.getOfferbookListItems().remove(item);
-                        });
-                    });
-                }
-            }
-
-            @Override
-            public void clear() {
-                UIThread.runOnNextRenderFrame(() -> {
-                    model.getOfferbookListItems().forEach(OfferbookListItem::dispose);
-                    model.getOfferbookListItems().clear();
-                });
-            }
-        });
+        offerMessagesPin = new BatchingListBinding<BisqEasyOfferbookMessage, String, OfferbookListItem>(model.getOfferbookListItems(),
+                BisqEasyOfferbookMessage::getId,
+                bisqEasyOfferbookMessage -> new OfferbookListItem(bisqEasyOfferbookMessage,
+                        userProfileService.findUserProfile(bisqEasyOfferbookMessage.getAuthorUserProfileId()).orElseThrow(), // authorNotBannedOrIgnored guarantees it is present
+                        reputationService,
+                        marketPriceService))
+                .filter(bisqEasyOfferbookMessage -> bisqEasyOfferbookMessage.hasBisqEasyOffer() &&
+                        BisqEasyServiceUtil.authorNotBannedOrIgnored(userProfileService, bannedUserService, bisqEasyOfferbookMessage))
+                .onItemRemoved(OfferbookListItem::dispose)
+                .to(channel.getChatMessages());
     }
 
     void toggleOfferList() {
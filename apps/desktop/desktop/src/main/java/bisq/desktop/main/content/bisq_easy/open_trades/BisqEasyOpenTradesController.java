@@ -28,6 +28,7 @@ import bisq.chat.notifications.ChatNotificationService;
 import bisq.common.observable.Pin;
 import bisq.common.observable.collection.CollectionObserver;
 import bisq.desktop.ServiceProvider;
+import bisq.desktop.common.observable.BatchingListBinding;
 import bisq.desktop.common.threading.UIThread;
 import bisq.desktop.common.view.Navigation;
 import bisq.desktop.components.overlay.Popup;
@@ -43,9 +44,9 @@ import bisq.user.reputation.ReputationService;
 import javafx.stage.Stage;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 @Slf4j
 public final class BisqEasyOpenTradesController extends ChatController<BisqEasyOpenTradesView, BisqEasyOpenTradesModel> {
@@ -56,6 +57,7 @@ public final class BisqEasyOpenTradesController extends ChatController<BisqEasyO
     private final ChatNotificationService chatNotificationService;
     private TradeStateController tradeStateController;
     private Pin channelsPin, tradesPin, tradeRulesConfirmedPin;
+    private BatchingListBinding<BisqEasyTrade, String, OpenTradeListItem> listItemsBinding;
     private OpenTradesWelcome openTradesWelcome;
     private TradeDataHeader tradeDataHeader;
     private final Map<String, Pin> isInMediationPinMap = new HashMap<>();
@@ -97,41 +99,40 @@ public final class BisqEasyOpenTradesController extends ChatController<BisqEasyO
     public void onActivate() {
         model.getFilteredList().setPredicate(e -> false);
 
-        tradesPin = bisqEasyTradeService.getTrades().addObserver(new CollectionObserver<>() {
-            @Override
-            public void add(BisqEasyTrade trade) {
-                handleTradeAdded(trade);
-            }
-
-            @Override
-            public void remove(Object element) {
-                if (element instanceof BisqEasyTrade) {
-                    handleTradeRemoved((BisqEasyTrade) element);
-                }
-            }
-
-            @Override
-            public void clear() {
-                handleTradesCleared();
-            }
-        });
+        // A list item requires the trade and its channel. We add the trade when the trade or the channel gets added,
+        // the binding ignores the second add by the trade ID.
+        listItemsBinding = new BatchingListBinding<BisqEasyTrade, String, OpenTradeListItem>(model.getListItems(),
+                BisqEasyTrade::getId,
+                this::createListItem)
+                .filter(this::hasContract)
+                .onItemAdded(this::handleListItemAdded)
+                .onItemRemoved(this::handleListItemRemoved)
+                .onChangesApplied(() -> {
+                    updateIsAnyTradeInMediation();
+                    updatePredicate();
+                    maybeSelectFirst();
+                    updateVisibility();
+                });
+        tradesPin = listItemsBinding.to(bisqEasyTradeService.getTrades());
 
         channelsPin = channelService.getChannels().addObserver(new CollectionObserver<>() {
             @Override
             public void add(BisqEasyOpenTradeChannel channel) {
-                handleChannelAdded(channel);
+                bisqEasyTradeService.findTrade(channel.getTradeId())
+                        .ifPresentOrElse(listItemsBinding::add,
+                                () -> log.warn("Channel with tradeId {} was added but associated trade is not found.", channel.getTradeId()));
             }
 
             @Override
             public void remove(Object element) {
-                if (element instanceof BisqEasyOpenTradeChannel) {
-                    handleChannelRemoved((BisqEasyOpenTradeChannel) element);
+                if (element instanceof BisqEasyOpenTradeChannel channel) {
+                    listItemsBinding.removeByKey(channel.getTradeId());
                 }
             }
 
             @Override
             public void clear() {
-                handleChannelsCleared();
+                listItemsBinding.clear();
             }
         });
 
@@ -232,135 +233,50 @@ public final class BisqEasyOpenTradesController extends ChatController<BisqEasyO
         model.getChatWindow().set(null);
     }
 
-    // Trade
-    private void handleTradeAdded(BisqEasyTrade trade) {
-        channelService.findChannelByTradeId(trade.getId())
-                .ifPresentOrElse(channel -> handleTradeAndChannelAdded(trade, channel),
-                        () -> log.warn("Trade with id {} was added but associated channel is not found.", trade.getId()));
-    }
-
-    private void handleTradeRemoved(BisqEasyTrade trade) {
-        String tradeId = trade.getId();
-        channelService.findChannelByTradeId(tradeId)
-                .ifPresentOrElse(channel -> handleTradeAndChannelRemoved(trade),
-                        () -> {
-                            if (findListItem(trade).isEmpty()) {
-                                log.warn("Trade with id {} was removed but associated channel and listItem is not found. " +
-                                        "We ignore that call.", tradeId);
-                            } else {
-                                log.warn("Trade with id {} was removed but associated channel is not found but a listItem with that trade is still present." +
-                                        "We call handleTradeAndChannelRemoved.", tradeId);
-                                handleTradeAndChannelRemoved(trade);
-                            }
-                        });
-    }
-
-    private void handleTradesCleared() {
-        handleClearTradesAndChannels();
-    }
-
-    // Channel
-    private void handleChannelAdded(BisqEasyOpenTradeChannel channel) {
-        bisqEasyTradeService.findTrade(channel.getTradeId())
-                .ifPresentOrElse(trade -> handleTradeAndChannelAdded(trade, channel),
-                        () -> log.warn("Channel with tradeId {} was added but associated trade is not found.", channel.getTradeId()));
-    }
-
-    private void handleChannelRemoved(BisqEasyOpenTradeChannel channel) {
-        String tradeId = channel.getTradeId();
-        bisqEasyTradeService.findTrade(tradeId)
-                .ifPresentOrElse(this::handleTradeAndChannelRemoved,
-                        () -> {
-                            Optional<OpenTradeListItem> listItem = findListItem(tradeId);
-                            if (listItem.isEmpty()) {
-                                log.debug("Channel with tradeId {} was removed but associated trade and the listItem is not found. " +
-                                        "This is expected as we first remove the trade and then the channel.", tradeId);
-                            } else {
-                                log.warn("Channel with tradeId {} was removed but associated trade is not found but we still have the listItem with that trade. " +
-                                        "We call handleTradeAndChannelRemoved.", tradeId);
-                                handleTradeAndChannelRemoved(listItem.get().getTrade());
-                            }
-                        });
-    }
-
-    private void handleChannelsCleared() {
-        handleClearTradesAndChannels();
+    // List items
+    private boolean hasContract(BisqEasyTrade trade) {
+        if (trade.getContract() == null) {
+            // TODO should we throw an exception?
+            log.error("Contract is null for trade {}", trade);
+            return false;
+        }
+        return true;
     }
 
-    // TradeAndChannel
-    private void handleTradeAndChannelAdded(BisqEasyTrade trade, BisqEasyOpenTradeChannel channel) {
-        UIThread.run(() -> {
-            if (findListItem(trade).isPresent()) {
-                log.debug("We got called handleTradeAndChannelAdded but we have that trade list item already. " +
-                        "This is expected as we get called both when a trade is added and the associated channel.");
-                return;
-            }
-            if (trade.getContract() == null) {
-                // TODO should we throw an exception?
-                log.error("Contract is null for trade {}", trade);
-                return;
-            }
-
-            model.getListItems().add(new OpenTradeListItem(channel,
-                    trade,
-                    reputationService,
-                    chatNotificationService,
-                    userProfileService));
-
-            String tradeId = trade.getId();
-            if (isInMediationPinMap.containsKey(tradeId)) {
-                isInMediationPinMap.get(tradeId).unbind();
-            }
-            Pin pin = channel.isInMediationObservable().addObserver(isInMediation -> {
-                if (isInMediation != null) {
-                    updateIsAnyTradeInMediation();
-                }
-            });
-            isInMediationPinMap.put(tradeId, pin);
-
-            updatePredicate();
-            maybeSelectFirst();
-            updateVisibility();
-        });
+    @Nullable
+    private OpenTradeListItem createListItem(BisqEasyTrade trade) {
+        return channelService.findChannelByTradeId(trade.getId())
+                .map(channel -> new OpenTradeListItem(channel,
+                        trade,
+                        reputationService,
+                        chatNotificationService,
+                        userProfileService))
+                .orElseGet(() -> {
+                    log.debug("Trade with id {} was added but associated channel is not found yet. " +
+                            "We add the list item once the channel gets added.", trade.getId());
+                    return null;
+                });
     }
 
-    private void handleTradeAndChannelRemoved(BisqEasyTrade trade) {
-        UIThread.run(() -> {
-            String tradeId = trade.getId();
-            if (findListItem(trade).isEmpty()) {
-                log.warn("We got called handleTradeAndChannelRemoved but we have not found any trade list item with tradeId {}", tradeId);
-                return;
-            }
-
-            OpenTradeListItem item = findListItem(trade).get();
-            item.dispose();
-            model.getListItems().remove(item);
-
-            if (isInMediationPinMap.containsKey(tradeId)) {
-                isInMediationPinMap.get(tradeId).unbind();
-                isInMediationPinMap.remove(trade.getId());
+    private void handleListItemAdded(OpenTradeListItem item) {
+        String tradeId = item.getTrade().getId();
+        if (isInMediationPinMap.containsKey(tradeId)) {
+            isInMediationPinMap.get(tradeId).unbind();
+        }
+        Pin pin = item.getChannel().isInMediationObservable().addObserver(isInMediation -> {
+            if (isInMediation != null) {
+                updateIsAnyTradeInMediation();
             }
-            updateIsAnyTradeInMediation();
-
-            updatePredicate();
-            maybeSelectFirst();
-            updateVisibility();
         });
+        isInMediationPinMap.put(tradeId, pin);
     }
 
-    private void handleClearTradesAndChannels() {
-        UIThread.run(() -> {
-            model.getListItems().forEach(OpenTradeListItem::dispose);
-            model.getListItems().clear();
-
-            isInMediationPinMap.values().forEach(Pin::unbind);
-            isInMediationPinMap.clear();
-            updateIsAnyTradeInMediation();
-
-            updatePredicate();
-            maybeSelectFirst();
-            updateVisibility();
-        });
+    private void handleListItemRemoved(OpenTradeListItem item) {
+        item.dispose();
+        Pin pin = isInMediationPinMap.remove(item.getTrade().getId());
+        if (pin != null) {
+            pin.unbind();
+        }
     }
 
     // Misc
@@ -393,16 +309,6 @@ public final class BisqEasyOpenTradesController extends ChatController<BisqEasyO
         });
     }
 
-    private Optional<OpenTradeListItem> findListItem(BisqEasyTrade trade) {
-        return findListItem(trade.getId());
-    }
-
-    private Optional<OpenTradeListItem> findListItem(String tradeId) {
-        return model.getListItems().stream()
-                .filter(item -> item.getTrade().getId().equals(tradeId))
-                .findAny();
-    }
-
     private boolean hasTradeForChannel(ChatChannel<? extends ChatMessage> chatChannel) {
         return chatChannel instanceof BisqEasyOpenTradeChannel channel &&
                 BisqEasyServiceUtil.findTradeFromChannel(userIdentityService, bisqEasyTradeService, channel).isPresent();
@@ -40,8 +40,10 @@ import bisq.desktop.main.content.chat.common.pub.CommonPublicChatController;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 public final class CommonChatTabController extends ContentTabController<CommonChatTabModel> {
@@ -52,6 +54,7 @@ public final class CommonChatTabController extends ContentTabController<CommonCh
     private final CommonPublicChatChannelService commonPublicChatChannelService;
     private final TwoPartyPrivateChatChannelService twoPartyPrivateChatChannelService;
     private final CommonChannelSelectionService chatChannelSelectionService;
+    private final Set<String> channelIdsWithChangedNotifications = new HashSet<>();
     private Pin selectedChannelPin, changedChatNotificationPin;
 
     public CommonChatTabController(ServiceProvider serviceProvider,
@@ -127,15 +130,31 @@ public final class CommonChatTabController extends ContentTabController<CommonCh
             return;
         }
 
-        String channelId = notification.getChatChannelId();
-        ChatChannelDomain chatChannelDomain = notification.getChatChannelDomain();
-        if (isPrivateChannelPresent(channelId)) {
-            handlePrivateNotification();
+        // A burst of notifications results in one update per channel at the next render frame
+        boolean isUpdateScheduled;
+        synchronized (channelIdsWithChangedNotifications) {
+            isUpdateScheduled = !channelIdsWithChangedNotifications.isEmpty();
+            channelIdsWithChangedNotifications.add(notification.getChatChannelId());
+        }
+        if (!isUpdateScheduled) {
+            UIThread.runOnNextRenderFrame(this::updateNotifications);
         }
+    }
 
-        if (model.channelTabButtonModelByChannelId.containsKey(channelId)) {
-            updateTabButtonNotifications(chatChannelDomain, channelId);
+    private void updateNotifications() {
+        Set<String> channelIds;
+        synchronized (channelIdsWithChangedNotifications) {
+            channelIds = new HashSet<>(channelIdsWithChangedNotifications);
+            channelIdsWithChangedNotifications.clear();
         }
+
+        if (channelIds.stream().anyMatch(this::isPrivateChannelPresent)) {
+            handlePrivateNotification();
+        }
+
+        channelIds.stream()
+                .filter(model.channelTabButtonModelByChannelId::containsKey)
+                .forEach(channelId -> updateTabButtonNotifications(channelDomain, channelId));
     }
 
     private void updateTabButtonNotifications(ChatChannelDomain chatChannelDomain, String channelId) {
@@ -155,8 +174,8 @@ public final class CommonChatTabController extends ContentTabController<CommonCh
     private void handlePrivateNotification() {
         UIThread.run(() -> {
             long numNotifications = twoPartyPrivateChatChannelService.getChannels().stream()
-                    .flatMap(chatNotificationService::getNotConsumedNotifications)
-                    .count();
+                    .mapToLong(chatNotificationService::getNumNotifications)
+                    .sum();
                     model.getTabButtons().stream()
                             .filter(tabButton -> model.getPrivateChatsNavigationTarget() == tabButton.getNavigationTarget())
                             .findAny()
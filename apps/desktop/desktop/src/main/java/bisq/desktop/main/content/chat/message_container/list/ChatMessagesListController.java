@@ -41,8 +41,8 @@ import bisq.chat.reactions.*;
 import bisq.chat.two_party.TwoPartyPrivateChatChannel;
 import bisq.chat.two_party.TwoPartyPrivateChatMessage;
 import bisq.common.observable.Pin;
-import bisq.common.observable.collection.CollectionObserver;
 import bisq.desktop.ServiceProvider;
+import bisq.desktop.common.observable.BatchingListBinding;
 import bisq.desktop.common.threading.UIScheduler;
 import bisq.desktop.common.threading.UIThread;
 import bisq.desktop.common.utils.ClipboardUtil;
@@ -76,7 +76,6 @@ import org.fxmisc.easybind.Subscription;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static bisq.chat.ChatMessageType.TAKE_BISQ_EASY_OFFER;
 import static com.google.common.base.Preconditions.checkArgument;
@@ -198,7 +197,6 @@ public class ChatMessagesListController implements bisq.desktop.common.view.Cont
 
         model.getChatMessages().forEach(ChatMessageListItem::dispose);
         model.getChatMessages().clear();
-        model.getChatMessageIds().clear();
     }
 
     private void selectedChannelChanged(ChatChannel<? extends ChatMessage> channel) {
@@ -213,7 +211,6 @@ public class ChatMessagesListController implements bisq.desktop.common.view.Cont
             // Clear and call dispose on the current messages when we change the channel.
             model.getChatMessages().forEach(ChatMessageListItem::dispose);
             model.getChatMessages().clear();
-            model.getChatMessageIds().clear();
             model.setAutoScrollToBottom(true);
 
             if (channel instanceof BisqEasyOfferbookChannel bisqEasyOfferbookChannel) {
@@ -279,10 +276,6 @@ public class ChatMessagesListController implements bisq.desktop.common.view.Cont
 
     public void refreshMessages() {
         model.getChatMessages().setAll(new ArrayList<>(model.getChatMessages()));
-        model.getChatMessageIds().clear();
-        model.getChatMessageIds().addAll(model.getChatMessages().stream()
-                .map(e -> e.getChatMessage().getId())
-                .collect(Collectors.toSet()));
     }
 
     public void setSearchPredicate(Predicate<? super ChatMessageListItem<? extends ChatMessage, ? extends ChatChannel<? extends ChatMessage>>> predicate) {
@@ -626,11 +619,12 @@ public class ChatMessagesListController implements bisq.desktop.common.view.Cont
     }
 
     private <M extends ChatMessage, C extends ChatChannel<M>> Pin bindChatMessages(C channel) {
-        // We clear and fill the list at channel change. The addObserver triggers the add method for each item,
-        // but as we have a contains() check there it will not have any effect.
-        model.getChatMessages().addAll(channel.getChatMessages().stream()
-                .filter(chatMessage -> chatMessage.getChatMessageType() != TAKE_BISQ_EASY_OFFER)
-                .map(chatMessage -> new ChatMessageListItem<>(chatMessage,
+        // We clear the list at channel change. As we are on the JavaFX thread the current messages get added
+        // immediately, later changes get applied in batches once per pulse.
+        return new BatchingListBinding<M, String, ChatMessageListItem<? extends ChatMessage, ? extends ChatChannel<? extends ChatMessage>>>(
+                model.getChatMessages(),
+                ChatMessage::getId,
+                chatMessage -> new ChatMessageListItem<>(chatMessage,
                         channel,
                         marketPriceService,
                         userProfileService,
@@ -640,65 +634,10 @@ public class ChatMessagesListController implements bisq.desktop.common.view.Cont
                         networkService,
                         resendMessageService,
                         authorizedBondedRolesService))
-                .collect(Collectors.toSet()));
-        model.getChatMessageIds().clear();
-        model.getChatMessageIds().addAll(model.getChatMessages().stream()
-                .map(e -> e.getChatMessage().getId())
-                .collect(Collectors.toSet()));
-        maybeScrollDownOnNewItemAdded();
-
-        return channel.getChatMessages().addObserver(new CollectionObserver<>() {
-            @Override
-            public void add(M chatMessage) {
-                UIThread.run(() -> {
-                    if (model.getChatMessageIds().contains(chatMessage.getId())) {
-                        return;
-                    }
-                    if (chatMessage.getChatMessageType() == TAKE_BISQ_EASY_OFFER) {
-                        return;
-                    }
-                    ChatMessageListItem<M, C> item = new ChatMessageListItem<>(chatMessage,
-                            channel,
-                            marketPriceService,
-                            userProfileService,
-                            reputationService,
-                            bisqEasyTradeService,
-                            userIdentityService,
-                            networkService,
-                            resendMessageService,
-                            authorizedBondedRolesService);
-                    model.getChatMessages().add(item);
-                    maybeScrollDownOnNewItemAdded();
-                });
-            }
-
-            @Override
-            public void remove(Object element) {
-                if (element instanceof ChatMessage) {
-                    UIThread.run(() -> {
-                        ChatMessage chatMessage = (ChatMessage) element;
-                        Optional<ChatMessageListItem<? extends ChatMessage, ? extends ChatChannel<? extends ChatMessage>>> toRemove =
-                                model.getChatMessages().stream()
-                                        .filter(item -> item.getChatMessage().getId().equals(chatMessage.getId()))
-                                        .findAny();
-                        toRemove.ifPresent(item -> {
-                            item.dispose();
-                            model.getChatMessages().remove(item);
-                            model.getChatMessageIds().remove(item.getChatMessage().getId());
-                        });
-                    });
-                }
-            }
-
-            @Override
-            public void clear() {
-                UIThread.run(() -> {
-                    model.getChatMessages().forEach(ChatMessageListItem::dispose);
-                    model.getChatMessages().clear();
-                    model.getChatMessageIds().clear();
-                });
-            }
-        });
+                .filter(chatMessage -> chatMessage.getChatMessageType() != TAKE_BISQ_EASY_OFFER)
+                .onItemRemoved(ChatMessageListItem::dispose)
+                .onChangesApplied(this::maybeScrollDownOnNewItemAdded)
+                .to(channel.getChatMessages());
     }
 
     private void publishChatMessageReaction(ChatMessage chatMessage, Reaction reaction, UserIdentity userIdentity) {
@@ -39,10 +39,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.fxmisc.easybind.EasyBind;
 import org.fxmisc.easybind.Subscription;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -55,6 +57,7 @@ public class ReputationRankingController implements Controller {
     private Pin userProfileByIdPin, proofOfBurnScoreChangedFlagPin,
             bondedReputationScoreChangedFlagPin, signedWitnessScoreChangedFlagPin,
             accountAgeScoreChangedFlagPin;
+    private final List<Pin> changedScoresPins = new ArrayList<>();
     private Subscription filterMenuItemTogglePin;
 
     public ReputationRankingController(ServiceProvider serviceProvider) {
@@ -136,6 +139,15 @@ public class ReputationRankingController implements Controller {
                 .addObserver(this::updateScore);
         signedWitnessScoreChangedFlagPin = reputationService.getSignedWitnessService().getUserProfileIdScorePair()
                 .addObserver(this::updateScore);
+
+        changedScoresPins.add(reputationService.getProofOfBurnService().getChangedUserProfileScores()
+                .addObserver(this::updateScores));
+        changedScoresPins.add(reputationService.getBondedReputationService().getChangedUserProfileScores()
+                .addObserver(this::updateScores));
+        changedScoresPins.add(reputationService.getAccountAgeService().getChangedUserProfileScores()
+                .addObserver(this::updateScores));
+        changedScoresPins.add(reputationService.getSignedWitnessService().getChangedUserProfileScores()
+                .addObserver(this::updateScores));
     }
 
     @Override
@@ -145,6 +157,8 @@ public class ReputationRankingController implements Controller {
         bondedReputationScoreChangedFlagPin.unbind();
         accountAgeScoreChangedFlagPin.unbind();
         signedWitnessScoreChangedFlagPin.unbind();
+        changedScoresPins.forEach(Pin::unbind);
+        changedScoresPins.clear();
 
         filterMenuItemTogglePin.unsubscribe();
         model.getListItems().forEach(ReputationRankingView.ListItem::dispose);
@@ -192,6 +206,20 @@ public class ReputationRankingController implements Controller {
         });
     }
 
+    private void updateScores(List<Pair<String, Long>> userProfileIdScorePairs) {
+        if (userProfileIdScorePairs == null) {
+            return;
+        }
+        Set<String> userProfileIds = userProfileIdScorePairs.stream()
+                .map(Pair::getFirst)
+                .collect(Collectors.toSet());
+        UIThread.run(() -> {
+            model.getListItems().stream().filter(e -> userProfileIds.contains(e.getUserProfile().getId()))
+                    .forEach(item -> item.applyReputationScore(item.getUserProfile().getId()));
+            model.getScoreChangeTrigger().set(!model.getScoreChangeTrigger().get());
+        });
+    }
+
     private void addFilterMenuItem(ReputationSource reputationSource) {
         RichTableView.FilterMenuItem<ReputationRankingView.ListItem> filterMenuItem = new RichTableView.FilterMenuItem<>(
                 model.getFilterMenuItemToggleGroup(),
@@ -38,6 +38,7 @@ import bisq.user.identity.UserIdentityService;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -53,6 +54,7 @@ public class LeftNavController implements Controller {
     private final UpdaterService updaterService;
     private final BisqEasyNotificationsService bisqEasyNotificationsService;
     private final SettingsService settingsService;
+    private final Set<ChatChannelDomain> domainsWithChangedNotifications = new HashSet<>();
     private Pin bondedRolesPin, selectedUserIdentityPin, releaseNotificationPin;
     private Pin changedChatNotificationPin;
 
@@ -120,43 +122,59 @@ public class LeftNavController implements Controller {
             return;
         }
 
-        UIThread.run(() -> {
-            // todo (deferred) add moderators notification support
-            AtomicLong numMediatorsNotConsumedNotifications = new AtomicLong();
-            findNavButton(NavigationTarget.AUTHORIZED_ROLE).ifPresent(authorizedRoleButton -> {
-                numMediatorsNotConsumedNotifications.set(bisqEasyNotificationsService.getMediatorsNotConsumedNotifications().count());
-                authorizedRoleButton.setNumNotifications(numMediatorsNotConsumedNotifications.get());
-                if (!authorizedRoleButton.getNumMessagesBadge().getStyleClass().contains("open-trades-badge")) {
-                    authorizedRoleButton.getNumMessagesBadge().getStyleClass().add("open-trades-badge");
-                }
-            });
-
-            findLeftNavButton(notification.getChatChannelDomain()).ifPresent(leftNavButton -> {
-                NavigationTarget navigationTarget = leftNavButton.getNavigationTarget();
-                long numNotifications = bisqEasyNotificationsService.getNumNotifications(navigationTarget);
-                if (notification.getChatChannelDomain() == ChatChannelDomain.BISQ_EASY_OFFERBOOK || notification.getChatChannelDomain() == ChatChannelDomain.BISQ_EASY_OPEN_TRADES || notification.getChatChannelDomain() == ChatChannelDomain.BISQ_EASY_PRIVATE_CHAT) {
-                    // In case we are a mediator we ignore the notifications in the BISQ_EASY_OPEN_TRADES as those
-                    // we handle in the mediation view.
-                    numNotifications = Math.max(0, numNotifications - numMediatorsNotConsumedNotifications.get());
-                }
-
-                leftNavButton.setNumNotifications(numNotifications);
-                leftNavButton.getNumMessagesBadge().getStyleClass().remove("open-trades-badge");
-                switch (notification.getChatChannelDomain()) {
-                    case BISQ_EASY_OFFERBOOK:
-                    case BISQ_EASY_OPEN_TRADES:
-                    case BISQ_EASY_PRIVATE_CHAT:
-                        if (bisqEasyNotificationsService.hasTradeIdsOfNotConsumedNotifications()) {
-                            leftNavButton.getNumMessagesBadge().getStyleClass().add("open-trades-badge");
-                        }
-                        break;
-                    case DISCUSSION:
-                    case EVENTS:
-                    case SUPPORT:
-                        break;
-                }
-            });
+        // A burst of notifications results in one update per domain at the next render frame
+        boolean isUpdateScheduled;
+        synchronized (domainsWithChangedNotifications) {
+            isUpdateScheduled = !domainsWithChangedNotifications.isEmpty();
+            domainsWithChangedNotifications.add(notification.getChatChannelDomain());
+        }
+        if (!isUpdateScheduled) {
+            UIThread.runOnNextRenderFrame(this::updateNotifications);
+        }
+    }
+
+    private void updateNotifications() {
+        Set<ChatChannelDomain> domains;
+        synchronized (domainsWithChangedNotifications) {
+            domains = new HashSet<>(domainsWithChangedNotifications);
+            domainsWithChangedNotifications.clear();
+        }
+
+        // todo (deferred) add moderators notification support
+        AtomicLong numMediatorsNotConsumedNotifications = new AtomicLong();
+        findNavButton(NavigationTarget.AUTHORIZED_ROLE).ifPresent(authorizedRoleButton -> {
+            numMediatorsNotConsumedNotifications.set(bisqEasyNotificationsService.getMediatorsNotConsumedNotifications().count());
+            authorizedRoleButton.setNumNotifications(numMediatorsNotConsumedNotifications.get());
+            if (!authorizedRoleButton.getNumMessagesBadge().getStyleClass().contains("open-trades-badge")) {
+                authorizedRoleButton.getNumMessagesBadge().getStyleClass().add("open-trades-badge");
+            }
         });
+
+        domains.forEach(domain -> findLeftNavButton(domain).ifPresent(leftNavButton -> {
+            NavigationTarget navigationTarget = leftNavButton.getNavigationTarget();
+            long numNotifications = bisqEasyNotificationsService.getNumNotifications(navigationTarget);
+            if (domain == ChatChannelDomain.BISQ_EASY_OFFERBOOK || domain == ChatChannelDomain.BISQ_EASY_OPEN_TRADES || domain == ChatChannelDomain.BISQ_EASY_PRIVATE_CHAT) {
+                // In case we are a mediator we ignore the notifications in the BISQ_EASY_OPEN_TRADES as those
+                // we handle in the mediation view.
+                numNotifications = Math.max(0, numNotifications - numMediatorsNotConsumedNotifications.get());
+            }
+
+            leftNavButton.setNumNotifications(numNotifications);
+            leftNavButton.getNumMessagesBadge().getStyleClass().remove("open-trades-badge");
+            switch (domain) {
+                case BISQ_EASY_OFFERBOOK:
+                case BISQ_EASY_OPEN_TRADES:
+                case BISQ_EASY_PRIVATE_CHAT:
+                    if (bisqEasyNotificationsService.hasTradeIdsOfNotConsumedNotifications()) {
+                        leftNavButton.getNumMessagesBadge().getStyleClass().add("open-trades-badge");
+                    }
+                    break;
+                case DISCUSSION:
+                case EVENTS:
+                case SUPPORT:
+                    break;
+            }
+        }));
     }
 
     void onNavigationTargetSelected(NavigationTarget navigationTarget) {
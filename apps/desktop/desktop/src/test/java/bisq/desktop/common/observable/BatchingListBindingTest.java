@@ -0,0 +1,188 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.desktop.common.observable;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchingListBindingTest {
+    private record Item(String key) {
+    }
+
+    private final ObservableList<Item> list = FXCollections.observableArrayList();
+    private final List<Runnable> scheduledUpdates = new ArrayList<>();
+    private final List<Item> removedItems = new ArrayList<>();
+    private final Set<String> failingElements = new HashSet<>();
+    private int numChangesApplied;
+    private BatchingListBinding<String, String, Item> binding;
+
+    @BeforeEach
+    void setUp() {
+        binding = new BatchingListBinding<String, String, Item>(list,
+                element -> element,
+                element -> {
+                    if (failingElements.contains(element)) {
+                        throw new IllegalStateException("Mapping failed");
+                    }
+                    return element.startsWith("null") ? null : new Item(element);
+                },
+                scheduledUpdates::add)
+                .filter(element -> !element.startsWith("filtered"))
+                .onItemRemoved(removedItems::add)
+                .onChangesApplied(() -> numChangesApplied++);
+    }
+
+    @Test
+    void changesAreAppliedOncePerBatch() {
+        binding.add("a");
+        binding.addAll(List.of("b", "c"));
+
+        assertThat(list).isEmpty();
+        assertThat(scheduledUpdates).hasSize(1);
+
+        applyScheduledUpdates();
+
+        assertThat(keys()).containsExactly("a", "b", "c");
+        assertThat(numChangesApplied).isEqualTo(1);
+
+        binding.add("d");
+        assertThat(scheduledUpdates).hasSize(1);
+        applyScheduledUpdates();
+        assertThat(keys()).containsExactly("a", "b", "c", "d");
+        assertThat(numChangesApplied).isEqualTo(2);
+    }
+
+    @Test
+    void addFollowedByRemoveCancelsOut() {
+        binding.add("a");
+        binding.remove("a");
+        applyScheduledUpdates();
+
+        assertThat(list).isEmpty();
+        assertThat(removedItems).isEmpty();
+        assertThat(numChangesApplied).isZero();
+    }
+
+    @Test
+    void removeFollowedByAddKeepsExistingItem() {
+        binding.add("a");
+        applyScheduledUpdates();
+        Item item = list.get(0);
+
+        binding.remove("a");
+        binding.add("a");
+        applyScheduledUpdates();
+
+        assertThat(list).containsExactly(item);
+        assertThat(list.get(0)).isSameAs(item);
+        assertThat(removedItems).isEmpty();
+    }
+
+    @Test
+    void removeOfAppliedItem() {
+        binding.addAll(List.of("a", "b"));
+        applyScheduledUpdates();
+        Item a = binding.findItem("a").orElseThrow();
+
+        binding.removeByKey("a");
+        binding.remove("unknown");
+        applyScheduledUpdates();
+
+        assertThat(keys()).containsExactly("b");
+        assertThat(removedItems).containsExactly(a);
+        assertThat(binding.findItem("a")).isEmpty();
+        assertThat(numChangesApplied).isEqualTo(2);
+    }
+
+    @Test
+    void duplicateAddIsIgnored() {
+        binding.add("a");
+        applyScheduledUpdates();
+
+        binding.add("a");
+        applyScheduledUpdates();
+
+        assertThat(keys()).containsExactly("a");
+        assertThat(numChangesApplied).isEqualTo(1);
+    }
+
+    @Test
+    void clearDiscardsPendingChanges() {
+        binding.addAll(List.of("a", "b"));
+        applyScheduledUpdates();
+        List<Item> items = new ArrayList<>(list);
+
+        binding.add("c");
+        binding.remove("a");
+        binding.clear();
+        binding.add("d");
+        applyScheduledUpdates();
+
+        assertThat(keys()).containsExactly("d");
+        assertThat(removedItems).containsExactlyInAnyOrderElementsOf(items);
+        assertThat(binding.findItem("a")).isEmpty();
+    }
+
+    @Test
+    void filteredAndUnmappedElementsAreIgnored() {
+        binding.addAll(List.of("filtered", "null", "a"));
+        applyScheduledUpdates();
+
+        assertThat(keys()).containsExactly("a");
+
+        // Nothing gets scheduled if all elements are filtered out
+        binding.add("filtered2");
+        assertThat(scheduledUpdates).isEmpty();
+    }
+
+    @Test
+    void failedMappingDoesNotDropOtherElements() {
+        failingElements.add("b");
+        binding.addAll(List.of("a", "b", "c"));
+        applyScheduledUpdates();
+
+        assertThat(keys()).containsExactly("a", "c");
+        assertThat(binding.findItem("b")).isEmpty();
+
+        // The failed element is not indexed, so adding it again is not ignored as duplicate
+        failingElements.clear();
+        binding.add("b");
+        applyScheduledUpdates();
+        assertThat(keys()).containsExactly("a", "c", "b");
+    }
+
+    private void applyScheduledUpdates() {
+        List<Runnable> updates = new ArrayList<>(scheduledUpdates);
+        scheduledUpdates.clear();
+        updates.forEach(Runnable::run);
+    }
+
+    private List<String> keys() {
+        return list.stream().map(Item::key).toList();
+    }
+}
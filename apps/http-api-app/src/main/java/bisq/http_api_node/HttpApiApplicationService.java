@@ -23,6 +23,7 @@ import bisq.bisq_easy.BisqEasyService;
 import bisq.bonded_roles.BondedRolesService;
 import bisq.chat.ChatService;
 import bisq.common.application.Service;
+import bisq.common.application.ServiceGraph;
 import bisq.common.platform.OS;
 import bisq.common.util.CompletableFutureUtils;
 import bisq.contract.ContractService;
@@ -84,6 +85,7 @@ public class HttpApiApplicationService extends JavaSeApplicationService {
     private final BisqEasyService bisqEasyService;
     private final HttpApiService httpApiService;
     private final OpenTradeItemsService openTradeItemsService;
+    private final ServiceGraph serviceGraph;
 
     public HttpApiApplicationService(String[] args) {
         super("http_api_app", args);
@@ -141,7 +143,8 @@ public class HttpApiApplicationService extends JavaSeApplicationService {
                 networkService,
                 userService,
                 settingsService,
-                systemNotificationService);
+                systemNotificationService,
+                bondedRolesService.getMarketPriceService());
 
         supportService = new SupportService(SupportService.Config.from(getConfig("support")),
                 persistenceService, networkService, chatService, userService, bondedRolesService);
@@ -179,11 +182,33 @@ public class HttpApiApplicationService extends JavaSeApplicationService {
                 tradeService,
                 settingsService,
                 openTradeItemsService);
+
+        // Services initialized after the network. Dependencies follow the constructor arguments.
+        serviceGraph = new ServiceGraph()
+                .add(identityService)
+                .add(bondedRolesService)
+                .add(accountService)
+                .add(contractService)
+                .add(userService, identityService, bondedRolesService)
+                .add(settingsService)
+                .add(systemNotificationService)
+                .add(offerService, identityService)
+                .add(chatService, userService, settingsService, systemNotificationService, bondedRolesService)
+                .add(supportService, chatService, userService, bondedRolesService)
+                .add(tradeService, identityService, offerService, contractService, supportService, chatService,
+                        bondedRolesService, userService, settingsService)
+                .add(bisqEasyService, identityService, bondedRolesService, accountService, offerService,
+                        contractService, userService, chatService, settingsService, supportService,
+                        systemNotificationService, tradeService)
+                .add(openTradeItemsService, chatService, tradeService, userService)
+                .add(httpApiService, userService, bondedRolesService, chatService, supportService, tradeService,
+                        settingsService, openTradeItemsService);
     }
 
     @Override
     public CompletableFuture<Boolean> initialize() {
         return memoryReportService.initialize()
+                .thenCompose(result -> metricsHttpServer.initialize())
                 .thenCompose(result -> securityService.initialize())
                 .thenCompose(result -> {
                     setState(State.INITIALIZE_NETWORK);
@@ -211,20 +236,7 @@ public class HttpApiApplicationService extends JavaSeApplicationService {
                         setState(State.INITIALIZE_SERVICES);
                     }
                 })
-                .thenCompose(result -> identityService.initialize())
-                .thenCompose(result -> bondedRolesService.initialize())
-                .thenCompose(result -> accountService.initialize())
-                .thenCompose(result -> contractService.initialize())
-                .thenCompose(result -> userService.initialize())
-                .thenCompose(result -> settingsService.initialize())
-                .thenCompose(result -> systemNotificationService.initialize())
-                .thenCompose(result -> offerService.initialize())
-                .thenCompose(result -> chatService.initialize())
-                .thenCompose(result -> supportService.initialize())
-                .thenCompose(result -> tradeService.initialize())
-                .thenCompose(result -> bisqEasyService.initialize())
-                .thenCompose(result -> openTradeItemsService.initialize())
-                .thenCompose(result -> httpApiService.initialize())
+                .thenCompose(result -> serviceGraph.initialize())
                 .orTimeout(5, TimeUnit.MINUTES)
                 .whenComplete((success, throwable) -> {
                     if (throwable == null) {
@@ -267,6 +279,7 @@ public class HttpApiApplicationService extends JavaSeApplicationService {
                 .thenCompose(result -> walletService.map(Service::shutdown)
                         .orElse(CompletableFuture.completedFuture(true)))
                 .thenCompose(result -> securityService.shutdown())
+                .thenCompose(result -> metricsHttpServer.shutdown())
                 .thenCompose(result -> memoryReportService.shutdown())
                 .orTimeout(10, TimeUnit.SECONDS)
                 .handle((result, throwable) -> throwable == null)
@@ -23,6 +23,7 @@ import bisq.bisq_easy.BisqEasyService;
 import bisq.bonded_roles.BondedRolesService;
 import bisq.chat.ChatService;
 import bisq.common.application.Service;
+import bisq.common.application.ServiceGraph;
 import bisq.common.platform.OS;
 import bisq.common.util.CompletableFutureUtils;
 import bisq.contract.ContractService;
@@ -81,6 +82,7 @@ public class NodeMonitorApplicationService extends JavaSeApplicationService {
     private final TradeService tradeService;
     private final BisqEasyService bisqEasyService;
     private final NodeMonitorService nodeMonitorService;
+    private final ServiceGraph serviceGraph;
     private Optional<RestApiService> restApiService = Optional.empty();
 
     public NodeMonitorApplicationService(String[] args) {
@@ -139,7 +141,8 @@ public class NodeMonitorApplicationService extends JavaSeApplicationService {
                 networkService,
                 userService,
                 settingsService,
-                systemNotificationService);
+                systemNotificationService,
+                bondedRolesService.getMarketPriceService());
 
         supportService = new SupportService(SupportService.Config.from(getConfig("support")),
                 persistenceService, networkService, chatService, userService, bondedRolesService);
@@ -169,6 +172,26 @@ public class NodeMonitorApplicationService extends JavaSeApplicationService {
             var restApiResourceConfig = new NodeMonitorRestApiResourceConfig(restApiConfig, networkService, nodeMonitorService);
             restApiService = Optional.of(new RestApiService(restApiConfig, restApiResourceConfig));
         }
+
+        // Services initialized after the network. Dependencies follow the constructor arguments.
+        serviceGraph = new ServiceGraph()
+                .add(identityService)
+                .add(bondedRolesService)
+                .add(accountService)
+                .add(contractService)
+                .add(userService, identityService, bondedRolesService)
+                .add(settingsService)
+                .add(systemNotificationService)
+                .add(offerService, identityService)
+                .add(chatService, userService, settingsService, systemNotificationService, bondedRolesService)
+                .add(supportService, chatService, userService, bondedRolesService)
+                .add(tradeService, identityService, offerService, contractService, supportService, chatService,
+                        bondedRolesService, userService, settingsService)
+                .add(bisqEasyService, identityService, bondedRolesService, accountService, offerService,
+                        contractService, userService, chatService, settingsService, supportService,
+                        systemNotificationService, tradeService)
+                .add(nodeMonitorService, userService, bondedRolesService);
+        restApiService.ifPresent(service -> serviceGraph.add(service, nodeMonitorService));
     }
 
     @Override
@@ -201,21 +224,7 @@ public class NodeMonitorApplicationService extends JavaSeApplicationService {
                         setState(State.INITIALIZE_SERVICES);
                     }
                 })
-                .thenCompose(result -> identityService.initialize())
-                .thenCompose(result -> bondedRolesService.initialize())
-                .thenCompose(result -> accountService.initialize())
-                .thenCompose(result -> contractService.initialize())
-                .thenCompose(result -> userService.initialize())
-                .thenCompose(result -> settingsService.initialize())
-                .thenCompose(result -> systemNotificationService.initialize())
-                .thenCompose(result -> offerService.initialize())
-                .thenCompose(result -> chatService.initialize())
-                .thenCompose(result -> supportService.initialize())
-                .thenCompose(result -> tradeService.initialize())
-                .thenCompose(result -> bisqEasyService.initialize())
-                .thenCompose(result -> restApiService.map(RestApiService::initialize)
-                        .orElse(CompletableFuture.completedFuture(true)))
-                .thenCompose(result -> nodeMonitorService.initialize())
+                .thenCompose(result -> serviceGraph.initialize())
                 .orTimeout(5, TimeUnit.MINUTES)
                 .whenComplete((success, throwable) -> {
                     if (throwable == null) {
@@ -19,6 +19,7 @@ package bisq.oracle_node;
 
 import bisq.bonded_roles.BondedRolesService;
 import bisq.bonded_roles.market_price.MarketPriceRequestService;
+import bisq.common.application.ServiceGraph;
 import bisq.identity.IdentityService;
 import bisq.java_se.application.JavaSeApplicationService;
 import bisq.network.NetworkService;
@@ -40,6 +41,7 @@ public class OracleNodeApplicationService extends JavaSeApplicationService {
     private final NetworkService networkService;
     private final OracleNodeService oracleNodeService;
     private final BondedRolesService bondedRolesService;
+    private final ServiceGraph serviceGraph;
 
     public OracleNodeApplicationService(String[] args) {
         super("oracle_node", args);
@@ -78,16 +80,20 @@ public class OracleNodeApplicationService extends JavaSeApplicationService {
                 bondedRolesService.getAuthorizedBondedRolesService(),
                 marketPriceRequestService,
                 memoryReportService);
+
+        serviceGraph = new ServiceGraph()
+                .add(memoryReportService)
+                .add(metricsHttpServer)
+                .add(securityService)
+                .add(networkService, securityService, memoryReportService)
+                .add(identityService, securityService, networkService)
+                .add(bondedRolesService, networkService)
+                .add(oracleNodeService, identityService, networkService, bondedRolesService, memoryReportService);
     }
 
     @Override
     public CompletableFuture<Boolean> initialize() {
-        return memoryReportService.initialize()
-                .thenCompose(result -> securityService.initialize())
-                .thenCompose(result -> networkService.initialize())
-                .thenCompose(result -> identityService.initialize())
-                .thenCompose(result -> bondedRolesService.initialize())
-                .thenCompose(result -> oracleNodeService.initialize())
+        return serviceGraph.initialize()
                 .orTimeout(5, TimeUnit.MINUTES)
                 .whenComplete((success, throwable) -> {
                     if (success) {
@@ -108,6 +114,7 @@ public class OracleNodeApplicationService extends JavaSeApplicationService {
                 .thenCompose(result -> identityService.shutdown())
                 .thenCompose(result -> networkService.shutdown())
                 .thenCompose(result -> securityService.shutdown())
+                .thenCompose(result -> metricsHttpServer.shutdown())
                 .thenCompose(result -> memoryReportService.shutdown())
                 .orTimeout(2, TimeUnit.MINUTES)
                 .handle((result, throwable) -> throwable == null)
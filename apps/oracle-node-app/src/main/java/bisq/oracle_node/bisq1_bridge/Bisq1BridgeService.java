@@ -61,11 +61,17 @@ import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -74,6 +80,10 @@ import static com.google.common.base.Preconditions.checkArgument;
 @Slf4j
 public class Bisq1BridgeService implements Service, ConfidentialMessageService.Listener,
         AuthorizedBondedRolesService.Listener, PersistenceClient<Bisq1BridgeStore> {
+    // The TTL of the proof of burn and bonded reputation data is 100 days
+    private static final long REPUBLISH_INTERVAL = TimeUnit.DAYS.toMillis(25);
+    private static final int MAX_REPUBLISH_BATCH_SIZE = 20;
+
     @Getter
     public static class Config {
         private final com.typesafe.config.Config httpService;
@@ -228,7 +238,8 @@ public class Bisq1BridgeService implements Service, ConfidentialMessageService.L
         memoryReportService.logReport();
         log.info("Completed republishAuthorizedBondedRoles");
         log.info("Start request and publish DaoData");
-        requestDaoData().join(); // takes about 6 minutes for 500 items
+        // Takes about 6 minutes for 500 items at the first run, later only new or changed items get published
+        requestDaoData().join();
         memoryReportService.logReport();
         log.info("Completed request and publish DaoData");
         periodicRequestDoaDataScheduler = Scheduler.run(this::periodicRepublish)
@@ -259,43 +270,84 @@ public class Bisq1BridgeService implements Service, ConfidentialMessageService.L
     }
 
     private CompletableFuture<Boolean> publishProofOfBurnDtoSet(List<ProofOfBurnDto> proofOfBurnList) {
-        return CompletableFuture.supplyAsync(() -> {
-            ThreadName.set(this, "publishProofOfBurnDtoSet");
-            log.info("publishProofOfBurnDtoSet: proofOfBurnList={}", proofOfBurnList);
-            Stream<AuthorizedProofOfBurnData> stream = proofOfBurnList.stream()
-                    .map(dto -> new AuthorizedProofOfBurnData(
-                            dto.getBlockTime(),
-                            dto.getAmount(),
-                            Hex.decode(dto.getHash()),
-                            dto.getBlockHeight(),
-                            dto.getTxId(),
-                            staticPublicKeysProvided));
-            return CompletableFutureUtils.allOf(stream
-                            .map(this::publishAuthorizedData)
-                            .collect(Collectors.toList()))
-                    .thenApply(results -> !results.contains(false))
-                    .join();
-        }, NetworkService.NETWORK_IO_POOL);
+        log.info("publishProofOfBurnDtoSet: proofOfBurnList={}", proofOfBurnList);
+        List<AuthorizedProofOfBurnData> list = proofOfBurnList.stream()
+                .map(dto -> new AuthorizedProofOfBurnData(
+                        dto.getBlockTime(),
+                        dto.getAmount(),
+                        Hex.decode(dto.getHash()),
+                        dto.getBlockHeight(),
+                        dto.getTxId(),
+                        staticPublicKeysProvided))
+                .toList();
+        return publishNewOrChangedDaoData(list, AuthorizedProofOfBurnData::getTxId, "publishProofOfBurnDtoSet");
     }
 
     private CompletableFuture<Boolean> publishBondedReputationDtoSet(List<BondedReputationDto> bondedReputationList) {
+        log.info("publishBondedReputationDtoSet: bondedReputationList={}", bondedReputationList);
+        List<AuthorizedBondedReputationData> list = bondedReputationList.stream()
+                .map(dto -> new AuthorizedBondedReputationData(
+                        dto.getBlockTime(),
+                        dto.getAmount(),
+                        Hex.decode(dto.getHash()),
+                        dto.getLockTime(),
+                        dto.getBlockHeight(),
+                        dto.getTxId(),
+                        staticPublicKeysProvided))
+                .toList();
+        return publishNewOrChangedDaoData(list, AuthorizedBondedReputationData::getTxId, "publishBondedReputationDtoSet");
+    }
+
+    /**
+     * Publishes only the data which are new or have changed since the last publishing. Unchanged data are
+     * republished once they have not been published for REPUBLISH_INTERVAL, limited to MAX_REPUBLISH_BATCH_SIZE items
+     * per call, so that the refresh is spread over multiple cycles.
+     */
+    private <T extends AuthorizedDistributedData> CompletableFuture<Boolean> publishNewOrChangedDaoData(List<T> list,
+                                                                                                      Function<T, String> txIdProvider,
+                                                                                                      String threadName) {
         return CompletableFuture.supplyAsync(() -> {
-            ThreadName.set(this, "publishBondedReputationDtoSet");
-            log.info("publishBondedReputationDtoSet: bondedReputationList={}", bondedReputationList);
-            Stream<AuthorizedBondedReputationData> stream = bondedReputationList.stream()
-                    .map(dto -> new AuthorizedBondedReputationData(
-                            dto.getBlockTime(),
-                            dto.getAmount(),
-                            Hex.decode(dto.getHash()),
-                            dto.getLockTime(),
-                            dto.getBlockHeight(),
-                            dto.getTxId(),
-                            staticPublicKeysProvided));
-            return CompletableFutureUtils.allOf(stream
-                            .map(this::publishAuthorizedData)
+            ThreadName.set(this, threadName);
+            long now = System.currentTimeMillis();
+            Map<String, PublishedDaoData> publishedDaoDataByTxId = persistableStore.getPublishedDaoDataByTxId();
+            Map<String, byte[]> contentHashByTxId = new HashMap<>();
+            List<T> newOrChanged = new ArrayList<>();
+            List<T> dueForRepublish = new ArrayList<>();
+            list.forEach(data -> {
+                String txId = txIdProvider.apply(data);
+                byte[] contentHash = DigestUtil.hash(data.serializeForHash());
+                contentHashByTxId.put(txId, contentHash);
+                PublishedDaoData published = publishedDaoDataByTxId.get(txId);
+                if (published == null || !Arrays.equals(published.getContentHash(), contentHash)) {
+                    newOrChanged.add(data);
+                } else if (now - published.getLastPublishDate() > REPUBLISH_INTERVAL) {
+                    dueForRepublish.add(data);
+                }
+            });
+            List<T> toPublish = Stream.concat(newOrChanged.stream(),
+                            dueForRepublish.stream()
+                                    .sorted(Comparator.comparingLong(data -> publishedDaoDataByTxId.get(txIdProvider.apply(data)).getLastPublishDate()))
+                                    .limit(MAX_REPUBLISH_BATCH_SIZE))
+                    .toList();
+            log.info("{}: {} items, {} new or changed, {} due for republishing, {} get published",
+                    threadName, list.size(), newOrChanged.size(), dueForRepublish.size(), toPublish.size());
+            if (toPublish.isEmpty()) {
+                return true;
+            }
+
+            List<Boolean> results = CompletableFutureUtils.allOf(toPublish.stream()
+                            .map(data -> publishAuthorizedData(data)
+                                    .thenApply(success -> {
+                                        if (success) {
+                                            String txId = txIdProvider.apply(data);
+                                            publishedDaoDataByTxId.put(txId, new PublishedDaoData(contentHashByTxId.get(txId), now));
+                                        }
+                                        return success;
+                                    }))
                             .collect(Collectors.toList()))
-                    .thenApply(results -> !results.contains(false))
                     .join();
+            persist();
+            return !results.contains(false);
         }, NetworkService.NETWORK_IO_POOL);
     }
 
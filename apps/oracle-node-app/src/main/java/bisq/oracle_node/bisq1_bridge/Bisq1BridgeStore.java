@@ -26,8 +26,11 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
 
@@ -43,13 +46,19 @@ public final class Bisq1BridgeStore implements PersistableStore<Bisq1BridgeStore
     private final Set<AuthorizeAccountAgeRequest> accountAgeRequests = new CopyOnWriteArraySet<>();
     @Getter
     private final Set<AuthorizeSignedWitnessRequest> signedWitnessRequests = new CopyOnWriteArraySet<>();
+    // Fingerprints of the published proof of burn and bonded reputation data by txId
+    @Getter
+    private final Map<String, PublishedDaoData> publishedDaoDataByTxId = new ConcurrentHashMap<>();
 
     public Bisq1BridgeStore() {
     }
 
-    private Bisq1BridgeStore(Set<AuthorizeAccountAgeRequest> accountAgeRequests, Set<AuthorizeSignedWitnessRequest> signedWitnessRequests) {
+    private Bisq1BridgeStore(Set<AuthorizeAccountAgeRequest> accountAgeRequests,
+                             Set<AuthorizeSignedWitnessRequest> signedWitnessRequests,
+                             Map<String, PublishedDaoData> publishedDaoDataByTxId) {
         this.accountAgeRequests.addAll(accountAgeRequests);
         this.signedWitnessRequests.addAll(signedWitnessRequests);
+        this.publishedDaoDataByTxId.putAll(publishedDaoDataByTxId);
     }
 
     @Override
@@ -60,7 +69,9 @@ public final class Bisq1BridgeStore implements PersistableStore<Bisq1BridgeStore
                         .collect(Collectors.toList()))
                 .addAllSignedWitnessRequests(signedWitnessRequests.stream()
                         .map(e -> e.toValueProto(serializeForHash))
-                        .collect(Collectors.toList()));
+                        .collect(Collectors.toList()))
+                .putAllPublishedDaoDataByTxId(publishedDaoDataByTxId.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().toProto(serializeForHash))));
     }
 
     @Override
@@ -75,7 +86,9 @@ public final class Bisq1BridgeStore implements PersistableStore<Bisq1BridgeStore
                         .collect(Collectors.toSet()),
                 proto.getSignedWitnessRequestsList().stream()
                         .map(AuthorizeSignedWitnessRequest::fromProto)
-                        .collect(Collectors.toSet()));
+                        .collect(Collectors.toSet()),
+                proto.getPublishedDaoDataByTxIdMap().entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, e -> PublishedDaoData.fromProto(e.getValue()))));
     }
 
     @Override
@@ -91,7 +104,9 @@ public final class Bisq1BridgeStore implements PersistableStore<Bisq1BridgeStore
 
     @Override
     public Bisq1BridgeStore getClone() {
-        return new Bisq1BridgeStore(new HashSet<>(accountAgeRequests), new HashSet<>(signedWitnessRequests));
+        return new Bisq1BridgeStore(new HashSet<>(accountAgeRequests),
+                new HashSet<>(signedWitnessRequests),
+                new HashMap<>(publishedDaoDataByTxId));
     }
 
     @Override
@@ -100,5 +115,7 @@ public final class Bisq1BridgeStore implements PersistableStore<Bisq1BridgeStore
         accountAgeRequests.addAll(persisted.getAccountAgeRequests());
         signedWitnessRequests.clear();
         signedWitnessRequests.addAll(persisted.getSignedWitnessRequests());
+        publishedDaoDataByTxId.clear();
+        publishedDaoDataByTxId.putAll(persisted.getPublishedDaoDataByTxId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.oracle_node.bisq1_bridge;
+
+import bisq.common.proto.PersistableProto;
+import com.google.protobuf.ByteString;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Fingerprint of a published DAO data item (proof of burn or bonded reputation) used to detect if it has changed
+ * since the last publishing and when it needs to be republished.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class PublishedDaoData implements PersistableProto {
+    private final byte[] contentHash;
+    private final long lastPublishDate;
+
+    public PublishedDaoData(byte[] contentHash, long lastPublishDate) {
+        this.contentHash = contentHash;
+        this.lastPublishDate = lastPublishDate;
+    }
+
+    @Override
+    public bisq.oracle_node.protobuf.PublishedDaoData toProto(boolean serializeForHash) {
+        return resolveProto(serializeForHash);
+    }
+
+    @Override
+    public bisq.oracle_node.protobuf.PublishedDaoData.Builder getBuilder(boolean serializeForHash) {
+        return bisq.oracle_node.protobuf.PublishedDaoData.newBuilder()
+                .setContentHash(ByteString.copyFrom(contentHash))
+                .setLastPublishDate(lastPublishDate);
+    }
+
+    public static PublishedDaoData fromProto(bisq.oracle_node.protobuf.PublishedDaoData proto) {
+        return new PublishedDaoData(proto.getContentHash().toByteArray(), proto.getLastPublishDate());
+    }
+}
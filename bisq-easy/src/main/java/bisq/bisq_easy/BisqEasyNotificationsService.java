@@ -132,8 +132,8 @@ public class BisqEasyNotificationsService implements Service {
 
     public long getNumNotifications(NavigationTarget navigationTarget) {
         return ChatChannelDomainNavigationTargetMapper.fromNavigationTarget(navigationTarget).stream()
-                .flatMap(chatNotificationService::getNotConsumedNotifications)
-                .count();
+                .mapToLong(chatNotificationService::getNumNotifications)
+                .sum();
     }
 
     public long getNumNotificationsForDomains(Set<ChatChannelDomain> domains) {
@@ -0,0 +1,114 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.bonded_roles.market_price;
+
+import bisq.common.currency.Market;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Keeps the most recent market prices per market in a fixed size ring buffer backed by primitive arrays.
+ * Only prices with a more recent timestamp than the last added one are added.
+ */
+public class MarketPriceHistory {
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    /**
+     * Copy of the history of a market in chronological order.
+     */
+    @Getter
+    public static final class Series {
+        private final long[] timestamps;
+        private final double[] prices;
+
+        private Series(long[] timestamps, double[] prices) {
+            this.timestamps = timestamps;
+            this.prices = prices;
+        }
+
+        public int size() {
+            return timestamps.length;
+        }
+    }
+
+    private static final class RingBuffer {
+        private final long[] timestamps;
+        private final double[] prices;
+        private int head;
+        private int size;
+
+        private RingBuffer(int capacity) {
+            timestamps = new long[capacity];
+            prices = new double[capacity];
+        }
+
+        private synchronized void add(long timestamp, double price) {
+            if (size > 0 && timestamp <= timestamps[(head + size - 1) % timestamps.length]) {
+                return;
+            }
+            int index = (head + size) % timestamps.length;
+            timestamps[index] = timestamp;
+            prices[index] = price;
+            if (size < timestamps.length) {
+                size++;
+            } else {
+                head = (head + 1) % timestamps.length;
+            }
+        }
+
+        private synchronized Series toSeries() {
+            long[] timestampsCopy = new long[size];
+            double[] pricesCopy = new double[size];
+            int firstPartLength = Math.min(size, timestamps.length - head);
+            System.arraycopy(timestamps, head, timestampsCopy, 0, firstPartLength);
+            System.arraycopy(prices, head, pricesCopy, 0, firstPartLength);
+            System.arraycopy(timestamps, 0, timestampsCopy, firstPartLength, size - firstPartLength);
+            System.arraycopy(prices, 0, pricesCopy, firstPartLength, size - firstPartLength);
+            return new Series(timestampsCopy, pricesCopy);
+        }
+    }
+
+    private final int capacity;
+    private final Map<Market, RingBuffer> ringBufferByMarket = new ConcurrentHashMap<>();
+
+    public MarketPriceHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MarketPriceHistory(int capacity) {
+        checkArgument(capacity > 0, "capacity must be positive");
+        this.capacity = capacity;
+    }
+
+    public void add(Market market, MarketPrice marketPrice) {
+        add(market, marketPrice.getTimestamp(), marketPrice.getPriceQuote().asDouble());
+    }
+
+    public void add(Market market, long timestamp, double price) {
+        ringBufferByMarket.computeIfAbsent(market, key -> new RingBuffer(capacity)).add(timestamp, price);
+    }
+
+    public Optional<Series> findSeries(Market market) {
+        return Optional.ofNullable(ringBufferByMarket.get(market)).map(RingBuffer::toSeries);
+    }
+}
@@ -19,22 +19,17 @@ package bisq.bonded_roles.market_price;
 
 import bisq.common.application.ApplicationVersion;
 import bisq.common.currency.Market;
-import bisq.common.currency.MarketRepository;
-import bisq.common.currency.TradeCurrency;
 import bisq.common.data.Pair;
-import bisq.common.monetary.PriceQuote;
 import bisq.common.observable.map.ObservableHashMap;
 import bisq.common.threading.ExecutorFactory;
 import bisq.common.threading.ThreadName;
 import bisq.common.timer.Scheduler;
 import bisq.common.util.CollectionUtil;
 import bisq.common.util.ExceptionUtil;
-import bisq.common.util.MathUtils;
 import bisq.network.NetworkService;
 import bisq.common.network.TransportType;
 import bisq.network.http.BaseHttpClient;
 import bisq.network.http.utils.HttpException;
-import com.google.gson.Gson;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -253,21 +248,16 @@ public class MarketPriceRequestService {
                     try {
                         String json = client.get(param, Optional.of(new Pair<>("User-Agent", userAgent)));
                         log.info("Received market price from {} after {} ms", client.getBaseUrl() + "/" + param, System.currentTimeMillis() - ts);
-                        Map<Market, MarketPrice> map = parseResponse(json);
+                        Map<Market, MarketPrice> map = MarketPriceResponseParser.parse(json);
                         long now = System.currentTimeMillis();
                         String sinceLastResponse = timeSinceLastResponse == 0 ? "" : "Time since last response: " + (now - timeSinceLastResponse) / 1000 + " sec";
                         log.info("Market price request from {} resulted in {} items took {} ms. {}",
                                 client.getBaseUrl(), map.size(), now - ts, sinceLastResponse);
                         timeSinceLastResponse = now;
 
-                        // We only use those market prices for which we have a market in the repository
-                        Map<Market, MarketPrice> filtered = map.entrySet().stream()
-                                .filter(e -> e.getValue().isValidDate())
-                                .filter(e -> MarketRepository.findAnyMarketByMarketCodes(e.getKey().getMarketCodes()).isPresent())
-                                .collect(Collectors.toMap(e -> MarketRepository.findAnyMarketByMarketCodes(e.getKey().getMarketCodes()).orElseThrow(),
-                                        Map.Entry::getValue));
-                        marketPriceByCurrencyMap.clear();
-                        marketPriceByCurrencyMap.putAll(filtered);
+                        // We apply only the changed entries to avoid that observers see a temporary empty map
+                        // and get notified for each entry.
+                        marketPriceByCurrencyMap.applyDiff(map);
                         mostRecentProvider = Optional.of(selectedProvider.get());
                         selectedProvider.set(selectNextProvider());
                         shutdownHttpClient(client);
@@ -302,50 +292,6 @@ public class MarketPriceRequestService {
                 .orTimeout(conf.getTimeoutInSeconds(), SECONDS);
     }
 
-    private Map<Market, MarketPrice> parseResponse(String json) {
-        // size of json is about 8kb
-        Map<Market, MarketPrice> map = new HashMap<>();
-        Map<?, ?> linkedTreeMap = new Gson().fromJson(json, Map.class);
-        List<?> list = (ArrayList<?>) linkedTreeMap.get("data");
-        list.forEach(obj -> {
-            try {
-                Map<?, ?> treeMap = (Map<?, ?>) obj;
-                String currencyCode = (String) treeMap.get("currencyCode");
-                if (!currencyCode.startsWith("NON_EXISTING_SYMBOL")) {
-                    String provider = (String) treeMap.get("provider"); // Bisq-Aggregate or name of exchange of price feed
-                    // Convert Bisq-Aggregate to BISQAGGREGATE
-                    provider = provider.replace("-", "").toUpperCase();
-
-                    double price = (Double) treeMap.get("price");
-                    // json uses double for our timestamp long value...
-                    // We get milliseconds not seconds
-                    long timestamp = MathUtils.doubleToLong((Double) treeMap.get("timestampSec"));
-                    // We only get BTC based prices not fiat-fiat or altcoin-altcoin
-                    boolean isFiat = TradeCurrency.isFiat(currencyCode);
-                    String baseCurrencyCode = isFiat ? "BTC" : currencyCode;
-                    String quoteCurrencyCode = isFiat ? currencyCode : "BTC";
-                    PriceQuote priceQuote = PriceQuote.fromPrice(price, baseCurrencyCode, quoteCurrencyCode);
-                    MarketPriceProvider marketPriceProvider = MarketPriceProvider.fromName(provider);
-                    MarketPriceProviderInfo marketPriceProviderInfo = new MarketPriceProviderInfo(marketPriceProvider, marketPriceProvider.getDisplayName().orElse(provider));
-                    MarketPrice marketPrice = new MarketPrice(priceQuote,
-                            timestamp,
-                            marketPriceProviderInfo);
-                    if (marketPrice.isValidDate()) {
-                        marketPrice.setSource(MarketPrice.Source.REQUESTED_FROM_PRICE_NODE);
-                        map.put(priceQuote.getMarket(), marketPrice);
-                    } else if (!marketPrice.getMarket().getBaseCurrencyCode().equals("DCR")) {
-                        // We get an old DCR price from the price servers. Need to be fixed in price server
-                        log.warn("We got an outdated market price. {}", marketPrice);
-                    }
-                }
-            } catch (Exception e) {
-                // We do not fail the whole request if one entry would be invalid
-                log.warn("Market price conversion failed: {} ", obj, e);
-            }
-        });
-        return map;
-    }
-
     private Provider selectNextProvider() {
         if (candidates.isEmpty()) {
             fillCandidates(0);
@@ -0,0 +1,138 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.bonded_roles.market_price;
+
+import bisq.common.currency.Market;
+import bisq.common.currency.MarketRepository;
+import bisq.common.currency.TradeCurrency;
+import bisq.common.monetary.PriceQuote;
+import bisq.common.util.MathUtils;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Parses the market price response of the price node with a streaming JSON reader directly into MarketPrice objects.
+ * Only prices for markets from the MarketRepository are returned, using the repository's market instance as key.
+ */
+@Slf4j
+class MarketPriceResponseParser {
+    static Map<Market, MarketPrice> parse(String json) throws IOException {
+        Map<String, Market> marketByMarketCodes = MarketRepository.getAllMarkets().stream()
+                .collect(Collectors.toMap(Market::getMarketCodes, Function.identity(), (first, second) -> first));
+        Map<Market, MarketPrice> map = new HashMap<>();
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("data") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        readEntry(reader, marketByMarketCodes, map);
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        return map;
+    }
+
+    private static void readEntry(JsonReader reader,
+                                  Map<String, Market> marketByMarketCodes,
+                                  Map<Market, MarketPrice> map) throws IOException {
+        String currencyCode = null;
+        String provider = null;
+        String price = null;
+        String timestamp = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "currencyCode" -> currencyCode = readString(reader);
+                // Bisq-Aggregate or name of exchange of price feed
+                case "provider" -> provider = readString(reader);
+                // Numbers are read as strings and converted in the try block below, so that an invalid value
+                // only drops this entry
+                case "price" -> price = readString(reader);
+                case "timestampSec" -> timestamp = readString(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (currencyCode == null || provider == null || price == null || timestamp == null ||
+                currencyCode.startsWith("NON_EXISTING_SYMBOL")) {
+            return;
+        }
+        try {
+            // We only get BTC based prices not fiat-fiat or altcoin-altcoin
+            boolean isFiat = TradeCurrency.isFiat(currencyCode);
+            String baseCurrencyCode = isFiat ? "BTC" : currencyCode;
+            String quoteCurrencyCode = isFiat ? currencyCode : "BTC";
+            PriceQuote priceQuote = PriceQuote.fromPrice(Double.parseDouble(price), baseCurrencyCode, quoteCurrencyCode);
+            Market market = marketByMarketCodes.get(priceQuote.getMarket().getMarketCodes());
+            if (market == null) {
+                // We only use those market prices for which we have a market in the repository
+                return;
+            }
+
+            // Convert Bisq-Aggregate to BISQAGGREGATE
+            String providerName = provider.replace("-", "").toUpperCase();
+            MarketPriceProvider marketPriceProvider = MarketPriceProvider.fromName(providerName);
+            MarketPriceProviderInfo marketPriceProviderInfo = new MarketPriceProviderInfo(marketPriceProvider,
+                    marketPriceProvider.getDisplayName().orElse(providerName));
+            // json uses double for our timestamp long value...
+            // We get milliseconds not seconds
+            long timestampAsLong = MathUtils.doubleToLong(Double.parseDouble(timestamp));
+            MarketPrice marketPrice = new MarketPrice(priceQuote, timestampAsLong, marketPriceProviderInfo);
+            if (marketPrice.isValidDate()) {
+                marketPrice.setSource(MarketPrice.Source.REQUESTED_FROM_PRICE_NODE);
+                map.put(market, marketPrice);
+            } else if (!baseCurrencyCode.equals("DCR")) {
+                // We get an old DCR price from the price servers. Need to be fixed in price server
+                log.warn("We got an outdated market price. {}", marketPrice);
+            }
+        } catch (Exception e) {
+            // We do not fail the whole request if one entry would be invalid
+            log.warn("Market price conversion failed for currencyCode {}", currencyCode, e);
+        }
+    }
+
+    // Returns null and skips the value if it is neither a string nor a number
+    private static String readString(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return reader.nextString();
+        }
+        reader.skipValue();
+        return null;
+    }
+}
@@ -60,6 +60,10 @@ public class MarketPriceService implements Service, PersistenceClient<MarketPric
     @Getter
     private final MarketPriceRequestService marketPriceRequestService;
     private Pin marketPriceByCurrencyMapPin;
+    private final Pin marketPriceSnapshotPin;
+    private volatile MarketPriceSnapshot marketPriceSnapshot = MarketPriceSnapshot.EMPTY;
+    @Getter
+    private final MarketPriceHistory marketPriceHistory = new MarketPriceHistory();
     @Getter
     private Optional<AuthorizedBondedRole> marketPriceProvidingOracle = Optional.empty();
 
@@ -70,6 +74,7 @@ public class MarketPriceService implements Service, PersistenceClient<MarketPric
         this.authorizedBondedRolesService = authorizedBondedRolesService;
         marketPriceRequestService = new MarketPriceRequestService(MarketPriceRequestService.Config.from(marketPrice), networkService);
         persistence = persistenceService.getOrCreatePersistence(this, DbSubDirectory.SETTINGS, persistableStore);
+        marketPriceSnapshotPin = getMarketPriceByCurrencyMap().addObserver(this::updateMarketPriceSnapshot);
     }
 
 
@@ -94,6 +99,7 @@ public class MarketPriceService implements Service, PersistenceClient<MarketPric
         if (marketPriceByCurrencyMapPin != null) {
             marketPriceByCurrencyMapPin.unbind();
         }
+        marketPriceSnapshotPin.unbind();
         authorizedBondedRolesService.removeListener(this);
         return marketPriceRequestService.shutdown();
     }
@@ -143,6 +149,14 @@ public class MarketPriceService implements Service, PersistenceClient<MarketPric
         return persistableStore.getMarketPriceByCurrencyMap();
     }
 
+    /**
+     * @return The immutable copy of the market prices from the most recent change. Can be used without locking or
+     * copying the observable map.
+     */
+    public MarketPriceSnapshot getMarketPriceSnapshot() {
+        return marketPriceSnapshot;
+    }
+
     public Observable<Market> getSelectedMarket() {
         return persistableStore.getSelectedMarket();
     }
@@ -160,6 +174,10 @@ public class MarketPriceService implements Service, PersistenceClient<MarketPric
         return authorizedBondedRolesService.hasAuthorizedPubKey(authorizedData, BondedRoleType.ORACLE_NODE);
     }
 
+    private synchronized void updateMarketPriceSnapshot() {
+        marketPriceSnapshot = new MarketPriceSnapshot(marketPriceSnapshot.getVersion() + 1, getMarketPriceByCurrencyMap());
+    }
+
     private void applyNewMap(Map<Market, MarketPrice> newMap) {
         if (newMap.isEmpty()) {
             return;
@@ -170,6 +188,7 @@ public class MarketPriceService implements Service, PersistenceClient<MarketPric
             return;
         }
         getMarketPriceByCurrencyMap().putAll(mapOfNewEntries);
+        mapOfNewEntries.forEach(marketPriceHistory::add);
         persist();
     }
 
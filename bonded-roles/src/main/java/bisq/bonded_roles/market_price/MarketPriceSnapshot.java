@@ -0,0 +1,43 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.bonded_roles.market_price;
+
+import bisq.common.currency.Market;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * Immutable copy of the market prices. The version gets incremented with each change of the market price map.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class MarketPriceSnapshot {
+    static final MarketPriceSnapshot EMPTY = new MarketPriceSnapshot(0, Map.of());
+
+    private final long version;
+    private final Map<Market, MarketPrice> marketPriceByMarket;
+
+    MarketPriceSnapshot(long version, Map<Market, MarketPrice> marketPriceByMarket) {
+        this.version = version;
+        this.marketPriceByMarket = Map.copyOf(marketPriceByMarket);
+    }
+}
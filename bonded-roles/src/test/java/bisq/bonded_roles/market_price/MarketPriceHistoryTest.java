@@ -0,0 +1,127 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.bonded_roles.market_price;
+
+import bisq.common.currency.Market;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MarketPriceHistoryTest {
+    private static final Market USD = new Market("BTC", "USD", "Bitcoin", "US Dollar");
+    private static final Market EUR = new Market("BTC", "EUR", "Bitcoin", "Euro");
+
+    @Test
+    public void seriesIsEmptyForUnknownMarket() {
+        assertThat(new MarketPriceHistory(3).findSeries(USD)).isEmpty();
+    }
+
+    @Test
+    public void seriesIsInChronologicalOrderBeforeWraparound() {
+        MarketPriceHistory history = new MarketPriceHistory(3);
+        history.add(USD, 1, 10);
+        history.add(USD, 2, 20);
+
+        MarketPriceHistory.Series series = history.findSeries(USD).orElseThrow();
+        assertThat(series.size()).isEqualTo(2);
+        assertThat(series.getTimestamps()).containsExactly(1, 2);
+        assertThat(series.getPrices()).containsExactly(10, 20);
+    }
+
+    @Test
+    public void oldestEntriesGetOverwrittenAtWraparound() {
+        MarketPriceHistory history = new MarketPriceHistory(3);
+        for (int i = 1; i <= 3; i++) {
+            history.add(USD, i, i * 10);
+        }
+        assertThat(history.findSeries(USD).orElseThrow().getTimestamps()).containsExactly(1, 2, 3);
+
+        history.add(USD, 4, 40);
+        MarketPriceHistory.Series series = history.findSeries(USD).orElseThrow();
+        assertThat(series.size()).isEqualTo(3);
+        assertThat(series.getTimestamps()).containsExactly(2, 3, 4);
+        assertThat(series.getPrices()).containsExactly(20, 30, 40);
+
+        // Wrap around more than once
+        for (int i = 5; i <= 8; i++) {
+            history.add(USD, i, i * 10);
+        }
+        series = history.findSeries(USD).orElseThrow();
+        assertThat(series.getTimestamps()).containsExactly(6, 7, 8);
+        assertThat(series.getPrices()).containsExactly(60, 70, 80);
+    }
+
+    @Test
+    public void capacityOfOne() {
+        MarketPriceHistory history = new MarketPriceHistory(1);
+        history.add(USD, 1, 10);
+        history.add(USD, 2, 20);
+
+        MarketPriceHistory.Series series = history.findSeries(USD).orElseThrow();
+        assertThat(series.getTimestamps()).containsExactly(2);
+        assertThat(series.getPrices()).containsExactly(20);
+    }
+
+    @Test
+    public void entriesNotNewerThanLastEntryAreIgnored() {
+        MarketPriceHistory history = new MarketPriceHistory(3);
+        history.add(USD, 1, 10);
+        history.add(USD, 2, 20);
+        history.add(USD, 3, 30);
+        history.add(USD, 4, 40);
+        // Same timestamp as last entry after wraparound
+        history.add(USD, 4, 41);
+        history.add(USD, 2, 21);
+
+        MarketPriceHistory.Series series = history.findSeries(USD).orElseThrow();
+        assertThat(series.getTimestamps()).containsExactly(2, 3, 4);
+        assertThat(series.getPrices()).containsExactly(20, 30, 40);
+    }
+
+    @Test
+    public void seriesIsACopy() {
+        MarketPriceHistory history = new MarketPriceHistory(3);
+        history.add(USD, 1, 10);
+        MarketPriceHistory.Series series = history.findSeries(USD).orElseThrow();
+
+        history.add(USD, 2, 20);
+
+        assertThat(series.getTimestamps()).containsExactly(1);
+        assertThat(history.findSeries(USD).orElseThrow().getTimestamps()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void marketsAreKeptSeparately() {
+        MarketPriceHistory history = new MarketPriceHistory(2);
+        history.add(USD, 1, 10);
+        history.add(USD, 2, 20);
+        history.add(USD, 3, 30);
+        history.add(EUR, 1, 9);
+
+        assertThat(history.findSeries(USD).orElseThrow().getTimestamps()).containsExactly(2, 3);
+        assertThat(history.findSeries(EUR).orElseThrow().getTimestamps()).containsExactly(1);
+        assertThat(history.findSeries(EUR).orElseThrow().getPrices()).containsExactly(9);
+    }
+
+    @Test
+    public void capacityMustBePositive() {
+        assertThatThrownBy(() -> new MarketPriceHistory(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.bonded_roles.market_price;
+
+import bisq.common.currency.FiatCurrencyRepository;
+import bisq.common.currency.Market;
+import bisq.i18n.Res;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MarketPriceResponseParserTest {
+    private static final Market USD = new Market("BTC", "USD", "Bitcoin", "US Dollar");
+    private static final Market EUR = new Market("BTC", "EUR", "Bitcoin", "Euro");
+    private static final Market XMR = new Market("XMR", "BTC", "Monero", "Bitcoin");
+
+    @BeforeAll
+    public static void setup() {
+        Res.setLanguage("en");
+        FiatCurrencyRepository.setLocale(Locale.US);
+    }
+
+    @Test
+    public void parseProviderResponse() throws IOException {
+        long now = System.currentTimeMillis();
+        String json = "{" +
+                "\"data\":[" +
+                entry("USD", 65000.12, "Bisq-Aggregate", now) + "," +
+                entry("EUR", 60000.5, "COINGECKO", now) + "," +
+                entry("XMR", 0.0026, "Bisq-Aggregate", now) +
+                "]," +
+                "\"btcAverageTs\":0," +
+                "\"bitcoinFeesTs\":1700000000," +
+                "\"bitcoinFees\":{\"btcTxFee\":20,\"btcMinTxFee\":1}" +
+                "}";
+
+        Map<Market, MarketPrice> map = MarketPriceResponseParser.parse(json);
+
+        assertThat(map).containsOnlyKeys(USD, EUR, XMR);
+        MarketPrice usdPrice = map.get(USD);
+        assertThat(usdPrice.getPriceQuote().asDouble()).isEqualTo(65000.12);
+        assertThat(usdPrice.getTimestamp()).isEqualTo(now);
+        assertThat(usdPrice.getSource()).isEqualTo(MarketPrice.Source.REQUESTED_FROM_PRICE_NODE);
+        assertThat(usdPrice.getMarketPriceProviderInfo().getMarketPriceProvider()).isEqualTo(MarketPriceProvider.BISQAGGREGATE);
+        assertThat(map.get(EUR).getMarketPriceProviderInfo().getMarketPriceProvider()).isEqualTo(MarketPriceProvider.COINGECKO);
+        assertThat(map.get(XMR).getPriceQuote().asDouble()).isEqualTo(0.0026);
+        assertThat(map.get(XMR).getMarket()).isEqualTo(XMR);
+    }
+
+    @Test
+    public void skipPartialAndInvalidEntries() throws IOException {
+        long now = System.currentTimeMillis();
+        long outdated = now - 13 * 60 * 60 * 1000L;
+        String json = "{" +
+                "\"data\":[" +
+                // Missing provider
+                "{\"currencyCode\":\"EUR\",\"price\":60000.5,\"timestampSec\":" + now + "}," +
+                // Missing currency code
+                "{\"price\":60000.5,\"provider\":\"Bisq-Aggregate\",\"timestampSec\":" + now + "}," +
+                // Null currency code
+                "{\"currencyCode\":null,\"price\":60000.5,\"provider\":\"Bisq-Aggregate\",\"timestampSec\":" + now + "}," +
+                entry("NON_EXISTING_SYMBOL_1", 1, "Bisq-Aggregate", now) + "," +
+                // Not a market in the repository
+                entry("UNKNOWN", 1, "Bisq-Aggregate", now) + "," +
+                // Outdated
+                entry("GBP", 50000, "Bisq-Aggregate", outdated) + "," +
+                // Missing timestamp
+                "{\"currencyCode\":\"CAD\",\"price\":90000,\"provider\":\"Bisq-Aggregate\"}," +
+                // Unknown fields are ignored
+                "{\"currencyCode\":\"USD\",\"price\":65000.12,\"provider\":\"Kraken\",\"timestampSec\":" + now +
+                ",\"extra\":{\"nested\":[1,2,3]}}" +
+                "]}";
+
+        Map<Market, MarketPrice> map = MarketPriceResponseParser.parse(json);
+
+        assertThat(map).containsOnlyKeys(USD);
+        MarketPriceProviderInfo providerInfo = map.get(USD).getMarketPriceProviderInfo();
+        assertThat(providerInfo.getMarketPriceProvider()).isEqualTo(MarketPriceProvider.OTHER);
+        assertThat(providerInfo.getDisplayName()).isEqualTo("KRAKEN");
+    }
+
+    @Test
+    public void parseResponseWithoutData() throws IOException {
+        assertThat(MarketPriceResponseParser.parse("{}")).isEmpty();
+        assertThat(MarketPriceResponseParser.parse("{\"data\":[]}")).isEmpty();
+        assertThat(MarketPriceResponseParser.parse("{\"data\":null}")).isEmpty();
+        assertThat(MarketPriceResponseParser.parse("{\"data\":{\"currencyCode\":\"USD\"}}")).isEmpty();
+    }
+
+    @Test
+    public void skipEntriesWithInvalidValues() throws IOException {
+        long now = System.currentTimeMillis();
+        String json = "{" +
+                "\"data\":[" +
+                "{\"currencyCode\":\"EUR\",\"price\":\"abc\",\"provider\":\"Bisq-Aggregate\",\"timestampSec\":" + now + "}," +
+                "{\"currencyCode\":\"GBP\",\"price\":50000,\"provider\":\"Bisq-Aggregate\",\"timestampSec\":\"abc\"}," +
+                "{\"currencyCode\":\"CAD\",\"price\":{\"value\":90000},\"provider\":\"Bisq-Aggregate\",\"timestampSec\":" + now + "}," +
+                "{\"currencyCode\":[\"AUD\"],\"price\":90000,\"provider\":\"Bisq-Aggregate\",\"timestampSec\":" + now + "}," +
+                "{\"currencyCode\":\"CHF\",\"provider\":\"Bisq-Aggregate\",\"timestampSec\":" + now + "}," +
+                entry("USD", 65000.12, "Bisq-Aggregate", now) + "," +
+                // Numbers as strings are accepted
+                "{\"currencyCode\":\"XMR\",\"price\":\"0.0026\",\"provider\":\"Bisq-Aggregate\",\"timestampSec\":\"" + now + "\"}" +
+                "]}";
+
+        Map<Market, MarketPrice> map = MarketPriceResponseParser.parse(json);
+
+        assertThat(map).containsOnlyKeys(USD, XMR);
+        assertThat(map.get(USD).getPriceQuote().asDouble()).isEqualTo(65000.12);
+        assertThat(map.get(XMR).getPriceQuote().asDouble()).isEqualTo(0.0026);
+        assertThat(map.get(XMR).getTimestamp()).isEqualTo(now);
+    }
+
+    @Test
+    public void failOnMalformedResponse() {
+        long now = System.currentTimeMillis();
+        assertThatThrownBy(() -> MarketPriceResponseParser.parse(""))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> MarketPriceResponseParser.parse("{\"data\":[" + entry("USD", 65000, "Bisq-Aggregate", now)))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> MarketPriceResponseParser.parse("[]"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String entry(String currencyCode, double price, String provider, long timestamp) {
+        return "{\"currencyCode\":\"" + currencyCode + "\"," +
+                "\"price\":" + price + "," +
+                "\"provider\":\"" + provider + "\"," +
+                "\"timestampSec\":" + timestamp + "}";
+    }
+}
@@ -17,6 +17,7 @@
 
 package bisq.chat;
 
+import bisq.bonded_roles.market_price.MarketPriceService;
 import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookChannel;
 import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookChannelService;
 import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookSelectionService;
@@ -78,7 +79,8 @@ public class ChatService implements Service {
                        NetworkService networkService,
                        UserService userService,
                        SettingsService settingsService,
-                       SystemNotificationService systemNotificationService) {
+                       SystemNotificationService systemNotificationService,
+                       MarketPriceService marketPriceService) {
         this.persistenceService = persistenceService;
         this.networkService = networkService;
         this.userService = userService;
@@ -95,7 +97,8 @@ public class ChatService implements Service {
         // BISQ_EASY
         bisqEasyOfferbookChannelService = new BisqEasyOfferbookChannelService(persistenceService,
                 networkService,
-                userService);
+                userService,
+                marketPriceService);
         chatChannelSelectionServices.put(ChatChannelDomain.BISQ_EASY_OFFERBOOK,
                 new BisqEasyOfferbookSelectionService(persistenceService, bisqEasyOfferbookChannelService));
 
@@ -17,16 +17,19 @@
 
 package bisq.chat.bisq_easy.offerbook;
 
+import bisq.bonded_roles.market_price.MarketPriceService;
 import bisq.chat.ChatChannelDomain;
 import bisq.chat.Citation;
-import bisq.chat.pub.PublicChatChannel;
 import bisq.chat.pub.PublicChatChannelService;
 import bisq.chat.reactions.BisqEasyOfferbookMessageReaction;
 import bisq.chat.reactions.Reaction;
 import bisq.common.currency.Market;
 import bisq.common.currency.MarketRepository;
+import bisq.common.observable.Pin;
+import bisq.common.observable.collection.CollectionObserver;
 import bisq.common.observable.collection.ObservableSet;
 import bisq.common.observable.map.ObservableHashMap;
+import bisq.common.timer.Scheduler;
 import bisq.common.util.StringUtils;
 import bisq.network.NetworkService;
 import bisq.network.p2p.services.data.storage.DistributedData;
@@ -41,44 +44,95 @@ import bisq.user.profile.UserProfile;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Collection;
-import java.util.Date;
-import java.util.List;
-import java.util.Optional;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 @Slf4j
 public class BisqEasyOfferbookChannelService extends PublicChatChannelService<BisqEasyOfferbookMessage,
         BisqEasyOfferbookChannel, BisqEasyOfferbookChannelStore, BisqEasyOfferbookMessageReaction> {
+    public interface NumOffersListener {
+        /**
+         * Called at most once per PUBLISH_NUM_OFFERS_DELAY with all markets whose offers have been added or removed.
+         */
+        void onNumOffersChanged(Set<Market> markets);
+    }
+
+    // Offer count changes are coalesced, so that a burst of added offers (e.g. at inventory sync) results in a
+    // single update of numOffersByCurrencyCode and a single notification of the NumOffersListeners.
+    private static final long PUBLISH_NUM_OFFERS_DELAY = 200;
+
     @Getter
     private final BisqEasyOfferbookChannelStore persistableStore = new BisqEasyOfferbookChannelStore();
     @Getter
     private final Persistence<BisqEasyOfferbookChannelStore> persistence;
     @Getter
     private final ObservableHashMap<String, Integer> numOffersByCurrencyCode = new ObservableHashMap<>();
+    @Getter
+    private final BisqEasyOfferbookIndex offerbookIndex;
+    private final Map<String, Pin> offerbookIndexPinByChannelId = new HashMap<>();
+    private final Set<Market> marketsWithChangedNumOffers = new HashSet<>();
+    private final Set<NumOffersListener> numOffersListeners = new CopyOnWriteArraySet<>();
+    @Nullable
+    private Scheduler publishNumOffersScheduler;
 
     public BisqEasyOfferbookChannelService(PersistenceService persistenceService,
                                            NetworkService networkService,
-                                           UserService userService) {
+                                           UserService userService,
+                                           MarketPriceService marketPriceService) {
         super(networkService, userService, ChatChannelDomain.BISQ_EASY_OFFERBOOK);
         persistence = persistenceService.getOrCreatePersistence(this, DbSubDirectory.CACHE, persistableStore);
+        offerbookIndex = new BisqEasyOfferbookIndex(marketPriceService);
+        offerbookIndex.addListener(this::onNumOffersChanged);
+        getChannels().addObserver(new CollectionObserver<>() {
+            @Override
+            public void add(BisqEasyOfferbookChannel channel) {
+                bindOfferbookIndex(channel);
+            }
 
-        getChannels().addObserver(() -> {
-            getChannels().forEach(
-                    channel -> {
-                        var code = channel.getMarket().getQuoteCurrencyCode();
-                        ObservableSet<BisqEasyOfferbookMessage> chatMessages = channel.getChatMessages();
-                        chatMessages.addObserver(()->{
-                            var numOffers = (int) chatMessages.stream()
-                                    .filter(BisqEasyOfferbookMessage::hasBisqEasyOffer)
-                                    .count();
-                            numOffersByCurrencyCode.put(code, numOffers);
-                        });
-                    }
-            );
+            @Override
+            public void remove(Object element) {
+                if (element instanceof BisqEasyOfferbookChannel channel) {
+                    unbindOfferbookIndex(channel);
+                }
+            }
+
+            @Override
+            public void clear() {
+                synchronized (offerbookIndexPinByChannelId) {
+                    offerbookIndexPinByChannelId.values().forEach(Pin::unbind);
+                    offerbookIndexPinByChannelId.clear();
+                }
+                offerbookIndex.clear();
+            }
         });
     }
 
 
+    /* --------------------------------------------------------------------- */
+    // Service
+    /* --------------------------------------------------------------------- */
+
+    @Override
+    public CompletableFuture<Boolean> initialize() {
+        offerbookIndex.initialize();
+        return super.initialize();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> shutdown() {
+        offerbookIndex.shutdown();
+        synchronized (marketsWithChangedNumOffers) {
+            if (publishNumOffersScheduler != null) {
+                publishNumOffersScheduler.stop();
+                publishNumOffersScheduler = null;
+            }
+        }
+        return super.shutdown();
+    }
+
+
     /* --------------------------------------------------------------------- */
     // DataService.Listener
     /* --------------------------------------------------------------------- */
@@ -131,19 +185,20 @@ public class BisqEasyOfferbookChannelService extends PublicChatChannelService<Bi
     }
 
     public Optional<BisqEasyOfferbookMessage> findMessageByOffer(BisqEasyOffer offer) {
-        return findChannel(offer.getMarket())
-                .map(PublicChatChannel::getChatMessages).stream()
-                .flatMap(Collection::stream)
-                .filter(chatMessage -> offer.equals(chatMessage.getBisqEasyOffer().orElse(null)))
-                .findAny();
+        return offerbookIndex.findMessageByOfferId(offer.getId())
+                .filter(chatMessage -> offer.equals(chatMessage.getBisqEasyOffer().orElse(null)));
     }
 
     public Optional<BisqEasyOfferbookMessage> findMessageByOfferId(String offerId) {
-        return getChannels().stream()
-                .flatMap(channel -> channel.getChatMessages().stream())
-                .filter(chatMessage -> chatMessage.getBisqEasyOffer().isPresent() &&
-                        chatMessage.getBisqEasyOffer().get().getId().equals(offerId))
-                .findAny();
+        return offerbookIndex.findMessageByOfferId(offerId);
+    }
+
+    public void addNumOffersListener(NumOffersListener listener) {
+        numOffersListeners.add(listener);
+    }
+
+    public void removeNumOffersListener(NumOffersListener listener) {
+        numOffersListeners.remove(listener);
     }
 
 
@@ -204,6 +259,84 @@ public class BisqEasyOfferbookChannelService extends PublicChatChannelService<Bi
                 new Date().getTime());
     }
 
+    private void bindOfferbookIndex(BisqEasyOfferbookChannel channel) {
+        synchronized (offerbookIndexPinByChannelId) {
+            if (offerbookIndexPinByChannelId.containsKey(channel.getId())) {
+                return;
+            }
+            Pin pin = channel.getChatMessages().addObserver(new CollectionObserver<>() {
+                @Override
+                public void add(BisqEasyOfferbookMessage message) {
+                    offerbookIndex.add(message);
+                }
+
+                @Override
+                public void remove(Object element) {
+                    if (element instanceof BisqEasyOfferbookMessage message) {
+                        offerbookIndex.remove(message);
+                    }
+                }
+
+                @Override
+                public void clear() {
+                    offerbookIndex.removeMarket(channel.getMarket());
+                }
+            });
+            offerbookIndexPinByChannelId.put(channel.getId(), pin);
+        }
+        // Publish the count also for markets without offers
+        onNumOffersChanged(channel.getMarket());
+    }
+
+    private void unbindOfferbookIndex(BisqEasyOfferbookChannel channel) {
+        synchronized (offerbookIndexPinByChannelId) {
+            Optional.ofNullable(offerbookIndexPinByChannelId.remove(channel.getId())).ifPresent(Pin::unbind);
+        }
+        offerbookIndex.removeMarket(channel.getMarket());
+    }
+
+    private void onNumOffersChanged(Market market) {
+        synchronized (marketsWithChangedNumOffers) {
+            marketsWithChangedNumOffers.add(market);
+            if (publishNumOffersScheduler == null) {
+                publishNumOffersScheduler = Scheduler.run(this::publishNumOffers)
+                        .host(this)
+                        .runnableName("publishNumOffers")
+                        .after(PUBLISH_NUM_OFFERS_DELAY);
+            }
+        }
+    }
+
+    private void publishNumOffers() {
+        Set<Market> markets;
+        synchronized (marketsWithChangedNumOffers) {
+            markets = new HashSet<>(marketsWithChangedNumOffers);
+            marketsWithChangedNumOffers.clear();
+            publishNumOffersScheduler = null;
+        }
+
+        Map<String, Integer> changed = new HashMap<>();
+        markets.forEach(market -> {
+            String code = market.getQuoteCurrencyCode();
+            int numOffersOfMarket = offerbookIndex.getNumOffers(market);
+            if (!Objects.equals(numOffersByCurrencyCode.get(code), numOffersOfMarket)) {
+                changed.put(code, numOffersOfMarket);
+            }
+        });
+        if (!changed.isEmpty()) {
+            numOffersByCurrencyCode.putAll(changed);
+        }
+
+        Set<Market> changedMarkets = Collections.unmodifiableSet(markets);
+        numOffersListeners.forEach(listener -> {
+            try {
+                listener.onNumOffersChanged(changedMarkets);
+            } catch (Exception e) {
+                log.error("Calling onNumOffersChanged at listener {} failed", listener, e);
+            }
+        });
+    }
+
     private void maybeAddPublicTradeChannel(BisqEasyOfferbookChannel channel) {
         if (!getChannels().contains(channel)) {
             getChannels().add(channel);
@@ -0,0 +1,339 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.chat.bisq_easy.offerbook;
+
+import bisq.bonded_roles.market_price.MarketPrice;
+import bisq.bonded_roles.market_price.MarketPriceService;
+import bisq.common.currency.Market;
+import bisq.common.monetary.PriceQuote;
+import bisq.common.observable.Pin;
+import bisq.common.observable.map.HashMapObserver;
+import bisq.offer.Direction;
+import bisq.offer.bisq_easy.BisqEasyOffer;
+import bisq.offer.price.PriceUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory order book of the Bisq Easy offers of all offerbook channels.
+ * <p>
+ * Offers are indexed by offer ID and, per market and direction, sorted by their price. This gives O(1) lookups by
+ * offer ID and offer counts, O(log n) best price lookups and O(log n + k) price range queries instead of scanning the
+ * chat messages of all channels.
+ * <p>
+ * Market and float price offers are resolved with the current market price. When the market price of a market changes
+ * only the sort order of that market gets rebuilt. Offers for which no price can be resolved yet (no market price
+ * available) are counted and returned by the market queries but not included in the price-based queries.
+ * <p>
+ * The offer counts are maintained from the add and remove deltas. Listeners get notified about the markets whose
+ * offer count has changed.
+ * <p>
+ * A republished offer is carried by a new message with the same offer ID. Until the old message got removed, all
+ * messages of an offer are kept and the most recently added one is used. If that gets removed first, we fall back to
+ * the remaining one.
+ */
+@Slf4j
+public class BisqEasyOfferbookIndex {
+    public interface Listener {
+        void onNumOffersChanged(Market market);
+    }
+
+    private static final long UNRESOLVED_PRICE = Long.MIN_VALUE;
+
+    private record Entry(String offerId, long price, BisqEasyOfferbookMessage message) {
+    }
+
+    private static final Comparator<Entry> ENTRY_COMPARATOR = Comparator.comparingLong(Entry::price)
+            .thenComparing(Entry::offerId);
+
+    private static class MarketBook {
+        private final Map<String, Entry> entryByOfferId = new HashMap<>();
+        private final Map<Direction, NavigableSet<Entry>> pricedEntriesByDirection = new EnumMap<>(Direction.class);
+
+        private MarketBook() {
+            for (Direction direction : Direction.values()) {
+                pricedEntriesByDirection.put(direction, new TreeSet<>(ENTRY_COMPARATOR));
+            }
+        }
+
+        private void put(Entry entry, Direction direction) {
+            remove(entry.offerId());
+            entryByOfferId.put(entry.offerId(), entry);
+            if (entry.price() != UNRESOLVED_PRICE) {
+                pricedEntriesByDirection.get(direction).add(entry);
+            }
+        }
+
+        private Optional<Entry> remove(String offerId) {
+            Entry entry = entryByOfferId.remove(offerId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            pricedEntriesByDirection.values().forEach(entries -> entries.remove(entry));
+            return Optional.of(entry);
+        }
+
+        private NavigableSet<Entry> getPricedEntries(Direction direction) {
+            return pricedEntriesByDirection.get(direction);
+        }
+    }
+
+    private final MarketPriceService marketPriceService;
+    private final Map<String, BisqEasyOfferbookMessage> messageByOfferId = new ConcurrentHashMap<>();
+    // All messages carrying the offer, ordered by the time they got added. The last one is in messageByOfferId.
+    private final Map<String, List<BisqEasyOfferbookMessage>> messagesByOfferId = new HashMap<>();
+    private final Map<Market, MarketBook> bookByMarket = new HashMap<>();
+    private final Set<Listener> listeners = new CopyOnWriteArraySet<>();
+    private Pin marketPricePin;
+
+    public BisqEasyOfferbookIndex(MarketPriceService marketPriceService) {
+        this.marketPriceService = marketPriceService;
+    }
+
+    void initialize() {
+        marketPricePin = marketPriceService.getMarketPriceByCurrencyMap().addObserver(new HashMapObserver<>() {
+            @Override
+            public void put(Market market, MarketPrice marketPrice) {
+                reprice(market);
+            }
+
+            @Override
+            public void putAll(Map<? extends Market, ? extends MarketPrice> map) {
+                map.keySet().forEach(BisqEasyOfferbookIndex.this::reprice);
+            }
+
+            @Override
+            public void remove(Object key) {
+                if (key instanceof Market market) {
+                    reprice(market);
+                }
+            }
+
+            @Override
+            public void clear() {
+                repriceAll();
+            }
+        });
+    }
+
+    void shutdown() {
+        if (marketPricePin != null) {
+            marketPricePin.unbind();
+            marketPricePin = null;
+        }
+    }
+
+
+    /* --------------------------------------------------------------------- */
+    // API
+    /* --------------------------------------------------------------------- */
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public Optional<BisqEasyOfferbookMessage> findMessageByOfferId(String offerId) {
+        return Optional.ofNullable(messageByOfferId.get(offerId));
+    }
+
+    public int getNumOffers() {
+        return messageByOfferId.size();
+    }
+
+    public synchronized int getNumOffers(Market market) {
+        MarketBook book = bookByMarket.get(market);
+        return book == null ? 0 : book.entryByOfferId.size();
+    }
+
+    public synchronized List<BisqEasyOfferbookMessage> getOffers(Market market) {
+        MarketBook book = bookByMarket.get(market);
+        if (book == null) {
+            return List.of();
+        }
+        return book.entryByOfferId.values().stream()
+                .map(Entry::message)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The offers of the given market and direction sorted by ascending price.
+     * Offers without a resolvable price are not included.
+     */
+    public synchronized List<BisqEasyOfferbookMessage> getOffersSortedByPrice(Market market, Direction direction) {
+        MarketBook book = bookByMarket.get(market);
+        if (book == null) {
+            return List.of();
+        }
+        return book.getPricedEntries(direction).stream()
+                .map(Entry::message)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The offers of the given market and direction with a price in the range of minPrice and maxPrice
+     * (both inclusive) sorted by ascending price.
+     */
+    public synchronized List<BisqEasyOfferbookMessage> getOffersInPriceRange(Market market,
+                                                                            Direction direction,
+                                                                            long minPrice,
+                                                                            long maxPrice) {
+        MarketBook book = bookByMarket.get(market);
+        if (book == null || minPrice > maxPrice) {
+            return List.of();
+        }
+        // Empty offerId sorts before and Character.MAX_VALUE after any real offer ID at the same price
+        Entry from = new Entry("", minPrice, null);
+        Entry to = new Entry(String.valueOf(Character.MAX_VALUE), maxPrice, null);
+        return book.getPricedEntries(direction).subSet(from, true, to, true).stream()
+                .map(Entry::message)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The offer with the best price for a taker: the lowest priced sell offer or the highest priced buy offer.
+     */
+    public synchronized Optional<BisqEasyOfferbookMessage> findBestOffer(Market market, Direction direction) {
+        MarketBook book = bookByMarket.get(market);
+        if (book == null) {
+            return Optional.empty();
+        }
+        NavigableSet<Entry> entries = book.getPricedEntries(direction);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+        Entry best = direction == Direction.SELL ? entries.first() : entries.last();
+        return Optional.of(best.message());
+    }
+
+
+    /* --------------------------------------------------------------------- */
+    // Package private
+    /* --------------------------------------------------------------------- */
+
+    synchronized void add(BisqEasyOfferbookMessage message) {
+        message.getBisqEasyOffer().ifPresent(offer -> {
+            List<BisqEasyOfferbookMessage> messages = messagesByOfferId.computeIfAbsent(offer.getId(),
+                    offerId -> new ArrayList<>());
+            boolean isNewOffer = messages.isEmpty();
+            messages.remove(message);
+            messages.add(message);
+            putMessage(offer, message);
+            if (isNewOffer) {
+                notifyNumOffersChanged(offer.getMarket());
+            }
+        });
+    }
+
+    synchronized void remove(BisqEasyOfferbookMessage message) {
+        message.getBisqEasyOffer().ifPresent(offer -> {
+            List<BisqEasyOfferbookMessage> messages = messagesByOfferId.get(offer.getId());
+            if (messages == null || !messages.remove(message)) {
+                return;
+            }
+
+            if (messages.isEmpty()) {
+                messagesByOfferId.remove(offer.getId());
+                messageByOfferId.remove(offer.getId());
+                MarketBook book = bookByMarket.get(offer.getMarket());
+                if (book != null) {
+                    book.remove(offer.getId());
+                }
+                notifyNumOffersChanged(offer.getMarket());
+            } else {
+                // The offer is still carried by another message. If we removed the current one we fall back to the
+                // most recently added of the remaining messages.
+                BisqEasyOfferbookMessage remaining = messages.get(messages.size() - 1);
+                if (!remaining.equals(messageByOfferId.get(offer.getId()))) {
+                    remaining.getBisqEasyOffer().ifPresent(remainingOffer -> putMessage(remainingOffer, remaining));
+                }
+            }
+        });
+    }
+
+    synchronized void removeMarket(Market market) {
+        MarketBook book = bookByMarket.remove(market);
+        if (book != null) {
+            book.entryByOfferId.keySet().forEach(offerId -> {
+                messageByOfferId.remove(offerId);
+                messagesByOfferId.remove(offerId);
+            });
+            if (!book.entryByOfferId.isEmpty()) {
+                notifyNumOffersChanged(market);
+            }
+        }
+    }
+
+    synchronized void clear() {
+        List<Market> markets = new ArrayList<>(bookByMarket.keySet());
+        bookByMarket.clear();
+        messageByOfferId.clear();
+        messagesByOfferId.clear();
+        markets.forEach(this::notifyNumOffersChanged);
+    }
+
+
+    /* --------------------------------------------------------------------- */
+    // Private
+    /* --------------------------------------------------------------------- */
+
+    private synchronized void reprice(Market market) {
+        MarketBook book = bookByMarket.get(market);
+        if (book == null) {
+            return;
+        }
+        new ArrayList<>(book.entryByOfferId.values()).forEach(entry ->
+                entry.message().getBisqEasyOffer().ifPresent(offer ->
+                        book.put(createEntry(offer, entry.message()), offer.getDirection())));
+    }
+
+    private synchronized void repriceAll() {
+        new ArrayList<>(bookByMarket.keySet()).forEach(this::reprice);
+    }
+
+    private void putMessage(BisqEasyOffer offer, BisqEasyOfferbookMessage message) {
+        messageByOfferId.put(offer.getId(), message);
+        bookByMarket.computeIfAbsent(offer.getMarket(), market -> new MarketBook())
+                .put(createEntry(offer, message), offer.getDirection());
+    }
+
+    private void notifyNumOffersChanged(Market market) {
+        listeners.forEach(listener -> {
+            try {
+                listener.onNumOffersChanged(market);
+            } catch (Exception e) {
+                log.error("Calling onNumOffersChanged at listener {} failed", listener, e);
+            }
+        });
+    }
+
+    private Entry createEntry(BisqEasyOffer offer, BisqEasyOfferbookMessage message) {
+        long price = PriceUtil.findQuote(marketPriceService, offer)
+                .map(PriceQuote::getValue)
+                .orElse(UNRESOLVED_PRICE);
+        return new Entry(offer.getId(), price, message);
+    }
+}
@@ -85,6 +85,7 @@ public class ChatNotificationService implements PersistenceClient<ChatNotificati
     @Setter
     private boolean isApplicationFocussed;
     private final Set<String> prunedAndExpiredChatMessageIds = new HashSet<>();
+    private final NotConsumedNotificationsIndex notConsumedNotificationsIndex = new NotConsumedNotificationsIndex();
 
     public ChatNotificationService(PersistenceService persistenceService,
                                    NetworkService networkService,
@@ -100,6 +101,28 @@ public class ChatNotificationService implements PersistenceClient<ChatNotificati
         this.userIdentityService = userIdentityService;
         this.userProfileService = userProfileService;
 
+        // The consumed state is only set via consumeNotifications or consumeNotification, where we remove it from
+        // the index. Added and removed notifications, including the ones applied from persistence, we get via that
+        // observer.
+        persistableStore.getNotifications().addObserver(new CollectionObserver<>() {
+            @Override
+            public void add(ChatNotification notification) {
+                notConsumedNotificationsIndex.add(notification);
+            }
+
+            @Override
+            public void remove(Object element) {
+                if (element instanceof ChatNotification notification) {
+                    notConsumedNotificationsIndex.remove(notification);
+                }
+            }
+
+            @Override
+            public void clear() {
+                notConsumedNotificationsIndex.clear();
+            }
+        });
+
         networkService.getDataService().ifPresent(dataService ->
                 dataService.getStorageService().getStoresByStoreType(AUTHENTICATED_DATA_STORE)
                         .map(DataStorageService::getPrunedAndExpiredDataRequests)
@@ -181,15 +204,15 @@ public class ChatNotificationService implements PersistenceClient<ChatNotificati
     }
 
     public void consume(ChatChannelDomain chatChannelDomain) {
-        getNotConsumedNotifications(chatChannelDomain).forEach(this::consumeNotification);
+        consumeNotifications(getNotConsumedNotifications(chatChannelDomain).collect(Collectors.toList()));
     }
 
     public void consume(ChatChannelDomain chatChannelDomain, String chatChannelId) {
-        getNotConsumedNotifications(chatChannelDomain, chatChannelId).forEach(this::consumeNotification);
+        consumeNotifications(getNotConsumedNotifications(chatChannelDomain, chatChannelId).collect(Collectors.toList()));
     }
 
     public void consumeAllNotifications() {
-        getNotConsumedNotifications().forEach(this::consumeNotification);
+        consumeNotifications(getNotConsumedNotifications().collect(Collectors.toList()));
     }
 
 
@@ -198,9 +221,7 @@ public class ChatNotificationService implements PersistenceClient<ChatNotificati
     /* --------------------------------------------------------------------- */
 
     public Stream<ChatNotification> getNotConsumedNotifications() {
-        synchronized (persistableStore) {
-            return persistableStore.getNotConsumedNotifications();
-        }
+        return notConsumedNotificationsIndex.getNotifications().stream();
     }
 
     public Stream<ChatNotification> getNotConsumedNotifications(ChatChannel<?> channel) {
@@ -208,8 +229,7 @@ public class ChatNotificationService implements PersistenceClient<ChatNotificati
     }
 
     public Stream<ChatNotification> getNotConsumedNotifications(ChatChannelDomain chatChannelDomain) {
-        return getNotConsumedNotifications()
-                .filter(chatNotification -> chatNotification.getChatChannelDomain() == chatChannelDomain)
+        return notConsumedNotificationsIndex.getNotifications(chatChannelDomain).stream()
                 .filter(chatNotification -> findPredicate(chatChannelDomain)
                         .map(predicate -> predicate.test(chatNotification))
                         .orElse(true));
@@ -217,10 +237,7 @@ public class ChatNotificationService implements PersistenceClient<ChatNotificati
 
     public Stream<ChatNotification> getNotConsumedNotifications(ChatChannelDomain chatChannelDomain,
                                                                 String chatChannelId) {
-        // We filter early for the channelId to avoid unnecessary calls on the predicates
-        return getNotConsumedNotifications()
-                .filter(chatNotification -> chatNotification.getChatChannelId().equals(chatChannelId))
-                .filter(chatNotification -> chatNotification.getChatChannelDomain() == chatChannelDomain)
+        return notConsumedNotificationsIndex.getNotifications(chatChannelDomain, chatChannelId).stream()
                 .filter(this::testChatChannelDomainPredicate);
     }
 
@@ -234,10 +251,17 @@ public class ChatNotificationService implements PersistenceClient<ChatNotificati
     }
 
     public long getNumNotifications(ChatChannelDomain chatChannelDomain) {
+        // Without a predicate we can use the count of the index
+        if (findPredicate(chatChannelDomain).isEmpty()) {
+            return notConsumedNotificationsIndex.getNumNotifications(chatChannelDomain);
+        }
         return getNotConsumedNotifications(chatChannelDomain).count();
     }
 
     public long getNumNotifications(ChatChannelDomain chatChannelDomain, String chatChannelId) {
+        if (findPredicate(chatChannelDomain).isEmpty()) {
+            return notConsumedNotificationsIndex.getNumNotifications(chatChannelDomain, chatChannelId);
+        }
         return getNotConsumedNotifications(chatChannelDomain, chatChannelId).count();
     }
 
@@ -321,6 +345,7 @@ public class ChatNotificationService implements PersistenceClient<ChatNotificati
                         .filter(e -> e.equals(notification))
                         .map(e -> {
                             e.setConsumed(true);
+                            notConsumedNotificationsIndex.remove(e);
                             return true;
                         })
                         .findAny()
@@ -339,6 +364,30 @@ public class ChatNotificationService implements PersistenceClient<ChatNotificati
         }
     }
 
+    /**
+     * Consumes the given not consumed notifications with a single persist call. Observers of changedNotification get
+     * notified once per affected channel instead of once per notification.
+     */
+    private void consumeNotifications(Collection<ChatNotification> notifications) {
+        Map<String, ChatNotification> lastConsumedByChannelId = new LinkedHashMap<>();
+        synchronized (persistableStore) {
+            notifications.stream()
+                    .filter(ChatNotification::isNotConsumed)
+                    .forEach(notification -> {
+                        notification.setConsumed(true);
+                        notConsumedNotificationsIndex.remove(notification);
+                        lastConsumedByChannelId.put(notification.getChatChannelId(), notification);
+                    });
+            lastConsumedByChannelId.values().forEach(notification -> {
+                changedNotification.set(null);
+                changedNotification.set(notification);
+            });
+        }
+        if (!lastConsumedByChannelId.isEmpty()) {
+            persist();
+        }
+    }
+
     private boolean isConsumed(ChatNotification notification) {
         synchronized (persistableStore) {
             return persistableStore.findNotification(notification).map(e -> e.getIsConsumed().get()).orElse(false);
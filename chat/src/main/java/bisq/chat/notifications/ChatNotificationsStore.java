@@ -17,6 +17,7 @@
 
 package bisq.chat.notifications;
 
+import bisq.common.observable.collection.ObservableHashSet;
 import bisq.common.observable.collection.ObservableSet;
 import bisq.common.proto.ProtoResolver;
 import bisq.common.proto.UnresolvableProtobufMessageException;
@@ -30,7 +31,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public final class ChatNotificationsStore implements PersistableStore<ChatNotificationsStore> {
-    private final ObservableSet<ChatNotification> chatNotifications = new ObservableSet<>();
+    private final ObservableSet<ChatNotification> chatNotifications = new ObservableHashSet<>();
 
     public ChatNotificationsStore() {
     }
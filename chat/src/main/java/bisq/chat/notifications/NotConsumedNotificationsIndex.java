@@ -0,0 +1,115 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.chat.notifications;
+
+import bisq.chat.ChatChannelDomain;
+
+import java.util.*;
+
+/**
+ * Index of the not consumed notifications by ChatChannelDomain and channel ID. Allows to look up the not consumed
+ * notifications and their number of a channel or domain without iterating all stored notifications.
+ */
+final class NotConsumedNotificationsIndex {
+    private final Map<ChatChannelDomain, Map<String, Map<String, ChatNotification>>> notificationsByChannelIdByDomain =
+            new EnumMap<>(ChatChannelDomain.class);
+    private final Map<ChatChannelDomain, Integer> numNotificationsByDomain = new EnumMap<>(ChatChannelDomain.class);
+    private int numNotifications;
+
+    synchronized void add(ChatNotification notification) {
+        if (!notification.isNotConsumed()) {
+            return;
+        }
+        ChatChannelDomain domain = notification.getChatChannelDomain();
+        Map<String, ChatNotification> notificationById = notificationsByChannelIdByDomain
+                .computeIfAbsent(domain, key -> new HashMap<>())
+                .computeIfAbsent(notification.getChatChannelId(), key -> new LinkedHashMap<>());
+        if (notificationById.put(notification.getId(), notification) == null) {
+            numNotificationsByDomain.merge(domain, 1, Integer::sum);
+            numNotifications++;
+        }
+    }
+
+    synchronized void remove(ChatNotification notification) {
+        ChatChannelDomain domain = notification.getChatChannelDomain();
+        Map<String, Map<String, ChatNotification>> byChannelId = notificationsByChannelIdByDomain.get(domain);
+        if (byChannelId == null) {
+            return;
+        }
+        String channelId = notification.getChatChannelId();
+        Map<String, ChatNotification> notificationById = byChannelId.get(channelId);
+        if (notificationById == null || notificationById.remove(notification.getId()) == null) {
+            return;
+        }
+        if (notificationById.isEmpty()) {
+            byChannelId.remove(channelId);
+        }
+        numNotificationsByDomain.merge(domain, -1, Integer::sum);
+        numNotifications--;
+    }
+
+    synchronized void clear() {
+        notificationsByChannelIdByDomain.clear();
+        numNotificationsByDomain.clear();
+        numNotifications = 0;
+    }
+
+    synchronized List<ChatNotification> getNotifications() {
+        List<ChatNotification> result = new ArrayList<>(numNotifications);
+        notificationsByChannelIdByDomain.values().forEach(byChannelId ->
+                byChannelId.values().forEach(notificationById -> result.addAll(notificationById.values())));
+        return result;
+    }
+
+    synchronized List<ChatNotification> getNotifications(ChatChannelDomain domain) {
+        Map<String, Map<String, ChatNotification>> byChannelId = notificationsByChannelIdByDomain.get(domain);
+        if (byChannelId == null) {
+            return List.of();
+        }
+        List<ChatNotification> result = new ArrayList<>(getNumNotifications(domain));
+        byChannelId.values().forEach(notificationById -> result.addAll(notificationById.values()));
+        return result;
+    }
+
+    synchronized List<ChatNotification> getNotifications(ChatChannelDomain domain, String channelId) {
+        Map<String, Map<String, ChatNotification>> byChannelId = notificationsByChannelIdByDomain.get(domain);
+        if (byChannelId == null) {
+            return List.of();
+        }
+        Map<String, ChatNotification> notificationById = byChannelId.get(channelId);
+        return notificationById == null ? List.of() : new ArrayList<>(notificationById.values());
+    }
+
+    synchronized int getNumNotifications() {
+        return numNotifications;
+    }
+
+    synchronized int getNumNotifications(ChatChannelDomain domain) {
+        return numNotificationsByDomain.getOrDefault(domain, 0);
+    }
+
+    synchronized int getNumNotifications(ChatChannelDomain domain, String channelId) {
+        Map<String, Map<String, ChatNotification>> byChannelId = notificationsByChannelIdByDomain.get(domain);
+        if (byChannelId == null) {
+            return 0;
+        }
+        Map<String, ChatNotification> notificationById = byChannelId.get(channelId);
+        return notificationById == null ? 0 : notificationById.size();
+    }
+}
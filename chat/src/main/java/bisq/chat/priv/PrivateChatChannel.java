@@ -21,6 +21,7 @@ import bisq.chat.ChatChannel;
 import bisq.chat.ChatChannelDomain;
 import bisq.chat.ChatMessageType;
 import bisq.chat.notifications.ChatChannelNotificationType;
+import bisq.common.observable.collection.ObservableHashSet;
 import bisq.common.observable.collection.ObservableSet;
 import bisq.user.identity.UserIdentity;
 import lombok.EqualsAndHashCode;
@@ -37,7 +38,7 @@ public abstract class PrivateChatChannel<M extends PrivateChatMessage<?>> extend
     protected final UserIdentity myUserIdentity;
     // We persist the messages as they are NOT persisted in the P2P data store.
     @Getter
-    protected final ObservableSet<M> chatMessages = new ObservableSet<>();
+    protected final ObservableSet<M> chatMessages = new ObservableHashSet<>();
 
     private final transient Set<String> authorIdsSentLeaveMessage = new HashSet<>();
 
@@ -0,0 +1,267 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.chat.bisq_easy.offerbook;
+
+import bisq.bonded_roles.market_price.MarketPrice;
+import bisq.bonded_roles.market_price.MarketPriceProviderInfo;
+import bisq.bonded_roles.market_price.MarketPriceService;
+import bisq.common.currency.Market;
+import bisq.common.monetary.PriceQuote;
+import bisq.common.observable.map.ObservableHashMap;
+import bisq.offer.Direction;
+import bisq.offer.bisq_easy.BisqEasyOffer;
+import bisq.offer.price.spec.FixPriceSpec;
+import bisq.offer.price.spec.FloatPriceSpec;
+import bisq.offer.price.spec.MarketPriceSpec;
+import bisq.offer.price.spec.PriceSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BisqEasyOfferbookIndexTest {
+    private static final Market USD = new Market("BTC", "USD", "Bitcoin", "US Dollar");
+    private static final Market EUR = new Market("BTC", "EUR", "Bitcoin", "Euro");
+    private static final String AUTHOR_USER_PROFILE_ID = "0000000000000000000000000000000000000000";
+
+    private final ObservableHashMap<Market, MarketPrice> marketPriceByCurrencyMap = new ObservableHashMap<>();
+    private final List<Market> numOffersChangedEvents = new ArrayList<>();
+    private BisqEasyOfferbookIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MarketPriceService marketPriceService = mock(MarketPriceService.class);
+        when(marketPriceService.getMarketPriceByCurrencyMap()).thenReturn(marketPriceByCurrencyMap);
+        when(marketPriceService.findMarketPrice(any())).thenAnswer(invocation ->
+                Optional.ofNullable(marketPriceByCurrencyMap.get(invocation.<Market>getArgument(0))));
+
+        index = new BisqEasyOfferbookIndex(marketPriceService);
+        index.initialize();
+        index.addListener(numOffersChangedEvents::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void addAndRemove() {
+        BisqEasyOfferbookMessage usdOffer = createMessage("offer1", USD, Direction.SELL, fixPrice(USD, 50_000));
+        BisqEasyOfferbookMessage eurOffer = createMessage("offer2", EUR, Direction.BUY, fixPrice(EUR, 45_000));
+        index.add(usdOffer);
+        index.add(eurOffer);
+
+        assertThat(index.getNumOffers()).isEqualTo(2);
+        assertThat(index.getNumOffers(USD)).isEqualTo(1);
+        assertThat(index.getOffers(USD)).containsExactly(usdOffer);
+        assertThat(index.findMessageByOfferId("offer2")).contains(eurOffer);
+        assertThat(numOffersChangedEvents).containsExactly(USD, EUR);
+
+        index.remove(usdOffer);
+
+        assertThat(index.getNumOffers()).isEqualTo(1);
+        assertThat(index.getNumOffers(USD)).isZero();
+        assertThat(index.getOffers(USD)).isEmpty();
+        assertThat(index.findBestOffer(USD, Direction.SELL)).isEmpty();
+        assertThat(index.findMessageByOfferId("offer1")).isEmpty();
+        assertThat(numOffersChangedEvents).containsExactly(USD, EUR, USD);
+
+        // Removing an unknown message has no effect
+        index.remove(usdOffer);
+        assertThat(numOffersChangedEvents).hasSize(3);
+    }
+
+    @Test
+    void messageWithoutOfferIsIgnored() {
+        index.add(new BisqEasyOfferbookMessage("channel", AUTHOR_USER_PROFILE_ID, Optional.empty(),
+                Optional.of("text"), Optional.empty(), System.currentTimeMillis(), false));
+
+        assertThat(index.getNumOffers()).isZero();
+        assertThat(numOffersChangedEvents).isEmpty();
+    }
+
+    @Test
+    void republishReplacesOffer() {
+        BisqEasyOfferbookMessage oldMessage = createMessage("offer1", USD, Direction.SELL, fixPrice(USD, 50_000));
+        BisqEasyOfferbookMessage newMessage = createMessage("offer1", USD, Direction.SELL, fixPrice(USD, 51_000));
+        index.add(oldMessage);
+        index.add(newMessage);
+
+        assertThat(index.getNumOffers(USD)).isEqualTo(1);
+        assertThat(index.findMessageByOfferId("offer1")).contains(newMessage);
+        assertThat(index.getOffersSortedByPrice(USD, Direction.SELL)).containsExactly(newMessage);
+        assertThat(numOffersChangedEvents).containsExactly(USD);
+
+        // Removing the old message keeps the offer of the new one
+        index.remove(oldMessage);
+
+        assertThat(index.findMessageByOfferId("offer1")).contains(newMessage);
+        assertThat(index.getNumOffers(USD)).isEqualTo(1);
+        assertThat(numOffersChangedEvents).containsExactly(USD);
+
+        index.remove(newMessage);
+
+        assertThat(index.getNumOffers(USD)).isZero();
+        assertThat(numOffersChangedEvents).containsExactly(USD, USD);
+    }
+
+    @Test
+    void removingNewerMessageFallsBackToOlderMessage() {
+        BisqEasyOfferbookMessage oldMessage = createMessage("offer1", USD, Direction.SELL, fixPrice(USD, 50_000));
+        BisqEasyOfferbookMessage newMessage = createMessage("offer1", USD, Direction.SELL, fixPrice(USD, 51_000));
+        index.add(oldMessage);
+        index.add(newMessage);
+
+        index.remove(newMessage);
+
+        assertThat(index.getNumOffers(USD)).isEqualTo(1);
+        assertThat(index.findMessageByOfferId("offer1")).contains(oldMessage);
+        assertThat(index.getOffersSortedByPrice(USD, Direction.SELL)).containsExactly(oldMessage);
+        assertThat(numOffersChangedEvents).containsExactly(USD);
+
+        index.remove(oldMessage);
+
+        assertThat(index.getNumOffers(USD)).isZero();
+        assertThat(index.findMessageByOfferId("offer1")).isEmpty();
+    }
+
+    @Test
+    void getOffersInPriceRangeIncludesBoundaries() {
+        BisqEasyOfferbookMessage offer1 = createMessage("offer1", USD, Direction.SELL, fixPrice(USD, 49_000));
+        BisqEasyOfferbookMessage offer2 = createMessage("offer2", USD, Direction.SELL, fixPrice(USD, 50_000));
+        BisqEasyOfferbookMessage offer3 = createMessage("offer3", USD, Direction.SELL, fixPrice(USD, 50_000));
+        BisqEasyOfferbookMessage offer4 = createMessage("offer4", USD, Direction.SELL, fixPrice(USD, 51_000));
+        BisqEasyOfferbookMessage offer5 = createMessage("offer5", USD, Direction.SELL, fixPrice(USD, 52_000));
+        BisqEasyOfferbookMessage buyOffer = createMessage("offer6", USD, Direction.BUY, fixPrice(USD, 50_000));
+        List.of(offer5, offer4, offer3, offer2, offer1, buyOffer).forEach(index::add);
+
+        long minPrice = price(USD, 50_000);
+        long maxPrice = price(USD, 51_000);
+        assertThat(index.getOffersInPriceRange(USD, Direction.SELL, minPrice, maxPrice))
+                .containsExactly(offer2, offer3, offer4);
+        assertThat(index.getOffersInPriceRange(USD, Direction.SELL, minPrice, minPrice))
+                .containsExactly(offer2, offer3);
+        assertThat(index.getOffersInPriceRange(USD, Direction.SELL, minPrice + 1, maxPrice - 1)).isEmpty();
+        assertThat(index.getOffersInPriceRange(USD, Direction.SELL, maxPrice, minPrice)).isEmpty();
+        assertThat(index.getOffersInPriceRange(USD, Direction.BUY, minPrice, maxPrice)).containsExactly(buyOffer);
+        assertThat(index.getOffersInPriceRange(EUR, Direction.SELL, minPrice, maxPrice)).isEmpty();
+    }
+
+    @Test
+    void findBestOfferDependsOnDirection() {
+        BisqEasyOfferbookMessage cheapSellOffer = createMessage("offer1", USD, Direction.SELL, fixPrice(USD, 49_000));
+        BisqEasyOfferbookMessage expensiveSellOffer = createMessage("offer2", USD, Direction.SELL, fixPrice(USD, 51_000));
+        BisqEasyOfferbookMessage cheapBuyOffer = createMessage("offer3", USD, Direction.BUY, fixPrice(USD, 48_000));
+        BisqEasyOfferbookMessage expensiveBuyOffer = createMessage("offer4", USD, Direction.BUY, fixPrice(USD, 50_000));
+        List.of(cheapSellOffer, expensiveSellOffer, cheapBuyOffer, expensiveBuyOffer).forEach(index::add);
+
+        // A taker wants the lowest price for buying and the highest price for selling
+        assertThat(index.findBestOffer(USD, Direction.SELL)).contains(cheapSellOffer);
+        assertThat(index.findBestOffer(USD, Direction.BUY)).contains(expensiveBuyOffer);
+        assertThat(index.findBestOffer(EUR, Direction.SELL)).isEmpty();
+    }
+
+    @Test
+    void marketPriceOffersAreRepricedWhenMarketPriceChanges() {
+        BisqEasyOfferbookMessage fixPriceOffer = createMessage("offer1", USD, Direction.SELL, fixPrice(USD, 50_000));
+        BisqEasyOfferbookMessage marketPriceOffer = createMessage("offer2", USD, Direction.SELL, new MarketPriceSpec());
+        BisqEasyOfferbookMessage floatPriceOffer = createMessage("offer3", USD, Direction.SELL, new FloatPriceSpec(0.01));
+        List.of(fixPriceOffer, marketPriceOffer, floatPriceOffer).forEach(index::add);
+
+        // Without market price only the fix price offer has a price, but all are counted
+        assertThat(index.getNumOffers(USD)).isEqualTo(3);
+        assertThat(index.getOffersSortedByPrice(USD, Direction.SELL)).containsExactly(fixPriceOffer);
+
+        setMarketPrice(USD, 49_000);
+        assertThat(index.getOffersSortedByPrice(USD, Direction.SELL))
+                .containsExactly(marketPriceOffer, floatPriceOffer, fixPriceOffer);
+        assertThat(index.findBestOffer(USD, Direction.SELL)).contains(marketPriceOffer);
+
+        setMarketPrice(USD, 51_000);
+        assertThat(index.getOffersSortedByPrice(USD, Direction.SELL))
+                .containsExactly(fixPriceOffer, marketPriceOffer, floatPriceOffer);
+        assertThat(index.findBestOffer(USD, Direction.SELL)).contains(fixPriceOffer);
+
+        marketPriceByCurrencyMap.remove(USD);
+        assertThat(index.getOffersSortedByPrice(USD, Direction.SELL)).containsExactly(fixPriceOffer);
+        assertThat(index.getNumOffers(USD)).isEqualTo(3);
+    }
+
+    @Test
+    void removeMarketAndClear() {
+        index.add(createMessage("offer1", USD, Direction.SELL, fixPrice(USD, 50_000)));
+        index.add(createMessage("offer2", EUR, Direction.SELL, fixPrice(EUR, 45_000)));
+
+        index.removeMarket(USD);
+        assertThat(index.getNumOffers()).isEqualTo(1);
+        assertThat(index.findMessageByOfferId("offer1")).isEmpty();
+
+        index.clear();
+        assertThat(index.getNumOffers()).isZero();
+        assertThat(numOffersChangedEvents).containsExactly(USD, EUR, USD, EUR);
+    }
+
+    private void setMarketPrice(Market market, double price) {
+        marketPriceByCurrencyMap.put(market, new MarketPrice(PriceQuote.fromFiatPrice(price, market.getQuoteCurrencyCode()),
+                System.currentTimeMillis(),
+                mock(MarketPriceProviderInfo.class)));
+    }
+
+    private static long price(Market market, double price) {
+        return PriceQuote.fromFiatPrice(price, market.getQuoteCurrencyCode()).getValue();
+    }
+
+    private static PriceSpec fixPrice(Market market, double price) {
+        return new FixPriceSpec(PriceQuote.fromFiatPrice(price, market.getQuoteCurrencyCode()));
+    }
+
+    private static BisqEasyOfferbookMessage createMessage(String offerId,
+                                                          Market market,
+                                                          Direction direction,
+                                                          PriceSpec priceSpec) {
+        BisqEasyOffer offer = new BisqEasyOffer(offerId,
+                System.currentTimeMillis(),
+                null,
+                direction,
+                market,
+                null,
+                priceSpec,
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of("en"));
+        return new BisqEasyOfferbookMessage(market.getMarketCodes(),
+                AUTHOR_USER_PROFILE_ID,
+                Optional.of(offer),
+                Optional.empty(),
+                Optional.empty(),
+                System.currentTimeMillis(),
+                false);
+    }
+}
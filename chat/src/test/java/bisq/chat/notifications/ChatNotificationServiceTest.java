@@ -0,0 +1,130 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.chat.notifications;
+
+import bisq.chat.ChatService;
+import bisq.network.NetworkService;
+import bisq.persistence.DbSubDirectory;
+import bisq.persistence.Persistence;
+import bisq.persistence.PersistenceService;
+import bisq.presentation.notifications.SystemNotificationService;
+import bisq.settings.SettingsService;
+import bisq.user.identity.UserIdentityService;
+import bisq.user.profile.UserProfileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static bisq.chat.ChatChannelDomain.BISQ_EASY_OPEN_TRADES;
+import static bisq.chat.ChatChannelDomain.DISCUSSION;
+import static bisq.chat.notifications.NotConsumedNotificationsIndexTest.notification;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ChatNotificationServiceTest {
+    private Persistence<ChatNotificationsStore> persistence;
+    private ChatNotificationService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        persistence = mock(Persistence.class);
+        when(persistence.persistAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+        PersistenceService persistenceService = mock(PersistenceService.class);
+        when(persistenceService.<ChatNotificationsStore>getOrCreatePersistence(any(), eq(DbSubDirectory.SETTINGS), any(ChatNotificationsStore.class)))
+                .thenReturn(persistence);
+        service = new ChatNotificationService(persistenceService,
+                mock(NetworkService.class),
+                mock(ChatService.class),
+                mock(SystemNotificationService.class),
+                mock(SettingsService.class),
+                mock(UserIdentityService.class),
+                mock(UserProfileService.class));
+    }
+
+    @Test
+    void applyPersistedRebuildsIndex() {
+        service.getPersistableStore().getNotifications().add(notification(DISCUSSION, "discussion", "old", false));
+
+        ChatNotificationsStore persisted = new ChatNotificationsStore(List.of(
+                notification(BISQ_EASY_OPEN_TRADES, "trade1", "a", false),
+                notification(BISQ_EASY_OPEN_TRADES, "trade1", "b", true),
+                notification(BISQ_EASY_OPEN_TRADES, "trade2", "a", false)));
+        service.getPersistableStore().applyPersisted(persisted);
+
+        assertThat(service.getNumNotifications(DISCUSSION)).isZero();
+        assertThat(service.getNumNotifications(BISQ_EASY_OPEN_TRADES)).isEqualTo(2);
+        assertThat(service.getNumNotifications(BISQ_EASY_OPEN_TRADES, "trade1")).isEqualTo(1);
+        assertThat(service.getNumNotifications(BISQ_EASY_OPEN_TRADES, "trade2")).isEqualTo(1);
+    }
+
+    @Test
+    void removedNotificationsAreRemovedFromIndex() {
+        ChatNotification notification = notification(DISCUSSION, "discussion", "a", false);
+        service.getPersistableStore().getNotifications().add(notification);
+        assertThat(service.getNumNotifications(DISCUSSION)).isEqualTo(1);
+
+        service.getPersistableStore().getNotifications().remove(notification);
+        assertThat(service.getNumNotifications(DISCUSSION)).isZero();
+    }
+
+    @Test
+    void bulkConsumeRemovesFromIndexAndPersistsOnce() {
+        ChatNotification trade1a = notification(BISQ_EASY_OPEN_TRADES, "trade1", "a", false);
+        ChatNotification trade1b = notification(BISQ_EASY_OPEN_TRADES, "trade1", "b", false);
+        ChatNotification trade2a = notification(BISQ_EASY_OPEN_TRADES, "trade2", "a", false);
+        ChatNotification discussion = notification(DISCUSSION, "discussion", "a", false);
+        service.getPersistableStore().applyPersisted(new ChatNotificationsStore(List.of(trade1a, trade1b, trade2a, discussion)));
+
+        service.consume(BISQ_EASY_OPEN_TRADES, "trade1");
+
+        assertThat(trade1a.getIsConsumed().get()).isTrue();
+        assertThat(trade1b.getIsConsumed().get()).isTrue();
+        assertThat(trade2a.getIsConsumed().get()).isFalse();
+        assertThat(service.getNumNotifications(BISQ_EASY_OPEN_TRADES, "trade1")).isZero();
+        assertThat(service.getNumNotifications(BISQ_EASY_OPEN_TRADES)).isEqualTo(1);
+        verify(persistence, times(1)).persistAsync(any());
+
+        service.consumeAllNotifications();
+
+        assertThat(service.getNotConsumedNotifications()).isEmpty();
+        assertThat(service.getNumNotifications(DISCUSSION)).isZero();
+        // The consumed notifications are kept in the store
+        assertThat(service.getPersistableStore().getNotifications()).hasSize(4);
+        verify(persistence, times(2)).persistAsync(any());
+    }
+
+    @Test
+    void bulkConsumeWithoutNotConsumedNotificationsDoesNotPersist() {
+        service.getPersistableStore().applyPersisted(new ChatNotificationsStore(List.of(
+                notification(DISCUSSION, "discussion", "a", true))));
+
+        service.consume(DISCUSSION);
+
+        verify(persistence, never()).persistAsync(any());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.chat.notifications;
+
+import bisq.chat.ChatChannelDomain;
+import org.junit.jupiter.api.Test;
+
+import static bisq.chat.ChatChannelDomain.BISQ_EASY_OPEN_TRADES;
+import static bisq.chat.ChatChannelDomain.DISCUSSION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotConsumedNotificationsIndexTest {
+    private final NotConsumedNotificationsIndex index = new NotConsumedNotificationsIndex();
+
+    @Test
+    void countsPerDomainAndChannel() {
+        ChatNotification trade1a = notification(BISQ_EASY_OPEN_TRADES, "trade1", "a", false);
+        ChatNotification trade1b = notification(BISQ_EASY_OPEN_TRADES, "trade1", "b", false);
+        ChatNotification trade2a = notification(BISQ_EASY_OPEN_TRADES, "trade2", "a", false);
+        ChatNotification discussion = notification(DISCUSSION, "discussion", "a", false);
+        index.add(trade1a);
+        index.add(trade1b);
+        index.add(trade2a);
+        index.add(discussion);
+
+        assertThat(index.getNumNotifications()).isEqualTo(4);
+        assertThat(index.getNumNotifications(BISQ_EASY_OPEN_TRADES)).isEqualTo(3);
+        assertThat(index.getNumNotifications(DISCUSSION)).isEqualTo(1);
+        assertThat(index.getNumNotifications(ChatChannelDomain.SUPPORT)).isZero();
+        assertThat(index.getNumNotifications(BISQ_EASY_OPEN_TRADES, "trade1")).isEqualTo(2);
+        assertThat(index.getNumNotifications(BISQ_EASY_OPEN_TRADES, "trade2")).isEqualTo(1);
+        assertThat(index.getNumNotifications(BISQ_EASY_OPEN_TRADES, "unknown")).isZero();
+        assertThat(index.getNumNotifications(DISCUSSION, "trade1")).isZero();
+
+        assertThat(index.getNotifications()).containsExactlyInAnyOrder(trade1a, trade1b, trade2a, discussion);
+        assertThat(index.getNotifications(BISQ_EASY_OPEN_TRADES)).containsExactlyInAnyOrder(trade1a, trade1b, trade2a);
+        assertThat(index.getNotifications(BISQ_EASY_OPEN_TRADES, "trade1")).containsExactly(trade1a, trade1b);
+        assertThat(index.getNotifications(ChatChannelDomain.SUPPORT)).isEmpty();
+    }
+
+    @Test
+    void duplicatesAndConsumedNotificationsAreNotAdded() {
+        index.add(notification(DISCUSSION, "discussion", "a", false));
+        index.add(notification(DISCUSSION, "discussion", "a", false));
+        index.add(notification(DISCUSSION, "discussion", "b", true));
+
+        assertThat(index.getNumNotifications()).isEqualTo(1);
+        assertThat(index.getNumNotifications(DISCUSSION)).isEqualTo(1);
+        assertThat(index.getNumNotifications(DISCUSSION, "discussion")).isEqualTo(1);
+    }
+
+    @Test
+    void remove() {
+        ChatNotification trade1a = notification(BISQ_EASY_OPEN_TRADES, "trade1", "a", false);
+        ChatNotification trade1b = notification(BISQ_EASY_OPEN_TRADES, "trade1", "b", false);
+        index.add(trade1a);
+        index.add(trade1b);
+
+        index.remove(trade1a);
+        assertThat(index.getNumNotifications()).isEqualTo(1);
+        assertThat(index.getNumNotifications(BISQ_EASY_OPEN_TRADES)).isEqualTo(1);
+        assertThat(index.getNotifications(BISQ_EASY_OPEN_TRADES, "trade1")).containsExactly(trade1b);
+
+        // Removing unknown notifications does not change the counts
+        index.remove(trade1a);
+        index.remove(notification(DISCUSSION, "discussion", "a", false));
+        assertThat(index.getNumNotifications()).isEqualTo(1);
+
+        index.remove(trade1b);
+        assertThat(index.getNumNotifications()).isZero();
+        assertThat(index.getNumNotifications(BISQ_EASY_OPEN_TRADES)).isZero();
+        assertThat(index.getNumNotifications(BISQ_EASY_OPEN_TRADES, "trade1")).isZero();
+        assertThat(index.getNotifications(BISQ_EASY_OPEN_TRADES, "trade1")).isEmpty();
+    }
+
+    @Test
+    void clear() {
+        index.add(notification(BISQ_EASY_OPEN_TRADES, "trade1", "a", false));
+        index.add(notification(DISCUSSION, "discussion", "a", false));
+
+        index.clear();
+
+        assertThat(index.getNumNotifications()).isZero();
+        assertThat(index.getNumNotifications(BISQ_EASY_OPEN_TRADES)).isZero();
+        assertThat(index.getNumNotifications(DISCUSSION, "discussion")).isZero();
+        assertThat(index.getNotifications()).isEmpty();
+    }
+
+    static ChatNotification notification(ChatChannelDomain domain,
+                                         String channelId,
+                                         String messageId,
+                                         boolean isConsumed) {
+        return ChatNotification.fromProto(bisq.chat.protobuf.ChatNotification.newBuilder()
+                .setId(ChatNotification.createId(channelId, messageId))
+                .setTitle("title")
+                .setMessage("message")
+                .setDate(System.currentTimeMillis())
+                .setChatChannelId(channelId)
+                .setChatChannelDomain(domain.toProtoEnum())
+                .setChatMessageId(messageId)
+                .setIsConsumed(isConsumed)
+                .build());
+    }
+}
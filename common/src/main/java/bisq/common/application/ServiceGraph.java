@@ -0,0 +1,143 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.common.application;
+
+import bisq.common.metrics.MetricsRegistry;
+import bisq.common.platform.PlatformUtils;
+import bisq.common.threading.ExecutorFactory;
+import bisq.common.util.CompletableFutureUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Initializes services according to their declared dependencies. A service gets initialized once all its dependencies
+ * have completed their initialization, so that independent services are initialized in parallel.
+ * <p>
+ * Dependencies have to be added before the services depending on them, which keeps the graph free of cycles.
+ * The initialize duration of each service is logged and exported as gauge to the {@link MetricsRegistry}.
+ */
+@Slf4j
+public class ServiceGraph {
+    private static final class Node {
+        private final String name;
+        private final Service service;
+        private final List<Service> dependencies;
+
+        private Node(String name, Service service, List<Service> dependencies) {
+            this.name = name;
+            this.service = service;
+            this.dependencies = dependencies;
+        }
+    }
+
+    private final Map<Service, Node> nodeByService = new LinkedHashMap<>();
+    private final Map<String, Long> initializeDurationByName = new ConcurrentHashMap<>();
+
+    public ServiceGraph add(Service service, Service... dependencies) {
+        String name = getName(service);
+        checkArgument(!nodeByService.containsKey(service), "%s has been already added", name);
+        List<Service> dependencyList = List.of(dependencies);
+        dependencyList.forEach(dependency -> checkArgument(nodeByService.containsKey(dependency),
+                "Dependency %s of %s has to be added before", getName(dependency), name));
+        nodeByService.put(service, new Node(name, service, dependencyList));
+        return this;
+    }
+
+    /**
+     * @return A future which completes with true if all services have been initialized successfully. If a service
+     * fails exceptionally, the services depending on it are not initialized and the returned future fails.
+     */
+    public CompletableFuture<Boolean> initialize() {
+        long ts = System.currentTimeMillis();
+        ExecutorService executor = ExecutorFactory.newFixedThreadPool("ServiceGraph",
+                Math.max(2, PlatformUtils.availableProcessors()));
+        Map<Service, CompletableFuture<Boolean>> futureByService = new HashMap<>();
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        // Nodes are iterated in insertion order, thus the futures of the dependencies are already created.
+        nodeByService.values().forEach(node -> {
+            CompletableFuture<?>[] dependencyFutures = node.dependencies.stream()
+                    .map(futureByService::get)
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture<Boolean> future = CompletableFuture.allOf(dependencyFutures)
+                    .thenComposeAsync(nil -> initialize(node), executor);
+            futureByService.put(node.service, future);
+            futures.add(future);
+        });
+        return CompletableFutureUtils.allOf(futures)
+                .thenApply(results -> results.stream().allMatch(Boolean.TRUE::equals))
+                .whenComplete((result, throwable) -> {
+                    executor.shutdown();
+                    if (throwable == null) {
+                        log.info("Initialized {} services in {} ms. Initialize duration by service:\n{}",
+                                nodeByService.size(), System.currentTimeMillis() - ts, getDurationsAsString());
+                    }
+                });
+    }
+
+    public Map<String, Long> getInitializeDurationByName() {
+        return Map.copyOf(initializeDurationByName);
+    }
+
+    private CompletableFuture<Boolean> initialize(Node node) {
+        long ts = System.currentTimeMillis();
+        CompletableFuture<Boolean> future;
+        try {
+            future = node.service.initialize();
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, throwable) -> {
+            long duration = System.currentTimeMillis() - ts;
+            initializeDurationByName.put(node.name, duration);
+            MetricsRegistry.DEFAULT.gauge("bisq_service_initialize_duration_ms",
+                    "Duration of the initialization of a service at startup", () -> duration, "service", node.name);
+            if (throwable != null) {
+                log.error("Initializing {} failed after {} ms", node.name, duration, throwable);
+            } else if (!Boolean.TRUE.equals(result)) {
+                log.warn("Initializing {} completed with result={} after {} ms", node.name, result, duration);
+            } else {
+                log.debug("Initialized {} in {} ms", node.name, duration);
+            }
+        });
+    }
+
+    private static String getName(Service service) {
+        String simpleName = service.getClass().getSimpleName();
+        return simpleName.isEmpty() ? service.getClass().getName() : simpleName;
+    }
+
+    private String getDurationsAsString() {
+        return initializeDurationByName.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .map(entry -> entry.getKey() + ": " + entry.getValue() + " ms")
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts observed values in cumulative buckets with fixed upper bounds, as defined by the Prometheus histogram type.
+ */
+public final class Histogram {
+    // Default buckets for durations in milliseconds
+    public static final long[] DEFAULT_DURATION_BUCKETS_MS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+    private final long[] upperBounds;
+    private final LongAdder[] bucketCounts;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    Histogram(long[] upperBounds) {
+        this.upperBounds = upperBounds.clone();
+        Arrays.sort(this.upperBounds);
+        bucketCounts = new LongAdder[this.upperBounds.length];
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = new LongAdder();
+        }
+    }
+
+    public void observe(long value) {
+        // Buckets are not cumulative internally, we only add to the first matching bucket
+        int index = Arrays.binarySearch(upperBounds, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        // We increment the count before the bucket, so that a concurrent scrape never sees a bucket count above
+        // the count, which is exported as the +Inf bucket.
+        count.increment();
+        sum.add(value);
+        if (index < bucketCounts.length) {
+            bucketCounts[index].increment();
+        }
+    }
+
+    long[] getUpperBounds() {
+        return upperBounds;
+    }
+
+    /**
+     * @return The cumulative counts of the buckets, not including the +Inf bucket.
+     */
+    long[] getCumulativeBucketCounts() {
+        long[] result = new long[bucketCounts.length];
+        long cumulative = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            cumulative += bucketCounts[i].sum();
+            result[i] = cumulative;
+        }
+        return result;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.DoubleSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Registry for node internal metrics which can be exported in the Prometheus text format.
+ * <p>
+ * Metrics are identified by name and optional labels, passed as key value pairs
+ * (e.g. {@code counter("bisq_messages_sent", "Sent messages", "type", "Ping")}).
+ * Counters and histograms are created at first access and reused later. Gauges are evaluated at scraping time.
+ */
+@Slf4j
+public class MetricsRegistry {
+    public static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private enum Type {
+        COUNTER, GAUGE, HISTOGRAM;
+
+        String toPrometheusType() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final class Family {
+        private final String name;
+        private final String help;
+        private final Type type;
+        // Sorted by label string for a stable output
+        private final Map<String, Object> metricByLabels = new ConcurrentSkipListMap<>();
+
+        private Family(String name, String help, Type type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+    }
+
+    private final Map<String, Family> familyByName = new ConcurrentHashMap<>();
+
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) getFamily(name, help, Type.COUNTER).metricByLabels
+                .computeIfAbsent(toLabelString(labels), key -> new Counter());
+    }
+
+    public Histogram histogram(String name, String help, String... labels) {
+        return histogram(name, help, Histogram.DEFAULT_DURATION_BUCKETS_MS, labels);
+    }
+
+    public Histogram histogram(String name, String help, long[] upperBounds, String... labels) {
+        return (Histogram) getFamily(name, help, Type.HISTOGRAM).metricByLabels
+                .computeIfAbsent(toLabelString(labels), key -> new Histogram(upperBounds));
+    }
+
+    /**
+     * Registers a gauge. An already registered gauge with the same name and labels gets replaced.
+     */
+    public void gauge(String name, String help, DoubleSupplier supplier, String... labels) {
+        getFamily(name, help, Type.GAUGE).metricByLabels.put(toLabelString(labels), supplier);
+    }
+
+    public void removeGauge(String name, String... labels) {
+        Family family = familyByName.get(name);
+        if (family != null && family.type == Type.GAUGE) {
+            family.metricByLabels.remove(toLabelString(labels));
+        }
+    }
+
+    /**
+     * Registers gauges for the saturation of the given thread pool.
+     */
+    public void threadPool(String poolName, ThreadPoolExecutor executor) {
+        gauge("bisq_thread_pool_active_threads", "Number of threads actively executing tasks",
+                executor::getActiveCount, "pool", poolName);
+        gauge("bisq_thread_pool_size", "Current number of threads in the pool",
+                executor::getPoolSize, "pool", poolName);
+        gauge("bisq_thread_pool_max_size", "Maximum number of threads in the pool",
+                executor::getMaximumPoolSize, "pool", poolName);
+        gauge("bisq_thread_pool_queue_size", "Number of tasks waiting in the queue",
+                () -> executor.getQueue().size(), "pool", poolName);
+    }
+
+    /**
+     * @return All metrics in the Prometheus text exposition format (version 0.0.4).
+     */
+    public String scrape() {
+        StringBuilder sb = new StringBuilder();
+        new TreeMap<>(familyByName).values().forEach(family -> {
+            if (family.metricByLabels.isEmpty()) {
+                return;
+            }
+            sb.append("# HELP ").append(family.name).append(' ').append(escapeHelp(family.help)).append('\n');
+            sb.append("# TYPE ").append(family.name).append(' ').append(family.type.toPrometheusType()).append('\n');
+            family.metricByLabels.forEach((labels, metric) -> {
+                switch (family.type) {
+                    case COUNTER -> appendSample(sb, family.name, labels, ((Counter) metric).get());
+                    case GAUGE -> {
+                        try {
+                            appendSample(sb, family.name, labels, ((DoubleSupplier) metric).getAsDouble());
+                        } catch (Exception e) {
+                            log.warn("Evaluating gauge {}{{}} failed", family.name, labels, e);
+                        }
+                    }
+                    case HISTOGRAM -> appendHistogram(sb, family.name, labels, (Histogram) metric);
+                }
+            });
+        });
+        return sb.toString();
+    }
+
+    private Family getFamily(String name, String help, Type type) {
+        Family family = familyByName.computeIfAbsent(name, key -> new Family(name, help, type));
+        checkArgument(family.type == type, "Metric %s is already registered as %s", name, family.type);
+        return family;
+    }
+
+    private static void appendHistogram(StringBuilder sb, String name, String labels, Histogram histogram) {
+        long[] upperBounds = histogram.getUpperBounds();
+        long[] cumulativeCounts = histogram.getCumulativeBucketCounts();
+        // Read count after the buckets so that the +Inf bucket is never lower than the other buckets
+        long count = histogram.getCount();
+        for (int i = 0; i < upperBounds.length; i++) {
+            appendSample(sb, name + "_bucket", withLabel(labels, "le", String.valueOf(upperBounds[i])), cumulativeCounts[i]);
+        }
+        appendSample(sb, name + "_bucket", withLabel(labels, "le", "+Inf"), count);
+        appendSample(sb, name + "_sum", labels, histogram.getSum());
+        appendSample(sb, name + "_count", labels, count);
+    }
+
+    private static void appendSample(StringBuilder sb, String name, String labels, double value) {
+        sb.append(name);
+        if (!labels.isEmpty()) {
+            sb.append('{').append(labels).append('}');
+        }
+        sb.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            sb.append((long) value);
+        } else {
+            sb.append(value);
+        }
+        sb.append('\n');
+    }
+
+    private static String withLabel(String labels, String key, String value) {
+        String label = key + "=\"" + value + "\"";
+        return labels.isEmpty() ? label : labels + "," + label;
+    }
+
+    private static String toLabelString(String... labels) {
+        checkArgument(labels.length % 2 == 0, "Labels must be provided as key value pairs");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(labels[i]).append("=\"").append(escapeLabelValue(labels[i + 1])).append('"');
+        }
+        return sb.toString();
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
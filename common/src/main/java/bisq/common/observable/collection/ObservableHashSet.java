@@ -0,0 +1,54 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.observable.collection;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ObservableSet backed by a concurrent hash set. In contrast to the CopyOnWriteArraySet used by ObservableSet, add,
+ * remove and contains are O(1), thus it should be used for large collections like chat messages or offers.
+ * <p>
+ * To keep the snapshot semantics of the CopyOnWriteArraySet, the iterator (and thus stream) operates on a copy of the
+ * elements at the time of the call. The iterator does not support remove. The iteration order is undefined.
+ */
+@EqualsAndHashCode(callSuper = true)
+public class ObservableHashSet<S> extends ObservableSet<S> {
+    public ObservableHashSet() {
+        super();
+    }
+
+    public ObservableHashSet(Collection<S> values) {
+        super(values);
+    }
+
+    @Override
+    protected Collection<S> createCollection() {
+        return ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public Iterator<S> iterator() {
+        return Collections.unmodifiableCollection(new ArrayList<>(collection)).iterator();
+    }
+}
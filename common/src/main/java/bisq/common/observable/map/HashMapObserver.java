@@ -17,6 +17,7 @@
 
 package bisq.common.observable.map;
 
+import java.util.Collection;
 import java.util.Map;
 
 public interface HashMapObserver<K, V> {
@@ -27,4 +28,14 @@ public interface HashMapObserver<K, V> {
     void remove(Object key);
 
     void clear();
+
+    /**
+     * Called once for a batch of changes applied by {@link ObservableHashMap#applyDiff(Map)}.
+     */
+    default void applyChanges(Map<? extends K, ? extends V> changed, Collection<? extends K> removedKeys) {
+        removedKeys.forEach(this::remove);
+        if (!changed.isEmpty()) {
+            putAll(changed);
+        }
+    }
 }
\ No newline at end of file
@@ -84,6 +84,32 @@ public class ObservableHashMap<K, V> implements Map<K, V> {
         observers.forEach(HashMapObserver::clear);
     }
 
+    /**
+     * Updates the map to the content of the given map by applying only the added, changed and removed entries.
+     * Observers get notified once with all changes instead of a clear followed by a re-add of all entries.
+     *
+     * @return true if the map has changed
+     */
+    public boolean applyDiff(Map<? extends K, ? extends V> newMap) {
+        Map<K, V> changed = new HashMap<>();
+        newMap.forEach((key, value) -> {
+            if (!Objects.equals(map.get(key), value)) {
+                changed.put(key, value);
+            }
+        });
+        List<K> removedKeys = map.keySet().stream()
+                .filter(key -> !newMap.containsKey(key))
+                .toList();
+        if (changed.isEmpty() && removedKeys.isEmpty()) {
+            return false;
+        }
+
+        removedKeys.forEach(map::remove);
+        map.putAll(changed);
+        observers.forEach(observer -> observer.applyChanges(changed, removedKeys));
+        return true;
+    }
+
     // Getters
     @Override
     public int size() {
@@ -20,6 +20,7 @@ package bisq.common.observable.map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -59,4 +60,9 @@ final class SimpleHashMapObserver<K, V> implements HashMapObserver<K, V> {
     public void clear() {
         onChange();
     }
+
+    @Override
+    public void applyChanges(Map<? extends K, ? extends V> changed, Collection<? extends K> removedKeys) {
+        onChange();
+    }
 }
\ No newline at end of file
@@ -95,6 +95,15 @@ public class ExecutorFactory {
         return Executors.newFixedThreadPool(numThreads, threadFactory);
     }
 
+    /**
+     * Starts a new virtual thread for each task. To be used for blocking IO tasks where we do not want to be limited
+     * by the number of platform threads.
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String name) {
+        ThreadFactory threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+        return Executors.newThreadPerTaskExecutor(threadFactory);
+    }
+
     public static ThreadPoolExecutor getThreadPoolExecutor(String name,
                                                            int corePoolSize,
                                                            int maximumPoolSize,
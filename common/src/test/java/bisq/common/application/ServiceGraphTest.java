@@ -0,0 +1,139 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.common.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServiceGraphTest {
+    private static class TestService implements Service {
+        private final Supplier<CompletableFuture<Boolean>> initializer;
+
+        private TestService(Supplier<CompletableFuture<Boolean>> initializer) {
+            this.initializer = initializer;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> initialize() {
+            return initializer.get();
+        }
+    }
+
+    @Test
+    public void testDependenciesAreInitializedFirst() {
+        List<String> initialized = new CopyOnWriteArrayList<>();
+        TestService a = new TestService(() -> CompletableFuture.supplyAsync(() -> {
+            sleep(50);
+            initialized.add("a");
+            return true;
+        }));
+        TestService b = new TestService(() -> {
+            initialized.add("b");
+            return CompletableFuture.completedFuture(true);
+        });
+        TestService c = new TestService(() -> {
+            initialized.add("c");
+            return CompletableFuture.completedFuture(true);
+        });
+        ServiceGraph serviceGraph = new ServiceGraph()
+                .add(a)
+                .add(b, a)
+                .add(c, a, b);
+
+        assertTrue(serviceGraph.initialize().join());
+        assertEquals(List.of("a", "b", "c"), initialized);
+        assertTrue(serviceGraph.getInitializeDurationByName().containsKey("TestService"));
+    }
+
+    @Test
+    public void testIndependentServicesAreInitializedInParallel() {
+        // Each service waits for the other one to have started, which would time out if they run in sequence.
+        CountDownLatch latch = new CountDownLatch(2);
+        Supplier<CompletableFuture<Boolean>> initializer = () -> {
+            latch.countDown();
+            try {
+                return CompletableFuture.completedFuture(latch.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        };
+        ServiceGraph serviceGraph = new ServiceGraph()
+                .add(new TestService(initializer))
+                .add(new Service() {
+                    @Override
+                    public CompletableFuture<Boolean> initialize() {
+                        return initializer.get();
+                    }
+                });
+
+        assertTrue(serviceGraph.initialize().join());
+    }
+
+    @Test
+    public void testFailedServiceSkipsDependants() {
+        List<String> initialized = new CopyOnWriteArrayList<>();
+        TestService failing = new TestService(() -> CompletableFuture.failedFuture(new RuntimeException("test")));
+        TestService dependant = new TestService(() -> {
+            initialized.add("dependant");
+            return CompletableFuture.completedFuture(true);
+        });
+        ServiceGraph serviceGraph = new ServiceGraph()
+                .add(failing)
+                .add(dependant, failing);
+
+        assertThrows(Exception.class, () -> serviceGraph.initialize().join());
+        assertTrue(initialized.isEmpty());
+    }
+
+    @Test
+    public void testFalseResult() {
+        ServiceGraph serviceGraph = new ServiceGraph()
+                .add(new TestService(() -> CompletableFuture.completedFuture(false)))
+                .add(new Service() {
+                });
+
+        assertFalse(serviceGraph.initialize().join());
+    }
+
+    @Test
+    public void testDependencyMustBeAddedBefore() {
+        TestService a = new TestService(() -> CompletableFuture.completedFuture(true));
+        TestService b = new TestService(() -> CompletableFuture.completedFuture(true));
+        ServiceGraph serviceGraph = new ServiceGraph();
+
+        assertThrows(IllegalArgumentException.class, () -> serviceGraph.add(b, a));
+        serviceGraph.add(a);
+        assertThrows(IllegalArgumentException.class, () -> serviceGraph.add(a));
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException ignore) {
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsRegistryTest {
+    @Test
+    void counterIsReusedAndScraped() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("test_messages", "Test messages", "type", "Ping");
+        assertSame(counter, registry.counter("test_messages", "Test messages", "type", "Ping"));
+        counter.increment();
+        counter.add(2);
+
+        String expected = """
+                # HELP test_messages Test messages
+                # TYPE test_messages counter
+                test_messages{type="Ping"} 3
+                """;
+        assertEquals(expected, registry.scrape());
+    }
+
+    @Test
+    void histogramBucketsAreCumulative() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Histogram histogram = registry.histogram("test_duration", "Test duration", new long[]{10, 100});
+        histogram.observe(5);
+        histogram.observe(10);
+        histogram.observe(50);
+        histogram.observe(500);
+
+        String expected = """
+                # HELP test_duration Test duration
+                # TYPE test_duration histogram
+                test_duration_bucket{le="10"} 2
+                test_duration_bucket{le="100"} 3
+                test_duration_bucket{le="+Inf"} 4
+                test_duration_sum 565
+                test_duration_count 4
+                """;
+        assertEquals(expected, registry.scrape());
+    }
+
+    @Test
+    void gaugeIsEvaluatedAtScrapeAndCanBeRemoved() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.gauge("test_size", "Test size", () -> 1.5, "store", "a\"b");
+        assertTrue(registry.scrape().contains("test_size{store=\"a\\\"b\"} 1.5\n"));
+
+        registry.removeGauge("test_size", "store", "a\"b");
+        assertEquals("", registry.scrape());
+    }
+
+    @Test
+    void nameCannotBeUsedForDifferentTypes() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("test_metric", "Test");
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("test_metric", "Test"));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.observable.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ObservableHashSetTest {
+    @Test
+    public void testObserverGetsNotified() {
+        ObservableHashSet<String> set = new ObservableHashSet<>();
+        List<String> added = new ArrayList<>();
+        List<Object> removed = new ArrayList<>();
+        set.addObserver(new CollectionObserver<>() {
+            @Override
+            public void add(String element) {
+                added.add(element);
+            }
+
+            @Override
+            public void remove(Object element) {
+                removed.add(element);
+            }
+
+            @Override
+            public void clear() {
+            }
+        });
+
+        assertTrue(set.add("A"));
+        assertFalse(set.add("A"));
+        assertTrue(set.remove("A"));
+        assertFalse(set.remove("A"));
+        assertEquals(List.of("A"), added);
+        assertEquals(List.of("A"), removed);
+    }
+
+    @Test
+    public void testIteratorIsSnapshot() {
+        ObservableHashSet<Integer> set = new ObservableHashSet<>(Set.of(1, 2, 3));
+        Iterator<Integer> iterator = set.iterator();
+        set.add(4);
+        set.remove(1);
+
+        List<Integer> iterated = new ArrayList<>();
+        iterator.forEachRemaining(iterated::add);
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(iterated));
+        assertEquals(Set.of(2, 3, 4), Set.copyOf(set.stream().toList()));
+
+        Iterator<Integer> iterator2 = set.iterator();
+        iterator2.next();
+        assertThrows(UnsupportedOperationException.class, iterator2::remove);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.observable.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ObservableHashMapTest {
+
+    @Test
+    void testApplyDiff() {
+        ObservableHashMap<String, Integer> observableHashMap = new ObservableHashMap<>();
+        observableHashMap.putAll(Map.of("a", 1, "b", 2, "c", 3));
+
+        AtomicInteger numChanges = new AtomicInteger();
+        AtomicInteger numPuts = new AtomicInteger();
+        AtomicInteger numRemoves = new AtomicInteger();
+        observableHashMap.addObserver(numChanges::incrementAndGet);
+        observableHashMap.addObserver(new HashMapObserver<>() {
+            @Override
+            public void put(String key, Integer value) {
+                numPuts.incrementAndGet();
+            }
+
+            @Override
+            public void putAll(Map<? extends String, ? extends Integer> map) {
+                numPuts.addAndGet(map.size());
+            }
+
+            @Override
+            public void remove(Object key) {
+                numRemoves.incrementAndGet();
+            }
+
+            @Override
+            public void clear() {
+            }
+        });
+        numChanges.set(0);
+        numPuts.set(0);
+
+        assertTrue(observableHashMap.applyDiff(Map.of("a", 1, "b", 20, "d", 4)));
+        assertEquals(Map.of("a", 1, "b", 20, "d", 4), observableHashMap.getMap());
+        assertEquals(1, numChanges.get());
+        assertEquals(2, numPuts.get());
+        assertEquals(1, numRemoves.get());
+
+        assertFalse(observableHashMap.applyDiff(Map.of("a", 1, "b", 20, "d", 4)));
+        assertEquals(1, numChanges.get());
+    }
+}
@@ -17,9 +17,7 @@
 
 package bisq.http_api.rest_api.domain.market_price;
 
-import bisq.bonded_roles.market_price.MarketPrice;
 import bisq.bonded_roles.market_price.MarketPriceService;
-import bisq.common.currency.Market;
 import bisq.dto.DtoMappings;
 import bisq.dto.common.monetary.PriceQuoteDto;
 import bisq.http_api.rest_api.domain.RestApiBase;
@@ -68,8 +66,7 @@ public class MarketPriceRestApi extends RestApiBase {
     )
     public Response getQuotes() {
         try {
-            Map<Market, MarketPrice> marketPriceByCurrencyMap = marketPriceService.getMarketPriceByCurrencyMap();
-            Map<String, PriceQuoteDto> result = marketPriceService.getMarketPriceByCurrencyMap()
+            Map<String, PriceQuoteDto> result = marketPriceService.getMarketPriceSnapshot().getMarketPriceByMarket()
                     .entrySet().stream()
                     .filter(entry->entry.getKey().getBaseCurrencyCode().equals("BTC")) // We get altcoin quotes as well
                     .collect(Collectors.toMap(
@@ -26,6 +26,7 @@ import bisq.bonded_roles.market_price.MarketPriceService;
 import bisq.chat.ChatService;
 import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookChannel;
 import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookChannelService;
+import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookIndex;
 import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookMessage;
 import bisq.common.currency.Market;
 import bisq.common.currency.MarketRepository;
@@ -252,12 +253,11 @@ public class OfferbookRestApi extends RestApiBase {
     @Path("markets/offers/count")
     public Response getNumOffersByMarketCode() {
         try {
+            BisqEasyOfferbookIndex offerbookIndex = bisqEasyOfferbookChannelService.getOfferbookIndex();
             Map<String, Integer> numOffersByMarketCode = bisqEasyOfferbookChannelService.getChannels().stream()
                     .collect(Collectors.toMap(
                             channel -> channel.getMarket().getQuoteCurrencyCode(),
-                            channel -> (int) channel.getChatMessages().stream()
-                                    .filter(BisqEasyOfferbookMessage::hasBisqEasyOffer)
-                                    .count()
+                            channel -> offerbookIndex.getNumOffers(channel.getMarket())
                     ));
             return buildOkResponse(numOffersByMarketCode);
         } catch (Exception e) {
@@ -307,9 +307,8 @@ public class OfferbookRestApi extends RestApiBase {
     private Optional<List<OfferItemPresentationDto>> findOffer(String marketCodes) {
         return MarketRepository.findAnyFiatMarketByMarketCodes(marketCodes)
                 .flatMap(market -> bisqEasyOfferbookChannelService.findChannel(market)
-                        .map(channel -> channel.getChatMessages()
+                        .map(channel -> bisqEasyOfferbookChannelService.getOfferbookIndex().getOffers(market)
                                 .stream()
-                                .filter(BisqEasyOfferbookMessage::hasBisqEasyOffer)
                                 .map(this::createOfferListItemDto)
                                 .collect(Collectors.toList())
                         )
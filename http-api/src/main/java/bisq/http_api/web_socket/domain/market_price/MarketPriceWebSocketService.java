@@ -53,7 +53,7 @@ public class MarketPriceWebSocketService extends SimpleObservableWebSocketServic
 
     @Override
     protected HashMap<String, PriceQuoteDto> toPayload(ObservableHashMap<Market, MarketPrice> observable) {
-        return getObservable()
+        return marketPriceService.getMarketPriceSnapshot().getMarketPriceByMarket()
                 .entrySet().stream()
                 .filter(MarketPriceWebSocketService::isBaseCurrencyBtc)
                 .collect(Collectors.toMap(
@@ -20,8 +20,8 @@ package bisq.http_api.web_socket.domain.offers;
 import bisq.bonded_roles.BondedRolesService;
 import bisq.bonded_roles.market_price.MarketPriceService;
 import bisq.chat.ChatService;
-import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookChannel;
 import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookChannelService;
+import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookIndex;
 import bisq.chat.bisq_easy.offerbook.BisqEasyOfferbookMessage;
 import bisq.common.observable.Pin;
 import bisq.common.observable.collection.CollectionObserver;
@@ -41,7 +41,6 @@ import org.apache.commons.lang3.NotImplementedException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static bisq.http_api.web_socket.subscription.Topic.OFFERS;
 
@@ -108,23 +107,18 @@ public class OffersWebSocketService extends BaseWebSocketService {
 
     @Override
     public Optional<String> getJsonPayload() {
-        return getJsonPayload(bisqEasyOfferbookChannelService.getChannels().stream());
-    }
-
-    private Optional<String> getJsonPayload(Stream<BisqEasyOfferbookChannel> channels) {
-        ArrayList<OfferItemPresentationDto> payload = channels
-                .flatMap(channel ->
-                        channel.getChatMessages().stream()
-                                .filter(BisqEasyOfferbookMessage::hasBisqEasyOffer)
-                                .map(message -> {
-                                    try {
-                                        return createOfferListItemDto(message);
-                                    } catch (Exception e) {
-                                        log.error("Failed to create OfferListItemDto", e);
-                                        return null;
-                                    }
-                                })
-                                .filter(Objects::nonNull))
+        BisqEasyOfferbookIndex offerbookIndex = bisqEasyOfferbookChannelService.getOfferbookIndex();
+        ArrayList<OfferItemPresentationDto> payload = bisqEasyOfferbookChannelService.getChannels().stream()
+                .flatMap(channel -> offerbookIndex.getOffers(channel.getMarket()).stream()
+                        .map(message -> {
+                            try {
+                                return createOfferListItemDto(message);
+                            } catch (Exception e) {
+                                log.error("Failed to create OfferListItemDto", e);
+                                return null;
+                            }
+                        })
+                        .filter(Objects::nonNull))
                 .collect(Collectors.toCollection(ArrayList::new));
         return toJson(payload);
     }
@@ -19,11 +19,13 @@ package bisq.java_se.application;
 
 import bisq.application.ApplicationService;
 import bisq.common.facades.FacadeProvider;
+import bisq.common.metrics.MetricsRegistry;
 import bisq.common.platform.MemoryReportService;
 import bisq.common.platform.PlatformUtils;
 import bisq.java_se.facades.JavaSeGuavaFacade;
 import bisq.java_se.facades.JavaSeJdkFacade;
 import bisq.java_se.jvm.JvmMemoryReportService;
+import bisq.java_se.metrics.MetricsHttpServer;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class JavaSeApplicationService extends ApplicationService {
     protected final MemoryReportService memoryReportService;
+    protected final MetricsHttpServer metricsHttpServer;
 
     public JavaSeApplicationService(String configFileName, String[] args) {
         super(configFileName, args, PlatformUtils.getUserDataDir());
@@ -42,5 +45,10 @@ public abstract class JavaSeApplicationService extends ApplicationService {
         FacadeProvider.setJdkFacade(new JavaSeJdkFacade());
 
         memoryReportService = new JvmMemoryReportService(getConfig().getMemoryReportIntervalSec(), getConfig().isIncludeThreadListInMemoryReport());
+
+        MetricsHttpServer.Config metricsConfig = hasConfig("metrics") ?
+                MetricsHttpServer.Config.from(getConfig("metrics")) :
+                MetricsHttpServer.Config.DISABLED;
+        metricsHttpServer = new MetricsHttpServer(metricsConfig, MetricsRegistry.DEFAULT);
     }
 }
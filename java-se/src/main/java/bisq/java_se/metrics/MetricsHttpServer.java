@@ -0,0 +1,125 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.java_se.metrics;
+
+import bisq.common.application.Service;
+import bisq.common.metrics.MetricsRegistry;
+import bisq.common.threading.ExecutorFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Exposes the metrics of the MetricsRegistry at the `/metrics` endpoint in the Prometheus text format for scraping.
+ * By default, it binds to localhost only.
+ */
+@Slf4j
+public class MetricsHttpServer implements Service {
+    private static final String PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    @Getter
+    @ToString
+    public static final class Config {
+        public static final Config DISABLED = new Config(false, "127.0.0.1", 9464);
+
+        private final boolean enabled;
+        private final String host;
+        private final int port;
+
+        public Config(boolean enabled, String host, int port) {
+            this.enabled = enabled;
+            this.host = host;
+            this.port = port;
+        }
+
+        public static Config from(com.typesafe.config.Config config) {
+            return new Config(config.getBoolean("enabled"),
+                    config.getString("host"),
+                    config.getInt("port"));
+        }
+    }
+
+    private final Config config;
+    private final MetricsRegistry metricsRegistry;
+    private Optional<HttpServer> httpServer = Optional.empty();
+    private Optional<ExecutorService> executor = Optional.empty();
+
+    public MetricsHttpServer(Config config, MetricsRegistry metricsRegistry) {
+        this.config = config;
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> initialize() {
+        if (!config.isEnabled()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(config.getHost(), config.getPort()), 0);
+            server.createContext(PATH, this::handleScrape);
+            ExecutorService executorService = ExecutorFactory.newSingleThreadExecutor("MetricsHttpServer");
+            server.setExecutor(executorService);
+            server.start();
+            httpServer = Optional.of(server);
+            executor = Optional.of(executorService);
+            log.info("Metrics are exposed at http://{}:{}{}", config.getHost(), config.getPort(), PATH);
+            return CompletableFuture.completedFuture(true);
+        } catch (IOException e) {
+            // We do not fail the application if the metrics server cannot be started
+            log.error("Could not start metrics server at {}:{}", config.getHost(), config.getPort(), e);
+            return CompletableFuture.completedFuture(true);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> shutdown() {
+        httpServer.ifPresent(server -> server.stop(0));
+        httpServer = Optional.empty();
+        executor.ifPresent(ExecutorService::shutdownNow);
+        executor = Optional.empty();
+        return CompletableFuture.completedFuture(true);
+    }
+
+    private void handleScrape(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] response = metricsRegistry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        } catch (Exception e) {
+            log.warn("Handling metrics request failed", e);
+        }
+    }
+}
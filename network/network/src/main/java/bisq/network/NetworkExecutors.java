@@ -0,0 +1,130 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network;
+
+import bisq.common.metrics.MetricsRegistry;
+import bisq.common.threading.ExecutorFactory;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides the executor for the blocking network IO tasks (reading, sending, broadcasting).
+ * <p>
+ * By default, the IO tasks run on a cached pool of platform threads. If virtual threads are enabled, they run on
+ * virtual threads, so that the number of connections is not limited by the size of a thread pool.
+ * <p>
+ * Received messages are decoded on the IO thread, but always dispatched to the listeners on the single
+ * NetworkService.DISPATCHER thread. The listeners rely on that serialization and are not thread safe.
+ * <p>
+ * The execution mode has to be applied before any network IO is started, as the IO_POOL is referenced statically.
+ */
+@Slf4j
+public class NetworkExecutors {
+    @Getter
+    @ToString
+    public static final class Config {
+        public static Config from(com.typesafe.config.Config config) {
+            return new Config(config.getBoolean("enabled"));
+        }
+
+        private final boolean useVirtualThreads;
+
+        public Config(boolean useVirtualThreads) {
+            this.useVirtualThreads = useVirtualThreads;
+        }
+    }
+
+    static final SwitchableExecutorService IO_POOL = new SwitchableExecutorService(
+            ExecutorFactory.newCachedThreadPool("Network.IO", 5, 3000, 5));
+
+    @Getter
+    private static volatile boolean useVirtualThreads;
+
+    public static synchronized void applyConfig(Config config) {
+        if (!config.isUseVirtualThreads() || useVirtualThreads) {
+            return;
+        }
+        log.info("Use virtual threads for network IO");
+        useVirtualThreads = true;
+        IO_POOL.switchTo(ExecutorFactory.newVirtualThreadPerTaskExecutor("Network.IO"));
+    }
+
+    /**
+     * Registers the saturation gauges of the IO pool. Virtual threads are not pooled, so there is nothing to report.
+     */
+    static void registerMetrics(MetricsRegistry metricsRegistry) {
+        if (IO_POOL.delegate instanceof ThreadPoolExecutor threadPoolExecutor) {
+            metricsRegistry.threadPool("Network.IO", threadPoolExecutor);
+        }
+    }
+
+    /**
+     * Delegates to an executor service which can be replaced once at startup. The previous executor service gets
+     * shut down and completes its already submitted tasks.
+     */
+    static final class SwitchableExecutorService extends AbstractExecutorService {
+        private volatile ExecutorService delegate;
+
+        private SwitchableExecutorService(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        private void switchTo(ExecutorService executorService) {
+            ExecutorService previous = delegate;
+            delegate = executorService;
+            previous.shutdown();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package bisq.network;
 
 
 import bisq.common.application.Service;
+import bisq.common.metrics.MetricsRegistry;
 import bisq.common.observable.Observable;
 import bisq.common.observable.map.ObservableHashMap;
 import bisq.common.platform.MemoryReportService;
@@ -75,6 +76,8 @@ import java.security.PublicKey;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -90,8 +93,11 @@ import static java.util.concurrent.CompletableFuture.supplyAsync;
  */
 @Slf4j
 public class NetworkService implements PersistenceClient<NetworkServiceStore>, Service {
-    public static final ExecutorService NETWORK_IO_POOL = ExecutorFactory.newCachedThreadPool("Network.IO", 5, 3000, 5);
-    public static final ExecutorService DISPATCHER = ExecutorFactory.newSingleThreadExecutor("Network.dispatcher");
+    public static final ExecutorService NETWORK_IO_POOL = NetworkExecutors.IO_POOL;
+    // Single threaded pool. We use a ThreadPoolExecutor instead of newSingleThreadExecutor to be able to report its queue size.
+    private static final ThreadPoolExecutor DISPATCHER_POOL = ExecutorFactory.getThreadPoolExecutor("Network.dispatcher",
+            1, 1, 0, new LinkedBlockingQueue<>());
+    public static final ExecutorService DISPATCHER = DISPATCHER_POOL;
 
     @Getter
     private final NetworkServiceStore persistableStore = new NetworkServiceStore();
@@ -128,6 +134,9 @@ public class NetworkService implements PersistenceClient<NetworkServiceStore>, S
         supportedTransportTypes = config.getSupportedTransportTypes();
         defaultPortByTransportType = config.getDefaultPortByTransportType();
         NetworkEnvelope.setNetworkVersion(config.getVersion());
+        NetworkExecutors.applyConfig(config.getNetworkExecutorsConfig());
+        NetworkExecutors.registerMetrics(MetricsRegistry.DEFAULT);
+        MetricsRegistry.DEFAULT.threadPool("Network.dispatcher", DISPATCHER_POOL);
 
         networkIdService = new NetworkIdService(persistenceService, keyBundleService, supportedTransportTypes, defaultPortByTransportType);
         httpClientsByTransport = new HttpClientsByTransport();
@@ -136,7 +145,7 @@ public class NetworkService implements PersistenceClient<NetworkServiceStore>, S
 
         boolean isDataServiceSupported = supportedServices.contains(ServiceNode.SupportedService.DATA);
         dataService = isDataServiceSupported ?
-                Optional.of(new DataService(persistenceService)) :
+                Optional.of(new DataService(persistenceService, config.getStorageServiceConfig())) :
                 Optional.empty();
 
         messageDeliveryStatusService = supportedServices.contains(ServiceNode.SupportedService.ACK) &&
@@ -156,6 +165,7 @@ public class NetworkService implements PersistenceClient<NetworkServiceStore>, S
                 seedAddressesByTransportFromConfig,
                 config.getInventoryServiceConfig(),
                 config.getAuthorizationServiceConfig(),
+                config.getConnectionMultiplexerConfig(),
                 supportedTransportTypes,
                 config.getFeatures(),
                 keyBundleService,
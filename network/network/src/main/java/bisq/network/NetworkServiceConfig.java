@@ -22,11 +22,13 @@ import bisq.common.network.Address;
 import bisq.common.network.TransportConfig;
 import bisq.common.network.TransportType;
 import bisq.network.p2p.ServiceNode;
+import bisq.network.p2p.node.ConnectionMultiplexer;
 import bisq.network.p2p.node.Feature;
 import bisq.network.p2p.node.authorization.AuthorizationService;
 import bisq.network.p2p.node.transport.ClearNetTransportService;
 import bisq.network.p2p.node.transport.I2PTransportService;
 import bisq.network.p2p.services.data.inventory.InventoryService;
+import bisq.network.p2p.services.data.storage.StorageService;
 import bisq.network.p2p.services.peer_group.PeerGroupManager;
 import bisq.network.p2p.services.peer_group.PeerGroupService;
 import bisq.network.p2p.services.peer_group.exchange.PeerExchangeStrategy;
@@ -47,6 +49,9 @@ public final class NetworkServiceConfig {
         ServiceNode.Config serviceNodeConfig = ServiceNode.Config.from(config.getConfig("serviceNode"));
         InventoryService.Config inventoryServiceConfig = InventoryService.Config.from(config.getConfig("inventory"));
         AuthorizationService.Config authorizationServiceConfig = AuthorizationService.Config.from(config.getConfig("authorization"));
+        ConnectionMultiplexer.Config connectionMultiplexerConfig = ConnectionMultiplexer.Config.from(config.getConfig("connectionMultiplexer"));
+        NetworkExecutors.Config networkExecutorsConfig = NetworkExecutors.Config.from(config.getConfig("virtualThreads"));
+        StorageService.Config storageServiceConfig = StorageService.Config.from(config.getConfig("storage"));
         Config seedConfig = config.getConfig("seedAddressByTransportType");
         // Only read seed addresses for explicitly supported address types
         Set<TransportType> supportedTransportTypes = new HashSet<>(config.getEnumList(TransportType.class, "supportedTransportTypes"));
@@ -86,6 +91,9 @@ public final class NetworkServiceConfig {
                 serviceNodeConfig,
                 inventoryServiceConfig,
                 authorizationServiceConfig,
+                connectionMultiplexerConfig,
+                networkExecutorsConfig,
+                storageServiceConfig,
                 peerGroupServiceConfigByTransport,
                 defaultPortByTransportType,
                 seedAddressesByTransport,
@@ -171,6 +179,9 @@ public final class NetworkServiceConfig {
     private final Set<Feature> features;
     private final InventoryService.Config inventoryServiceConfig;
     private final AuthorizationService.Config authorizationServiceConfig;
+    private final ConnectionMultiplexer.Config connectionMultiplexerConfig;
+    private final NetworkExecutors.Config networkExecutorsConfig;
+    private final StorageService.Config storageServiceConfig;
     private final Map<TransportType, TransportConfig> configByTransportType;
     private final ServiceNode.Config serviceNodeConfig;
     private final Map<TransportType, PeerGroupManager.Config> peerGroupServiceConfigByTransport;
@@ -186,6 +197,9 @@ public final class NetworkServiceConfig {
                                 ServiceNode.Config serviceNodeConfig,
                                 InventoryService.Config inventoryServiceConfig,
                                 AuthorizationService.Config authorizationServiceConfig,
+                                ConnectionMultiplexer.Config connectionMultiplexerConfig,
+                                NetworkExecutors.Config networkExecutorsConfig,
+                                StorageService.Config storageServiceConfig,
                                 Map<TransportType, PeerGroupManager.Config> peerGroupServiceConfigByTransport,
                                 Map<TransportType, Integer> defaultPortByTransportType,
                                 Map<TransportType, Set<Address>> seedAddressesByTransport,
@@ -196,6 +210,9 @@ public final class NetworkServiceConfig {
         this.features = features;
         this.inventoryServiceConfig = inventoryServiceConfig;
         this.authorizationServiceConfig = authorizationServiceConfig;
+        this.connectionMultiplexerConfig = connectionMultiplexerConfig;
+        this.networkExecutorsConfig = networkExecutorsConfig;
+        this.storageServiceConfig = storageServiceConfig;
         this.configByTransportType = filterMap(supportedTransportTypes, configByTransportType);
         this.serviceNodeConfig = serviceNodeConfig;
         this.peerGroupServiceConfigByTransport = filterMap(supportedTransportTypes, peerGroupServiceConfigByTransport);
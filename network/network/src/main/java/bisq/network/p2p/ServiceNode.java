@@ -35,6 +35,7 @@ import bisq.network.p2p.node.network_load.NetworkLoadSnapshot;
 import bisq.network.p2p.node.transport.TransportService;
 import bisq.network.p2p.services.confidential.ConfidentialMessageService;
 import bisq.network.p2p.services.confidential.SendConfidentialMessageResult;
+import bisq.network.p2p.services.confidential.SeenMailboxMessagesService;
 import bisq.network.p2p.services.confidential.ack.MessageDeliveryStatusService;
 import bisq.network.p2p.services.confidential.resend.ResendMessageService;
 import bisq.network.p2p.services.data.DataNetworkService;
@@ -119,6 +120,7 @@ public class ServiceNode implements Node.Listener {
     private final TransportType transportType;
     private final MemoryReportService memoryReportService;
     private final NetworkLoadSnapshot networkLoadSnapshot;
+    private final Optional<SeenMailboxMessagesService> seenMailboxMessagesService;
 
     @Getter
     private final NodesById nodesById;
@@ -175,9 +177,15 @@ public class ServiceNode implements Node.Listener {
 
         this.networkLoadSnapshot = new NetworkLoadSnapshot();
 
-        transportService = TransportService.create(transportType, nodeConfig.getTransportConfig());
+        transportService = TransportService.create(transportType,
+                nodeConfig.getTransportConfig(),
+                nodeConfig.getConnectionMultiplexer().isPresent());
         nodesById = new NodesById(banList, nodeConfig, keyBundleService, transportService, networkLoadSnapshot, authorizationService);
         peerGroupService = new PeerGroupService(persistenceService, transportType, peerGroupServiceConfig.getPeerGroupConfig(), seedNodeAddresses, banList);
+        // Needs to be created at construction time to get the persisted data applied at startup
+        seenMailboxMessagesService = config.getSupportedServices().contains(SupportedService.CONFIDENTIAL) ?
+                Optional.of(new SeenMailboxMessagesService(persistenceService, transportType)) :
+                Optional.empty();
 
         nodesById.addNodeListener(this);
     }
@@ -241,7 +249,8 @@ public class ServiceNode implements Node.Listener {
                 Optional.of(new ConfidentialMessageService(nodesById,
                         keyBundleService,
                         dataService,
-                        messageDeliveryStatusService)) :
+                        messageDeliveryStatusService,
+                        seenMailboxMessagesService)) :
                 Optional.empty();
 
         reportRequestService = supportedServices.contains(ServiceNode.SupportedService.REPORT_REQUEST) ?
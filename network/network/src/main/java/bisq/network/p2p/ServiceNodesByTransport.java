@@ -32,6 +32,7 @@ import bisq.network.SendMessageResult;
 import bisq.network.identity.NetworkId;
 import bisq.network.p2p.message.EnvelopePayloadMessage;
 import bisq.network.p2p.node.Connection;
+import bisq.network.p2p.node.ConnectionMultiplexer;
 import bisq.network.p2p.node.Feature;
 import bisq.network.p2p.node.Node;
 import bisq.network.p2p.node.authorization.AuthorizationService;
@@ -74,6 +75,7 @@ public class ServiceNodesByTransport {
     private final Set<TransportType> supportedTransportTypes;
     @Getter
     private final AuthorizationService authorizationService;
+    private final Optional<ConnectionMultiplexer> connectionMultiplexer;
 
     public ServiceNodesByTransport(Map<TransportType, TransportConfig> configByTransportType,
                                    ServiceNode.Config serviceNodeConfig,
@@ -81,6 +83,7 @@ public class ServiceNodesByTransport {
                                    Map<TransportType, Set<Address>> seedAddressesByTransport,
                                    InventoryService.Config inventoryServiceConfig,
                                    AuthorizationService.Config authorizationServiceConfig,
+                                   ConnectionMultiplexer.Config connectionMultiplexerConfig,
                                    Set<TransportType> supportedTransportTypes,
                                    Set<Feature> features,
                                    KeyBundleService keyBundleService,
@@ -98,6 +101,10 @@ public class ServiceNodesByTransport {
                 equihashProofOfWorkService,
                 features);
 
+        connectionMultiplexer = connectionMultiplexerConfig.isEnabled() ?
+                Optional.of(new ConnectionMultiplexer(connectionMultiplexerConfig.getNumSelectorThreads())) :
+                Optional.empty();
+
         supportedTransportTypes.forEach(transportType -> {
             TransportConfig transportConfig = configByTransportType.get(transportType);
             Node.Config nodeConfig = new Node.Config(transportType,
@@ -108,7 +115,8 @@ public class ServiceNodesByTransport {
                     transportConfig.getUserNodeSocketTimeout(),
                     transportConfig.getDevModeDelayInMs(),
                     transportConfig.getSendMessageThrottleTime(),
-                    transportConfig.getReceiveMessageThrottleTime());
+                    transportConfig.getReceiveMessageThrottleTime(),
+                    connectionMultiplexer);
             Set<Address> seedAddresses = seedAddressesByTransport.get(transportType);
             checkNotNull(seedAddresses, "Seed nodes must be setup for %s", transportType);
             PeerGroupManager.Config peerGroupServiceConfig = peerGroupServiceConfigByTransport.get(transportType);
@@ -147,7 +155,10 @@ public class ServiceNodesByTransport {
 
     public CompletableFuture<List<Boolean>> shutdown() {
         Stream<CompletableFuture<Boolean>> futures = map.values().stream().map(ServiceNode::shutdown);
-        return CompletableFutureUtils.allOf(futures).whenComplete((list, throwable) -> map.clear());
+        return CompletableFutureUtils.allOf(futures).whenComplete((list, throwable) -> {
+            map.clear();
+            connectionMultiplexer.ifPresent(ConnectionMultiplexer::shutdown);
+        });
     }
 
     public CompletableFuture<List<Node>> allSuppliedInitializedNode(NetworkId networkId) {
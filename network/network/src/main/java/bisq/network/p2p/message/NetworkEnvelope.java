@@ -20,12 +20,19 @@ package bisq.network.p2p.message;
 import bisq.common.proto.NetworkProto;
 import bisq.network.p2p.node.ConnectionException;
 import bisq.network.p2p.node.authorization.AuthorizationToken;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
 import static bisq.network.p2p.node.ConnectionException.Reason.INVALID_NETWORK_VERSION;
 
 /**
@@ -40,19 +47,38 @@ public final class NetworkEnvelope implements NetworkProto {
     // For dev testing networkVersion=0
     @Setter
     public static int networkVersion;
+    private static final int NETWORK_MESSAGE_FIELD_NUMBER = bisq.network.protobuf.NetworkEnvelope.NETWORKMESSAGE_FIELD_NUMBER;
 
     private final int version;
     private final AuthorizationToken authorizationToken;
     private final EnvelopePayloadMessage envelopePayloadMessage;
+    // If present, we write the already serialized envelopePayloadMessage instead of serializing it again
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    private final Optional<ByteString> serializedEnvelopePayloadMessage;
 
     public NetworkEnvelope(AuthorizationToken authorizationToken, EnvelopePayloadMessage envelopePayloadMessage) {
         this(networkVersion, authorizationToken, envelopePayloadMessage);
     }
 
+    public NetworkEnvelope(AuthorizationToken authorizationToken, SerializedMessage serializedMessage) {
+        this(networkVersion, authorizationToken, serializedMessage.getEnvelopePayloadMessage(),
+                Optional.of(serializedMessage.getSerialized()));
+    }
+
     public NetworkEnvelope(int version, AuthorizationToken authorizationToken, EnvelopePayloadMessage envelopePayloadMessage) {
+        this(version, authorizationToken, envelopePayloadMessage, Optional.empty());
+    }
+
+    private NetworkEnvelope(int version,
+                            AuthorizationToken authorizationToken,
+                            EnvelopePayloadMessage envelopePayloadMessage,
+                            Optional<ByteString> serializedEnvelopePayloadMessage) {
         this.version = version;
         this.authorizationToken = authorizationToken;
         this.envelopePayloadMessage = envelopePayloadMessage;
+        this.serializedEnvelopePayloadMessage = serializedEnvelopePayloadMessage;
 
         verify();
     }
@@ -79,12 +105,47 @@ public final class NetworkEnvelope implements NetworkProto {
                 .setNetworkMessage(envelopePayloadMessage.toProto(serializeForHash));
     }
 
+    // A serialized message is the concatenation of its serialized fields, and an embedded message field has the same
+    // wire format as a bytes field. So we can write the envelope without the networkMessage field followed by the
+    // already serialized networkMessage as bytes field.
+    @Override
+    public void writeDelimitedTo(OutputStream outputStream) throws IOException {
+        if (serializedEnvelopePayloadMessage.isEmpty()) {
+            completeProto().writeDelimitedTo(outputStream);
+            return;
+        }
+
+        bisq.network.protobuf.NetworkEnvelope envelopeWithoutMessage = getEnvelopeWithoutMessage();
+        ByteString serializedMessage = serializedEnvelopePayloadMessage.get();
+        CodedOutputStream codedOutputStream = CodedOutputStream.newInstance(outputStream);
+        codedOutputStream.writeUInt32NoTag(envelopeWithoutMessage.getSerializedSize() +
+                CodedOutputStream.computeBytesSize(NETWORK_MESSAGE_FIELD_NUMBER, serializedMessage));
+        envelopeWithoutMessage.writeTo(codedOutputStream);
+        codedOutputStream.writeBytes(NETWORK_MESSAGE_FIELD_NUMBER, serializedMessage);
+        codedOutputStream.flush();
+    }
+
+    @Override
+    public int getSerializedSize() {
+        return serializedEnvelopePayloadMessage
+                .map(serializedMessage -> getEnvelopeWithoutMessage().getSerializedSize() +
+                        CodedOutputStream.computeBytesSize(NETWORK_MESSAGE_FIELD_NUMBER, serializedMessage))
+                .orElseGet(() -> completeProto().getSerializedSize());
+    }
+
     public static NetworkEnvelope fromProto(bisq.network.protobuf.NetworkEnvelope proto) {
         return new NetworkEnvelope(proto.getVersion(),
                 AuthorizationToken.fromProto(proto.getAuthorizationToken()),
                 EnvelopePayloadMessage.fromProto(proto.getNetworkMessage()));
     }
 
+    private bisq.network.protobuf.NetworkEnvelope getEnvelopeWithoutMessage() {
+        return bisq.network.protobuf.NetworkEnvelope.newBuilder()
+                .setVersion(version)
+                .setAuthorizationToken(authorizationToken.toProto(false))
+                .build();
+    }
+
     public void verifyVersion() throws ConnectionException {
         if (version != networkVersion) {
             throw new ConnectionException(INVALID_NETWORK_VERSION, "Invalid networkEnvelopeVersion. " +
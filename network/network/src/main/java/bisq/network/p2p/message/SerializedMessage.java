@@ -0,0 +1,39 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.message;
+
+import com.google.protobuf.ByteString;
+import lombok.Getter;
+
+/**
+ * Holds an EnvelopePayloadMessage together with its serialized forms, so that a message sent to multiple peers
+ * (e.g. at broadcast) gets serialized only once.
+ * The serializedForHash bytes are used as preimage for the proof of work. Only the challenge differs per peer.
+ */
+@Getter
+public final class SerializedMessage {
+    private final EnvelopePayloadMessage envelopePayloadMessage;
+    private final ByteString serialized;
+    private final byte[] serializedForHash;
+
+    public SerializedMessage(EnvelopePayloadMessage envelopePayloadMessage) {
+        this.envelopePayloadMessage = envelopePayloadMessage;
+        serialized = envelopePayloadMessage.completeProto().toByteString();
+        serializedForHash = envelopePayloadMessage.serializeForHash();
+    }
+}
@@ -26,6 +26,7 @@ import bisq.common.network.DefaultPeerSocket;
 import bisq.common.network.PeerSocket;
 import bisq.network.p2p.message.EnvelopePayloadMessage;
 import bisq.network.p2p.message.NetworkEnvelope;
+import bisq.network.p2p.message.SerializedMessage;
 import bisq.network.p2p.node.authorization.AuthorizationToken;
 import bisq.network.p2p.node.envelope.NetworkEnvelopeSocket;
 import bisq.network.p2p.node.network_load.ConnectionMetrics;
@@ -37,12 +38,15 @@ import javax.annotation.Nullable;
 import java.io.EOFException;
 import java.io.IOException;
 import java.net.Socket;
+import java.nio.channels.SocketChannel;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -92,11 +96,15 @@ public abstract class Connection {
     private NetworkEnvelopeSocket networkEnvelopeSocket;
     private final ConnectionThrottle connectionThrottle;
     private final Handler handler;
+    private final BiConsumer<Connection, Exception> errorHandler;
+    // Present if the socket channel is handled by the ConnectionMultiplexer, otherwise we use a blocking read thread.
+    private Optional<MultiplexedChannel> multiplexedChannel = Optional.empty();
     private final Set<Listener> listeners = new CopyOnWriteArraySet<>();
     @Nullable
     private Future<?> inputHandlerFuture;
     private final AtomicInteger sentMessageCounter = new AtomicInteger(0);
-    private final Object writeLock = new Object();
+    // We use a ReentrantLock instead of synchronized to not pin the carrier thread when blocking at a write on a virtual thread
+    private final ReentrantLock writeLock = new ReentrantLock();
     private volatile boolean shutdownStarted;
     private volatile boolean listeningStopped;
 
@@ -105,12 +113,14 @@ public abstract class Connection {
                          NetworkLoadSnapshot peersNetworkLoadSnapshot,
                          ConnectionMetrics connectionMetrics,
                          ConnectionThrottle connectionThrottle,
+                         Optional<ConnectionMultiplexer> connectionMultiplexer,
                          Handler handler,
                          BiConsumer<Connection, Exception> errorHandler) {
         this.peersCapability = peersCapability;
         this.peersNetworkLoadSnapshot = peersNetworkLoadSnapshot;
         this.connectionThrottle = connectionThrottle;
         this.handler = handler;
+        this.errorHandler = errorHandler;
         this.connectionMetrics = connectionMetrics;
         requestResponseManager = new RequestResponseManager(connectionMetrics);
 
@@ -124,6 +134,22 @@ public abstract class Connection {
             return;
         }
 
+        SocketChannel socketChannel = socket.getChannel();
+        if (connectionMultiplexer.isPresent() && socketChannel != null) {
+            try {
+                // The socket timeout set at the handshake is used as idle timeout, as it has no effect in non-blocking mode
+                multiplexedChannel = Optional.of(connectionMultiplexer.get().register(this,
+                        socketChannel,
+                        connectionThrottle,
+                        socket.getSoTimeout()));
+            } catch (IOException exception) {
+                log.error("Could not register socket channel {} at connectionMultiplexer", socketChannel, exception);
+                errorHandler.accept(this, exception);
+                shutdown(CloseReason.EXCEPTION.exception(exception));
+            }
+            return;
+        }
+
         inputHandlerFuture = NetworkService.NETWORK_IO_POOL.submit(() -> {
             ThreadName.set(this, "read-" + getThreadNameId());
             try {
@@ -144,31 +170,11 @@ public abstract class Connection {
                     NetworkEnvelope networkEnvelope = NetworkEnvelope.fromProto(proto);
                     long deserializeTime = System.currentTimeMillis() - ts;
                     networkEnvelope.verifyVersion();
-                    connectionMetrics.onReceived(networkEnvelope, deserializeTime);
-
-                    EnvelopePayloadMessage envelopePayloadMessage = networkEnvelope.getEnvelopePayloadMessage();
-                    log.debug("Received message: {} at: {}",
-                            StringUtils.truncate(envelopePayloadMessage.toString(), 200), this);
-                    requestResponseManager.onReceived(envelopePayloadMessage);
-                    NetworkService.DISPATCHER.submit(() -> {
-                        if (isInputStreamActive()) {
-                            handler.handleNetworkMessage(envelopePayloadMessage,
-                                    networkEnvelope.getAuthorizationToken(),
-                                    this);
-                        }
-                    });
+                    onReceived(networkEnvelope, deserializeTime);
                 }
             } catch (Exception exception) {
                 //todo (deferred) StreamCorruptedException from i2p at shutdown. prob it send some text data at shut down
-                if (!shutdownStarted) {
-                    log.debug("Exception at input handler on {}", this, exception);
-                    shutdown(CloseReason.EXCEPTION.exception(exception));
-
-                    // EOFException expected if connection got closed (Socket closed message)
-                    if (!(exception instanceof EOFException)) {
-                        errorHandler.accept(this, exception);
-                    }
-                }
+                closeOnException(exception);
             }
         });
     }
@@ -221,7 +227,8 @@ public abstract class Connection {
     // Package scope API
     /* --------------------------------------------------------------------- */
 
-    Connection send(EnvelopePayloadMessage envelopePayloadMessage, AuthorizationToken authorizationToken) {
+    Connection send(SerializedMessage serializedMessage, AuthorizationToken authorizationToken) {
+        EnvelopePayloadMessage envelopePayloadMessage = serializedMessage.getEnvelopePayloadMessage();
         if (isStopped()) {
             log.warn("Message not sent as connection has been shut down already. Message={}, Connection={}",
                     StringUtils.truncate(envelopePayloadMessage.toString(), 200), this);
@@ -229,35 +236,37 @@ public abstract class Connection {
             return this;
         }
 
-        connectionThrottle.throttleSendMessage();
+        if (multiplexedChannel.isEmpty()) {
+            connectionThrottle.throttleSendMessage();
+        }
 
         requestResponseManager.onSent(envelopePayloadMessage);
 
         try {
-            NetworkEnvelope networkEnvelope = new NetworkEnvelope(authorizationToken, envelopePayloadMessage);
+            NetworkEnvelope networkEnvelope = new NetworkEnvelope(authorizationToken, serializedMessage);
+            if (multiplexedChannel.isPresent()) {
+                // Throttling and writing is done by the ConnectionMultiplexer without blocking the calling thread.
+                multiplexedChannel.get().send(networkEnvelope);
+                return this;
+            }
+
             boolean success = false;
             long ts = System.currentTimeMillis();
-            synchronized (writeLock) {
-                try {
-                    networkEnvelopeSocket.send(networkEnvelope);
-                    success = true;
-                } catch (Exception exception) {
-                    if (isRunning()) {
-                        throw exception;
-                    } else {
-                        log.info("Send message at stopped connection {} failed with {}", this, ExceptionUtil.getRootCauseMessage(exception));
-                    }
+            writeLock.lock();
+            try {
+                networkEnvelopeSocket.send(networkEnvelope);
+                success = true;
+            } catch (Exception exception) {
+                if (isRunning()) {
+                    throw exception;
+                } else {
+                    log.info("Send message at stopped connection {} failed with {}", this, ExceptionUtil.getRootCauseMessage(exception));
                 }
+            } finally {
+                writeLock.unlock();
             }
             if (success) {
-                connectionMetrics.onSent(networkEnvelope, System.currentTimeMillis() - ts);
-                if (envelopePayloadMessage instanceof CloseConnectionMessage) {
-                    log.info("Sent {} from {}",
-                            StringUtils.truncate(envelopePayloadMessage.toString(), 300), this);
-                } else {
-                    log.debug("Sent {} from {}",
-                            StringUtils.truncate(envelopePayloadMessage.toString(), 300), this);
-                }
+                onSent(networkEnvelope, System.currentTimeMillis() - ts);
             }
             return this;
         } catch (IOException exception) {
@@ -286,6 +295,7 @@ public abstract class Connection {
         if (inputHandlerFuture != null) {
             inputHandlerFuture.cancel(true);
         }
+        multiplexedChannel.ifPresent(MultiplexedChannel::close);
         try {
             networkEnvelopeSocket.close();
         } catch (IOException ignore) {
@@ -313,6 +323,49 @@ public abstract class Connection {
         });
     }
 
+    void onReceived(NetworkEnvelope networkEnvelope, long deserializeTime) {
+        if (!isInputStreamActive()) {
+            return;
+        }
+        connectionMetrics.onReceived(networkEnvelope, deserializeTime);
+
+        EnvelopePayloadMessage envelopePayloadMessage = networkEnvelope.getEnvelopePayloadMessage();
+        log.debug("Received message: {} at: {}",
+                StringUtils.truncate(envelopePayloadMessage.toString(), 200), this);
+        requestResponseManager.onReceived(envelopePayloadMessage);
+        NetworkService.DISPATCHER.submit(() -> {
+            if (isInputStreamActive()) {
+                handler.handleNetworkMessage(envelopePayloadMessage,
+                        networkEnvelope.getAuthorizationToken(),
+                        this);
+            }
+        });
+    }
+
+    void onSent(NetworkEnvelope networkEnvelope, long sendDuration) {
+        connectionMetrics.onSent(networkEnvelope, sendDuration);
+        EnvelopePayloadMessage envelopePayloadMessage = networkEnvelope.getEnvelopePayloadMessage();
+        if (envelopePayloadMessage instanceof CloseConnectionMessage) {
+            log.info("Sent {} from {}",
+                    StringUtils.truncate(envelopePayloadMessage.toString(), 300), this);
+        } else {
+            log.debug("Sent {} from {}",
+                    StringUtils.truncate(envelopePayloadMessage.toString(), 300), this);
+        }
+    }
+
+    void closeOnException(Exception exception) {
+        if (!shutdownStarted) {
+            log.debug("Exception at input handler on {}", this, exception);
+            shutdown(CloseReason.EXCEPTION.exception(exception));
+
+            // EOFException expected if connection got closed (Socket closed message)
+            if (!(exception instanceof EOFException)) {
+                errorHandler.accept(this, exception);
+            }
+        }
+    }
+
     AtomicInteger getSentMessageCounter() {
         return sentMessageCounter;
     }
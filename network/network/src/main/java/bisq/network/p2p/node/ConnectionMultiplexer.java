@@ -0,0 +1,92 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.node;
+
+import bisq.common.threading.ExecutorFactory;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Handles the IO of connections with non-blocking socket channels on a small number of selector threads, instead of
+ * using a thread per connection which blocks at reading and at throttling.
+ * Connections are assigned round-robin to the selector threads. Throttling delays are applied with a timer.
+ * <p>
+ * Only sockets which have a channel can be handled. Others (e.g. outbound Tor sockets created via the SOCKS proxy)
+ * use the thread per connection model.
+ */
+@Slf4j
+public class ConnectionMultiplexer {
+    @Getter
+    @ToString
+    public static final class Config {
+        public static Config from(com.typesafe.config.Config config) {
+            return new Config(config.getBoolean("enabled"),
+                    config.getInt("numSelectorThreads"));
+        }
+
+        private final boolean enabled;
+        private final int numSelectorThreads;
+
+        public Config(boolean enabled, int numSelectorThreads) {
+            this.enabled = enabled;
+            this.numSelectorThreads = numSelectorThreads;
+        }
+    }
+
+    private final List<SelectorLoop> selectorLoops = new ArrayList<>();
+    private final ScheduledExecutorService timer = ExecutorFactory.newSingleThreadScheduledExecutor("ConnectionMultiplexer.timer");
+    private final AtomicInteger numRegistrations = new AtomicInteger();
+
+    public ConnectionMultiplexer(int numSelectorThreads) {
+        checkArgument(numSelectorThreads > 0, "numSelectorThreads must be at least 1");
+        try {
+            for (int i = 0; i < numSelectorThreads; i++) {
+                selectorLoops.add(new SelectorLoop("ConnectionMultiplexer.selector-" + i));
+            }
+        } catch (IOException e) {
+            log.error("Could not open selector", e);
+            throw new ConnectionException(e);
+        }
+        selectorLoops.forEach(SelectorLoop::start);
+        log.info("Started ConnectionMultiplexer with {} selector threads", numSelectorThreads);
+    }
+
+    public void shutdown() {
+        log.info("shutdown");
+        selectorLoops.forEach(SelectorLoop::shutdown);
+        ExecutorFactory.shutdownAndAwaitTermination(timer, 100);
+    }
+
+    MultiplexedChannel register(Connection connection,
+                                SocketChannel socketChannel,
+                                ConnectionThrottle connectionThrottle,
+                                long idleTimeout) throws IOException {
+        int index = Math.floorMod(numRegistrations.getAndIncrement(), selectorLoops.size());
+        return new MultiplexedChannel(connection, socketChannel, connectionThrottle, selectorLoops.get(index), timer, idleTimeout);
+    }
+}
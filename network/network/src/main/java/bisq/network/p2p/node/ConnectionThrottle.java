@@ -37,11 +37,13 @@ import java.util.concurrent.atomic.AtomicLong;
  * Messages are not dropped by we only pause the executing thread. We use lower and upper bounds for the pause, so
  * even with extreme values from the config the throttling should not have severe impacts on the
  * connection (e.g. lead to timeouts).
+ * Connections handled by the ConnectionMultiplexer do not pause a thread but reserve the next time slot and delay the
+ * message with a timer.
  */
 @Slf4j
 public class ConnectionThrottle {
-    private static final long MIN_THROTTLE_TIME = 20;
-    private static final long MAX_THROTTLE_TIME = 1000;
+    static final long MIN_THROTTLE_TIME = 20;
+    static final long MAX_THROTTLE_TIME = 1000;
     private static final long MAX_LOG_FREQUENCY = TimeUnit.SECONDS.toMillis(30);
 
     // We apply the log throttle globally, so we use static fields
@@ -72,41 +74,88 @@ public class ConnectionThrottle {
         throttle(receiveMessageTimestamp, myNetworkLoadSnapshot, receiveMessageThrottleTime, "receive");
     }
 
+    /**
+     * @return The delay in ms after which the message can be sent. The time slot is reserved, so that the next
+     * message gets delayed relative to that slot.
+     */
+    long reserveSendSlot() {
+        return reserveSendSlot(System.currentTimeMillis());
+    }
+
+    long reserveSendSlot(long now) {
+        return reserveSlot(sendMessageTimestamp, peersNetworkLoadSnapshot, sendMessageThrottleTime, "send", now);
+    }
+
+    /**
+     * @return The delay in ms after which the message can be processed. The time slot is reserved, so that the next
+     * message gets delayed relative to that slot.
+     */
+    long reserveReceiveSlot() {
+        return reserveReceiveSlot(System.currentTimeMillis());
+    }
+
+    long reserveReceiveSlot(long now) {
+        return reserveSlot(receiveMessageTimestamp, myNetworkLoadSnapshot, receiveMessageThrottleTime, "receive", now);
+    }
+
     private void throttle(AtomicLong timestamp, NetworkLoadSnapshot networkLoadSnapshot, long throttleTime, String direction) {
         long now = System.currentTimeMillis();
-        long passed = now - timestamp.get();
-        double load = networkLoadSnapshot.getCurrentNetworkLoad().getLoad();
-        throttleTime = MIN_THROTTLE_TIME + Math.round(throttleTime * load);
-        throttleTime = MathUtils.bounded(MIN_THROTTLE_TIME, MAX_THROTTLE_TIME, throttleTime);
-        if (passed < throttleTime) {
+        long pause = getPause(timestamp.get(), now, networkLoadSnapshot, throttleTime, direction);
+        if (pause > 0) {
             try {
-                long pause = throttleTime - passed;
-                pause = MathUtils.bounded(1, MAX_THROTTLE_TIME, pause);
-                String logMessage = String.format("Pause '%s' message for %d ms. Network=%f", direction, pause, load);
-                long passedSinceLastLog = now - lastLoggedTs.get();
-                if (passedSinceLastLog < MAX_LOG_FREQUENCY) {
-                    LAST_LOGS.add(logMessage);
-                    if (lastLoggedTs.get() == 0) {
-                        lastLoggedTs.set(now);
-                    }
-                } else {
-                    if (LAST_LOGS.isEmpty()) {
-                        log.info(logMessage);
-                    } else {
-                        LAST_LOGS.add(logMessage);
-                        List<String> temp = new ArrayList<>(LAST_LOGS);
-                        int size = temp.size();
-                        List<String> subList = temp.subList(0, Math.min(5, size));
-                        log.info("{} accumulated log messages in the past {} sec. Log message (max 5 displayed): {}",
-                                size, passedSinceLastLog / 1000, subList);
-                        LAST_LOGS.clear();
-                    }
-                    lastLoggedTs.set(now);
-                }
                 Thread.sleep(pause);
             } catch (InterruptedException ignore) {
             }
         }
         timestamp.set(now);
     }
+
+    private long reserveSlot(AtomicLong timestamp,
+                             NetworkLoadSnapshot networkLoadSnapshot,
+                             long throttleTime,
+                             String direction,
+                             long now) {
+        while (true) {
+            long previous = timestamp.get();
+            long pause = getPause(previous, now, networkLoadSnapshot, throttleTime, direction);
+            if (timestamp.compareAndSet(previous, now + pause)) {
+                return pause;
+            }
+        }
+    }
+
+    private long getPause(long timestamp, long now, NetworkLoadSnapshot networkLoadSnapshot, long throttleTime, String direction) {
+        long passed = now - timestamp;
+        double load = networkLoadSnapshot.getCurrentNetworkLoad().getLoad();
+        throttleTime = MIN_THROTTLE_TIME + Math.round(throttleTime * load);
+        throttleTime = MathUtils.bounded(MIN_THROTTLE_TIME, MAX_THROTTLE_TIME, throttleTime);
+        if (passed >= throttleTime) {
+            return 0;
+        }
+
+        long pause = throttleTime - passed;
+        pause = MathUtils.bounded(1, MAX_THROTTLE_TIME, pause);
+        String logMessage = String.format("Pause '%s' message for %d ms. Network=%f", direction, pause, load);
+        long passedSinceLastLog = now - lastLoggedTs.get();
+        if (passedSinceLastLog < MAX_LOG_FREQUENCY) {
+            LAST_LOGS.add(logMessage);
+            if (lastLoggedTs.get() == 0) {
+                lastLoggedTs.set(now);
+            }
+        } else {
+            if (LAST_LOGS.isEmpty()) {
+                log.info(logMessage);
+            } else {
+                LAST_LOGS.add(logMessage);
+                List<String> temp = new ArrayList<>(LAST_LOGS);
+                int size = temp.size();
+                List<String> subList = temp.subList(0, Math.min(5, size));
+                log.info("{} accumulated log messages in the past {} sec. Log message (max 5 displayed): {}",
+                        size, passedSinceLastLog / 1000, subList);
+                LAST_LOGS.clear();
+            }
+            lastLoggedTs.set(now);
+        }
+        return pause;
+    }
 }
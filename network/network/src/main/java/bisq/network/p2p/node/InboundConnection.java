@@ -24,6 +24,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.net.Socket;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 
 @Slf4j
@@ -37,6 +38,7 @@ public class InboundConnection extends Connection {
                       NetworkLoadSnapshot peersNetworkLoadSnapshot,
                       ConnectionMetrics connectionMetrics,
                       ConnectionThrottle connectionThrottle,
+                      Optional<ConnectionMultiplexer> connectionMultiplexer,
                       Handler handler,
                       BiConsumer<Connection, Exception> errorHandler) {
         super(socket,
@@ -44,6 +46,7 @@ public class InboundConnection extends Connection {
                 peersNetworkLoadSnapshot,
                 connectionMetrics,
                 connectionThrottle,
+                connectionMultiplexer,
                 handler,
                 errorHandler);
         this.serverSocketResult = serverSocketResult;
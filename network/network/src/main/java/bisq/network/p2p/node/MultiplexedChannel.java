@@ -0,0 +1,257 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.node;
+
+import bisq.network.p2p.message.NetworkEnvelope;
+import bisq.network.p2p.node.envelope.NetworkEnvelopeSocketChannel;
+import bisq.network.p2p.node.envelope.parser.nio.NetworkEnvelopeDeserializer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Non-blocking IO for the socket channel of a connection, driven by the SelectorLoop the channel is registered at.
+ * <p>
+ * Messages to send are serialized on the calling thread and added to the write queue once the throttle delay has
+ * passed. The queue is written when the channel is writable. As sending does not block, the size of the not yet
+ * written messages is limited. If a peer does not read and the limit is reached, we close the connection.
+ * Received messages are passed to the connection one by one. If the throttle requires a delay, we stop reading from
+ * the channel and continue after the delay, so that TCP flow control slows down the peer.
+ * <p>
+ * The socket timeout has no effect on a non-blocking channel. Instead, the SelectorLoop closes channels which have not
+ * received any data within the idle timeout.
+ * <p>
+ * Except send and close, all methods are called on the thread of the SelectorLoop.
+ */
+@Slf4j
+final class MultiplexedChannel {
+    private record PendingWrite(NetworkEnvelope networkEnvelope, ByteBuffer byteBuffer, long timestamp) {
+    }
+
+    private record ReceivedEnvelope(NetworkEnvelope networkEnvelope, long deserializeTime) {
+    }
+
+    static final int READ_BUFFER_SIZE = 64 * 1024;
+    // Allows to queue at least one envelope of max. size
+    static final long MAX_PENDING_WRITE_BYTES = 2L * NetworkEnvelopeDeserializer.MAX_ENVELOPE_SIZE;
+
+    private final Connection connection;
+    private final SocketChannel socketChannel;
+    private final NetworkEnvelopeSocketChannel networkEnvelopeSocketChannel;
+    private final ConnectionThrottle connectionThrottle;
+    private final SelectorLoop selectorLoop;
+    private final ScheduledExecutorService timer;
+    private final long idleTimeout;
+    private final Queue<PendingWrite> writeQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isWriteInterestRequested = new AtomicBoolean();
+    private final AtomicInteger numScheduledWrites = new AtomicInteger();
+    // Size of the messages which are scheduled or queued but not completely written yet
+    private final AtomicLong numPendingWriteBytes = new AtomicLong();
+    private final Queue<ReceivedEnvelope> receivedEnvelopes = new ArrayDeque<>();
+    private SelectionKey selectionKey;
+    private boolean isReceivePaused;
+    private long lastReadTime = System.currentTimeMillis();
+
+    /**
+     * @param idleTimeout Time in ms after which the channel gets closed if no data has been received. 0 for no timeout.
+     */
+    MultiplexedChannel(Connection connection,
+                       SocketChannel socketChannel,
+                       ConnectionThrottle connectionThrottle,
+                       SelectorLoop selectorLoop,
+                       ScheduledExecutorService timer,
+                       long idleTimeout) throws IOException {
+        this.connection = connection;
+        this.socketChannel = socketChannel;
+        this.connectionThrottle = connectionThrottle;
+        this.selectorLoop = selectorLoop;
+        this.timer = timer;
+        this.idleTimeout = idleTimeout;
+        networkEnvelopeSocketChannel = new NetworkEnvelopeSocketChannel(socketChannel, READ_BUFFER_SIZE);
+
+        socketChannel.configureBlocking(false);
+        selectorLoop.execute(() -> {
+            try {
+                selectionKey = socketChannel.register(selectorLoop.getSelector(), SelectionKey.OP_READ, this);
+            } catch (IOException e) {
+                onException(e);
+            }
+        });
+    }
+
+    void send(NetworkEnvelope networkEnvelope) throws IOException {
+        PendingWrite pendingWrite = new PendingWrite(networkEnvelope,
+                NetworkEnvelopeSocketChannel.toByteBuffer(networkEnvelope),
+                System.currentTimeMillis());
+        int numBytes = pendingWrite.byteBuffer().remaining();
+        long numPendingBytes = numPendingWriteBytes.addAndGet(numBytes);
+        // A single message is always accepted if nothing else is pending
+        if (numPendingBytes > MAX_PENDING_WRITE_BYTES && numPendingBytes > numBytes) {
+            numPendingWriteBytes.addAndGet(-numBytes);
+            throw new IOException("Peer does not read our messages. Pending write bytes would exceed limit of " +
+                    MAX_PENDING_WRITE_BYTES + " bytes.");
+        }
+        long pause = connectionThrottle.reserveSendSlot();
+        // If earlier messages are still waiting at the timer we schedule as well to keep the order.
+        if (pause == 0 && numScheduledWrites.get() == 0) {
+            enqueue(pendingWrite);
+        } else {
+            numScheduledWrites.incrementAndGet();
+            timer.schedule(() -> {
+                enqueue(pendingWrite);
+                numScheduledWrites.decrementAndGet();
+            }, pause, MILLISECONDS);
+        }
+    }
+
+    void close() {
+        selectorLoop.execute(() -> {
+            if (selectionKey != null) {
+                selectionKey.cancel();
+            }
+            receivedEnvelopes.clear();
+        });
+        writeQueue.clear();
+        numPendingWriteBytes.set(0);
+    }
+
+    void onReadable() throws IOException {
+        long ts = System.currentTimeMillis();
+        lastReadTime = ts;
+        List<NetworkEnvelope> networkEnvelopes = networkEnvelopeSocketChannel.receiveNetworkEnvelopes();
+        if (!socketChannel.isOpen()) {
+            throw new EOFException("Channel closed by peer");
+        }
+        if (networkEnvelopes.isEmpty()) {
+            return;
+        }
+
+        long deserializeTime = (System.currentTimeMillis() - ts) / networkEnvelopes.size();
+        networkEnvelopes.forEach(networkEnvelope ->
+                receivedEnvelopes.add(new ReceivedEnvelope(networkEnvelope, deserializeTime)));
+        processReceivedEnvelopes();
+    }
+
+    void onWritable() throws IOException {
+        PendingWrite pendingWrite;
+        while ((pendingWrite = writeQueue.peek()) != null) {
+            socketChannel.write(pendingWrite.byteBuffer());
+            if (pendingWrite.byteBuffer().hasRemaining()) {
+                // Socket buffer is full, we get called again once the channel is writable
+                return;
+            }
+            writeQueue.poll();
+            numPendingWriteBytes.addAndGet(-pendingWrite.byteBuffer().limit());
+            connection.onSent(pendingWrite.networkEnvelope(), System.currentTimeMillis() - pendingWrite.timestamp());
+        }
+
+        updateInterestOps(SelectionKey.OP_WRITE, false);
+        isWriteInterestRequested.set(false);
+        // A message might have been added after we have polled the last one
+        if (!writeQueue.isEmpty() && isWriteInterestRequested.compareAndSet(false, true)) {
+            updateInterestOps(SelectionKey.OP_WRITE, true);
+        }
+    }
+
+    /**
+     * Closes the channel if no data has been received within the idle timeout. While receiving is paused by the
+     * throttle we do not read, so that time does not count.
+     */
+    void checkIdleTimeout(long now) {
+        if (idleTimeout > 0 && !isReceivePaused && now - lastReadTime > idleTimeout) {
+            onException(new SocketTimeoutException("No data received within " + idleTimeout + " ms"));
+        }
+    }
+
+    long getNumPendingWriteBytes() {
+        return numPendingWriteBytes.get();
+    }
+
+    void onException(Exception exception) {
+        close();
+        connection.closeOnException(exception);
+    }
+
+    private void enqueue(PendingWrite pendingWrite) {
+        writeQueue.add(pendingWrite);
+        if (isWriteInterestRequested.compareAndSet(false, true)) {
+            selectorLoop.execute(() -> updateInterestOps(SelectionKey.OP_WRITE, true));
+        }
+    }
+
+    private void processReceivedEnvelopes() {
+        while (!receivedEnvelopes.isEmpty()) {
+            long pause = connectionThrottle.reserveReceiveSlot();
+            if (pause > 0) {
+                isReceivePaused = true;
+                updateInterestOps(SelectionKey.OP_READ, false);
+                timer.schedule(() -> selectorLoop.execute(this::resumeReceiving), pause, MILLISECONDS);
+                return;
+            }
+            deliver(receivedEnvelopes.poll());
+        }
+    }
+
+    // The time slot for the first envelope has been reserved already when we paused
+    private void resumeReceiving() {
+        isReceivePaused = false;
+        lastReadTime = System.currentTimeMillis();
+        if (!receivedEnvelopes.isEmpty()) {
+            deliver(receivedEnvelopes.poll());
+        }
+        processReceivedEnvelopes();
+        if (!isReceivePaused) {
+            updateInterestOps(SelectionKey.OP_READ, true);
+        }
+    }
+
+    private void deliver(ReceivedEnvelope receivedEnvelope) {
+        try {
+            connection.onReceived(receivedEnvelope.networkEnvelope(), receivedEnvelope.deserializeTime());
+        } catch (Exception e) {
+            onException(e);
+        }
+    }
+
+    private void updateInterestOps(int operation, boolean isEnabled) {
+        if (selectionKey == null || !selectionKey.isValid()) {
+            return;
+        }
+        try {
+            int interestOps = selectionKey.interestOps();
+            selectionKey.interestOps(isEnabled ? interestOps | operation : interestOps & ~operation);
+        } catch (CancelledKeyException ignore) {
+        }
+    }
+}
@@ -30,6 +30,7 @@ import bisq.common.network.TransportConfig;
 import bisq.common.network.TransportType;
 import bisq.network.identity.NetworkId;
 import bisq.network.p2p.message.EnvelopePayloadMessage;
+import bisq.network.p2p.message.SerializedMessage;
 import bisq.network.p2p.node.authorization.AuthorizationService;
 import bisq.network.p2p.node.authorization.AuthorizationToken;
 import bisq.network.p2p.node.handshake.ConnectionHandshake;
@@ -113,6 +114,8 @@ public class Node implements Connection.Handler {
         private final int devModeDelayInMs;
         private final int sendMessageThrottleTime;
         private final int receiveMessageThrottleTime;
+        // If present, connections with socket channels use non-blocking IO
+        private final Optional<ConnectionMultiplexer> connectionMultiplexer;
 
         public Config(TransportType transportType,
                       Set<TransportType> supportedTransportTypes,
@@ -122,7 +125,8 @@ public class Node implements Connection.Handler {
                       int userNodeSocketTimeout,
                       int devModeDelayInMs,
                       int sendMessageThrottleTime,
-                      int receiveMessageThrottleTime) {
+                      int receiveMessageThrottleTime,
+                      Optional<ConnectionMultiplexer> connectionMultiplexer) {
             this.transportType = transportType;
             this.supportedTransportTypes = supportedTransportTypes;
             this.features = features;
@@ -132,6 +136,7 @@ public class Node implements Connection.Handler {
             this.devModeDelayInMs = devModeDelayInMs;
             this.sendMessageThrottleTime = sendMessageThrottleTime;
             this.receiveMessageThrottleTime = receiveMessageThrottleTime;
+            this.connectionMultiplexer = connectionMultiplexer;
         }
     }
 
@@ -289,6 +294,7 @@ public class Node implements Connection.Handler {
                     peersNetworkLoadSnapshot,
                     result.getConnectionMetrics(),
                     connectionThrottle,
+                    config.getConnectionMultiplexer(),
                     this,
                     this::handleException);
             inboundConnectionsByAddress.put(connection.getPeerAddress(), connection);
@@ -337,18 +343,30 @@ public class Node implements Connection.Handler {
     }
 
     public Connection send(EnvelopePayloadMessage envelopePayloadMessage, Connection connection) {
+        if (connection.isStopped()) {
+            log.debug("Send message failed as connection is already stopped {}", this);
+            throw new ConnectionClosedException(connection);
+        }
+        return send(new SerializedMessage(envelopePayloadMessage), connection);
+    }
+
+    /**
+     * Sends a message which got serialized already. Used if the same message is sent to multiple peers.
+     * Only the authorization token is created per peer.
+     */
+    public Connection send(SerializedMessage serializedMessage, Connection connection) {
         if (connection.isStopped()) {
             log.debug("Send message failed as connection is already stopped {}", this);
             throw new ConnectionClosedException(connection);
         }
         try {
-            AuthorizationToken token = authorizationService.createToken(envelopePayloadMessage,
+            AuthorizationToken token = authorizationService.createToken(serializedMessage,
                     connection.getPeersNetworkLoadSnapshot().getCurrentNetworkLoad(),
                     connection.getPeerAddress().getFullAddress(),
                     connection.getSentMessageCounter().incrementAndGet(),
                     connection.getPeersCapability().getFeatures());
             maybeSimulateDelay();
-            return connection.send(envelopePayloadMessage, token);
+            return connection.send(serializedMessage, token);
         } catch (Exception exception) {
             if (connection.isRunning() && !(exception.getCause() instanceof SocketException)) {
                 handleException(connection, exception);
@@ -489,6 +507,7 @@ public class Node implements Connection.Handler {
                     peersNetworkLoadSnapshot,
                     result.getConnectionMetrics(),
                     connectionThrottle,
+                    config.getConnectionMultiplexer(),
                     this,
                     this::handleException);
             outboundConnectionsByAddress.put(address, connection);
@@ -629,6 +648,7 @@ public class Node implements Connection.Handler {
     public void handleConnectionClosed(Connection connection, CloseReason closeReason) {
         Address peerAddress = connection.getPeerAddress();
         log.debug("Got called onConnectionClosed. connection={}, peerAddress={}", connection, peerAddress);
+        authorizationService.onConnectionClosed(connection.getId());
         boolean wasRemoved = false;
         if (connection instanceof InboundConnection) {
             wasRemoved = inboundConnectionsByAddress.remove(peerAddress) != null;
@@ -24,6 +24,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.net.Socket;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 
 @Slf4j
@@ -38,6 +39,7 @@ public class OutboundConnection extends Connection {
                        NetworkLoadSnapshot peersNetworkLoadSnapshot,
                        ConnectionMetrics connectionMetrics,
                        ConnectionThrottle connectionThrottle,
+                       Optional<ConnectionMultiplexer> connectionMultiplexer,
                        Handler handler,
                        BiConsumer<Connection, Exception> errorHandler) {
         super(socket,
@@ -45,6 +47,7 @@ public class OutboundConnection extends Connection {
                 peersNetworkLoadSnapshot,
                 connectionMetrics,
                 connectionThrottle,
+                connectionMultiplexer,
                 handler,
                 errorHandler);
 
@@ -0,0 +1,146 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.node;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Thread running a Selector for the channels of the connections assigned to it.
+ * All operations on the selection keys are executed on that thread, other threads submit them as tasks.
+ * In regular intervals, the channels are checked for their idle timeout.
+ */
+@Slf4j
+final class SelectorLoop implements Runnable {
+    static final long IDLE_CHECK_INTERVAL = 1000;
+
+    private final Selector selector;
+    private final Thread thread;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean isStopped;
+    private long lastIdleCheckTime = System.currentTimeMillis();
+
+    SelectorLoop(String name) throws IOException {
+        selector = Selector.open();
+        thread = new Thread(this, name);
+        thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void shutdown() {
+        isStopped = true;
+        selector.wakeup();
+    }
+
+    void execute(Runnable task) {
+        if (Thread.currentThread() == thread) {
+            task.run();
+        } else {
+            tasks.add(task);
+            selector.wakeup();
+        }
+    }
+
+    Selector getSelector() {
+        return selector;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!isStopped) {
+                selector.select(IDLE_CHECK_INTERVAL);
+                runTasks();
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey selectionKey = iterator.next();
+                    iterator.remove();
+                    MultiplexedChannel multiplexedChannel = (MultiplexedChannel) selectionKey.attachment();
+                    try {
+                        if (selectionKey.isValid() && selectionKey.isReadable()) {
+                            multiplexedChannel.onReadable();
+                        }
+                        if (selectionKey.isValid() && selectionKey.isWritable()) {
+                            multiplexedChannel.onWritable();
+                        }
+                    } catch (CancelledKeyException ignore) {
+                        // Connection got closed in the meantime
+                    } catch (Exception e) {
+                        multiplexedChannel.onException(e);
+                    }
+                }
+                checkIdleTimeouts();
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (!isStopped) {
+                log.error("Selector loop {} failed", thread.getName(), e);
+            }
+        } finally {
+            selector.keys().forEach(selectionKey -> {
+                if (selectionKey.attachment() instanceof MultiplexedChannel multiplexedChannel) {
+                    multiplexedChannel.onException(new IOException("Selector loop has been stopped"));
+                }
+            });
+            try {
+                selector.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    private void checkIdleTimeouts() {
+        long now = System.currentTimeMillis();
+        if (now - lastIdleCheckTime < IDLE_CHECK_INTERVAL) {
+            return;
+        }
+        lastIdleCheckTime = now;
+        // The key set of the selector must not be modified while iterating, so we copy it
+        List.copyOf(selector.keys()).forEach(selectionKey -> {
+            if (selectionKey.isValid() && selectionKey.attachment() instanceof MultiplexedChannel multiplexedChannel) {
+                try {
+                    multiplexedChannel.checkIdleTimeout(now);
+                } catch (Exception e) {
+                    log.error("Checking idle timeout at selector loop {} failed", thread.getName(), e);
+                }
+            }
+        });
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("Task at selector loop {} failed", thread.getName(), e);
+            }
+        }
+    }
+}
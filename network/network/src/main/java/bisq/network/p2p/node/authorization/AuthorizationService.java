@@ -17,7 +17,9 @@
 
 package bisq.network.p2p.node.authorization;
 
+import bisq.common.util.StringUtils;
 import bisq.network.p2p.message.EnvelopePayloadMessage;
+import bisq.network.p2p.message.SerializedMessage;
 import bisq.network.p2p.node.Feature;
 import bisq.network.p2p.node.authorization.token.equi_hash.EquiHashTokenService;
 import bisq.network.p2p.node.authorization.token.hash_cash.HashCashTokenService;
@@ -90,6 +92,19 @@ public class AuthorizationService {
                 messageCounter);
     }
 
+    public AuthorizationToken createToken(SerializedMessage serializedMessage,
+                                          NetworkLoad networkLoad,
+                                          String peerAddress,
+                                          int messageCounter,
+                                          Collection<Feature> peersFeatures) {
+        AuthorizationTokenType preferredAuthorizationTokenType = selectAuthorizationTokenType(peersFeatures);
+        return supportedServices.get(preferredAuthorizationTokenType).createToken(serializedMessage.getEnvelopePayloadMessage(),
+                serializedMessage.getSerializedForHash(),
+                networkLoad,
+                peerAddress,
+                messageCounter);
+    }
+
     public boolean isAuthorized(EnvelopePayloadMessage message,
                                 AuthorizationToken authorizationToken,
                                 NetworkLoad currentNetworkLoad,
@@ -122,6 +137,30 @@ public class AuthorizationService {
                 myAddress);
     }
 
+    /**
+     * Used for the handshake messages, which are verified before the connection is created. We use a new connectionId
+     * for each verification and release it afterwards, thus no replay filter is kept.
+     */
+    public boolean isAuthorized(EnvelopePayloadMessage message,
+                                AuthorizationToken authorizationToken,
+                                NetworkLoad currentNetworkLoad,
+                                String myAddress) {
+        String connectionId = StringUtils.createUid();
+        try {
+            return isAuthorized(message,
+                    authorizationToken,
+                    currentNetworkLoad,
+                    connectionId,
+                    myAddress);
+        } finally {
+            onConnectionClosed(connectionId);
+        }
+    }
+
+    public void onConnectionClosed(String connectionId) {
+        supportedServices.values().forEach(service -> service.onConnectionClosed(connectionId));
+    }
+
     // Get first match with peers feature based on order of myPreferredFilterTypes
     private AuthorizationTokenType selectAuthorizationTokenType(Collection<Feature> peersFeatures) {
         return selectAuthorizationTokenType(myPreferredAuthorizationTokenTypes, peersFeatures);
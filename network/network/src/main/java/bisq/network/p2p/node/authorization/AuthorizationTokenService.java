@@ -4,12 +4,25 @@ import bisq.network.p2p.message.EnvelopePayloadMessage;
 import bisq.network.p2p.node.network_load.NetworkLoad;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 public abstract class AuthorizationTokenService<T extends AuthorizationToken> {
+    // Keep track of message counter per connection to avoid reuse of pow
+    private final Map<String, MessageCounterReplayFilter> replayFilterByConnectionId = new ConcurrentHashMap<>();
 
+    public T createToken(EnvelopePayloadMessage message,
+                         NetworkLoad networkLoad,
+                         String peerAddress,
+                         int messageCounter) {
+        return createToken(message, message.serializeForHash(), networkLoad, peerAddress, messageCounter);
+    }
+
+    // The serializedForHash bytes of the message can be reused if the message is sent to multiple peers
     abstract public T createToken(EnvelopePayloadMessage message,
+                                  byte[] serializedForHash,
                                   NetworkLoad networkLoad,
                                   String peerAddress,
                                   int messageCounter);
@@ -20,4 +33,13 @@ public abstract class AuthorizationTokenService<T extends AuthorizationToken> {
                                          Optional<NetworkLoad> previousNetworkLoad,
                                          String connectionId,
                                          String myAddress);
+
+    public void onConnectionClosed(String connectionId) {
+        replayFilterByConnectionId.remove(connectionId);
+    }
+
+    protected boolean isMessageCounterReused(String connectionId, int messageCounter) {
+        return !replayFilterByConnectionId.computeIfAbsent(connectionId, key -> new MessageCounterReplayFilter())
+                .tryAdd(messageCounter);
+    }
 }
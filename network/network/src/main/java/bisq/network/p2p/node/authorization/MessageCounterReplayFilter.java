@@ -0,0 +1,96 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.node.authorization;
+
+import java.util.Arrays;
+
+/**
+ * Detects reused message counters of a connection with a sliding window over the most recently received counters.
+ * <p>
+ * Messages might arrive slightly out of order if they are sent in parallel, thus we keep a bitmap of the counters
+ * inside the window. Counters below the low watermark (highest received counter minus WINDOW_SIZE) are considered
+ * as replayed. Memory usage is constant, independent of the number of received messages.
+ * <p>
+ * Messages of one connection are usually handled sequentially, so the monitor is not contended.
+ */
+public class MessageCounterReplayFilter {
+    public static final int WINDOW_SIZE = 1024;
+
+    private final long[] bitmap = new long[WINDOW_SIZE / Long.SIZE];
+    private long highestCounter;
+    private boolean isEmpty = true;
+
+    /**
+     * @return True if the counter was not received before and got added. False if the counter is a replay or too old.
+     */
+    public synchronized boolean tryAdd(int messageCounter) {
+        long counter = messageCounter;
+        if (isEmpty) {
+            isEmpty = false;
+            highestCounter = counter;
+            set(counter);
+            return true;
+        }
+
+        if (counter > highestCounter) {
+            if (counter - highestCounter >= WINDOW_SIZE) {
+                Arrays.fill(bitmap, 0);
+            } else {
+                // Clear the slots of the counters which drop out of the window
+                for (long c = highestCounter + 1; c < counter; c++) {
+                    clear(c);
+                }
+            }
+            highestCounter = counter;
+            set(counter);
+            return true;
+        }
+
+        if (counter < getLowWatermark() || isSet(counter)) {
+            return false;
+        }
+        set(counter);
+        return true;
+    }
+
+    /**
+     * @return The lowest counter which is still accepted, if not received already.
+     */
+    public synchronized long getLowWatermark() {
+        return highestCounter - WINDOW_SIZE + 1;
+    }
+
+    private boolean isSet(long counter) {
+        int index = getIndex(counter);
+        return (bitmap[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private void set(long counter) {
+        int index = getIndex(counter);
+        bitmap[index >>> 6] |= 1L << index;
+    }
+
+    private void clear(long counter) {
+        int index = getIndex(counter);
+        bitmap[index >>> 6] &= ~(1L << index);
+    }
+
+    private static int getIndex(long counter) {
+        return (int) Math.floorMod(counter, WINDOW_SIZE);
+    }
+}
@@ -18,7 +18,6 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigInteger;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 @Slf4j
@@ -32,8 +31,6 @@ public class HashCashTokenService extends AuthorizationTokenService<HashCashToke
     public final static int DIFFICULTY_TOLERANCE = 50_000;
 
     private final HashCashProofOfWorkService proofOfWorkService;
-    // Keep track of message counter per connection to avoid reuse of pow
-    private final Map<String, Set<Integer>> receivedMessageCountersByConnectionId = new ConcurrentHashMap<>();
     @Getter
     private final Metrics metrics = new Metrics();
 
@@ -43,13 +40,14 @@ public class HashCashTokenService extends AuthorizationTokenService<HashCashToke
 
     @Override
     public HashCashToken createToken(EnvelopePayloadMessage message,
+                                     byte[] serializedForHash,
                                      NetworkLoad networkLoad,
                                      String peerAddress,
                                      int messageCounter) {
         long ts = System.currentTimeMillis();
         double difficulty = calculateDifficulty(message, networkLoad);
         byte[] challenge = getChallenge(peerAddress, messageCounter);
-        byte[] payload = getPayload(message);
+        byte[] payload = getPayload(serializedForHash);
         ProofOfWork proofOfWork = proofOfWorkService.mint(payload, challenge, difficulty);
         long duration = System.currentTimeMillis() - ts;
         metrics.update(duration, networkLoad.getLoad());
@@ -81,18 +79,10 @@ public class HashCashTokenService extends AuthorizationTokenService<HashCashToke
         int messageCounter = hashCashToken.getMessageCounter();
 
         // Verify that pow is not reused
-        Set<Integer> receivedMessageCounters;
-        if (receivedMessageCountersByConnectionId.containsKey(connectionId)) {
-            receivedMessageCounters = receivedMessageCountersByConnectionId.get(connectionId);
-            if (receivedMessageCounters.contains(messageCounter)) {
-                log.warn("Invalid receivedMessageCounters. We received the proofOfWork for that message already.");
-                return false;
-            }
-        } else {
-            receivedMessageCounters = new HashSet<>();
-            receivedMessageCountersByConnectionId.put(connectionId, receivedMessageCounters);
+        if (isMessageCounterReused(connectionId, messageCounter)) {
+            log.warn("Invalid messageCounter. We received the proofOfWork for that message already or the messageCounter is outside the replay window.");
+            return false;
         }
-        receivedMessageCounters.add(messageCounter);
 
         // Verify payload
         byte[] payload = getPayload(message);
@@ -217,7 +207,11 @@ public class HashCashTokenService extends AuthorizationTokenService<HashCashToke
     }
 
     private byte[] getPayload(EnvelopePayloadMessage message) {
-        return message.serializeForHash();
+        return getPayload(message.serializeForHash());
+    }
+
+    private byte[] getPayload(byte[] serializedForHash) {
+        return serializedForHash;
     }
 
     private byte[] getChallenge(String peerAddress, int messageCounter) {
@@ -19,10 +19,11 @@ package bisq.network.p2p.node.envelope;
 
 import bisq.network.p2p.message.NetworkEnvelope;
 import bisq.network.p2p.node.envelope.parser.nio.NetworkEnvelopeDeserializer;
-import bisq.network.p2p.node.envelope.parser.nio.ProtoBufMessageLengthWriter;
+import com.google.protobuf.CodedOutputStream;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -53,17 +54,17 @@ public class NetworkEnvelopeSocketChannel implements Closeable {
     }
 
     public void send(NetworkEnvelope networkEnvelope) throws IOException {
-        bisq.network.protobuf.NetworkEnvelope proto = networkEnvelope.completeProto();
-        byte[] protoInBytes = proto.toByteArray();
-        int messageLength = protoInBytes.length;
-
-        ByteBuffer byteBuffer1 = ByteBuffer.allocate(messageLength + 10);
-        ProtoBufMessageLengthWriter.writeToBuffer(messageLength, byteBuffer1);
-
-        byteBuffer1.put(protoInBytes);
-        byteBuffer1.flip();
+        socketChannel.write(toByteBuffer(networkEnvelope));
+    }
 
-        socketChannel.write(byteBuffer1);
+    /**
+     * @return The length delimited serialized networkEnvelope, ready for being written to the channel.
+     */
+    public static ByteBuffer toByteBuffer(NetworkEnvelope networkEnvelope) throws IOException {
+        int messageLength = networkEnvelope.getSerializedSize();
+        var outputStream = new ByteArrayOutputStream(CodedOutputStream.computeUInt32SizeNoTag(messageLength) + messageLength);
+        networkEnvelope.writeDelimitedTo(outputStream);
+        return ByteBuffer.wrap(outputStream.toByteArray());
     }
 
     public List<NetworkEnvelope> receiveNetworkEnvelopes() throws IOException {
@@ -22,16 +22,28 @@ import bisq.network.protobuf.NetworkEnvelope;
 import com.google.protobuf.InvalidProtocolBufferException;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.*;
 
+/**
+ * Parses length delimited network envelopes from the byte buffer.
+ * The message length is controlled by the peer, thus we reject messages larger than MAX_ENVELOPE_SIZE before
+ * allocating the buffer for it. Oversized or unparsable messages cause an IOException, upon which the caller is
+ * expected to close the connection.
+ */
 @Slf4j
 public class NetworkEnvelopeDeserializer {
+    // Inventory responses are limited to 2 MB by default. We leave room for larger configured limits.
+    public static final int MAX_ENVELOPE_SIZE = 10 * 1024 * 1024;
+    // A varint encoded int has at most 5 bytes
+    private static final int MAX_LENGTH_BYTES = 5;
 
     private final ByteBuffer byteBuffer;
     private final ProtoBufMessageLengthParser messageLengthParser;
     private boolean parsingMessage = false;
     private long currentMessageLength = 0;
+    private int numParsedLengthBytes = 0;
     private int parsedMessageLength = 0;
     private byte[] currentProtobufMessage;
 
@@ -43,7 +55,7 @@ public class NetworkEnvelopeDeserializer {
         this.messageLengthParser = new ProtoBufMessageLengthParser(protoBufInputStream);
     }
 
-    public void readFromByteBuffer() {
+    public void readFromByteBuffer() throws IOException {
         while (byteBuffer.hasRemaining()) {
             if (!parsingMessage) {
                 parseMessageLength();
@@ -63,12 +75,20 @@ public class NetworkEnvelopeDeserializer {
         }
     }
 
-    private void parseMessageLength() {
+    private void parseMessageLength() throws IOException {
         long messageLength = messageLengthParser.parseMessageLength();
+        numParsedLengthBytes++;
         if (isMessageLengthParsed(messageLength)) {
+            numParsedLengthBytes = 0;
+            if (messageLength < 0 || messageLength > MAX_ENVELOPE_SIZE) {
+                throw new IOException("Message length " + messageLength + " exceeds the max. envelope size of " +
+                        MAX_ENVELOPE_SIZE + " bytes");
+            }
             currentMessageLength = messageLength;
             parsedMessageLength = 0;
             parsingMessage = true;
+        } else if (numParsedLengthBytes >= MAX_LENGTH_BYTES) {
+            throw new IOException("Message length has more than " + MAX_LENGTH_BYTES + " bytes");
         }
     }
 
@@ -91,7 +111,7 @@ public class NetworkEnvelopeDeserializer {
         return parsedMessageLength == currentMessageLength;
     }
 
-    private void tryToParseProtoBufMessage() {
+    private void tryToParseProtoBufMessage() throws IOException {
         try {
             NetworkEnvelope message = NetworkEnvelope.parseFrom(currentProtobufMessage);
             bisq.network.p2p.message.NetworkEnvelope
@@ -100,13 +120,14 @@ public class NetworkEnvelopeDeserializer {
             parsedNetworkEnvelopes.add(networkEnvelope);
 
         } catch (InvalidProtocolBufferException e) {
-            log.error("Couldn't parse protocol buffer message.", e);
+            log.warn("Couldn't parse protocol buffer message.", e);
+            throw e;
         } finally {
             resetState();
         }
     }
 
-    private void parseNewIncomingMessage() {
+    private void parseNewIncomingMessage() throws IOException {
         currentProtobufMessage = new byte[(int) currentMessageLength];
         parsedMessageLength = 0;
 
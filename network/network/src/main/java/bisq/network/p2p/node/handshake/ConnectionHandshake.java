@@ -21,6 +21,7 @@ import bisq.common.encoding.Hex;
 import bisq.common.network.Address;
 import bisq.common.network.DefaultPeerSocket;
 import bisq.common.network.PeerSocket;
+import bisq.common.threading.ExecutorFactory;
 import bisq.common.util.StringUtils;
 import bisq.network.p2p.message.EnvelopePayloadMessage;
 import bisq.network.p2p.message.NetworkEnvelope;
@@ -42,8 +43,12 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import static bisq.network.p2p.node.ConnectionException.Reason.*;
 import static com.google.common.base.Preconditions.checkArgument;
@@ -52,16 +57,24 @@ import static com.google.common.base.Preconditions.checkArgument;
  * At initial connection we exchange capabilities and require a valid AuthorizationToken (e.g. PoW).
  * The Client sends a Request and awaits for the servers Response.
  * The server awaits the Request and sends the Response.
+ * <p>
+ * The socket timeout only limits the time a single read blocks. A peer sending its data in small chunks could keep
+ * the handshake open for much longer, so we close the socket if the whole handshake takes longer than the socket timeout.
  */
 @Slf4j
 public final class ConnectionHandshake {
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER =
+            ExecutorFactory.newSingleThreadScheduledExecutor("ConnectionHandshake.timeout");
+
     @Getter
     private final String id = StringUtils.createUid();
     private final BanList banList;
     private final Capability capability;
     private final AuthorizationService authorizationService;
     private final KeyBundle myKeyBundle;
+    private final int socketTimeout;
     private NetworkEnvelopeSocket networkEnvelopeSocket;
+    private volatile boolean isTimedOut;
 
     @Getter
     @ToString
@@ -197,6 +210,7 @@ public final class ConnectionHandshake {
         this.capability = capability;
         this.authorizationService = authorizationService;
         this.myKeyBundle = myKeyBundle;
+        this.socketTimeout = socketTimeout;
 
         try {
             // socket.setTcpNoDelay(true);
@@ -212,6 +226,7 @@ public final class ConnectionHandshake {
 
     // Client side protocol
     public Result start(NetworkLoad myNetworkLoad, Address peerAddress) {
+        Optional<ScheduledFuture<?>> timeoutFuture = scheduleTimeout();
         try {
             ConnectionMetrics connectionMetrics = new ConnectionMetrics();
 
@@ -260,7 +275,6 @@ public final class ConnectionHandshake {
             boolean isAuthorized = authorizationService.isAuthorized(response,
                     responseNetworkEnvelope.getAuthorizationToken(),
                     myNetworkLoad,
-                    StringUtils.createUid(),
                     myAddress.getFullAddress());
 
             if (!isAuthorized) {
@@ -279,16 +293,21 @@ public final class ConnectionHandshake {
                 networkEnvelopeSocket.close();
             } catch (IOException ignore) {
             }
-            if (e instanceof ConnectionException) {
+            if (isTimedOut) {
+                throw new ConnectionException(new SocketTimeoutException("Handshake did not complete within " + socketTimeout + " ms"));
+            } else if (e instanceof ConnectionException) {
                 throw (ConnectionException) e;
             } else {
                 throw new ConnectionException(e);
             }
+        } finally {
+            timeoutFuture.ifPresent(future -> future.cancel(false));
         }
     }
 
     // Server side protocol
     public Result onSocket(NetworkLoad myNetworkLoad) {
+        Optional<ScheduledFuture<?>> timeoutFuture = scheduleTimeout();
         try {
             ConnectionMetrics connectionMetrics = new ConnectionMetrics();
             bisq.network.protobuf.NetworkEnvelope requestProto = networkEnvelopeSocket.receiveNextEnvelope();
@@ -318,7 +337,6 @@ public final class ConnectionHandshake {
             boolean isAuthorized = authorizationService.isAuthorized(request,
                     requestNetworkEnvelope.getAuthorizationToken(),
                     NetworkLoad.INITIAL_NETWORK_LOAD,
-                    StringUtils.createUid(),
                     myAddress.getFullAddress());
             if (!isAuthorized) {
                 throw new ConnectionException(AUTHORIZATION_FAILED, "Authorization of inbound connection request failed. AuthorizationToken=" + requestNetworkEnvelope.getAuthorizationToken());
@@ -351,15 +369,32 @@ public final class ConnectionHandshake {
                 networkEnvelopeSocket.close();
             } catch (IOException ignore) {
             }
-            if (e instanceof ConnectionException) {
+            if (isTimedOut) {
+                throw new ConnectionException(new SocketTimeoutException("Handshake did not complete within " + socketTimeout + " ms"));
+            } else if (e instanceof ConnectionException) {
                 throw (ConnectionException) e;
             } else {
                 throw new ConnectionException(e);
             }
+        } finally {
+            timeoutFuture.ifPresent(future -> future.cancel(false));
         }
     }
 
     public void shutdown() {
         // todo (Critical) close pending requests but do not close sockets
     }
+
+    private Optional<ScheduledFuture<?>> scheduleTimeout() {
+        if (socketTimeout <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(TIMEOUT_SCHEDULER.schedule(() -> {
+            isTimedOut = true;
+            try {
+                networkEnvelopeSocket.close();
+            } catch (IOException ignore) {
+            }
+        }, socketTimeout, TimeUnit.MILLISECONDS));
+    }
 }
\ No newline at end of file
@@ -20,7 +20,6 @@ package bisq.network.p2p.node.handshake;
 import bisq.common.network.Address;
 import bisq.common.network.AddressOwnershipProof;
 import bisq.common.network.AddressOwnershipProofGenerator;
-import bisq.common.util.StringUtils;
 import bisq.network.p2p.message.NetworkEnvelope;
 import bisq.network.p2p.node.Capability;
 import bisq.network.p2p.node.ConnectionException;
@@ -104,7 +103,6 @@ public class ConnectionHandshakeInitiator {
         boolean isAuthorized = authorizationService.isAuthorized(response,
                 responseNetworkEnvelope.getAuthorizationToken(),
                 myNetworkLoad,
-                StringUtils.createUid(),
                 myCapability.getAddress().getFullAddress());
 
         if (!isAuthorized) {
@@ -19,7 +19,6 @@ package bisq.network.p2p.node.handshake;
 
 import bisq.common.data.Pair;
 import bisq.common.encoding.Hex;
-import bisq.common.util.StringUtils;
 import bisq.common.network.Address;
 import bisq.network.p2p.message.NetworkEnvelope;
 import bisq.network.p2p.node.Capability;
@@ -103,7 +102,6 @@ public class ConnectionHandshakeResponder {
                 request,
                 requestNetworkEnvelope.getAuthorizationToken(),
                 NetworkLoad.INITIAL_NETWORK_LOAD,
-                StringUtils.createUid(),
                 myAddress
         );
 
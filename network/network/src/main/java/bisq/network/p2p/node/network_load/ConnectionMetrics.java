@@ -21,33 +21,57 @@ import bisq.common.util.ClassUtils;
 import bisq.network.p2p.message.EnvelopePayloadMessage;
 import bisq.network.p2p.message.NetworkEnvelope;
 import bisq.network.p2p.services.data.storage.auth.AddAuthenticatedDataRequest;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Metrics of a connection. Called concurrently from the sending and receiving threads, thus all counters are lock-free
+ * and thread-safe. The per-minute values are kept for the last hour only, so the memory usage is bounded also for
+ * long-lived connections.
+ */
 @Slf4j
 @Getter
 @ToString
 public class ConnectionMetrics {
+    // Class names are resolved once per class
+    private static final ClassValue<String> CLASS_NAME = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return ClassUtils.getClassName(type);
+        }
+    };
+
     private final long created;
     private final AtomicLong lastUpdate = new AtomicLong();
-    private final TreeMap<Integer, AtomicLong> numMessagesSentPerMinute = new TreeMap<>();
-    private final TreeMap<Integer, AtomicLong> sentBytesPerMinute = new TreeMap<>();
-    private final TreeMap<Integer, AtomicLong> spentSendMessageTimePerMinute = new TreeMap<>();
-    private final TreeMap<Integer, AtomicLong> deserializeTimePerMinute = new TreeMap<>();
-    private final TreeMap<Integer, AtomicLong> numMessagesReceivedPerMinute = new TreeMap<>();
-    private final TreeMap<Integer, AtomicLong> receivedBytesPerMinute = new TreeMap<>();
-    private final Map<String, AtomicLong> numSentMessagesByClassName = new HashMap<>();
-    private final Map<String, AtomicLong> numReceivedMessagesByClassName = new HashMap<>();
-    private final Map<String, AtomicLong> numSentDistributedDataByClassName = new HashMap<>();
-    private final Map<String, AtomicLong> numReceivedDistributedDataByClassName = new HashMap<>();
-
-    private final AtomicLong numMessagesReceived = new AtomicLong();
-    private final List<Long> rrtList = new CopyOnWriteArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final MinuteBucketCounter numMessagesSentPerMinute = new MinuteBucketCounter();
+    @Getter(AccessLevel.NONE)
+    private final MinuteBucketCounter sentBytesPerMinute = new MinuteBucketCounter();
+    @Getter(AccessLevel.NONE)
+    private final MinuteBucketCounter spentSendMessageTimePerMinute = new MinuteBucketCounter();
+    @Getter(AccessLevel.NONE)
+    private final MinuteBucketCounter deserializeTimePerMinute = new MinuteBucketCounter();
+    @Getter(AccessLevel.NONE)
+    private final MinuteBucketCounter numMessagesReceivedPerMinute = new MinuteBucketCounter();
+    @Getter(AccessLevel.NONE)
+    private final MinuteBucketCounter receivedBytesPerMinute = new MinuteBucketCounter();
+    private final Map<String, LongAdder> numSentMessagesByClassName = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> numReceivedMessagesByClassName = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> numSentDistributedDataByClassName = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> numReceivedDistributedDataByClassName = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder rttSum = new LongAdder();
+    @Getter(AccessLevel.NONE)
+    private final LongAdder numRtt = new LongAdder();
 
     public ConnectionMetrics() {
         created = System.currentTimeMillis();
@@ -65,25 +89,17 @@ public class ConnectionMetrics {
         long now = System.currentTimeMillis();
         lastUpdate.set(now);
 
-        int ageInMinutes = getAgeInMinutes(now);
-        sentBytesPerMinute.computeIfAbsent(ageInMinutes, key -> new AtomicLong())
-                .addAndGet(networkEnvelope.getSerializedSize());
-
-        numMessagesSentPerMinute.computeIfAbsent(ageInMinutes, key -> new AtomicLong())
-                .incrementAndGet();
-
-        spentSendMessageTimePerMinute.computeIfAbsent(ageInMinutes, key -> new AtomicLong())
-                .addAndGet(spentTime);
+        long ageInMinutes = getAgeInMinutes(now);
+        sentBytesPerMinute.add(ageInMinutes, networkEnvelope.getSerializedSize());
+        numMessagesSentPerMinute.add(ageInMinutes, 1);
+        spentSendMessageTimePerMinute.add(ageInMinutes, spentTime);
 
         EnvelopePayloadMessage envelopePayloadMessage = networkEnvelope.getEnvelopePayloadMessage();
-        String name = ClassUtils.getClassName(envelopePayloadMessage.getClass());
-        numSentMessagesByClassName.computeIfAbsent(name, key -> new AtomicLong())
-                .incrementAndGet();
+        increment(numSentMessagesByClassName, CLASS_NAME.get(envelopePayloadMessage.getClass()));
 
         if (envelopePayloadMessage instanceof AddAuthenticatedDataRequest addAuthenticatedDataRequest) {
             String distributedDataName = addAuthenticatedDataRequest.getDistributedData().getClassName();
-            numSentDistributedDataByClassName.computeIfAbsent(distributedDataName, key -> new AtomicLong())
-                    .incrementAndGet();
+            increment(numSentDistributedDataByClassName, distributedDataName);
         }
     }
 
@@ -91,58 +107,52 @@ public class ConnectionMetrics {
         long now = System.currentTimeMillis();
         lastUpdate.set(now);
 
-        int ageInMinutes = getAgeInMinutes(now);
-        receivedBytesPerMinute.computeIfAbsent(ageInMinutes, key -> new AtomicLong())
-                .addAndGet(networkEnvelope.getSerializedSize());
-
-        numMessagesReceivedPerMinute.computeIfAbsent(ageInMinutes, key -> new AtomicLong())
-                .incrementAndGet();
-
-        deserializeTimePerMinute.computeIfAbsent(ageInMinutes, key -> new AtomicLong())
-                .addAndGet(deserializeTime);
+        long ageInMinutes = getAgeInMinutes(now);
+        receivedBytesPerMinute.add(ageInMinutes, networkEnvelope.getSerializedSize());
+        numMessagesReceivedPerMinute.add(ageInMinutes, 1);
+        deserializeTimePerMinute.add(ageInMinutes, deserializeTime);
 
         EnvelopePayloadMessage envelopePayloadMessage = networkEnvelope.getEnvelopePayloadMessage();
-        String name = ClassUtils.getClassName(envelopePayloadMessage.getClass());
-        numReceivedMessagesByClassName.computeIfAbsent(name, key -> new AtomicLong())
-                .incrementAndGet();
+        increment(numReceivedMessagesByClassName, CLASS_NAME.get(envelopePayloadMessage.getClass()));
 
         if (envelopePayloadMessage instanceof AddAuthenticatedDataRequest addAuthenticatedDataRequest) {
             String distributedDataName = addAuthenticatedDataRequest.getDistributedData().getClassName();
-            numReceivedDistributedDataByClassName.computeIfAbsent(distributedDataName, key -> new AtomicLong())
-                    .incrementAndGet();
+            increment(numReceivedDistributedDataByClassName, distributedDataName);
         }
     }
 
     public void addRtt(long value) {
-        this.rrtList.add(value);
+        rttSum.add(value);
+        numRtt.increment();
     }
 
     public double getAverageRtt() {
-        return rrtList.stream().mapToLong(e -> e).average().orElse(0d);
+        long count = numRtt.sum();
+        return count == 0 ? 0d : rttSum.sum() / (double) count;
     }
 
     public long getSentBytes() {
-        return sumOf(sentBytesPerMinute);
+        return sentBytesPerMinute.getTotal();
     }
 
     public long getNumMessagesSent() {
-        return sumOf(numMessagesSentPerMinute);
+        return numMessagesSentPerMinute.getTotal();
     }
 
     public long getSpentSendMessageTimePerMinute() {
-        return sumOf(spentSendMessageTimePerMinute);
+        return spentSendMessageTimePerMinute.getTotal();
     }
 
     public long getReceivedBytes() {
-        return sumOf(receivedBytesPerMinute);
+        return receivedBytesPerMinute.getTotal();
     }
 
     public long getNumMessagesReceived() {
-        return sumOf(numMessagesReceivedPerMinute);
+        return numMessagesReceivedPerMinute.getTotal();
     }
 
     public long getDeserializeTimePerMinute() {
-        return sumOf(deserializeTimePerMinute);
+        return deserializeTimePerMinute.getTotal();
     }
 
     public long getNumMessagesSentOfLastHour() {
@@ -170,27 +180,27 @@ public class ConnectionMetrics {
     }
 
     public long getNumMessagesSentOfLastMinutes(int lastMinutes) {
-        return sumOfLastMinute(numMessagesSentPerMinute, lastMinutes);
+        return sumOfLastMinutes(numMessagesSentPerMinute, lastMinutes);
     }
 
     public long getSentBytesOfLastMinutes(int lastMinutes) {
-        return sumOfLastMinute(sentBytesPerMinute, lastMinutes);
+        return sumOfLastMinutes(sentBytesPerMinute, lastMinutes);
     }
 
     public long getSpentSendMessageTimeOfLastMinutes(int lastMinutes) {
-        return sumOfLastMinute(spentSendMessageTimePerMinute, lastMinutes);
+        return sumOfLastMinutes(spentSendMessageTimePerMinute, lastMinutes);
     }
 
     public long getNumMessagesReceivedOfLastMinutes(int lastMinutes) {
-        return sumOfLastMinute(numMessagesReceivedPerMinute, lastMinutes);
+        return sumOfLastMinutes(numMessagesReceivedPerMinute, lastMinutes);
     }
 
     public long getReceivedBytesOfLastMinutes(int lastMinutes) {
-        return sumOfLastMinute(receivedBytesPerMinute, lastMinutes);
+        return sumOfLastMinutes(receivedBytesPerMinute, lastMinutes);
     }
 
     public long getDeserializeTimeOfLastMinutes(int lastMinutes) {
-        return sumOfLastMinute(deserializeTimePerMinute, lastMinutes);
+        return sumOfLastMinutes(deserializeTimePerMinute, lastMinutes);
     }
 
     public void clear() {
@@ -204,21 +214,19 @@ public class ConnectionMetrics {
         numReceivedMessagesByClassName.clear();
         numSentDistributedDataByClassName.clear();
         numReceivedDistributedDataByClassName.clear();
-        rrtList.clear();
+        rttSum.reset();
+        numRtt.reset();
     }
 
-    private long sumOf(TreeMap<Integer, AtomicLong> treeMap) {
-        return treeMap.values().stream().mapToLong(AtomicLong::get).sum();
+    private long sumOfLastMinutes(MinuteBucketCounter counter, int lastMinutes) {
+        return counter.sumOfLastMinutes(getAgeInMinutes(System.currentTimeMillis()), lastMinutes);
     }
 
-    private long sumOfLastMinute(TreeMap<Integer, AtomicLong> treeMap, int lastMinutes) {
-        // The Treemap returns the values in ascending order of the corresponding keys.
-        int from = Math.max(0, treeMap.size() - lastMinutes);
-        List<AtomicLong> list = new ArrayList<>(treeMap.values()).subList(from, treeMap.size());
-        return list.stream().mapToLong(AtomicLong::get).sum();
+    private static void increment(Map<String, LongAdder> map, String name) {
+        map.computeIfAbsent(name, key -> new LongAdder()).increment();
     }
 
-    private int getAgeInMinutes(long now) {
-        return (int) (now - created) / 60000;
+    private long getAgeInMinutes(long now) {
+        return (now - created) / 60000;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.node.network_load;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counter which keeps the values of the last NUM_BUCKETS minutes in a fixed size ring buffer of
+ * LongAdder buckets, plus the total since creation.
+ * A bucket gets reset when it is reused for a new minute. Values added concurrently at that moment from a thread
+ * which still sees the old minute can get lost, which is acceptable for metrics.
+ */
+class MinuteBucketCounter {
+    static final int NUM_BUCKETS = 60;
+
+    private final LongAdder[] buckets = new LongAdder[NUM_BUCKETS];
+    // The minute each bucket is used for. -1 for unused buckets.
+    private final AtomicLongArray minuteOfBucket = new AtomicLongArray(NUM_BUCKETS);
+    private final LongAdder total = new LongAdder();
+
+    MinuteBucketCounter() {
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+            minuteOfBucket.set(i, -1);
+        }
+    }
+
+    void add(long minute, long value) {
+        int index = (int) (minute % NUM_BUCKETS);
+        long bucketMinute = minuteOfBucket.get(index);
+        if (bucketMinute != minute && bucketMinute < minute &&
+                minuteOfBucket.compareAndSet(index, bucketMinute, minute)) {
+            buckets[index].reset();
+        }
+        buckets[index].add(value);
+        total.add(value);
+    }
+
+    /**
+     * @return The sum of the values of the given number of minutes up to and including the given minute.
+     */
+    long sumOfLastMinutes(long minute, int lastMinutes) {
+        long fromMinute = minute - Math.min(lastMinutes, NUM_BUCKETS);
+        long sum = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            long bucketMinute = minuteOfBucket.get(i);
+            if (bucketMinute > fromMinute && bucketMinute <= minute) {
+                sum += buckets[i].sum();
+            }
+        }
+        return sum;
+    }
+
+    long getTotal() {
+        return total.sum();
+    }
+
+    void clear() {
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            minuteOfBucket.set(i, -1);
+            buckets[i].reset();
+        }
+        total.reset();
+    }
+}
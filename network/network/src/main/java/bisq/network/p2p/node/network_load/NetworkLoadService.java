@@ -18,6 +18,7 @@
 package bisq.network.p2p.node.network_load;
 
 import bisq.common.data.ByteUnit;
+import bisq.common.metrics.MetricsRegistry;
 import bisq.common.timer.Scheduler;
 import bisq.common.util.MathUtils;
 import bisq.network.p2p.ServiceNode;
@@ -51,6 +52,7 @@ public class NetworkLoadService {
     private double difficultyAdjustmentFactor = NetworkLoad.DEFAULT_DIFFICULTY_ADJUSTMENT;
     private final Scheduler scheduler;
     private final Object lock = new Object();
+    private final String transport;
 
     @Getter
     private long sentBytesOfLastHour, spentSendMessageTimeOfLastHour, numMessagesSentOfLastHour,
@@ -72,10 +74,21 @@ public class NetworkLoadService {
                 .host(this)
                 .runnableName("updateNetworkLoad")
                 .periodically(INITIAL_DELAY, INTERVAL, TimeUnit.SECONDS);
+
+        transport = serviceNode.getTransportType().name();
+        MetricsRegistry.DEFAULT.gauge("bisq_network_load", "Current network load used for the PoW difficulty",
+                () -> networkLoadSnapshot.getCurrentNetworkLoad().getLoad(), "transport", transport);
+        MetricsRegistry.DEFAULT.gauge("bisq_network_sent_bytes_last_hour", "Bytes sent in the last hour",
+                () -> sentBytesOfLastHour, "transport", transport);
+        MetricsRegistry.DEFAULT.gauge("bisq_network_received_bytes_last_hour", "Bytes received in the last hour",
+                () -> receivedBytesOfLastHour, "transport", transport);
     }
 
     public void shutdown() {
         scheduler.stop();
+        MetricsRegistry.DEFAULT.removeGauge("bisq_network_load", "transport", transport);
+        MetricsRegistry.DEFAULT.removeGauge("bisq_network_sent_bytes_last_hour", "transport", transport);
+        MetricsRegistry.DEFAULT.removeGauge("bisq_network_received_bytes_last_hour", "transport", transport);
     }
 
     public NetworkLoad updateNetworkLoad() {
@@ -127,7 +140,7 @@ public class NetworkLoadService {
                 .map(ConnectionMetrics::getNumSentMessagesByClassName)
                 .forEach(map -> map.forEach((name, value) ->
                         numSentMessagesByClassName.computeIfAbsent(name, key -> new AtomicLong())
-                                .addAndGet(value.get())));
+                                .addAndGet(value.sum())));
         StringBuilder numSentMessagesByClassNameBuilder = new StringBuilder();
         numSentMessagesByClassName.forEach((key, value) -> {
             numSentMessagesByClassNameBuilder.append("\n    - ");
@@ -141,7 +154,7 @@ public class NetworkLoadService {
                 .map(ConnectionMetrics::getNumReceivedMessagesByClassName)
                 .forEach(map -> map.forEach((name, value) ->
                         numReceivedMessagesByClassName.computeIfAbsent(name, key -> new AtomicLong())
-                                .addAndGet(value.get())));
+                                .addAndGet(value.sum())));
         StringBuilder numReceivedMessagesByClassNameBuilder = new StringBuilder();
         numReceivedMessagesByClassName.forEach((key, value) -> {
             numReceivedMessagesByClassNameBuilder.append("\n    - ");
@@ -155,7 +168,7 @@ public class NetworkLoadService {
                 .map(ConnectionMetrics::getNumSentDistributedDataByClassName)
                 .forEach(map -> map.forEach((name, value) ->
                         numSentDistributedDataByClassName.computeIfAbsent(name, key -> new AtomicLong())
-                                .addAndGet(value.get())));
+                                .addAndGet(value.sum())));
         StringBuilder numSentDistributedDataByClassNameBuilder = new StringBuilder();
         numSentDistributedDataByClassName.forEach((key, value) -> {
             numSentDistributedDataByClassNameBuilder.append("\n    - ");
@@ -169,7 +182,7 @@ public class NetworkLoadService {
                 .map(ConnectionMetrics::getNumReceivedDistributedDataByClassName)
                 .forEach(map -> map.forEach((name, value) ->
                         numReceivedDistributedDataByClassName.computeIfAbsent(name, key -> new AtomicLong())
-                                .addAndGet(value.get())));
+                                .addAndGet(value.sum())));
         StringBuilder numReceivedDistributedDataByClassNameBuilder = new StringBuilder();
         numReceivedDistributedDataByClassName.forEach((key, value) -> {
             numReceivedDistributedDataByClassNameBuilder.append("\n    - ");
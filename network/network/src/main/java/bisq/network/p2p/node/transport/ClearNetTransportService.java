@@ -15,6 +15,8 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -73,15 +75,17 @@ public class ClearNetTransportService implements TransportService {
 
     private final int devModeDelayInMs;
     private final int connectTimeoutMs;
+    private final boolean useSocketChannels;
     private int numSocketsCreated = 0;
     @Getter
     private final BootstrapInfo bootstrapInfo = new BootstrapInfo();
     private boolean initializeCalled;
     private Scheduler startBootstrapProgressUpdater;
 
-    public ClearNetTransportService(TransportConfig config) {
+    public ClearNetTransportService(TransportConfig config, boolean useSocketChannels) {
         devModeDelayInMs = config.getDevModeDelayInMs();
         connectTimeoutMs = ((Config) config).getConnectTimeoutMs();
+        this.useSocketChannels = useSocketChannels;
     }
 
     @Override
@@ -123,7 +127,9 @@ public class ClearNetTransportService implements TransportService {
 
         maybeSimulateDelay();
         try {
-            ServerSocket serverSocket = new ServerSocket(port);
+            ServerSocket serverSocket = useSocketChannels ?
+                    ServerSocketChannel.open().bind(new InetSocketAddress(port)).socket() :
+                    new ServerSocket(port);
             Address myAddress = getLocalhostFacade().toMyLocalhost(port);
             log.debug("ServerSocket created at port {}", port);
 
@@ -144,7 +150,7 @@ public class ClearNetTransportService implements TransportService {
 
         log.debug("Create new Socket to {}", address);
         maybeSimulateDelay();
-        Socket socket = new Socket();
+        Socket socket = useSocketChannels ? SocketChannel.open().socket() : new Socket();
         socket.connect(new InetSocketAddress(address.getHost(), address.getPort()), connectTimeoutMs);
 
         numSocketsCreated++;
@@ -35,8 +35,12 @@ public class TorTransportService implements TransportService {
     private final BootstrapInfo bootstrapInfo = new BootstrapInfo();
     private Scheduler startBootstrapProgressUpdater;
     private int numSocketsCreated = 0;
+    private final boolean useSocketChannels;
 
-    public TorTransportService(TransportConfig config) {
+    public TorTransportService(TransportConfig config, boolean useSocketChannels) {
+        // Only the local server socket for the onion service can use a socket channel.
+        // Outbound sockets are created by the SOCKS proxy.
+        this.useSocketChannels = useSocketChannels;
         if (torService == null) {
             torService = new TorService((TorTransportConfig) config);
             bootstrapInfo.getBootstrapState().set(BootstrapState.BOOTSTRAP_TO_NETWORK);
@@ -93,7 +97,7 @@ public class TorTransportService implements TransportService {
             bootstrapInfo.getBootstrapDetails().set("Create Onion service for node ID '" + networkId + "'");
 
             TorKeyPair torKeyPair = keyBundle.getTorKeyPair();
-            ServerSocket serverSocket = torService.createOnionService(port, torKeyPair)
+            ServerSocket serverSocket = torService.createOnionService(port, torKeyPair, useSocketChannels)
                     .get(2, TimeUnit.MINUTES);
 
             bootstrapInfo.getBootstrapState().set(BootstrapState.SERVICE_PUBLISHED);
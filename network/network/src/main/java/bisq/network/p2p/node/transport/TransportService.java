@@ -31,11 +31,15 @@ import java.util.concurrent.CompletableFuture;
 
 public interface TransportService {
 
-    static TransportService create(TransportType transportType, TransportConfig config) {
+    /**
+     * @param useSocketChannels If true, sockets are created from socket channels where supported, so that they can be
+     *                          handled by the ConnectionMultiplexer after the handshake.
+     */
+    static TransportService create(TransportType transportType, TransportConfig config, boolean useSocketChannels) {
         return switch (transportType) {
-            case TOR -> new TorTransportService(config);
+            case TOR -> new TorTransportService(config, useSocketChannels);
             case I2P -> new I2PTransportService(config);
-            case CLEAR -> new ClearNetTransportService(config);
+            case CLEAR -> new ClearNetTransportService(config, useSocketChannels);
         };
     }
 
@@ -17,6 +17,7 @@
 
 package bisq.network.p2p.services.confidential;
 
+import bisq.common.data.ByteArray;
 import bisq.common.threading.ExecutorFactory;
 import bisq.common.threading.ThreadName;
 import bisq.common.util.CompletableFutureUtils;
@@ -37,22 +38,24 @@ import bisq.network.p2p.services.data.storage.MetaData;
 import bisq.network.p2p.services.data.storage.mailbox.MailboxData;
 import bisq.network.p2p.services.data.storage.mailbox.MailboxMessage;
 import bisq.security.ConfidentialData;
+import bisq.security.DigestUtil;
 import bisq.security.HybridEncryption;
 import bisq.security.keys.KeyBundleService;
 import bisq.security.keys.KeyGeneration;
 import bisq.security.keys.PubKey;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.GeneralSecurityException;
 import java.security.KeyPair;
 import java.security.PublicKey;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -70,23 +73,28 @@ public class ConfidentialMessageService implements Node.Listener, DataService.Li
         }
     }
 
+    // Bounded pool for the decryption and signature verification, which are CPU bound
+    private static final ExecutorService DECRYPTION_POOL = ExecutorFactory.newFixedThreadPool("ConfidentialMessage.decryption");
+
     private final NodesById nodesById;
     private final KeyBundleService keyBundleService;
     private final Optional<DataService> dataService;
     private final Optional<MessageDeliveryStatusService> messageDeliveryStatusService;
+    private final Optional<SeenMailboxMessagesService> seenMailboxMessagesService;
     private final Set<Listener> listeners = new CopyOnWriteArraySet<>();
-    @Getter
-    private final Set<EnvelopePayloadMessage> processedEnvelopePayloadMessages = new HashSet<>();
+    private final ProcessedMessageCache processedMessageCache = new ProcessedMessageCache();
     private volatile boolean isShutdownInProgress;
 
     public ConfidentialMessageService(NodesById nodesById,
                                       KeyBundleService keyBundleService,
                                       Optional<DataService> dataService,
-                                      Optional<MessageDeliveryStatusService> messageDeliveryStatusService) {
+                                      Optional<MessageDeliveryStatusService> messageDeliveryStatusService,
+                                      Optional<SeenMailboxMessagesService> seenMailboxMessagesService) {
         this.nodesById = nodesById;
         this.keyBundleService = keyBundleService;
         this.dataService = dataService;
         this.messageDeliveryStatusService = messageDeliveryStatusService;
+        this.seenMailboxMessagesService = seenMailboxMessagesService;
 
         nodesById.addNodeListener(this);
         dataService.ifPresent(service -> service.addListener(this));
@@ -107,7 +115,7 @@ public class ConfidentialMessageService implements Node.Listener, DataService.Li
     @Override
     public void onMessage(EnvelopePayloadMessage envelopePayloadMessage, Connection connection, NetworkId networkId) {
         if (envelopePayloadMessage instanceof ConfidentialMessage) {
-            processConfidentialMessage((ConfidentialMessage) envelopePayloadMessage);
+            processConfidentialMessage((ConfidentialMessage) envelopePayloadMessage, false);
         }
     }
 
@@ -127,7 +135,7 @@ public class ConfidentialMessageService implements Node.Listener, DataService.Li
     @Override
     public void onMailboxDataAdded(MailboxData mailboxData) {
         ConfidentialMessage confidentialMessage = mailboxData.getConfidentialMessage();
-        processConfidentialMessage(confidentialMessage)
+        processConfidentialMessage(confidentialMessage, true)
                 .whenComplete((result, throwable) -> {
                     if (throwable == null) {
                         if (result) {
@@ -145,6 +153,22 @@ public class ConfidentialMessageService implements Node.Listener, DataService.Li
                 });
     }
 
+    /**
+     * Called with the mailbox data received with an inventory response. Most of it is not addressed to us, so we
+     * filter by the receiver key ID before doing any crypto work. The remaining messages get decrypted in parallel
+     * on the DECRYPTION_POOL.
+     */
+    @Override
+    public void onMailboxDataAdded(Collection<MailboxData> mailboxDataList) {
+        List<MailboxData> myMailboxDataList = mailboxDataList.stream()
+                .filter(mailboxData -> isMyKeyId(mailboxData.getConfidentialMessage().getReceiverKeyId()))
+                .toList();
+        if (!myMailboxDataList.isEmpty()) {
+            log.info("{} of {} received mailbox messages are addressed to us", myMailboxDataList.size(), mailboxDataList.size());
+        }
+        myMailboxDataList.forEach(this::onMailboxDataAdded);
+    }
+
 
     /* --------------------------------------------------------------------- */
     // API
@@ -362,8 +386,22 @@ public class ConfidentialMessageService implements Node.Listener, DataService.Li
         }
     }
 
-    private CompletableFuture<Boolean> processConfidentialMessage(ConfidentialMessage confidentialMessage) {
-        return keyBundleService.findKeyPair(confidentialMessage.getReceiverKeyId())
+    /**
+     * @return The recently processed messages. Used by services for applying the messages which have been received
+     * before they registered their listener.
+     */
+    public Set<EnvelopePayloadMessage> getProcessedEnvelopePayloadMessages() {
+        return processedMessageCache.getMessages();
+    }
+
+    private CompletableFuture<Boolean> processConfidentialMessage(ConfidentialMessage confidentialMessage,
+                                                                  boolean isMailboxMessage) {
+        String receiverKeyId = confidentialMessage.getReceiverKeyId();
+        if (!isMyKeyId(receiverKeyId)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return keyBundleService.findKeyPair(receiverKeyId)
                 .map(receiversKeyPair -> supplyAsync(() -> {
                     try {
                         log.info("Found a matching key for processing confidentialMessage");
@@ -375,25 +413,47 @@ public class ConfidentialMessageService implements Node.Listener, DataService.Li
                         // For backward compatibility we send 2 versions of mailbox data, thus we will receive each
                         // mailbox data 2 times. We do not want that client code need to deal with duplications,
                         // thus we filter here out the duplicated message.
-                        boolean wasNotPresent = processedEnvelopePayloadMessages.add(decryptedEnvelopePayloadMessage);
+                        ByteArray messageHash = new ByteArray(DigestUtil.hash(decryptedEnvelopePayloadMessage.serialize()));
+                        // Mailbox messages which we have processed already before the last restart are not applied
+                        // again. We still return true, so that the mailbox data gets removed.
+                        if (isMailboxMessage && seenMailboxMessagesService.map(service -> service.contains(messageHash)).orElse(false)) {
+                            log.info("Ignore mailbox message as we have processed it already");
+                            return true;
+                        }
+
+                        boolean wasNotPresent = processedMessageCache.add(messageHash, decryptedEnvelopePayloadMessage);
                         if (wasNotPresent) {
                             PublicKey senderPublicKey = KeyGeneration.generatePublic(confidentialData.getSenderPublicKey());
                             log.info("Decrypted confidentialMessage");
-                            runAsync(() -> listeners.forEach(listener -> {
-                                try {
-                                    listener.onMessage(decryptedEnvelopePayloadMessage);
-                                    listener.onConfidentialMessage(decryptedEnvelopePayloadMessage, senderPublicKey);
-                                } catch (Exception e) {
-                                    log.error("Calling onMessage(decryptedEnvelopePayloadMessage, senderPublicKey) at messageListener {} failed", listener, e);
+                            runAsync(() -> {
+                                boolean allListenersSucceeded = true;
+                                for (Listener listener : listeners) {
+                                    try {
+                                        listener.onMessage(decryptedEnvelopePayloadMessage);
+                                        listener.onConfidentialMessage(decryptedEnvelopePayloadMessage, senderPublicKey);
+                                    } catch (Exception e) {
+                                        allListenersSucceeded = false;
+                                        log.error("Calling onMessage(decryptedEnvelopePayloadMessage, senderPublicKey) at messageListener {} failed", listener, e);
+                                    }
                                 }
-                            }), DISPATCHER);
+                                // We mark the mailbox message as seen only after it got handled by all listeners.
+                                // If we get shut down before, or a listener failed, it gets applied again after
+                                // a restart in case the mailbox data is still present.
+                                if (isMailboxMessage && allListenersSucceeded) {
+                                    seenMailboxMessagesService.ifPresent(service -> service.add(messageHash));
+                                }
+                            }, DISPATCHER);
                         }
                         return true;
                     } catch (Exception e) {
                         log.error("Error at decryption using receiversKeyId={}", confidentialMessage.getReceiverKeyId(), e);
                         throw new RuntimeException(e);
                     }
-                }, ExecutorFactory.WORKER_POOL))
+                }, DECRYPTION_POOL))
                 .orElse(CompletableFuture.completedFuture(false)); // We don't have a key for that receiverKeyId
     }
+
+    private boolean isMyKeyId(String receiverKeyId) {
+        return receiverKeyId != null && keyBundleService.hasKeyBundle(receiverKeyId);
+    }
 }
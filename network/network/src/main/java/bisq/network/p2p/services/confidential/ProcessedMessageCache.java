@@ -0,0 +1,100 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.services.confidential;
+
+import bisq.common.data.ByteArray;
+import bisq.network.p2p.message.EnvelopePayloadMessage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the recently processed confidential messages keyed by the hash of the message for detecting duplicates and for
+ * replaying them to services which register their listener after the message has been received.
+ * Entries are evicted once they are older than the TTL or if the max size is exceeded (oldest first).
+ */
+public class ProcessedMessageCache {
+    static final int MAX_SIZE = 5000;
+    static final long TTL = TimeUnit.HOURS.toMillis(6);
+
+    private record Entry(EnvelopePayloadMessage message, long date) {
+    }
+
+    private final int maxSize;
+    private final long ttl;
+    // Insertion order is also the order of the dates, so the oldest entries are at the head
+    private final LinkedHashMap<ByteArray, Entry> entryByHash;
+
+    public ProcessedMessageCache() {
+        this(MAX_SIZE, TTL);
+    }
+
+    ProcessedMessageCache(int maxSize, long ttl) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        entryByHash = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteArray, Entry> eldest) {
+                return size() > ProcessedMessageCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return True if the message was not already present.
+     */
+    public boolean add(ByteArray hash, EnvelopePayloadMessage message) {
+        return add(hash, message, System.currentTimeMillis());
+    }
+
+    synchronized boolean add(ByteArray hash, EnvelopePayloadMessage message, long now) {
+        pruneExpired(now);
+        if (entryByHash.containsKey(hash)) {
+            return false;
+        }
+        entryByHash.put(hash, new Entry(message, now));
+        return true;
+    }
+
+    public Set<EnvelopePayloadMessage> getMessages() {
+        return getMessages(System.currentTimeMillis());
+    }
+
+    synchronized Set<EnvelopePayloadMessage> getMessages(long now) {
+        pruneExpired(now);
+        return entryByHash.values().stream()
+                .map(Entry::message)
+                .collect(Collectors.toSet());
+    }
+
+    public synchronized int size() {
+        return entryByHash.size();
+    }
+
+    private void pruneExpired(long now) {
+        long cutOffDate = now - ttl;
+        Iterator<Entry> iterator = entryByHash.values().iterator();
+        while (iterator.hasNext() && iterator.next().date() < cutOffDate) {
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.services.confidential;
+
+import bisq.common.data.ByteArray;
+import bisq.common.network.TransportType;
+import bisq.network.p2p.services.data.storage.MetaData;
+import bisq.persistence.DbSubDirectory;
+import bisq.persistence.Persistence;
+import bisq.persistence.PersistenceClient;
+import bisq.persistence.PersistenceService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Persists the hashes of the processed mailbox messages, so that mailbox messages which are still in the network
+ * (e.g. if the removal has not reached all peers) are not processed again after a restart.
+ */
+@Slf4j
+public class SeenMailboxMessagesService implements PersistenceClient<SeenMailboxMessagesStore> {
+    // Mailbox messages use a TTL of max. 10 days. We keep the hashes longer to be on the safe side.
+    static final long MAX_AGE = MetaData.TTL_30_DAYS;
+    private static final long PRUNE_INTERVAL = TimeUnit.HOURS.toMillis(1);
+
+    @Getter
+    private final SeenMailboxMessagesStore persistableStore = new SeenMailboxMessagesStore();
+    @Getter
+    private final Persistence<SeenMailboxMessagesStore> persistence;
+    private volatile long lastPruneDate = System.currentTimeMillis();
+
+    public SeenMailboxMessagesService(PersistenceService persistenceService, TransportType transportType) {
+        persistence = persistenceService.getOrCreatePersistence(this,
+                DbSubDirectory.CACHE,
+                transportType.name().toLowerCase() + persistableStore.getClass().getSimpleName(),
+                persistableStore);
+    }
+
+    @Override
+    public SeenMailboxMessagesStore prunePersisted(SeenMailboxMessagesStore persisted) {
+        long cutOffDate = System.currentTimeMillis() - MAX_AGE;
+        Map<ByteArray, Long> pruned = persisted.getDateByMessageHash().entrySet().stream()
+                .filter(e -> e.getValue() > cutOffDate)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return new SeenMailboxMessagesStore(pruned);
+    }
+
+    public boolean contains(ByteArray messageHash) {
+        return persistableStore.getDateByMessageHash().containsKey(messageHash);
+    }
+
+    public void add(ByteArray messageHash) {
+        add(messageHash, System.currentTimeMillis());
+    }
+
+    void add(ByteArray messageHash, long now) {
+        Map<ByteArray, Long> dateByMessageHash = persistableStore.getDateByMessageHash();
+        dateByMessageHash.put(messageHash, now);
+        // Long-running nodes would otherwise only prune at the next restart
+        if (now - lastPruneDate > PRUNE_INTERVAL) {
+            lastPruneDate = now;
+            long cutOffDate = now - MAX_AGE;
+            dateByMessageHash.values().removeIf(date -> date <= cutOffDate);
+        }
+        persist();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.services.confidential;
+
+import bisq.common.data.ByteArray;
+import bisq.common.proto.ProtoResolver;
+import bisq.common.proto.UnresolvableProtobufMessageException;
+import bisq.persistence.PersistableStore;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Hashes of the already processed mailbox messages with the date when they have been processed. The hashes are
+ * persisted as raw bytes.
+ */
+@Slf4j
+public final class SeenMailboxMessagesStore implements PersistableStore<SeenMailboxMessagesStore> {
+    private final Map<ByteArray, Long> dateByMessageHash = new ConcurrentHashMap<>();
+
+    SeenMailboxMessagesStore() {
+    }
+
+    SeenMailboxMessagesStore(Map<ByteArray, Long> dateByMessageHash) {
+        this.dateByMessageHash.putAll(dateByMessageHash);
+    }
+
+    @Override
+    public bisq.network.protobuf.SeenMailboxMessagesStore toProto(boolean serializeForHash) {
+        return resolveProto(serializeForHash);
+    }
+
+    @Override
+    public bisq.network.protobuf.SeenMailboxMessagesStore.Builder getBuilder(boolean serializeForHash) {
+        return bisq.network.protobuf.SeenMailboxMessagesStore.newBuilder()
+                .addAllSeenMailboxMessages(dateByMessageHash.entrySet().stream()
+                        .map(entry -> bisq.network.protobuf.SeenMailboxMessage.newBuilder()
+                                .setMessageHash(ByteString.copyFrom(entry.getKey().getBytes()))
+                                .setDate(entry.getValue())
+                                .build())
+                        .collect(Collectors.toList()));
+    }
+
+    public static PersistableStore<?> fromProto(bisq.network.protobuf.SeenMailboxMessagesStore proto) {
+        return new SeenMailboxMessagesStore(proto.getSeenMailboxMessagesList().stream()
+                .collect(Collectors.toMap(e -> new ByteArray(e.getMessageHash().toByteArray()),
+                        bisq.network.protobuf.SeenMailboxMessage::getDate,
+                        Math::max)));
+    }
+
+    @Override
+    public ProtoResolver<PersistableStore<?>> getResolver() {
+        return any -> {
+            try {
+                return fromProto(any.unpack(bisq.network.protobuf.SeenMailboxMessagesStore.class));
+            } catch (InvalidProtocolBufferException e) {
+                throw new UnresolvableProtobufMessageException(e);
+            }
+        };
+    }
+
+    @Override
+    public void applyPersisted(SeenMailboxMessagesStore persisted) {
+        dateByMessageHash.clear();
+        dateByMessageHash.putAll(persisted.getDateByMessageHash());
+    }
+
+    @Override
+    public SeenMailboxMessagesStore getClone() {
+        return new SeenMailboxMessagesStore(new HashMap<>(dateByMessageHash));
+    }
+
+    Map<ByteArray, Long> getDateByMessageHash() {
+        return dateByMessageHash;
+    }
+}
@@ -38,6 +38,9 @@ import lombok.extern.slf4j.Slf4j;
 import java.security.GeneralSecurityException;
 import java.security.KeyPair;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -77,6 +80,36 @@ public class DataService implements StorageService.Listener {
 
         default void onMailboxDataRemoved(MailboxData mailboxData) {
         }
+
+        // Used for batches of data received with inventory responses. By default, we delegate to the single item methods.
+
+        default void onAuthorizedDataAdded(Collection<AuthorizedData> authorizedDataList) {
+            authorizedDataList.forEach(this::onAuthorizedDataAdded);
+        }
+
+        default void onAuthorizedDataRemoved(Collection<AuthorizedData> authorizedDataList) {
+            authorizedDataList.forEach(this::onAuthorizedDataRemoved);
+        }
+
+        default void onAuthenticatedDataAdded(Collection<AuthenticatedData> authenticatedDataList) {
+            authenticatedDataList.forEach(this::onAuthenticatedDataAdded);
+        }
+
+        default void onAuthenticatedDataRemoved(Collection<AuthenticatedData> authenticatedDataList) {
+            authenticatedDataList.forEach(this::onAuthenticatedDataRemoved);
+        }
+
+        default void onAppendOnlyDataAdded(Collection<AppendOnlyData> appendOnlyDataList) {
+            appendOnlyDataList.forEach(this::onAppendOnlyDataAdded);
+        }
+
+        default void onMailboxDataAdded(Collection<MailboxData> mailboxDataList) {
+            mailboxDataList.forEach(this::onMailboxDataAdded);
+        }
+
+        default void onMailboxDataRemoved(Collection<MailboxData> mailboxDataList) {
+            mailboxDataList.forEach(this::onMailboxDataRemoved);
+        }
     }
 
     @Getter
@@ -84,8 +117,8 @@ public class DataService implements StorageService.Listener {
     private final Set<DataService.Listener> listeners = new CopyOnWriteArraySet<>();
     private final Set<Broadcaster> broadcasters = new CopyOnWriteArraySet<>();
 
-    public DataService(PersistenceService persistenceService) {
-        this.storageService = new StorageService(persistenceService);
+    public DataService(PersistenceService persistenceService, StorageService.Config storageServiceConfig) {
+        this.storageService = new StorageService(persistenceService, storageServiceConfig);
         storageService.addListener(this);
     }
 
@@ -189,6 +222,105 @@ public class DataService implements StorageService.Listener {
     }
 
 
+    @Override
+    public void onAdded(Collection<? extends StorageData> storageDataList) {
+        List<AuthorizedData> authorizedDataList = new ArrayList<>();
+        List<AuthenticatedData> authenticatedDataList = new ArrayList<>();
+        List<MailboxData> mailboxDataList = new ArrayList<>();
+        List<AppendOnlyData> appendOnlyDataList = new ArrayList<>();
+        storageDataList.forEach(storageData -> {
+            if (storageData instanceof AuthorizedData authorizedData) {
+                authorizedDataList.add(authorizedData);
+            } else if (storageData instanceof AuthenticatedData authenticatedData) {
+                authenticatedDataList.add(authenticatedData);
+            } else if (storageData instanceof MailboxData mailboxData) {
+                mailboxDataList.add(mailboxData);
+            } else if (storageData instanceof AppendOnlyData appendOnlyData) {
+                appendOnlyDataList.add(appendOnlyData);
+            }
+        });
+        if (!authorizedDataList.isEmpty()) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAuthorizedDataAdded(authorizedDataList);
+                } catch (Exception e) {
+                    log.error("Calling onAuthorizedDataAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+        if (!authenticatedDataList.isEmpty()) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAuthenticatedDataAdded(authenticatedDataList);
+                } catch (Exception e) {
+                    log.error("Calling onAuthenticatedDataAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+        if (!mailboxDataList.isEmpty()) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onMailboxDataAdded(mailboxDataList);
+                } catch (Exception e) {
+                    log.error("Calling onMailboxDataAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+        if (!appendOnlyDataList.isEmpty()) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAppendOnlyDataAdded(appendOnlyDataList);
+                } catch (Exception e) {
+                    log.error("Calling onAppendOnlyDataAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onRemoved(Collection<? extends StorageData> storageDataList) {
+        List<AuthorizedData> authorizedDataList = new ArrayList<>();
+        List<AuthenticatedData> authenticatedDataList = new ArrayList<>();
+        List<MailboxData> mailboxDataList = new ArrayList<>();
+        storageDataList.forEach(storageData -> {
+            if (storageData instanceof AuthorizedData authorizedData) {
+                authorizedDataList.add(authorizedData);
+            } else if (storageData instanceof AuthenticatedData authenticatedData) {
+                authenticatedDataList.add(authenticatedData);
+            } else if (storageData instanceof MailboxData mailboxData) {
+                mailboxDataList.add(mailboxData);
+            }
+        });
+        if (!authorizedDataList.isEmpty()) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAuthorizedDataRemoved(authorizedDataList);
+                } catch (Exception e) {
+                    log.error("Calling onAuthorizedDataRemoved at listener {} failed", listener, e);
+                }
+            });
+        }
+        if (!authenticatedDataList.isEmpty()) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAuthenticatedDataRemoved(authenticatedDataList);
+                } catch (Exception e) {
+                    log.error("Calling onAuthenticatedDataRemoved at listener {} failed", listener, e);
+                }
+            });
+        }
+        if (!mailboxDataList.isEmpty()) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onMailboxDataRemoved(mailboxDataList);
+                } catch (Exception e) {
+                    log.error("Calling onMailboxDataRemoved at listener {} failed", listener, e);
+                }
+            });
+        }
+    }
+
+
     /* --------------------------------------------------------------------- */
     // Get data
     /* --------------------------------------------------------------------- */
@@ -383,6 +515,14 @@ public class DataService implements StorageService.Listener {
                 }));
     }
 
+    /**
+     * Applies the requests grouped by store. Each store persists once and notifies the listeners with the collections
+     * of added and removed data. Used for inventory responses, thus we do not re-broadcast.
+     */
+    public CompletableFuture<Void> processBatch(List<? extends DataRequest> dataRequests) {
+        return storageService.processBatch(dataRequests);
+    }
+
     public void processRemoveDataRequest(RemoveDataRequest removeDataRequest, boolean allowReBroadcast) {
         storageService.onRemoveDataRequest(removeDataRequest)
                 .whenComplete((optionalData, throwable) -> optionalData.ifPresent(storageData -> {
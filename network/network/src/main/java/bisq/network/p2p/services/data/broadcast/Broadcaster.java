@@ -20,6 +20,7 @@ package bisq.network.p2p.services.data.broadcast;
 import bisq.common.threading.ThreadName;
 import bisq.common.util.CollectionUtil;
 import bisq.network.NetworkService;
+import bisq.network.p2p.message.SerializedMessage;
 import bisq.network.p2p.node.Connection;
 import bisq.network.p2p.node.Node;
 import dev.failsafe.Failsafe;
@@ -86,12 +87,16 @@ public class Broadcaster {
         List<Connection> allConnections = CollectionUtil.toShuffledList(node.getAllActiveConnections());
         NetworkService.NETWORK_IO_POOL.submit(() -> {
             ThreadName.set(this, "broadcast");
+            // We serialize the message only once for all peers. Only the authorization token is created per peer.
+            // We send to each peer in its own task, so that the proof of work for the peers is created in parallel.
+            SerializedMessage serializedMessage = new SerializedMessage(broadcastMessage);
             allConnections.stream()
                     .limit(numBroadcasts)
-                    .forEach(connection -> {
+                    .forEach(connection -> NetworkService.NETWORK_IO_POOL.submit(() -> {
+                        ThreadName.set(this, "broadcast");
                         log.debug("{} broadcast {} to {}", node, broadcastMessage.getClass().getSimpleName(), connection.getPeerAddress());
                         try {
-                            node.send(broadcastMessage, connection);
+                            node.send(serializedMessage, connection);
                             numSuccess.incrementAndGet();
                         } catch (Exception exception) {
                             numFaults.incrementAndGet();
@@ -101,7 +106,7 @@ public class Broadcaster {
                                     numFaults.get(),
                                     System.currentTimeMillis() - ts));
                         }
-                    });
+                    }));
         });
         return future;
     }
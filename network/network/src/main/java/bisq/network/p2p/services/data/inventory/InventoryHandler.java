@@ -18,6 +18,7 @@
 package bisq.network.p2p.services.data.inventory;
 
 import bisq.common.data.ByteUnit;
+import bisq.common.metrics.MetricsRegistry;
 import bisq.common.threading.ThreadName;
 import bisq.common.util.MathUtils;
 import bisq.network.NetworkService;
@@ -82,6 +83,9 @@ class InventoryHandler implements Connection.Listener {
     public void onNetworkMessage(EnvelopePayloadMessage envelopePayloadMessage) {
         if (envelopePayloadMessage instanceof InventoryResponse response) {
             if (response.getRequestNonce() == nonce) {
+                MetricsRegistry.DEFAULT.histogram("bisq_inventory_request_duration_ms",
+                                "Duration from sending the inventory request until receiving the response")
+                        .observe(System.currentTimeMillis() - requestTs);
                 printReceivedInventory(response);
                 removeListeners();
                 future.complete(response.getInventory());
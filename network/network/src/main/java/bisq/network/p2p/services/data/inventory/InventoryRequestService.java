@@ -27,9 +27,7 @@ import bisq.network.p2p.node.CloseReason;
 import bisq.network.p2p.node.Connection;
 import bisq.network.p2p.node.Feature;
 import bisq.network.p2p.node.Node;
-import bisq.network.p2p.services.data.AddDataRequest;
 import bisq.network.p2p.services.data.DataService;
-import bisq.network.p2p.services.data.RemoveDataRequest;
 import bisq.network.p2p.services.data.inventory.filter.FilterService;
 import bisq.network.p2p.services.data.inventory.filter.InventoryFilter;
 import bisq.network.p2p.services.data.inventory.filter.InventoryFilterType;
@@ -156,16 +154,11 @@ public class InventoryRequestService implements Node.Listener {
 
     private CompletableFuture<Inventory> requestInventory(Connection connection) {
         return requestFromPeer(connection)
-                .thenApply(inventory -> {
+                .thenCompose(inventory -> {
                     checkNotNull(inventory);
-                    inventory.getEntries().forEach(dataRequest -> {
-                        if (dataRequest instanceof AddDataRequest) {
-                            dataService.processAddDataRequest((AddDataRequest) dataRequest, false);
-                        } else if (dataRequest instanceof RemoveDataRequest) {
-                            dataService.processRemoveDataRequest((RemoveDataRequest) dataRequest, false);
-                        }
-                    });
-                    return inventory;
+                    // We complete once the data is applied, so that a repeated request uses a filter containing it
+                    return dataService.processBatch(inventory.getEntries())
+                            .thenApply(nil -> inventory);
                 });
     }
 
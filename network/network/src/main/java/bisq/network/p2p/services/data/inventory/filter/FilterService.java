@@ -17,29 +17,24 @@
 
 package bisq.network.p2p.services.data.inventory.filter;
 
-import bisq.common.data.ByteArray;
 import bisq.common.data.ByteUnit;
 import bisq.network.p2p.services.data.DataRequest;
 import bisq.network.p2p.services.data.inventory.Inventory;
-import bisq.network.p2p.services.data.storage.DistributedData;
+import bisq.network.p2p.services.data.storage.InventoryIndex;
 import bisq.network.p2p.services.data.storage.StorageService;
-import bisq.network.p2p.services.data.storage.append.AddAppendOnlyDataRequest;
-import bisq.network.p2p.services.data.storage.auth.AddAuthenticatedDataRequest;
-import bisq.network.p2p.services.data.storage.auth.AuthenticatedDataRequest;
-import bisq.network.p2p.services.data.storage.auth.RemoveAuthenticatedDataRequest;
-import bisq.network.p2p.services.data.storage.mailbox.AddMailboxRequest;
-import bisq.network.p2p.services.data.storage.mailbox.MailboxRequest;
-import bisq.network.p2p.services.data.storage.mailbox.RemoveMailboxRequest;
+import bisq.network.p2p.services.data.storage.StoreType;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static bisq.network.p2p.services.data.storage.StoreType.*;
+
 @Slf4j
 public abstract class FilterService<T extends InventoryFilter> {
     protected final StorageService storageService;
@@ -52,146 +47,73 @@ public abstract class FilterService<T extends InventoryFilter> {
 
     abstract public T getFilter();
 
-    abstract protected boolean isAuthenticatedDataRequestMissing(T filter, Map.Entry<ByteArray, AuthenticatedDataRequest> mapEntry);
-
-    abstract protected boolean isMailboxRequestMissing(T filter, Map.Entry<ByteArray, MailboxRequest> mapEntry);
-
-    abstract protected boolean isAddAppendOnlyDataRequestMissing(T filter, Map.Entry<ByteArray, AddAppendOnlyDataRequest> entry);
+    abstract protected boolean isMissing(T filter, InventoryIndex.Entry entry);
 
     public Inventory createInventory(InventoryFilter inventoryFilter, Predicate<Integer> predicate) {
-        final AtomicInteger accumulatedSize = new AtomicInteger();
-        final AtomicBoolean maxSizeReached = new AtomicBoolean();
         // The type is not defined at compile time, thus we do a safe cast
         T filter = safeCast(inventoryFilter);
-        List<DataRequest> dataRequests = getAuthenticatedDataRequests(filter, accumulatedSize, maxSizeReached, predicate);
+        Collector collector = new Collector(filter, predicate);
 
-        if (!maxSizeReached.get()) {
-            dataRequests.addAll(getMailboxRequests(filter, accumulatedSize, maxSizeReached, predicate));
-        }
+        // We deliver add requests before remove requests and authenticated data before mailbox and append-only data.
+        List<InventoryIndex<? extends DataRequest>> authenticatedDataIndexes = getIndexes(AUTHENTICATED_DATA_STORE);
+        collector.collect(authenticatedDataIndexes, false);
+        collector.collect(authenticatedDataIndexes, true);
 
-        if (!maxSizeReached.get()) {
-            dataRequests.addAll(getAppendOnlyDataRequests(filter, accumulatedSize, maxSizeReached));
-        }
+        List<InventoryIndex<? extends DataRequest>> mailboxIndexes = getIndexes(MAILBOX_DATA_STORE);
+        collector.collect(mailboxIndexes, false);
+        collector.collect(mailboxIndexes, true);
+
+        collector.collect(getIndexes(APPEND_ONLY_DATA_STORE), false);
 
         log.info("Inventory with {} items and accumulatedSize of {} kb. maxSizeReached={}",
-                dataRequests.size(), ByteUnit.BYTE.toKB(accumulatedSize.get()), maxSizeReached.get());
-        return new Inventory(dataRequests, maxSizeReached.get());
+                collector.dataRequests.size(), ByteUnit.BYTE.toKB(collector.accumulatedSize), collector.maxSizeReached);
+        return new Inventory(collector.dataRequests, collector.maxSizeReached);
     }
 
     abstract protected T safeCast(InventoryFilter inventoryFilter);
 
-    private List<DataRequest> getAuthenticatedDataRequests(T filter,
-                                                           AtomicInteger accumulatedSize,
-                                                           AtomicBoolean maxSizeReached,
-                                                           Predicate<Integer> predicate) {
-        List<AddAuthenticatedDataRequest> addRequests = new ArrayList<>();
-        List<RemoveAuthenticatedDataRequest> removeRequests = new ArrayList<>();
-        storageService.getAuthenticatedDataStoreMaps().flatMap(map -> map.entrySet().stream())
-                .forEach(mapEntry -> {
-                    if (isAuthenticatedDataRequestMissing(filter, mapEntry)) {
-                        AuthenticatedDataRequest dataRequest = mapEntry.getValue();
-                        if (dataRequest instanceof AddAuthenticatedDataRequest addAuthenticatedDataRequest) {
-                            DistributedData distributedData = addAuthenticatedDataRequest.getDistributedData();
-                            if (predicate.test(distributedData.getVersion())) {
-                                addRequests.add(addAuthenticatedDataRequest);
-                            }
-                        } else if (dataRequest instanceof RemoveAuthenticatedDataRequest removeAuthenticatedDataRequest) {
-                            if (predicate.test(removeAuthenticatedDataRequest.getVersion())) {
-                                removeRequests.add(removeAuthenticatedDataRequest);
-                            }
-                        }
-                        // Refresh is ignored
-                    }
-                });
-
-        List<DataRequest> sortedAndFilteredRequests = addRequests.stream()
-                .sorted((o1, o2) -> Integer.compare(o2.getDistributedData().getMetaData().getPriority(),
-                        o1.getDistributedData().getMetaData().getPriority()))
-                .filter(request -> {
-                    if (!maxSizeReached.get()) {
-                        maxSizeReached.set(accumulatedSize.addAndGet(request.getSerializedSize()) > maxSize);
-                    }
-                    return !maxSizeReached.get();
-                })
-                .collect(Collectors.toList());
-
-
-        if (!maxSizeReached.get()) {
-            sortedAndFilteredRequests.addAll(removeRequests.stream()
-                    .sorted((o1, o2) -> Integer.compare(o2.getMetaData().getPriority(), o1.getMetaData().getPriority()))
-                    .filter(request -> {
-                        if (!maxSizeReached.get()) {
-                            maxSizeReached.set(accumulatedSize.addAndGet(request.getSerializedSize()) > maxSize);
-                        }
-                        return !maxSizeReached.get();
-                    })
-                    .toList());
-        }
-        return sortedAndFilteredRequests;
+    private List<InventoryIndex<? extends DataRequest>> getIndexes(StoreType storeType) {
+        return storageService.getInventoryIndexes(storeType).collect(Collectors.toList());
     }
 
+    // Single pass over the priority buckets of all indexes. Higher priorities are delivered first, and we stop once
+    // the max. size is reached.
+    private class Collector {
+        private final T filter;
+        private final Predicate<Integer> predicate;
+        private final List<DataRequest> dataRequests = new ArrayList<>();
+        private int accumulatedSize;
+        private boolean maxSizeReached;
+
+        private Collector(T filter, Predicate<Integer> predicate) {
+            this.filter = filter;
+            this.predicate = predicate;
+        }
 
-    private List<DataRequest> getMailboxRequests(T filter,
-                                                 AtomicInteger accumulatedSize,
-                                                 AtomicBoolean maxSizeReached,
-                                                 Predicate<Integer> predicate) {
-        List<AddMailboxRequest> addRequests = new ArrayList<>();
-        List<RemoveMailboxRequest> removeRequests = new ArrayList<>();
-        storageService.getMailboxStoreMaps().flatMap(map -> map.entrySet().stream())
-                .forEach(mapEntry -> {
-                    if (isMailboxRequestMissing(filter, mapEntry)) {
-                        MailboxRequest dataRequest = mapEntry.getValue();
-                        if (dataRequest instanceof AddMailboxRequest addMailboxRequest) {
-                            if (predicate.test(addMailboxRequest.getMailboxSequentialData().getMailboxData().getVersion())) {
-                                addRequests.add(addMailboxRequest);
-                            }
-                        } else if (dataRequest instanceof RemoveMailboxRequest removeMailboxRequest) {
-                            if (predicate.test(removeMailboxRequest.getVersion())) {
-                                removeRequests.add(removeMailboxRequest);
-                            }
+        private void collect(List<InventoryIndex<? extends DataRequest>> indexes, boolean isRemoveRequest) {
+            if (maxSizeReached) {
+                return;
+            }
+            SortedSet<Integer> priorities = new TreeSet<>(Comparator.reverseOrder());
+            indexes.forEach(index -> priorities.addAll(index.getPriorities(isRemoveRequest)));
+            for (int priority : priorities) {
+                for (InventoryIndex<? extends DataRequest> index : indexes) {
+                    for (InventoryIndex.Entry entry : index.getEntries(priority, isRemoveRequest)) {
+                        if (!isMissing(filter, entry)) {
+                            continue;
                         }
-                    }
-                });
-        List<DataRequest> sortedAndFilteredRequests = addRequests.stream()
-                .sorted((o1, o2) -> Integer.compare(o2.getMailboxSequentialData().getMailboxData().getMetaData().getPriority(),
-                        o1.getMailboxSequentialData().getMailboxData().getMetaData().getPriority()))
-                .filter(request -> {
-                    if (!maxSizeReached.get()) {
-                        maxSizeReached.set(accumulatedSize.addAndGet(request.getSerializedSize()) > maxSize);
-                    }
-                    return !maxSizeReached.get();
-                })
-                .collect(Collectors.toList());
-
-        if (!maxSizeReached.get()) {
-            sortedAndFilteredRequests.addAll(removeRequests.stream()
-                    .sorted((o1, o2) -> Integer.compare(o2.getMetaData().getPriority(), o1.getMetaData().getPriority()))
-                    .filter(request -> {
-                        if (!maxSizeReached.get()) {
-                            maxSizeReached.set(accumulatedSize.addAndGet(request.getSerializedSize()) > maxSize);
+                        if (entry.getVersion().isPresent() && !predicate.test(entry.getVersion().get())) {
+                            continue;
                         }
-                        return !maxSizeReached.get();
-                    })
-                    .toList());
-        }
-        return sortedAndFilteredRequests;
-    }
-
-    private List<DataRequest> getAppendOnlyDataRequests(T filter,
-                                                        AtomicInteger accumulatedSize,
-                                                        AtomicBoolean maxSizeReached) {
-        return storageService.getAddAppendOnlyDataStoreMaps().flatMap(map -> map.entrySet().stream())
-                .filter(entry -> isAddAppendOnlyDataRequestMissing(filter, entry))
-                //hashSetFilter.getFilterEntries().contains(toFilterEntry(mapEntry)))
-                .map(Map.Entry::getValue)
-                .sorted((o1, o2) -> Integer.compare(o2.getAppendOnlyData().getMetaData().getPriority(),
-                        o1.getAppendOnlyData().getMetaData().getPriority()))
-                .filter(request -> {
-                    if (!maxSizeReached.get()) {
-                        maxSizeReached.set(accumulatedSize.addAndGet(request.getSerializedSize()) > maxSize);
+                        accumulatedSize += entry.getSerializedSize();
+                        if (accumulatedSize > maxSize) {
+                            maxSizeReached = true;
+                            return;
+                        }
+                        dataRequests.add(entry.getDataRequest());
                     }
-                    return !maxSizeReached.get();
-                })
-                .collect(Collectors.toList());
+                }
+            }
+        }
     }
 }
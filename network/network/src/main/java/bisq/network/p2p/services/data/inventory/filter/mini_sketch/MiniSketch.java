@@ -0,0 +1,403 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.services.data.inventory.filter.mini_sketch;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Pure Java implementation of a PinSketch (BCH based set sketch) over GF(2^64) as used by
+ * <a href="https://github.com/sipa/minisketch">https://github.com/sipa/minisketch</a>.
+ * <p>
+ * A sketch with capacity c stores the odd power sums s1, s3, ..., s(2c-1) of all added elements. Adding an element
+ * twice removes it again, thus merging (XOR) the sketches of 2 sets results in the sketch of their symmetric
+ * difference. If the difference has at most c elements it can be decoded, otherwise decoding fails.
+ * <p>
+ * The serialized size is c * 8 bytes, independent of the number of elements in the set.
+ * Elements must not be 0.
+ */
+public final class MiniSketch {
+    // x^64 + x^4 + x^3 + x + 1
+    private static final long MODULUS = 0x1BL;
+    private static final int FIELD_BITS = 64;
+    private static final int MAX_SPLIT_ATTEMPTS = 64;
+
+    private final long[] syndromes;
+
+    public MiniSketch(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be > 0");
+        this.syndromes = new long[capacity];
+    }
+
+    private MiniSketch(long[] syndromes) {
+        this.syndromes = syndromes;
+    }
+
+    public static MiniSketch fromBytes(byte[] bytes) {
+        checkArgument(bytes.length > 0 && bytes.length % Long.BYTES == 0,
+                "Serialized sketch length must be a positive multiple of 8. length=" + bytes.length);
+        long[] syndromes = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(syndromes);
+        return new MiniSketch(syndromes);
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(syndromes.length * Long.BYTES);
+        buffer.asLongBuffer().put(syndromes);
+        return buffer.array();
+    }
+
+    public int getCapacity() {
+        return syndromes.length;
+    }
+
+    public void add(long element) {
+        checkArgument(element != 0, "Element must not be 0");
+        long[] squareTable = mulTable(sqr(element));
+        long power = element;
+        for (int i = 0; i < syndromes.length; i++) {
+            syndromes[i] ^= power;
+            power = mul(squareTable, power);
+        }
+    }
+
+    /**
+     * @return A new sketch representing the symmetric difference of both sets.
+     */
+    public MiniSketch merge(MiniSketch other) {
+        checkArgument(other.getCapacity() == getCapacity(), "Sketches must have the same capacity");
+        long[] merged = new long[syndromes.length];
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] = syndromes[i] ^ other.syndromes[i];
+        }
+        return new MiniSketch(merged);
+    }
+
+    /**
+     * @return The elements of the set represented by that sketch, or empty if the set is larger than the capacity.
+     */
+    public Optional<long[]> decode() {
+        int capacity = syndromes.length;
+        // Recover the even power sums from the odd ones: s(2i) = s(i)^2
+        long[] powerSums = new long[2 * capacity];
+        for (int i = 0; i < powerSums.length; i++) {
+            int exponent = i + 1;
+            powerSums[i] = exponent % 2 == 1 ? syndromes[i / 2] : sqr(powerSums[exponent / 2 - 1]);
+        }
+
+        long[] connection = berlekampMassey(powerSums);
+        int numElements = degree(connection);
+        if (numElements == 0) {
+            return Optional.of(new long[0]);
+        }
+        if (numElements > capacity || connection[numElements] == 0) {
+            return Optional.empty();
+        }
+
+        // The reversed connection polynomial has the elements as roots
+        long[] poly = new long[numElements + 1];
+        for (int i = 0; i <= numElements; i++) {
+            poly[i] = connection[numElements - i];
+        }
+        poly = makeMonic(poly);
+        if (!hasDistinctRootsOnly(poly)) {
+            return Optional.empty();
+        }
+
+        List<Long> roots = new ArrayList<>(numElements);
+        if (!findRoots(poly, new SplittableRandom(Arrays.hashCode(syndromes)), roots)) {
+            return Optional.empty();
+        }
+        long[] elements = roots.stream().mapToLong(Long::longValue).toArray();
+
+        // Verify that the decoded elements reproduce our sketch
+        MiniSketch check = new MiniSketch(capacity);
+        Set<Long> unique = new HashSet<>();
+        for (long element : elements) {
+            if (element == 0 || !unique.add(element)) {
+                return Optional.empty();
+            }
+            check.add(element);
+        }
+        return Arrays.equals(check.syndromes, syndromes) ? Optional.of(elements) : Optional.empty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(syndromes, ((MiniSketch) o).syndromes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(syndromes);
+    }
+
+
+    /* --------------------------------------------------------------------- */
+    // GF(2^64) arithmetic
+    /* --------------------------------------------------------------------- */
+
+    static long mul(long a, long b) {
+        long result = 0;
+        for (int i = FIELD_BITS - 1; i >= 0; i--) {
+            result = (result << 1) ^ ((result >> 63) & MODULUS);
+            result ^= a & -((b >>> i) & 1);
+        }
+        return result;
+    }
+
+    static long sqr(long a) {
+        return mul(a, a);
+    }
+
+    static long inv(long a) {
+        checkArgument(a != 0, "0 has no inverse");
+        // a^(2^64 - 2)
+        long result = 1;
+        long square = a;
+        for (int i = 1; i < FIELD_BITS; i++) {
+            square = sqr(square);
+            result = mul(result, square);
+        }
+        return result;
+    }
+
+    // Table of a * k for all 4 bit values k, used when multiplying repeatedly with the same value.
+    private static long[] mulTable(long a) {
+        long[] table = new long[16];
+        table[1] = a;
+        for (int i = 2; i < 16; i += 2) {
+            long half = table[i / 2];
+            table[i] = (half << 1) ^ ((half >> 63) & MODULUS);
+            table[i + 1] = table[i] ^ a;
+        }
+        return table;
+    }
+
+    private static long mul(long[] table, long b) {
+        long result = 0;
+        for (int shift = FIELD_BITS - 4; shift >= 0; shift -= 4) {
+            int overflow = (int) (result >>> 60);
+            result = (result << 4) ^ mul(overflow, MODULUS);
+            result ^= table[(int) ((b >>> shift) & 0xF)];
+        }
+        return result;
+    }
+
+    // Carry-less product of 2 small values which cannot overflow
+    private static long mul(int a, long b) {
+        long result = 0;
+        for (int i = 0; i < 4; i++) {
+            if (((a >>> i) & 1) != 0) {
+                result ^= b << i;
+            }
+        }
+        return result;
+    }
+
+
+    /* --------------------------------------------------------------------- */
+    // Polynomials over GF(2^64), coefficients in ascending order
+    /* --------------------------------------------------------------------- */
+
+    private static long[] berlekampMassey(long[] sequence) {
+        int n = sequence.length;
+        long[] current = new long[n + 1];
+        long[] previous = new long[n + 1];
+        current[0] = 1;
+        previous[0] = 1;
+        int length = 0;
+        int shift = 1;
+        long previousDiscrepancy = 1;
+        for (int i = 0; i < n; i++) {
+            long discrepancy = sequence[i];
+            for (int j = 1; j <= length; j++) {
+                discrepancy ^= mul(current[j], sequence[i - j]);
+            }
+            if (discrepancy == 0) {
+                shift++;
+                continue;
+            }
+            long factor = mul(discrepancy, inv(previousDiscrepancy));
+            long[] factorTable = mulTable(factor);
+            if (2 * length <= i) {
+                long[] temp = current.clone();
+                for (int j = 0; j + shift <= n; j++) {
+                    current[j + shift] ^= mul(factorTable, previous[j]);
+                }
+                length = i + 1 - length;
+                previous = temp;
+                previousDiscrepancy = discrepancy;
+                shift = 1;
+            } else {
+                for (int j = 0; j + shift <= n; j++) {
+                    current[j + shift] ^= mul(factorTable, previous[j]);
+                }
+                shift++;
+            }
+        }
+        return Arrays.copyOf(current, length + 1);
+    }
+
+    private static int degree(long[] poly) {
+        int degree = poly.length - 1;
+        while (degree > 0 && poly[degree] == 0) {
+            degree--;
+        }
+        return degree;
+    }
+
+    private static long[] trim(long[] poly) {
+        int degree = degree(poly);
+        return degree == poly.length - 1 ? poly : Arrays.copyOf(poly, degree + 1);
+    }
+
+    private static boolean isZero(long[] poly) {
+        return degree(poly) == 0 && poly[0] == 0;
+    }
+
+    private static long[] makeMonic(long[] poly) {
+        poly = trim(poly);
+        long lead = poly[poly.length - 1];
+        if (lead == 1) {
+            return poly;
+        }
+        long[] table = mulTable(inv(lead));
+        long[] result = new long[poly.length];
+        for (int i = 0; i < poly.length; i++) {
+            result[i] = mul(table, poly[i]);
+        }
+        return result;
+    }
+
+    // Reduces value in place modulo the monic polynomial modulus and returns the remainder
+    private static long[] mod(long[] value, long[] modulus) {
+        int modDegree = modulus.length - 1;
+        for (int i = value.length - 1; i >= modDegree; i--) {
+            long coefficient = value[i];
+            if (coefficient == 0) {
+                continue;
+            }
+            long[] table = mulTable(coefficient);
+            int offset = i - modDegree;
+            for (int j = 0; j < modDegree; j++) {
+                value[offset + j] ^= mul(table, modulus[j]);
+            }
+            value[i] = 0;
+        }
+        return Arrays.copyOf(value, Math.max(1, Math.min(value.length, modDegree)));
+    }
+
+    private static long[] sqrMod(long[] poly, long[] modulus) {
+        long[] square = new long[Math.max(1, 2 * poly.length - 1)];
+        for (int i = 0; i < poly.length; i++) {
+            square[2 * i] = sqr(poly[i]);
+        }
+        return mod(square, modulus);
+    }
+
+    private static long[] add(long[] a, long[] b) {
+        long[] result = Arrays.copyOf(a, Math.max(a.length, b.length));
+        for (int i = 0; i < b.length; i++) {
+            result[i] ^= b[i];
+        }
+        return result;
+    }
+
+    private static long[] gcd(long[] a, long[] b) {
+        a = trim(a);
+        b = trim(b);
+        while (!isZero(b)) {
+            long[] monic = makeMonic(b);
+            long[] remainder = trim(mod(a.clone(), monic));
+            a = monic;
+            b = remainder;
+        }
+        return makeMonic(a);
+    }
+
+    // Exact division of the monic polynomial dividend by the monic polynomial divisor
+    private static long[] divide(long[] dividend, long[] divisor) {
+        long[] remainder = dividend.clone();
+        int divisorDegree = divisor.length - 1;
+        long[] quotient = new long[dividend.length - divisorDegree];
+        for (int i = remainder.length - 1; i >= divisorDegree; i--) {
+            long coefficient = remainder[i];
+            if (coefficient == 0) {
+                continue;
+            }
+            quotient[i - divisorDegree] = coefficient;
+            long[] table = mulTable(coefficient);
+            int offset = i - divisorDegree;
+            for (int j = 0; j <= divisorDegree; j++) {
+                remainder[offset + j] ^= mul(table, divisor[j]);
+            }
+        }
+        return quotient;
+    }
+
+    // A polynomial splits into distinct linear factors over GF(2^64) iff x^(2^64) = x mod poly
+    private static boolean hasDistinctRootsOnly(long[] poly) {
+        if (poly.length == 2) {
+            return true;
+        }
+        long[] power = mod(new long[]{0, 1}, poly);
+        for (int i = 0; i < FIELD_BITS; i++) {
+            power = sqrMod(power, poly);
+        }
+        return Arrays.equals(trim(power), trim(mod(new long[]{0, 1}, poly)));
+    }
+
+    // Berlekamp trace algorithm. Requires a monic polynomial with distinct roots only.
+    private static boolean findRoots(long[] poly, SplittableRandom random, List<Long> roots) {
+        int degree = poly.length - 1;
+        if (degree == 0) {
+            return true;
+        }
+        if (degree == 1) {
+            roots.add(poly[0]);
+            return true;
+        }
+        for (int attempt = 0; attempt < MAX_SPLIT_ATTEMPTS; attempt++) {
+            // Tr(a * x) = sum of (a * x)^(2^i) for i in [0, 63]
+            long[] term = mod(new long[]{0, random.nextLong()}, poly);
+            long[] trace = term;
+            for (int i = 1; i < FIELD_BITS; i++) {
+                term = sqrMod(term, poly);
+                trace = add(trace, term);
+            }
+            long[] factor = gcd(poly, trace);
+            int factorDegree = factor.length - 1;
+            if (factorDegree > 0 && factorDegree < degree) {
+                return findRoots(factor, random, roots) &&
+                        findRoots(divide(poly, factor), random, roots);
+            }
+        }
+        return false;
+    }
+}
@@ -20,35 +20,57 @@ package bisq.network.p2p.services.data.inventory.filter.mini_sketch;
 
 import bisq.network.p2p.services.data.inventory.filter.InventoryFilter;
 import bisq.network.p2p.services.data.inventory.filter.InventoryFilterType;
+import com.google.protobuf.ByteString;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
+import java.util.Set;
+
 import static com.google.common.base.Preconditions.checkArgument;
 
 /**
- * Skeleton for planned MiniSketch implementation based on <a href="https://github.com/sipa/minisketch">https://github.com/sipa/minisketch</a>
+ * Inventory filter carrying a {@link MiniSketch} of all our filter elements.
+ * The receiver merges it with the sketch of its own elements and decodes the symmetric difference.
+ * The salt is used for deriving the 64 bit elements from the map entries. It is derived from the current salt epoch,
+ * so that the receiver can reuse its sketch for all requests of an epoch.
  */
 @Slf4j
 @Getter
-@ToString
 @EqualsAndHashCode(callSuper = true)
 public final class MiniSketchFilter extends InventoryFilter {
+    public final static int MIN_CAPACITY = 8;
+    // Decoding costs grow quadratic with the capacity. At 128 it takes about 0.1 sec.
+    public final static int MAX_CAPACITY = 128;
+
+    private final byte[] sketch;
+    private final long salt;
 
-    public MiniSketchFilter() {
-        this(InventoryFilterType.MINI_SKETCH);
+    // Elements of the symmetric difference, decoded by the receiver. Empty if decoding failed.
+    @EqualsAndHashCode.Exclude
+    private transient Optional<Set<Long>> difference;
+
+    public MiniSketchFilter(byte[] sketch, long salt) {
+        this(InventoryFilterType.MINI_SKETCH, sketch, salt);
     }
 
-    private MiniSketchFilter(InventoryFilterType inventoryFilterType) {
+    private MiniSketchFilter(InventoryFilterType inventoryFilterType, byte[] sketch, long salt) {
         super(inventoryFilterType);
 
+        this.sketch = sketch;
+        this.salt = salt;
+
         verify();
     }
 
     @Override
     public void verify() {
         checkArgument(inventoryFilterType == InventoryFilterType.MINI_SKETCH);
+        checkArgument(sketch.length % Long.BYTES == 0);
+        int capacity = getCapacity();
+        checkArgument(capacity >= MIN_CAPACITY && capacity <= MAX_CAPACITY,
+                "Invalid capacity of MiniSketchFilter. capacity=" + capacity);
     }
 
     @Override
@@ -59,15 +81,40 @@ public final class MiniSketchFilter extends InventoryFilter {
     @Override
     public bisq.network.protobuf.InventoryFilter.Builder getBuilder(boolean serializeForHash) {
         return getInventoryFilterBuilder().setMiniSketchFilter(
-                bisq.network.protobuf.MiniSketchFilter.newBuilder());
+                bisq.network.protobuf.MiniSketchFilter.newBuilder()
+                        .setSketch(ByteString.copyFrom(sketch))
+                        .setSalt(salt));
     }
 
     public static MiniSketchFilter fromProto(bisq.network.protobuf.InventoryFilter proto) {
-        return new MiniSketchFilter(InventoryFilterType.fromProto(proto.getInventoryFilterType()));
+        bisq.network.protobuf.MiniSketchFilter miniSketchFilter = proto.getMiniSketchFilter();
+        return new MiniSketchFilter(InventoryFilterType.fromProto(proto.getInventoryFilterType()),
+                miniSketchFilter.getSketch().toByteArray(),
+                miniSketchFilter.getSalt());
+    }
+
+    public int getCapacity() {
+        return sketch.length / Long.BYTES;
+    }
+
+    Optional<Set<Long>> getDifference() {
+        return difference;
+    }
+
+    void setDifference(Optional<Set<Long>> difference) {
+        this.difference = difference;
     }
 
     @Override
     public String getDetails() {
-        return "MiniSketchFilter";
+        return "MiniSketchFilter with capacity of " + getCapacity();
+    }
+
+    @Override
+    public String toString() {
+        return "MiniSketchFilter{" +
+                "capacity=" + getCapacity() +
+                ", salt=" + salt +
+                '}';
     }
-}
\ No newline at end of file
+}
@@ -17,44 +17,80 @@
 
 package bisq.network.p2p.services.data.inventory.filter.mini_sketch;
 
-import bisq.common.data.ByteArray;
+import bisq.common.timer.RateLimiter;
 import bisq.network.p2p.services.data.inventory.filter.FilterService;
 import bisq.network.p2p.services.data.inventory.filter.InventoryFilter;
 import bisq.network.p2p.services.data.inventory.filter.InventoryFilterType;
+import bisq.network.p2p.services.data.storage.InventoryIndex;
 import bisq.network.p2p.services.data.storage.StorageService;
-import bisq.network.p2p.services.data.storage.append.AddAppendOnlyDataRequest;
-import bisq.network.p2p.services.data.storage.auth.AuthenticatedDataRequest;
-import bisq.network.p2p.services.data.storage.mailbox.MailboxRequest;
+import bisq.network.p2p.services.data.storage.StoreType;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
- * Skeleton for planned MiniSketch implementation based on <a href="https://github.com/sipa/minisketch">https://github.com/sipa/minisketch</a>
+ * Set reconciliation based on <a href="https://github.com/sipa/minisketch">https://github.com/sipa/minisketch</a>.
+ * <p>
+ * The requester sends a sketch of all its map entries. The responder merges it with the sketch of its own map entries
+ * and decodes the symmetric difference. Map entries of the responder which are part of the difference are missing at
+ * the requester. The bandwidth is proportional to the capacity (the max. expected difference) and not to the number
+ * of map entries.
+ * <p>
+ * If the difference is larger than the capacity, decoding fails and we treat all entries as missing. The response is
+ * then limited by maxSize and sorted by priority as with an empty HashSetFilter.
+ * <p>
+ * Building a sketch costs O(number of entries * capacity). To not let peers trigger that work on demand, the salt is
+ * not chosen by the requester but derived from the current salt epoch, so that all requests of an epoch use the same
+ * salt. We accept only the salts of the previous, current and next epoch and cache our sketch per salt and capacity.
+ * A cached sketch gets rebuilt at most once per SKETCH_REBUILD_INTERVAL if the stores have changed. Entries added
+ * after the last rebuild might therefore be missing in the difference, but they got already broadcast.
+ * Decoding is rate limited as well. Requests with an unexpected salt or exceeding the rate limit are treated like a
+ * failed decoding.
  */
 @Slf4j
 public class MiniSketchFilterService extends FilterService<MiniSketchFilter> {
-    public MiniSketchFilterService(StorageService storageService, int maxSize) {
-        super(storageService, maxSize);
+    public final static int DEFAULT_CAPACITY = 128;
+    public final static long SALT_EPOCH_PERIOD = TimeUnit.HOURS.toMillis(1);
+    private final static long SKETCH_REBUILD_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+    private final static String RATE_LIMITER_KEY = "decode";
+
+    private record CachedSketch(MiniSketch sketch, long storesVersion, long timestamp) {
     }
 
-    public MiniSketchFilter getFilter() {
-        return new MiniSketchFilter();
+    private record SketchKey(long salt, int capacity) {
     }
 
-    @Override
-    protected boolean isAuthenticatedDataRequestMissing(MiniSketchFilter filter, Map.Entry<ByteArray, AuthenticatedDataRequest> mapEntry) {
-        return true;
+    private final int capacity;
+    private final Map<SketchKey, CachedSketch> cachedSketchByKey = new ConcurrentHashMap<>();
+    private final RateLimiter decodeRateLimiter = new RateLimiter(2, 30, 600, 10_000);
+
+    public MiniSketchFilterService(StorageService storageService, int maxSize) {
+        this(storageService, maxSize, DEFAULT_CAPACITY);
     }
 
-    @Override
-    protected boolean isMailboxRequestMissing(MiniSketchFilter filter, Map.Entry<ByteArray, MailboxRequest> mapEntry) {
-        return true;
+    public MiniSketchFilterService(StorageService storageService, int maxSize, int capacity) {
+        super(storageService, maxSize);
+        this.capacity = capacity;
+    }
+
+    public MiniSketchFilter getFilter() {
+        long salt = getSalt(getEpoch(System.currentTimeMillis()));
+        return new MiniSketchFilter(getSketch(salt, capacity).toBytes(), salt);
     }
 
     @Override
-    protected boolean isAddAppendOnlyDataRequestMissing(MiniSketchFilter filter, Map.Entry<ByteArray, AddAppendOnlyDataRequest> mapEntry) {
-        return true;
+    protected boolean isMissing(MiniSketchFilter filter, InventoryIndex.Entry entry) {
+        return getDifference(filter)
+                .map(difference -> difference.contains(toElement(filter.getSalt(), entry)))
+                .orElse(true);
     }
 
     @Override
@@ -65,4 +101,101 @@ public class MiniSketchFilterService extends FilterService<MiniSketchFilter> {
         }
         throw new IllegalArgumentException("InventoryFilter not of expected type. inventoryFilter=" + inventoryFilter);
     }
+
+    static long getEpoch(long time) {
+        return time / SALT_EPOCH_PERIOD;
+    }
+
+    static long getSalt(long epoch) {
+        return mix(epoch ^ 0x6d696e69736b6574L);
+    }
+
+    static boolean isAcceptedSalt(long salt, long time) {
+        long epoch = getEpoch(time);
+        return salt == getSalt(epoch - 1) || salt == getSalt(epoch) || salt == getSalt(epoch + 1);
+    }
+
+    // The difference gets decoded once per filter and cached in the filter.
+    private Optional<Set<Long>> getDifference(MiniSketchFilter filter) {
+        if (filter.getDifference() == null) {
+            filter.setDifference(decodeDifference(filter));
+        }
+        return filter.getDifference();
+    }
+
+    private Optional<Set<Long>> decodeDifference(MiniSketchFilter filter) {
+        if (!isAcceptedSalt(filter.getSalt(), System.currentTimeMillis())) {
+            log.info("MiniSketchFilter has an unexpected salt. We treat all entries as missing.");
+            return Optional.empty();
+        }
+        if (decodeRateLimiter.exceedsLimit(RATE_LIMITER_KEY)) {
+            log.info("Rate limit for decoding MiniSketchFilters exceeded. We treat all entries as missing.");
+            return Optional.empty();
+        }
+
+        MiniSketch peersSketch = MiniSketch.fromBytes(filter.getSketch());
+        MiniSketch mySketch = getSketch(filter.getSalt(), filter.getCapacity());
+        Optional<Set<Long>> difference = mySketch.merge(peersSketch).decode()
+                .map(elements -> Arrays.stream(elements).boxed().collect(Collectors.toCollection(HashSet::new)));
+        if (difference.isPresent()) {
+            log.info("Decoded MiniSketchFilter. Size of symmetric difference: {}", difference.get().size());
+        } else {
+            log.info("Symmetric difference exceeds capacity of MiniSketchFilter ({}). " +
+                    "We treat all entries as missing.", filter.getCapacity());
+        }
+        return difference;
+    }
+
+    // The returned sketch must not be modified as it is shared.
+    private MiniSketch getSketch(long salt, int capacity) {
+        long now = System.currentTimeMillis();
+        cachedSketchByKey.keySet().removeIf(key -> !isAcceptedSalt(key.salt(), now));
+        long storesVersion = getStoresVersion();
+        CachedSketch cachedSketch = cachedSketchByKey.compute(new SketchKey(salt, capacity), (key, cached) -> {
+            if (cached != null &&
+                    (cached.storesVersion() == storesVersion || now - cached.timestamp() < SKETCH_REBUILD_INTERVAL)) {
+                return cached;
+            }
+            return new CachedSketch(createSketch(salt, capacity), storesVersion, now);
+        });
+        return cachedSketch.sketch();
+    }
+
+    private MiniSketch createSketch(long salt, int capacity) {
+        MiniSketch miniSketch = new MiniSketch(capacity);
+        storageService.getInventoryIndexes(StoreType.ALL)
+                .flatMap(index -> index.getEntries().stream())
+                .mapToLong(entry -> toElement(salt, entry))
+                .forEach(miniSketch::add);
+        return miniSketch;
+    }
+
+    // Changes whenever an entry gets added to or removed from any store or a new store got created.
+    private long getStoresVersion() {
+        return storageService.getInventoryIndexes(StoreType.ALL)
+                .mapToLong(index -> index.getModificationCount() + 1)
+                .sum();
+    }
+
+    // Maps the hash and sequence number of a map entry to a non-zero 64 bit element.
+    // The salt is mixed in so that colliding entries cannot be created long in advance.
+    private static long toElement(long salt, InventoryIndex.Entry entry) {
+        ByteBuffer hash = ByteBuffer.wrap(entry.getKey().getBytes());
+        long element = mix(salt);
+        while (hash.remaining() >= Long.BYTES) {
+            element = mix(element ^ hash.getLong());
+        }
+        while (hash.hasRemaining()) {
+            element = mix(element ^ hash.get());
+        }
+        element = mix(element ^ entry.getSequenceNumber());
+        return element == 0 ? 1 : element;
+    }
+
+    // Finalizer of SplitMix64
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
 }
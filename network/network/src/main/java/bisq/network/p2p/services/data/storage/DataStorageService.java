@@ -18,7 +18,10 @@
 package bisq.network.p2p.services.data.storage;
 
 import bisq.common.data.ByteArray;
+import bisq.common.metrics.MetricsRegistry;
 import bisq.common.observable.collection.ObservableSet;
+import bisq.common.platform.PlatformUtils;
+import bisq.common.threading.ExecutorFactory;
 import bisq.network.p2p.services.data.DataRequest;
 import bisq.network.p2p.services.data.storage.append.AddAppendOnlyDataRequest;
 import bisq.network.p2p.services.data.storage.auth.AddAuthenticatedDataRequest;
@@ -31,20 +34,42 @@ import bisq.persistence.Persistence;
 import bisq.persistence.PersistenceService;
 import bisq.persistence.RateLimitedPersistenceClient;
 import bisq.persistence.backup.MaxBackupSize;
+import bisq.persistence.journal.JournalPersistence;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 @Slf4j
 public abstract class DataStorageService<T extends DataRequest> extends RateLimitedPersistenceClient<DataStore<T>> {
     public static final String STORE_POST_FIX = "Store";
+    private static final int VERIFICATION_QUEUE_CAPACITY = 10_000;
+    // Used for the stateless and CPU intensive verification of data requests (signatures, hashes, authorization).
+    // If the queue is full the caller runs the task, which throttles the producer.
+    public static final ExecutorService VERIFICATION_POOL = createVerificationPool();
+
+    private static ExecutorService createVerificationPool() {
+        int numThreads = Math.max(1, PlatformUtils.availableProcessors() - 1);
+        ThreadPoolExecutor executor = ExecutorFactory.getThreadPoolExecutor("DataStorage.verification",
+                numThreads,
+                numThreads,
+                60_000,
+                new LinkedBlockingQueue<>(VERIFICATION_QUEUE_CAPACITY));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
 
     @Getter
     protected final Persistence<DataStore<T>> persistence;
+    // Present if the journal persistence mode is used
+    private final Optional<JournalPersistence<DataStore<T>>> journalPersistence;
     @Getter
     protected final DataStore<T> persistableStore = new DataStore<>();
     @Getter
@@ -53,23 +78,58 @@ public abstract class DataStorageService<T extends DataRequest> extends RateLimi
     protected final String subDirectory;
     @Getter
     protected final ObservableSet<DataRequest> prunedAndExpiredDataRequests = new ObservableSet<>();
+    @Getter
+    protected final InventoryIndex<T> inventoryIndex = new InventoryIndex<>();
     protected Optional<Integer> maxMapSize = Optional.empty();
 
-    public DataStorageService(PersistenceService persistenceService, String storeName, String storeKey) {
+    public DataStorageService(PersistenceService persistenceService,
+                              String storeName,
+                              String storeKey,
+                              boolean useJournal) {
         super();
 
         this.storeKey = storeKey;
         String storageFileName = storeKey + STORE_POST_FIX;
         DbSubDirectory dbSubDirectory = DbSubDirectory.NETWORK_DB;
         subDirectory = dbSubDirectory.getDbPath() + File.separator + storeName;
-        persistence = persistenceService.getOrCreatePersistence(this,
-                subDirectory,
-                storageFileName,
-                persistableStore,
-                MaxBackupSize.from(dbSubDirectory));
+        if (useJournal) {
+            persistableStore.setTrackChangedKeys(true);
+            JournalPersistence<DataStore<T>> journal = persistenceService.getOrCreateJournalPersistence(this,
+                    subDirectory,
+                    storageFileName,
+                    persistableStore,
+                    MaxBackupSize.from(dbSubDirectory),
+                    DataStore::new);
+            journalPersistence = Optional.of(journal);
+            persistence = journal;
+        } else {
+            journalPersistence = Optional.empty();
+            persistence = persistenceService.getOrCreatePersistence(this,
+                    subDirectory,
+                    storageFileName,
+                    persistableStore,
+                    MaxBackupSize.from(dbSubDirectory));
+        }
+
+        MetricsRegistry.DEFAULT.gauge("bisq_storage_entries", "Number of entries in the network data store",
+                () -> persistableStore.getMap().size(), "store", storeKey);
+    }
+
+    /**
+     * If the journal is used, we append the changed entries instead of writing the complete store. Those writes are
+     * not rate limited, thus no changes get dropped.
+     */
+    @Override
+    public CompletableFuture<Boolean> persist() {
+        if (journalPersistence.isEmpty()) {
+            return super.persist();
+        }
+        return journalPersistence.get().appendAsync(persistableStore::drainJournalRecords, persistableStore::getClone)
+                .handle((nil, throwable) -> throwable == null);
     }
 
     public void shutdown() {
+        MetricsRegistry.DEFAULT.removeGauge("bisq_storage_entries", "store", storeKey);
     }
 
     @Override
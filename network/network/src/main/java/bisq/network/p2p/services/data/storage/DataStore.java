@@ -22,22 +22,35 @@ import bisq.common.proto.ProtoResolver;
 import bisq.common.proto.UnresolvableProtobufMessageException;
 import bisq.network.p2p.services.data.DataRequest;
 import bisq.persistence.PersistableStore;
+import bisq.persistence.journal.JournalRecord;
+import bisq.persistence.journal.JournaledPersistableStore;
 import com.google.protobuf.InvalidProtocolBufferException;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
 @ToString
-public final class DataStore<T extends DataRequest> implements PersistableStore<DataStore<T>> {
+public final class DataStore<T extends DataRequest> implements JournaledPersistableStore<DataStore<T>> {
     @Getter
     private final Map<ByteArray, T> map = new ConcurrentHashMap<>();
+    // Keys of the entries changed since the last journal write. Only tracked if the journal persistence mode is used.
+    @ToString.Exclude
+    private final Set<ByteArray> changedKeys = ConcurrentHashMap.newKeySet();
+    @Setter
+    @ToString.Exclude
+    private volatile boolean trackChangedKeys;
 
     public DataStore() {
     }
@@ -85,6 +98,73 @@ public final class DataStore<T extends DataRequest> implements PersistableStore<
         map.putAll(persisted.getMap());
     }
 
+    @Override
+    public void applyJournalRecord(JournalRecord journalRecord) {
+        ByteArray key = new ByteArray(journalRecord.getKey());
+        switch (journalRecord.getType()) {
+            case PUT -> {
+                try {
+                    //noinspection unchecked
+                    T dataRequest = (T) DataRequest.fromProto(bisq.network.protobuf.DataRequest.parseFrom(journalRecord.getValue()));
+                    map.put(key, dataRequest);
+                } catch (InvalidProtocolBufferException e) {
+                    throw new UnresolvableProtobufMessageException(e);
+                }
+            }
+            case REMOVE -> map.remove(key);
+        }
+    }
+
+    /* --------------------------------------------------------------------- */
+    // Mutations of the map which need to be tracked for the journal
+    /* --------------------------------------------------------------------- */
+
+    public void put(ByteArray key, T dataRequest) {
+        map.put(key, dataRequest);
+        onChanged(key);
+    }
+
+    public void remove(ByteArray key) {
+        map.remove(key);
+        onChanged(key);
+    }
+
+    public void replaceAll(Map<ByteArray, T> entries) {
+        Set<ByteArray> previousKeys = new HashSet<>(map.keySet());
+        map.clear();
+        map.putAll(entries);
+        if (trackChangedKeys) {
+            changedKeys.addAll(previousKeys);
+            changedKeys.addAll(entries.keySet());
+        }
+    }
+
+    /**
+     * Removes the changed keys and returns the journal records for the current state of those entries.
+     */
+    public List<JournalRecord> drainJournalRecords() {
+        List<JournalRecord> records = new ArrayList<>();
+        Iterator<ByteArray> iterator = changedKeys.iterator();
+        while (iterator.hasNext()) {
+            ByteArray key = iterator.next();
+            // We remove the key before reading the entry, so a concurrent change will be added again and is not lost.
+            iterator.remove();
+            T dataRequest = map.get(key);
+            if (dataRequest == null) {
+                records.add(JournalRecord.remove(key.getBytes()));
+            } else {
+                records.add(JournalRecord.put(key.getBytes(), dataRequest.toProto(false).getDataRequest().toByteArray()));
+            }
+        }
+        return records;
+    }
+
+    private void onChanged(ByteArray key) {
+        if (trackChangedKeys) {
+            changedKeys.add(key);
+        }
+    }
+
     @Override
     public DataStore<T> getClone() {
         return new DataStore<>(new HashMap<>(map));
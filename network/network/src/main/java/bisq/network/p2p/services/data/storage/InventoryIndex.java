@@ -0,0 +1,180 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.services.data.storage;
+
+import bisq.common.data.ByteArray;
+import bisq.network.p2p.services.data.DataRequest;
+import bisq.network.p2p.services.data.inventory.filter.hash_set.HashSetFilterEntry;
+import bisq.network.p2p.services.data.storage.append.AddAppendOnlyDataRequest;
+import bisq.network.p2p.services.data.storage.auth.AddAuthenticatedDataRequest;
+import bisq.network.p2p.services.data.storage.auth.RefreshAuthenticatedDataRequest;
+import bisq.network.p2p.services.data.storage.auth.RemoveAuthenticatedDataRequest;
+import bisq.network.p2p.services.data.storage.mailbox.AddMailboxRequest;
+import bisq.network.p2p.services.data.storage.mailbox.RemoveMailboxRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Index of the map entries of a DataStorageService used for creating inventory responses.
+ * Entries are bucketed by priority (highest first) and by add or remove requests, so that the inventory can be
+ * created with a single pass over the buckets which stops once the max. size is reached.
+ * The index is updated by the add, remove, refresh and prune paths of the DataStorageService and rebuilt after
+ * the persisted data has been applied.
+ */
+@Slf4j
+public class InventoryIndex<T extends DataRequest> {
+    @Getter
+    public static final class Entry {
+        private final ByteArray key;
+        private final DataRequest dataRequest;
+        private final int priority;
+        private final int sequenceNumber;
+        private final boolean isRemoveRequest;
+        // Empty if the request has no version (AddAppendOnlyDataRequest)
+        private final Optional<Integer> version;
+        private final HashSetFilterEntry hashSetFilterEntry;
+        // Lazily computed as it requires serialisation
+        private volatile int serializedSize = -1;
+
+        private Entry(ByteArray key, DataRequest dataRequest) {
+            this.key = key;
+            this.dataRequest = dataRequest;
+            if (dataRequest instanceof AddAuthenticatedDataRequest request) {
+                priority = request.getDistributedData().getMetaData().getPriority();
+                sequenceNumber = request.getAuthenticatedSequentialData().getSequenceNumber();
+                isRemoveRequest = false;
+                version = Optional.of(request.getDistributedData().getVersion());
+            } else if (dataRequest instanceof RemoveAuthenticatedDataRequest request) {
+                priority = request.getMetaData().getPriority();
+                sequenceNumber = request.getSequenceNumber();
+                isRemoveRequest = true;
+                version = Optional.of(request.getVersion());
+            } else if (dataRequest instanceof AddMailboxRequest request) {
+                priority = request.getMailboxSequentialData().getMailboxData().getMetaData().getPriority();
+                sequenceNumber = request.getSequenceNumber();
+                isRemoveRequest = false;
+                version = Optional.of(request.getMailboxSequentialData().getMailboxData().getVersion());
+            } else if (dataRequest instanceof RemoveMailboxRequest request) {
+                priority = request.getMetaData().getPriority();
+                sequenceNumber = request.getSequenceNumber();
+                isRemoveRequest = true;
+                version = Optional.of(request.getVersion());
+            } else if (dataRequest instanceof AddAppendOnlyDataRequest request) {
+                priority = request.getAppendOnlyData().getMetaData().getPriority();
+                // AddAppendOnlyDataRequest does not use a seq nr.
+                sequenceNumber = 0;
+                isRemoveRequest = false;
+                version = Optional.empty();
+            } else {
+                throw new IllegalArgumentException("Unexpected dataRequest type " + dataRequest.getClass().getSimpleName());
+            }
+            hashSetFilterEntry = new HashSetFilterEntry(key.getBytes(), sequenceNumber);
+        }
+
+        public int getSerializedSize() {
+            if (serializedSize < 0) {
+                serializedSize = dataRequest.getSerializedSize();
+            }
+            return serializedSize;
+        }
+    }
+
+    private final Map<ByteArray, Entry> entryByKey = new ConcurrentHashMap<>();
+    private final NavigableMap<Integer, Map<ByteArray, Entry>> addEntriesByPriority = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+    private final NavigableMap<Integer, Map<ByteArray, Entry>> removeEntriesByPriority = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+    // Incremented at each change. Used for detecting changes without iterating the entries.
+    @Getter
+    private volatile long modificationCount;
+
+    public InventoryIndex() {
+    }
+
+    public synchronized void put(ByteArray key, T dataRequest) {
+        if (dataRequest instanceof RefreshAuthenticatedDataRequest) {
+            // Refresh requests are not stored in the map
+            return;
+        }
+        Entry entry = new Entry(key, dataRequest);
+        Entry previous = entryByKey.put(key, entry);
+        if (previous != null) {
+            removeFromBucket(previous);
+        }
+        getBuckets(entry.isRemoveRequest())
+                .computeIfAbsent(entry.getPriority(), priority -> new ConcurrentHashMap<>())
+                .put(key, entry);
+        modificationCount++;
+    }
+
+    public synchronized void remove(ByteArray key) {
+        Entry previous = entryByKey.remove(key);
+        if (previous != null) {
+            removeFromBucket(previous);
+            modificationCount++;
+        }
+    }
+
+    public synchronized void rebuild(Map<ByteArray, T> map) {
+        entryByKey.clear();
+        addEntriesByPriority.clear();
+        removeEntriesByPriority.clear();
+        modificationCount++;
+        map.forEach(this::put);
+    }
+
+    public Set<Integer> getPriorities(boolean isRemoveRequest) {
+        return getBuckets(isRemoveRequest).keySet();
+    }
+
+    public Collection<Entry> getEntries(int priority, boolean isRemoveRequest) {
+        Map<ByteArray, Entry> bucket = getBuckets(isRemoveRequest).get(priority);
+        return bucket != null ? bucket.values() : Collections.emptyList();
+    }
+
+    public Collection<Entry> getEntries() {
+        return entryByKey.values();
+    }
+
+    public int size() {
+        return entryByKey.size();
+    }
+
+    private NavigableMap<Integer, Map<ByteArray, Entry>> getBuckets(boolean isRemoveRequest) {
+        return isRemoveRequest ? removeEntriesByPriority : addEntriesByPriority;
+    }
+
+    private void removeFromBucket(Entry entry) {
+        NavigableMap<Integer, Map<ByteArray, Entry>> buckets = getBuckets(entry.isRemoveRequest());
+        Map<ByteArray, Entry> bucket = buckets.get(entry.getPriority());
+        if (bucket != null) {
+            bucket.remove(entry.getKey());
+            if (bucket.isEmpty()) {
+                buckets.remove(entry.getPriority());
+            }
+        }
+    }
+}
@@ -35,7 +35,10 @@ import bisq.network.p2p.services.data.storage.mailbox.*;
 import bisq.persistence.DbSubDirectory;
 import bisq.persistence.Persistence;
 import bisq.persistence.PersistenceService;
+import bisq.persistence.journal.JournalPersistence;
 import com.google.common.collect.Maps;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
@@ -53,23 +56,174 @@ import static bisq.network.p2p.services.data.storage.StoreType.*;
 
 @Slf4j
 public class StorageService {
+    @Getter
+    @ToString
+    public static final class Config {
+        public static Config from(com.typesafe.config.Config config) {
+            return new Config(config.getBoolean("useJournal"));
+        }
+
+        private final boolean useJournal;
+
+        public Config(boolean useJournal) {
+            this.useJournal = useJournal;
+        }
+    }
+
     public interface Listener {
         void onAdded(StorageData storageData);
 
         void onRemoved(StorageData storageData);
 
         void onRefreshed(StorageData storageData);
+
+        default void onAdded(Collection<? extends StorageData> storageDataList) {
+            storageDataList.forEach(this::onAdded);
+        }
+
+        default void onRemoved(Collection<? extends StorageData> storageDataList) {
+            storageDataList.forEach(this::onRemoved);
+        }
     }
 
     final Map<String, AuthenticatedDataStorageService> authenticatedDataStores = new ConcurrentHashMap<>();
     final Map<String, MailboxDataStorageService> mailboxStores = new ConcurrentHashMap<>();
     final Map<String, AppendOnlyDataStorageService> appendOnlyDataStores = new ConcurrentHashMap<>();
     private final PersistenceService persistenceService;
+    private final Config config;
     private final Set<Listener> listeners = new CopyOnWriteArraySet<>();
     private final PruneExpiredEntriesService pruneExpiredEntriesService = new PruneExpiredEntriesService();
 
-    public StorageService(PersistenceService persistenceService) {
+    private final AuthenticatedDataStorageService.Listener authenticatedDataStoreListener = new AuthenticatedDataStorageService.Listener() {
+        @Override
+        public void onAdded(AuthenticatedData authenticatedData) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAdded(authenticatedData);
+                } catch (Exception e) {
+                    log.error("Calling onAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+
+        @Override
+        public void onRemoved(AuthenticatedData authenticatedData) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onRemoved(authenticatedData);
+                } catch (Exception e) {
+                    log.error("Calling onRemoved at listener {} failed", listener, e);
+                }
+            });
+        }
+
+        @Override
+        public void onRefreshed(AuthenticatedData authenticatedData) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onRefreshed(authenticatedData);
+                } catch (Exception e) {
+                    log.error("Calling onRefreshed at listener {} failed", listener, e);
+                }
+            });
+        }
+
+        @Override
+        public void onAdded(Collection<AuthenticatedData> authenticatedDataList) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAdded(authenticatedDataList);
+                } catch (Exception e) {
+                    log.error("Calling onAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+
+        @Override
+        public void onRemoved(Collection<AuthenticatedData> authenticatedDataList) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onRemoved(authenticatedDataList);
+                } catch (Exception e) {
+                    log.error("Calling onRemoved at listener {} failed", listener, e);
+                }
+            });
+        }
+    };
+
+    private final MailboxDataStorageService.Listener mailboxDataStoreListener = new MailboxDataStorageService.Listener() {
+        @Override
+        public void onAdded(MailboxData mailboxData) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAdded(mailboxData);
+                } catch (Exception e) {
+                    log.error("Calling onAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+
+        @Override
+        public void onRemoved(MailboxData mailboxData) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onRemoved(mailboxData);
+                } catch (Exception e) {
+                    log.error("Calling onRemoved at listener {} failed", listener, e);
+                }
+            });
+        }
+
+        @Override
+        public void onAdded(Collection<MailboxData> mailboxDataList) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAdded(mailboxDataList);
+                } catch (Exception e) {
+                    log.error("Calling onAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+
+        @Override
+        public void onRemoved(Collection<MailboxData> mailboxDataList) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onRemoved(mailboxDataList);
+                } catch (Exception e) {
+                    log.error("Calling onRemoved at listener {} failed", listener, e);
+                }
+            });
+        }
+    };
+
+    private final AppendOnlyDataStorageService.Listener appendOnlyDataStoreListener = new AppendOnlyDataStorageService.Listener() {
+        @Override
+        public void onAppended(AppendOnlyData appendOnlyData) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAdded(appendOnlyData);
+                } catch (Exception e) {
+                    log.error("Calling onAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+
+        @Override
+        public void onAppended(Collection<AppendOnlyData> appendOnlyDataList) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAdded(appendOnlyDataList);
+                } catch (Exception e) {
+                    log.error("Calling onAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+    };
+
+    public StorageService(PersistenceService persistenceService, Config config) {
         this.persistenceService = persistenceService;
+        this.config = config;
 
         pruneExpiredEntriesService.initialize();
 
@@ -82,41 +236,8 @@ public class StorageService {
             if (new File(directory).exists()) {
                 getExistingStoreKeys(directory)
                         .forEach(storeKey -> {
-                            AuthenticatedDataStorageService dataStore = new AuthenticatedDataStorageService(persistenceService, pruneExpiredEntriesService, authStoreName, storeKey);
-                            dataStore.addListener(new AuthenticatedDataStorageService.Listener() {
-                                @Override
-                                public void onAdded(AuthenticatedData authenticatedData) {
-                                    listeners.forEach(listener -> {
-                                        try {
-                                            listener.onAdded(authenticatedData);
-                                        } catch (Exception e) {
-                                            log.error("Calling onAdded at listener {} failed", listener, e);
-                                        }
-                                    });
-                                }
-
-                                @Override
-                                public void onRemoved(AuthenticatedData authenticatedData) {
-                                    listeners.forEach(listener -> {
-                                        try {
-                                            listener.onRemoved(authenticatedData);
-                                        } catch (Exception e) {
-                                            log.error("Calling onRemoved at listener {} failed", listener, e);
-                                        }
-                                    });
-                                }
-
-                                @Override
-                                public void onRefreshed(AuthenticatedData authenticatedData) {
-                                    listeners.forEach(listener -> {
-                                        try {
-                                            listener.onRefreshed(authenticatedData);
-                                        } catch (Exception e) {
-                                            log.error("Calling onRefresh at listener {} failed", listener, e);
-                                        }
-                                    });
-                                }
-                            });
+                            AuthenticatedDataStorageService dataStore = new AuthenticatedDataStorageService(persistenceService, pruneExpiredEntriesService, authStoreName, storeKey, config.isUseJournal());
+                            dataStore.addListener(authenticatedDataStoreListener);
                             authenticatedDataStores.put(storeKey, dataStore);
                         });
             }
@@ -125,30 +246,8 @@ public class StorageService {
             if (new File(directory).exists()) {
                 getExistingStoreKeys(directory)
                         .forEach(storeKey -> {
-                            MailboxDataStorageService dataStore = new MailboxDataStorageService(persistenceService, pruneExpiredEntriesService, mailboxStoreName, storeKey);
-                            dataStore.addListener(new MailboxDataStorageService.Listener() {
-                                @Override
-                                public void onAdded(MailboxData mailboxData) {
-                                    listeners.forEach(listener -> {
-                                        try {
-                                            listener.onAdded(mailboxData);
-                                        } catch (Exception e) {
-                                            log.error("Calling onAdded at listener {} failed", listener, e);
-                                        }
-                                    });
-                                }
-
-                                @Override
-                                public void onRemoved(MailboxData mailboxData) {
-                                    listeners.forEach(listener -> {
-                                        try {
-                                            listener.onRemoved(mailboxData);
-                                        } catch (Exception e) {
-                                            log.error("Calling onRemoved at listener {} failed", listener, e);
-                                        }
-                                    });
-                                }
-                            });
+                            MailboxDataStorageService dataStore = new MailboxDataStorageService(persistenceService, pruneExpiredEntriesService, mailboxStoreName, storeKey, config.isUseJournal());
+                            dataStore.addListener(mailboxDataStoreListener);
                             mailboxStores.put(storeKey, dataStore);
                         });
             }
@@ -158,14 +257,8 @@ public class StorageService {
             if (new File(directory).exists()) {
                 getExistingStoreKeys(directory)
                         .forEach(storeKey -> {
-                            AppendOnlyDataStorageService dataStore = new AppendOnlyDataStorageService(persistenceService, appendStoreName, storeKey);
-                            dataStore.addListener(appendOnlyData -> listeners.forEach(listener -> {
-                                try {
-                                    listener.onAdded(appendOnlyData);
-                                } catch (Exception e) {
-                                    log.error("Calling onAdded at listener {} failed", listener, e);
-                                }
-                            }));
+                            AppendOnlyDataStorageService dataStore = new AppendOnlyDataStorageService(persistenceService, appendStoreName, storeKey, config.isUseJournal());
+                            dataStore.addListener(appendOnlyDataStoreListener);
                             appendOnlyDataStores.put(storeKey, dataStore);
                         });
             }
@@ -242,8 +335,8 @@ public class StorageService {
     private CompletableFuture<Optional<StorageData>> onAddAuthenticatedDataRequest(AddAuthenticatedDataRequest request) {
         AuthenticatedData authenticatedData = request.getAuthenticatedSequentialData().getAuthenticatedData();
         return getOrCreateAuthenticatedDataStore(authenticatedData.getClassName())
-                .thenApply(store -> {
-                    DataStorageResult dataStorageResult = store.add(request);
+                .thenCompose(store -> store.addAsync(request))
+                .thenApply(dataStorageResult -> {
                     if (dataStorageResult.isSuccess()) {
                         return Optional.of(authenticatedData);
                     } else {
@@ -305,8 +398,8 @@ public class StorageService {
 
     private CompletableFuture<Optional<StorageData>> onRemoveAuthenticatedDataRequest(RemoveAuthenticatedDataRequest request) {
         return getOrCreateAuthenticatedDataStore(request.getClassName())
-                .thenApply(store -> {
-                    DataStorageResult dataStorageResult = store.remove(request);
+                .thenCompose(store -> store.removeAsync(request))
+                .thenApply(dataStorageResult -> {
                     if (dataStorageResult.isSuccess()) {
                         return Optional.of(dataStorageResult.getRemovedData());
                     } else {
@@ -318,6 +411,7 @@ public class StorageService {
                 });
     }
 
+
     public Stream<Map<ByteArray, AuthenticatedDataRequest>> getAuthenticatedDataStoreMaps() {
         return authenticatedDataStores.values().stream().map(store -> store.getPersistableStore().getClone().getMap());
     }
@@ -330,6 +424,10 @@ public class StorageService {
         return appendOnlyDataStores.values().stream().map(store -> store.getPersistableStore().getClone().getMap());
     }
 
+    public Stream<InventoryIndex<? extends DataRequest>> getInventoryIndexes(StoreType storeType) {
+        return getStoresByStoreType(storeType).map(DataStorageService::getInventoryIndex);
+    }
+
     public Stream<Map.Entry<ByteArray, ? extends DataRequest>> getAllDataRequestMapEntries() {
         return getStoresByStoreType(ALL).flatMap(store -> new HashMap<>(store.getPersistableStore().getMap()).entrySet().stream());
     }
@@ -352,6 +450,60 @@ public class StorageService {
     }
 
 
+    /* --------------------------------------------------------------------- */
+    // Batch
+    /* --------------------------------------------------------------------- */
+
+    /**
+     * Groups the add and remove requests by store and applies each group as one batch.
+     * The order of the requests is kept within a store.
+     */
+    public CompletableFuture<Void> processBatch(List<? extends DataRequest> dataRequests) {
+        Map<String, List<AuthenticatedDataRequest>> authenticatedDataRequestsByStoreKey = new HashMap<>();
+        Map<String, List<MailboxRequest>> mailboxRequestsByStoreKey = new HashMap<>();
+        Map<String, List<AddAppendOnlyDataRequest>> appendOnlyDataRequestsByStoreKey = new HashMap<>();
+        dataRequests.forEach(dataRequest -> {
+            if (dataRequest instanceof AddAuthenticatedDataRequest request) {
+                String storeKey = request.getAuthenticatedSequentialData().getAuthenticatedData().getClassName();
+                authenticatedDataRequestsByStoreKey.computeIfAbsent(storeKey, key -> new ArrayList<>()).add(request);
+            } else if (dataRequest instanceof RemoveAuthenticatedDataRequest request) {
+                authenticatedDataRequestsByStoreKey.computeIfAbsent(request.getClassName(), key -> new ArrayList<>()).add(request);
+            } else if (dataRequest instanceof AddMailboxRequest request) {
+                String storeKey = request.getMailboxSequentialData().getMailboxData().getClassName();
+                mailboxRequestsByStoreKey.computeIfAbsent(storeKey, key -> new ArrayList<>()).add(request);
+            } else if (dataRequest instanceof RemoveMailboxRequest request) {
+                mailboxRequestsByStoreKey.computeIfAbsent(request.getClassName(), key -> new ArrayList<>()).add(request);
+            } else if (dataRequest instanceof AddAppendOnlyDataRequest request) {
+                String storeKey = request.getAppendOnlyData().getMetaData().getClassName();
+                appendOnlyDataRequestsByStoreKey.computeIfAbsent(storeKey, key -> new ArrayList<>()).add(request);
+            } else {
+                log.warn("Unexpected dataRequest in batch: {}", dataRequest.getClass().getSimpleName());
+            }
+        });
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        authenticatedDataRequestsByStoreKey.forEach((storeKey, requests) ->
+                futures.add(getOrCreateAuthenticatedDataStore(storeKey)
+                        .thenCompose(store -> store.processBatchAsync(requests))
+                        .thenAccept(this::logSevereFailures)));
+        mailboxRequestsByStoreKey.forEach((storeKey, requests) ->
+                futures.add(getOrCreateMailboxDataStore(storeKey)
+                        .thenCompose(store -> store.processBatchAsync(requests))
+                        .thenAccept(this::logSevereFailures)));
+        appendOnlyDataRequestsByStoreKey.forEach((storeKey, requests) ->
+                futures.add(getOrCreateAppendOnlyDataStore(storeKey)
+                        .thenApply(store -> store.processBatch(requests))
+                        .thenAccept(this::logSevereFailures)));
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    private void logSevereFailures(List<DataStorageResult> results) {
+        results.stream()
+                .filter(DataStorageResult::isSevereFailure)
+                .forEach(result -> log.warn("DataRequest from batch was not applied to store. Result={}", result));
+    }
+
+
     /* --------------------------------------------------------------------- */
     // Get or create stores
     /* --------------------------------------------------------------------- */
@@ -361,30 +513,9 @@ public class StorageService {
             AuthenticatedDataStorageService dataStore = new AuthenticatedDataStorageService(persistenceService,
                     pruneExpiredEntriesService,
                     AUTHENTICATED_DATA_STORE.getStoreName(),
-                    storeKey);
-            dataStore.addListener(new AuthenticatedDataStorageService.Listener() {
-                @Override
-                public void onAdded(AuthenticatedData authenticatedData) {
-                    listeners.forEach(listener -> {
-                        try {
-                            listener.onAdded(authenticatedData);
-                        } catch (Exception e) {
-                            log.error("Calling onAdded at listener {} failed", listener, e);
-                        }
-                    });
-                }
-
-                @Override
-                public void onRemoved(AuthenticatedData authenticatedData) {
-                    listeners.forEach(listener -> {
-                        try {
-                            listener.onRemoved(authenticatedData);
-                        } catch (Exception e) {
-                            log.error("Calling onRemoved at listener {} failed", listener, e);
-                        }
-                    });
-                }
-            });
+                    storeKey,
+                    config.isUseJournal());
+            dataStore.addListener(authenticatedDataStoreListener);
             authenticatedDataStores.put(storeKey, dataStore);
             return dataStore.readPersisted().thenApplyAsync(store -> dataStore, NetworkService.DISPATCHER);
         } else {
@@ -397,30 +528,9 @@ public class StorageService {
             MailboxDataStorageService dataStore = new MailboxDataStorageService(persistenceService,
                     pruneExpiredEntriesService,
                     MAILBOX_DATA_STORE.getStoreName(),
-                    storeKey);
-            dataStore.addListener(new MailboxDataStorageService.Listener() {
-                @Override
-                public void onAdded(MailboxData mailboxData) {
-                    listeners.forEach(listener -> {
-                        try {
-                            listener.onAdded(mailboxData);
-                        } catch (Exception e) {
-                            log.error("Calling onAdded at listener {} failed", listener, e);
-                        }
-                    });
-                }
-
-                @Override
-                public void onRemoved(MailboxData mailboxData) {
-                    listeners.forEach(listener -> {
-                        try {
-                            listener.onRemoved(mailboxData);
-                        } catch (Exception e) {
-                            log.error("Calling onRemoved at listener {} failed", listener, e);
-                        }
-                    });
-                }
-            });
+                    storeKey,
+                    config.isUseJournal());
+            dataStore.addListener(mailboxDataStoreListener);
             mailboxStores.put(storeKey, dataStore);
             return dataStore.readPersisted().thenApply(nil -> dataStore);
         } else {
@@ -432,7 +542,8 @@ public class StorageService {
         if (!appendOnlyDataStores.containsKey(storeKey)) {
             AppendOnlyDataStorageService dataStore = new AppendOnlyDataStorageService(persistenceService,
                     APPEND_ONLY_DATA_STORE.getStoreName(),
-                    storeKey);
+                    storeKey,
+                    config.isUseJournal());
             appendOnlyDataStores.put(storeKey, dataStore);
             return dataStore.readPersisted().thenApply(nil -> dataStore);
         } else {
@@ -497,8 +608,8 @@ public class StorageService {
                                 }
                             }));
             log.info("cleanupMap for {}: size of cleaned map {}; size of original map={}", storeKey, cleaned.size(), map.size());
-            map.clear();
-            map.putAll(cleaned);
+            authenticatedDataStorageService.getPersistableStore().replaceAll(cleaned);
+            authenticatedDataStorageService.getInventoryIndex().rebuild(map);
             authenticatedDataStorageService.persist();
         } catch (Exception e) {
             e.printStackTrace();
@@ -534,8 +645,9 @@ public class StorageService {
     private Set<String> getExistingStoreKeys(String directory) {
         return NetworkStorageWhiteList.getClassNames().stream()
                 .filter(className -> {
-                    String storageFileName = StringUtils.camelCaseToSnakeCase(className + DataStorageService.STORE_POST_FIX) + Persistence.EXTENSION;
-                    return Paths.get(directory, storageFileName).toFile().exists();
+                    String storageFileName = StringUtils.camelCaseToSnakeCase(className + DataStorageService.STORE_POST_FIX);
+                    return Paths.get(directory, storageFileName + Persistence.EXTENSION).toFile().exists() ||
+                            Paths.get(directory, storageFileName + JournalPersistence.JOURNAL_EXTENSION).toFile().exists();
                 })
                 .collect(Collectors.toSet());
     }
@@ -25,6 +25,9 @@ import bisq.persistence.PersistenceService;
 import bisq.security.DigestUtil;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -37,13 +40,20 @@ import java.util.concurrent.CopyOnWriteArraySet;
 public class AppendOnlyDataStorageService extends DataStorageService<AddAppendOnlyDataRequest> {
     public interface Listener {
         void onAppended(AppendOnlyData appendOnlyData);
+
+        default void onAppended(Collection<AppendOnlyData> appendOnlyDataList) {
+            appendOnlyDataList.forEach(this::onAppended);
+        }
     }
 
     private final Set<Listener> listeners = new CopyOnWriteArraySet<>();
     private final Object mapAccessLock = new Object();
 
-    public AppendOnlyDataStorageService(PersistenceService persistenceService, String storeName, String storeKey) {
-        super(persistenceService, storeName, storeKey);
+    public AppendOnlyDataStorageService(PersistenceService persistenceService,
+                                        String storeName,
+                                        String storeKey,
+                                        boolean useJournal) {
+        super(persistenceService, storeName, storeKey, useJournal);
     }
 
     @Override
@@ -52,6 +62,11 @@ public class AppendOnlyDataStorageService extends DataStorageService<AddAppendOn
         return persisted;
     }
 
+    @Override
+    public void onPersistedApplied(DataStore<AddAppendOnlyDataRequest> persisted) {
+        inventoryIndex.rebuild(persistableStore.getMap());
+    }
+
     @SuppressWarnings("RedundantMethodOverride")
     @Override
     protected long getMaxWriteRateInMs() {
@@ -59,30 +74,49 @@ public class AppendOnlyDataStorageService extends DataStorageService<AddAppendOn
     }
 
     public DataStorageResult add(AddAppendOnlyDataRequest addAppendOnlyDataRequest) {
+        DataStorageResult result = putAddRequest(addAppendOnlyDataRequest);
+        if (!result.isSuccess()) {
+            return result;
+        }
+
+        persist();
         AppendOnlyData appendOnlyData = addAppendOnlyDataRequest.getAppendOnlyData();
-        Map<ByteArray, AddAppendOnlyDataRequest> map = persistableStore.getMap();
-        synchronized (mapAccessLock) {
-            if (isExceedingMapSize()) {
-                return new DataStorageResult(false).maxMapSizeReached();
+        listeners.forEach(listener -> {
+            try {
+                listener.onAppended(appendOnlyData);
+            } catch (Exception e) {
+                log.error("Calling onAppended at listener {} failed", listener, e);
             }
+        });
+        return result;
+    }
 
-            byte[] hash = DigestUtil.hash(appendOnlyData.serializeForHash());
-            ByteArray byteArray = new ByteArray(hash);
-            if (map.containsKey(byteArray)) {
-                return new DataStorageResult(false).payloadAlreadyStored();
+    /**
+     * Adds the requests, persists once and notifies the listeners with the collection of appended data.
+     */
+    public List<DataStorageResult> processBatch(List<AddAppendOnlyDataRequest> addAppendOnlyDataRequests) {
+        List<DataStorageResult> results = new ArrayList<>(addAppendOnlyDataRequests.size());
+        List<AppendOnlyData> appended = new ArrayList<>();
+        addAppendOnlyDataRequests.forEach(addAppendOnlyDataRequest -> {
+            DataStorageResult result = putAddRequest(addAppendOnlyDataRequest);
+            results.add(result);
+            if (result.isSuccess()) {
+                appended.add(addAppendOnlyDataRequest.getAppendOnlyData());
             }
-
-            map.put(byteArray, addAppendOnlyDataRequest);
+        });
+        if (appended.isEmpty()) {
+            return results;
         }
+
         persist();
         listeners.forEach(listener -> {
             try {
-                listener.onAppended(appendOnlyData);
+                listener.onAppended(appended);
             } catch (Exception e) {
                 log.error("Calling onAppended at listener {} failed", listener, e);
             }
         });
-        return new DataStorageResult(true);
+        return results;
     }
 
     @Override
@@ -97,4 +131,24 @@ public class AppendOnlyDataStorageService extends DataStorageService<AddAppendOn
     public void removeListener(AppendOnlyDataStorageService.Listener listener) {
         listeners.remove(listener);
     }
+
+    private DataStorageResult putAddRequest(AddAppendOnlyDataRequest addAppendOnlyDataRequest) {
+        AppendOnlyData appendOnlyData = addAppendOnlyDataRequest.getAppendOnlyData();
+        Map<ByteArray, AddAppendOnlyDataRequest> map = persistableStore.getMap();
+        synchronized (mapAccessLock) {
+            if (isExceedingMapSize()) {
+                return new DataStorageResult(false).maxMapSizeReached();
+            }
+
+            byte[] hash = DigestUtil.hash(appendOnlyData.serializeForHash());
+            ByteArray byteArray = new ByteArray(hash);
+            if (map.containsKey(byteArray)) {
+                return new DataStorageResult(false).payloadAlreadyStored();
+            }
+
+            persistableStore.put(byteArray, addAppendOnlyDataRequest);
+            inventoryIndex.put(byteArray, addAppendOnlyDataRequest);
+        }
+        return new DataStorageResult(true);
+    }
 }
@@ -20,6 +20,7 @@ package bisq.network.p2p.services.data.storage.auth;
 import bisq.common.application.DevMode;
 import bisq.common.data.ByteArray;
 import bisq.common.util.StringUtils;
+import bisq.network.NetworkService;
 import bisq.network.p2p.services.data.storage.*;
 import bisq.network.p2p.services.data.storage.auth.authorized.AuthorizedData;
 import bisq.persistence.PersistenceService;
@@ -27,11 +28,17 @@ import bisq.security.DigestUtil;
 import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,16 +53,31 @@ public class AuthenticatedDataStorageService extends DataStorageService<Authenti
 
         default void onRefreshed(AuthenticatedData authenticatedData) {
         }
+
+        default void onAdded(Collection<AuthenticatedData> authenticatedDataList) {
+            authenticatedDataList.forEach(this::onAdded);
+        }
+
+        default void onRemoved(Collection<AuthenticatedData> authenticatedDataList) {
+            authenticatedDataList.forEach(this::onRemoved);
+        }
     }
 
+    private static final int NUM_MAP_ACCESS_LOCKS = 64;
+
     private final Set<Listener> listeners = new CopyOnWriteArraySet<>();
-    private final Object mapAccessLock = new Object();
+    // Striped locks by key, so that requests for different keys do not block each other
+    private final Object[] mapAccessLocks = new Object[NUM_MAP_ACCESS_LOCKS];
 
     public AuthenticatedDataStorageService(PersistenceService persistenceService,
                                            PruneExpiredEntriesService pruneExpiredEntriesService,
                                            String storeName,
-                                           String storeKey) {
-        super(persistenceService, storeName, storeKey);
+                                           String storeKey,
+                                           boolean useJournal) {
+        super(persistenceService, storeName, storeKey, useJournal);
+        for (int i = 0; i < mapAccessLocks.length; i++) {
+            mapAccessLocks[i] = new Object();
+        }
         pruneExpiredEntriesService.addTask(this::pruneExpired);
     }
 
@@ -64,6 +86,7 @@ public class AuthenticatedDataStorageService extends DataStorageService<Authenti
         maybeLogMapState("onPersistedApplied", persisted);
         pruneInvalidAuthorizedData();
         handlePersistedPublishDateAware(persisted);
+        inventoryIndex.rebuild(persistableStore.getMap());
     }
 
     @Override
@@ -72,74 +95,208 @@ public class AuthenticatedDataStorageService extends DataStorageService<Authenti
         super.shutdown();
     }
 
+    /**
+     * Runs the stateless verification on the VERIFICATION_POOL and applies the request on the DISPATCHER thread.
+     */
+    public CompletableFuture<DataStorageResult> addAsync(AddAuthenticatedDataRequest request) {
+        return CompletableFuture.supplyAsync(() -> {
+                    ByteArray byteArray = getHash(request);
+                    return verify(request, byteArray)
+                            .map(CompletableFuture::completedFuture)
+                            .orElseGet(() -> CompletableFuture.supplyAsync(() -> applyAdd(request, byteArray),
+                                    NetworkService.DISPATCHER));
+                }, VERIFICATION_POOL)
+                .thenCompose(Function.identity());
+    }
+
     public DataStorageResult add(AddAuthenticatedDataRequest request) {
-        maybeLogMapState("add", persistableStore);
-        AuthenticatedSequentialData authenticatedSequentialData = request.getAuthenticatedSequentialData();
-        AuthenticatedData authenticatedData = authenticatedSequentialData.getAuthenticatedData();
-        DistributedData distributedData = authenticatedData.distributedData;
-        byte[] hash = DigestUtil.hash(authenticatedData.serializeForHash());
-        ByteArray byteArray = new ByteArray(hash);
-        AuthenticatedDataRequest requestFromMap;
+        ByteArray byteArray = getHash(request);
+        return verify(request, byteArray).orElseGet(() -> applyAdd(request, byteArray));
+    }
+
+    /**
+     * Runs the signature verification on the VERIFICATION_POOL and applies the request on the DISPATCHER thread.
+     */
+    public CompletableFuture<DataStorageResult> removeAsync(RemoveAuthenticatedDataRequest request) {
+        return CompletableFuture.supplyAsync(() -> isSignatureInvalid(request), VERIFICATION_POOL)
+                .thenApplyAsync(isSignatureInvalid -> applyRemove(request, isSignatureInvalid), NetworkService.DISPATCHER);
+    }
+
+    public DataStorageResult remove(RemoveAuthenticatedDataRequest request) {
+        return applyRemove(request, isSignatureInvalid(request));
+    }
+
+    /**
+     * Verifies the add and remove requests in parallel on the VERIFICATION_POOL and applies them with a single task
+     * on the DISPATCHER thread. We persist once and notify the listeners with the collections of added and removed data.
+     */
+    public CompletableFuture<List<DataStorageResult>> processBatchAsync(List<AuthenticatedDataRequest> requests) {
+        List<CompletableFuture<Supplier<DataStorageResult>>> verifiedRequests = requests.stream()
+                .map(request -> CompletableFuture.supplyAsync(() -> verifyForBatch(request), VERIFICATION_POOL))
+                .toList();
+        return CompletableFuture.allOf(verifiedRequests.toArray(new CompletableFuture[0]))
+                .thenApplyAsync(nil -> applyBatch(requests, verifiedRequests.stream()
+                                .map(CompletableFuture::join)
+                                .toList()),
+                        NetworkService.DISPATCHER);
+    }
+
+    public DataStorageResult refresh(RefreshAuthenticatedDataRequest request) {
+        maybeLogMapState("refresh ", persistableStore);
+        ByteArray byteArray = new ByteArray(request.getHash());
+        AddAuthenticatedDataRequest updatedRequest;
         Map<ByteArray, AuthenticatedDataRequest> map = persistableStore.getMap();
-        synchronized (mapAccessLock) {
-            if (isExceedingMapSize()) {
-                return new DataStorageResult(false).maxMapSizeReached();
+        // We only verify the signature if we have an entry we could refresh
+        Optional<Boolean> isSignatureInvalid = map.get(byteArray) instanceof AddAuthenticatedDataRequest ?
+                Optional.of(request.isSignatureInvalid()) :
+                Optional.empty();
+        synchronized (getMapAccessLock(byteArray)) {
+            AuthenticatedDataRequest requestFromMap = map.get(byteArray);
+
+            if (requestFromMap == null) {
+                return new DataStorageResult(false).noEntry();
             }
 
-            requestFromMap = map.get(byteArray);
-            if (request.equals(requestFromMap)) {
-                return new DataStorageResult(false).requestAlreadyReceived();
+            if (requestFromMap instanceof RemoveAuthenticatedDataRequest) {
+                return new DataStorageResult(false).alreadyRemoved();
             }
 
-            if (requestFromMap != null && authenticatedSequentialData.isSequenceNrInvalid(requestFromMap.getSequenceNumber())) {
+            // At that point we know requestFromMap is an AddProtectedDataRequest
+            checkArgument(requestFromMap instanceof AddAuthenticatedDataRequest,
+                    "requestFromMap expected be type of AddAuthenticatedDataRequest");
+            AddAuthenticatedDataRequest addRequestFromMap = (AddAuthenticatedDataRequest) requestFromMap;
+            // We have an entry, lets validate if we can remove it
+            AuthenticatedSequentialData sequentialData = addRequestFromMap.getAuthenticatedSequentialData();
+            if (request.isSequenceNrInvalid(sequentialData.getSequenceNumber())) {
+                log.warn("SequenceNr is invalid at refresh. request={}", request);
+                // Sequence number has not increased
                 return new DataStorageResult(false).sequenceNrInvalid();
             }
 
-            if (authenticatedSequentialData.isExpired()) {
-                log.info("AddAuthenticatedDataRequest with {} is expired on {}",
-                        distributedData.getClass().getSimpleName(),
-                        new Date(authenticatedSequentialData.getCreated() + distributedData.getMetaData().getTtl())
-                );
-                log.debug("Data is expired at add. request={}", request);
-                return new DataStorageResult(false).expired();
+            if (request.isPublicKeyInvalid(sequentialData)) {
+                log.warn("PublicKey is invalid at refresh. request={}", request);
+                // Hash of pubKey of data does not match provided one
+                return new DataStorageResult(false).publicKeyHashInvalid();
             }
 
-            if (authenticatedData.isDataInvalid(authenticatedSequentialData.getPubKeyHash())) {
-                log.warn("AuthenticatedData is invalid at add. request={}", request);
-                return new DataStorageResult(false).dataInvalid();
+            if (isSignatureInvalid.orElseGet(request::isSignatureInvalid)) {
+                log.warn("Signature is invalid at refresh. request={}", request);
+                return new DataStorageResult(false).signatureInvalid();
             }
 
-            if (authenticatedData instanceof AuthorizedData authorizedData) {
-                if (authorizedData.isNotAuthorized()) {
-                    log.warn("AuthorizedData is not authorized. request={}", StringUtils.truncate(request.toString(), 500));
-                    return new DataStorageResult(false).isNotAuthorized();
-                }
+            long refreshDate = request.getCreated();
+            if (sequentialData.getDistributedData() instanceof PublishDateAware publishDateAware) {
+                publishDateAware.setPublishDate(refreshDate);
             }
+            AuthenticatedSequentialData updatedData = AuthenticatedSequentialData.from(sequentialData, request.getSequenceNumber(), refreshDate);
+            updatedRequest = new AddAuthenticatedDataRequest(updatedData,
+                    addRequestFromMap.getSignature(),
+                    addRequestFromMap.getOwnerPublicKey());
 
-            if (request.isPublicKeyInvalid()) {
-                log.warn("PublicKey is invalid at add. request={}", request);
-                return new DataStorageResult(false).publicKeyHashInvalid();
+            persistableStore.put(byteArray, updatedRequest);
+            inventoryIndex.put(byteArray, updatedRequest);
+        }
+
+        persist();
+        listeners.forEach(listener -> {
+            try {
+                listener.onRefreshed(updatedRequest.getAuthenticatedSequentialData().getAuthenticatedData());
+            } catch (Exception e) {
+                log.error("Calling onRefreshed at listener {} failed", listener, e);
             }
+        });
+        maybeLogMapState("refresh success", persistableStore);
+        return new DataStorageResult(true);
+    }
 
-            if (request.isSignatureInvalid()) {
-                log.warn("Signature is invalid at add. request={}", request);
-                return new DataStorageResult(false).signatureInvalid();
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    @VisibleForTesting
+    public int getSequenceNumber(byte[] hash) {
+        ByteArray byteArray = new ByteArray(hash);
+        int sequenceNumber = 0;
+        Map<ByteArray, AuthenticatedDataRequest> map = persistableStore.getMap();
+        synchronized (getMapAccessLock(byteArray)) {
+            if (map.containsKey(byteArray)) {
+                sequenceNumber = map.get(byteArray).getSequenceNumber();
             }
+        }
+        return sequenceNumber;
+    }
 
-            if (distributedData instanceof PublishDateAware publishDateAware) {
-                publishDateAware.setPublishDate(authenticatedSequentialData.getCreated());
+    private ByteArray getHash(AddAuthenticatedDataRequest request) {
+        return new ByteArray(DigestUtil.hash(request.getAuthenticatedSequentialData().getAuthenticatedData().serializeForHash()));
+    }
+
+    private Object getMapAccessLock(ByteArray byteArray) {
+        return mapAccessLocks[Math.floorMod(byteArray.hashCode(), mapAccessLocks.length)];
+    }
+
+    // First phase of adding: Stateless verification which does not require the map lock. Cheap checks against the
+    // current map state are done first to avoid expensive verification of requests we have already received.
+    // As sequence numbers only increase, a request rejected here would be rejected under the lock as well.
+    private Optional<DataStorageResult> verify(AddAuthenticatedDataRequest request, ByteArray byteArray) {
+        AuthenticatedSequentialData authenticatedSequentialData = request.getAuthenticatedSequentialData();
+        AuthenticatedData authenticatedData = authenticatedSequentialData.getAuthenticatedData();
+        DistributedData distributedData = authenticatedData.getDistributedData();
+        AuthenticatedDataRequest requestFromMap = persistableStore.getMap().get(byteArray);
+        if (request.equals(requestFromMap)) {
+            return Optional.of(new DataStorageResult(false).requestAlreadyReceived());
+        }
+
+        if (requestFromMap != null && authenticatedSequentialData.isSequenceNrInvalid(requestFromMap.getSequenceNumber())) {
+            return Optional.of(new DataStorageResult(false).sequenceNrInvalid());
+        }
+
+        if (authenticatedSequentialData.isExpired()) {
+            log.info("AddAuthenticatedDataRequest with {} is expired on {}",
+                    distributedData.getClass().getSimpleName(),
+                    new Date(authenticatedSequentialData.getCreated() + distributedData.getMetaData().getTtl())
+            );
+            log.debug("Data is expired at add. request={}", request);
+            return Optional.of(new DataStorageResult(false).expired());
+        }
+
+        if (authenticatedData.isDataInvalid(authenticatedSequentialData.getPubKeyHash())) {
+            log.warn("AuthenticatedData is invalid at add. request={}", request);
+            return Optional.of(new DataStorageResult(false).dataInvalid());
+        }
+
+        if (authenticatedData instanceof AuthorizedData authorizedData) {
+            if (authorizedData.isNotAuthorized()) {
+                log.warn("AuthorizedData is not authorized. request={}", StringUtils.truncate(request.toString(), 500));
+                return Optional.of(new DataStorageResult(false).isNotAuthorized());
             }
+        }
 
-            map.put(byteArray, request);
+        if (request.isPublicKeyInvalid()) {
+            log.warn("PublicKey is invalid at add. request={}", request);
+            return Optional.of(new DataStorageResult(false).publicKeyHashInvalid());
+        }
 
-            // In case we only updated the seq number we still want to broadcast and update the listeners.
-            // It is a valid use case that we have both an add and remove data request, and we get repeated sequences
-            // of add/remove events. In that case only the sequence number changes, but we still want to notify our
-            // listeners.
+        if (request.isSignatureInvalid()) {
+            log.warn("Signature is invalid at add. request={}", request);
+            return Optional.of(new DataStorageResult(false).signatureInvalid());
+        }
+        return Optional.empty();
+    }
+
+    private DataStorageResult applyAdd(AddAuthenticatedDataRequest request, ByteArray byteArray) {
+        maybeLogMapState("add", persistableStore);
+        DataStorageResult result = putAddRequest(request, byteArray);
+        if (!result.isSuccess()) {
+            return result;
         }
 
         persist();
 
+        AuthenticatedData authenticatedData = request.getAuthenticatedSequentialData().getAuthenticatedData();
         listeners.forEach(listener -> {
             try {
                 listener.onAdded(authenticatedData);
@@ -148,22 +305,143 @@ public class AuthenticatedDataStorageService extends DataStorageService<Authenti
             }
         });
         maybeLogMapState("add success", persistableStore);
+        return result;
+    }
+
+    // Second phase of adding: Sequence number compare-and-put under the lock for that key.
+    private DataStorageResult putAddRequest(AddAuthenticatedDataRequest request, ByteArray byteArray) {
+        AuthenticatedSequentialData authenticatedSequentialData = request.getAuthenticatedSequentialData();
+        DistributedData distributedData = authenticatedSequentialData.getAuthenticatedData().getDistributedData();
+        Map<ByteArray, AuthenticatedDataRequest> map = persistableStore.getMap();
+        synchronized (getMapAccessLock(byteArray)) {
+            if (isExceedingMapSize()) {
+                return new DataStorageResult(false).maxMapSizeReached();
+            }
+
+            AuthenticatedDataRequest requestFromMap = map.get(byteArray);
+            if (request.equals(requestFromMap)) {
+                return new DataStorageResult(false).requestAlreadyReceived();
+            }
+
+            if (requestFromMap != null && authenticatedSequentialData.isSequenceNrInvalid(requestFromMap.getSequenceNumber())) {
+                return new DataStorageResult(false).sequenceNrInvalid();
+            }
+
+            if (distributedData instanceof PublishDateAware publishDateAware) {
+                publishDateAware.setPublishDate(authenticatedSequentialData.getCreated());
+            }
+
+            persistableStore.put(byteArray, request);
+            inventoryIndex.put(byteArray, request);
+
+            // In case we only updated the seq number we still want to broadcast and update the listeners.
+            // It is a valid use case that we have both an add and remove data request, and we get repeated sequences
+            // of add/remove events. In that case only the sequence number changes, but we still want to notify our
+            // listeners.
+        }
         return new DataStorageResult(true);
     }
 
-    public DataStorageResult remove(RemoveAuthenticatedDataRequest request) {
+    // Returns the second phase to be applied on the DISPATCHER thread.
+    private Supplier<DataStorageResult> verifyForBatch(AuthenticatedDataRequest request) {
+        if (request instanceof AddAuthenticatedDataRequest addRequest) {
+            ByteArray byteArray = getHash(addRequest);
+            Optional<DataStorageResult> result = verify(addRequest, byteArray);
+            return () -> result.orElseGet(() -> putAddRequest(addRequest, byteArray));
+        } else if (request instanceof RemoveAuthenticatedDataRequest removeRequest) {
+            Optional<Boolean> isSignatureInvalid = isSignatureInvalid(removeRequest);
+            return () -> putRemoveRequest(removeRequest, isSignatureInvalid);
+        } else {
+            throw new IllegalArgumentException("Unexpected request type in batch: " + request.getClass().getSimpleName());
+        }
+    }
+
+    private List<DataStorageResult> applyBatch(List<AuthenticatedDataRequest> requests,
+                                               List<Supplier<DataStorageResult>> verifiedRequests) {
+        maybeLogMapState("processBatch", persistableStore);
+        List<DataStorageResult> results = new ArrayList<>(requests.size());
+        List<AuthenticatedData> added = new ArrayList<>();
+        List<AuthenticatedData> removed = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            DataStorageResult result = verifiedRequests.get(i).get();
+            results.add(result);
+            if (result.isSuccess()) {
+                if (requests.get(i) instanceof AddAuthenticatedDataRequest addRequest) {
+                    added.add(addRequest.getAuthenticatedSequentialData().getAuthenticatedData());
+                } else if (result.getRemovedData() instanceof AuthenticatedData authenticatedDataFromMap) {
+                    removed.add(authenticatedDataFromMap);
+                }
+            }
+        }
+
+        if (results.stream().anyMatch(DataStorageResult::isSuccess)) {
+            persist();
+        }
+
+        if (!added.isEmpty()) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAdded(added);
+                } catch (Exception e) {
+                    log.error("Calling onAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+        if (!removed.isEmpty()) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onRemoved(removed);
+                } catch (Exception e) {
+                    log.error("Calling onRemoved at listener {} failed", listener, e);
+                }
+            });
+        }
+        log.info("Processed batch of {} requests. Added: {}; removed: {}", requests.size(), added.size(), removed.size());
+        return results;
+    }
+
+    // We only verify the signature if we have an AddAuthenticatedDataRequest we could remove. Otherwise, we only keep
+    // track of the sequence number. If the map changed since then we verify under the lock.
+    private Optional<Boolean> isSignatureInvalid(RemoveAuthenticatedDataRequest request) {
+        return persistableStore.getMap().get(new ByteArray(request.getHash())) instanceof AddAuthenticatedDataRequest ?
+                Optional.of(request.isSignatureInvalid()) :
+                Optional.empty();
+    }
+
+    private DataStorageResult applyRemove(RemoveAuthenticatedDataRequest request, Optional<Boolean> isSignatureInvalid) {
         maybeLogMapState("remove ", persistableStore);
+        DataStorageResult result = putRemoveRequest(request, isSignatureInvalid);
+        if (!result.isSuccess()) {
+            return result;
+        }
+
+        persist();
+
+        if (result.getRemovedData() instanceof AuthenticatedData authenticatedDataFromMap) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onRemoved(authenticatedDataFromMap);
+                } catch (Exception e) {
+                    log.error("Calling onRemoved at listener {} failed", listener, e);
+                }
+            });
+            maybeLogMapState("remove success", persistableStore);
+        }
+        return result;
+    }
+
+    private DataStorageResult putRemoveRequest(RemoveAuthenticatedDataRequest request, Optional<Boolean> isSignatureInvalid) {
         ByteArray byteArray = new ByteArray(request.getHash());
         AuthenticatedData authenticatedDataFromMap;
         Map<ByteArray, AuthenticatedDataRequest> map = persistableStore.getMap();
-        synchronized (mapAccessLock) {
+        synchronized (getMapAccessLock(byteArray)) {
             AuthenticatedDataRequest requestFromMap = map.get(byteArray);
             if (requestFromMap == null) {
                 log.debug("No entry at remove. hash={}", byteArray);
                 // We don't have any entry, but it might be that we would receive later an add request, so we need to keep
                 // track of the sequence number
-                map.put(byteArray, request);
-                persist();
+                persistableStore.put(byteArray, request);
+                inventoryIndex.put(byteArray, request);
                 return new DataStorageResult(true).noEntry();
             }
 
@@ -172,8 +450,8 @@ public class AuthenticatedDataStorageService extends DataStorageService<Authenti
                 // We have had the entry already removed.
                 if (!request.isSequenceNrInvalid(requestFromMap.getSequenceNumber())) {
                     // We update the map with the new request with the fresh sequence number.
-                    map.put(byteArray, request);
-                    persist();
+                    persistableStore.put(byteArray, request);
+                    inventoryIndex.put(byteArray, request);
                 }
                 return new DataStorageResult(true).alreadyRemoved();
             }
@@ -196,7 +474,7 @@ public class AuthenticatedDataStorageService extends DataStorageService<Authenti
                 return new DataStorageResult(false).publicKeyHashInvalid();
             }
 
-            if (request.isSignatureInvalid()) {
+            if (isSignatureInvalid.orElseGet(request::isSignatureInvalid)) {
                 log.warn("Signature is invalid at remove. request={}", request);
                 return new DataStorageResult(false).signatureInvalid();
             }
@@ -215,106 +493,12 @@ public class AuthenticatedDataStorageService extends DataStorageService<Authenti
                         metaDataFromDistributedData);
             }
 
-            map.put(byteArray, request);
+            persistableStore.put(byteArray, request);
+            inventoryIndex.put(byteArray, request);
         }
-
-        persist();
-
-        listeners.forEach(listener -> {
-            try {
-                listener.onRemoved(authenticatedDataFromMap);
-            } catch (Exception e) {
-                log.error("Calling onRemoved at listener {} failed", listener, e);
-            }
-        });
-        maybeLogMapState("remove success", persistableStore);
         return new DataStorageResult(true).removedData(authenticatedDataFromMap);
     }
 
-    public DataStorageResult refresh(RefreshAuthenticatedDataRequest request) {
-        maybeLogMapState("refresh ", persistableStore);
-        ByteArray byteArray = new ByteArray(request.getHash());
-        AddAuthenticatedDataRequest updatedRequest;
-        Map<ByteArray, AuthenticatedDataRequest> map = persistableStore.getMap();
-        synchronized (mapAccessLock) {
-            AuthenticatedDataRequest requestFromMap = map.get(byteArray);
-
-            if (requestFromMap == null) {
-                return new DataStorageResult(false).noEntry();
-            }
-
-            if (requestFromMap instanceof RemoveAuthenticatedDataRequest) {
-                return new DataStorageResult(false).alreadyRemoved();
-            }
-
-            // At that point we know requestFromMap is an AddProtectedDataRequest
-            checkArgument(requestFromMap instanceof AddAuthenticatedDataRequest,
-                    "requestFromMap expected be type of AddAuthenticatedDataRequest");
-            AddAuthenticatedDataRequest addRequestFromMap = (AddAuthenticatedDataRequest) requestFromMap;
-            // We have an entry, lets validate if we can remove it
-            AuthenticatedSequentialData sequentialData = addRequestFromMap.getAuthenticatedSequentialData();
-            if (request.isSequenceNrInvalid(sequentialData.getSequenceNumber())) {
-                log.warn("SequenceNr is invalid at refresh. request={}", request);
-                // Sequence number has not increased
-                return new DataStorageResult(false).sequenceNrInvalid();
-            }
-
-            if (request.isPublicKeyInvalid(sequentialData)) {
-                log.warn("PublicKey is invalid at refresh. request={}", request);
-                // Hash of pubKey of data does not match provided one
-                return new DataStorageResult(false).publicKeyHashInvalid();
-            }
-
-            if (request.isSignatureInvalid()) {
-                log.warn("Signature is invalid at refresh. request={}", request);
-                return new DataStorageResult(false).signatureInvalid();
-            }
-
-            long refreshDate = request.getCreated();
-            if (sequentialData.getDistributedData() instanceof PublishDateAware publishDateAware) {
-                publishDateAware.setPublishDate(refreshDate);
-            }
-            AuthenticatedSequentialData updatedData = AuthenticatedSequentialData.from(sequentialData, request.getSequenceNumber(), refreshDate);
-            updatedRequest = new AddAuthenticatedDataRequest(updatedData,
-                    addRequestFromMap.getSignature(),
-                    addRequestFromMap.getOwnerPublicKey());
-
-            map.put(byteArray, updatedRequest);
-        }
-
-        persist();
-        listeners.forEach(listener -> {
-            try {
-                listener.onRefreshed(updatedRequest.getAuthenticatedSequentialData().getAuthenticatedData());
-            } catch (Exception e) {
-                log.error("Calling onRefreshed at listener {} failed", listener, e);
-            }
-        });
-        maybeLogMapState("refresh success", persistableStore);
-        return new DataStorageResult(true);
-    }
-
-    public void addListener(Listener listener) {
-        listeners.add(listener);
-    }
-
-    public void removeListener(Listener listener) {
-        listeners.remove(listener);
-    }
-
-    @VisibleForTesting
-    public int getSequenceNumber(byte[] hash) {
-        ByteArray byteArray = new ByteArray(hash);
-        int sequenceNumber = 0;
-        Map<ByteArray, AuthenticatedDataRequest> map = persistableStore.getMap();
-        synchronized (mapAccessLock) {
-            if (map.containsKey(byteArray)) {
-                sequenceNumber = map.get(byteArray).getSequenceNumber();
-            }
-        }
-        return sequenceNumber;
-    }
-
     private void pruneExpired() {
         Set<Map.Entry<ByteArray, AuthenticatedDataRequest>> expiredEntries = persistableStore.getMap().entrySet().stream()
                 .filter(entry -> {
@@ -329,7 +513,8 @@ public class AuthenticatedDataStorageService extends DataStorageService<Authenti
         if (!expiredEntries.isEmpty()) {
             log.info("We remove {} expired entries from our {} map", expiredEntries.size(), getStoreKey());
             expiredEntries.forEach(entry -> {
-                persistableStore.getMap().remove(entry.getKey());
+                persistableStore.remove(entry.getKey());
+                inventoryIndex.remove(entry.getKey());
                 if (entry.getValue() instanceof AddAuthenticatedDataRequest) {
                     AuthenticatedData data = ((AddAuthenticatedDataRequest) entry.getValue()).getAuthenticatedSequentialData().getAuthenticatedData();
                     listeners.forEach(listener -> {
@@ -361,7 +546,8 @@ public class AuthenticatedDataStorageService extends DataStorageService<Authenti
             invalidAuthorizedData.forEach((key, value) -> {
                 log.warn("We prune the AddAuthenticatedDataRequest with an invalid AuthorizedData. {}",
                         StringUtils.truncate(value.toString(), 3000));
-                persistableStore.getMap().remove(key);
+                persistableStore.remove(key);
+                inventoryIndex.remove(key);
             });
             persist();
         }
@@ -19,15 +19,21 @@ package bisq.network.p2p.services.data.storage.mailbox;
 
 import bisq.common.application.DevMode;
 import bisq.common.data.ByteArray;
+import bisq.network.NetworkService;
 import bisq.network.p2p.services.data.storage.*;
 import bisq.persistence.PersistenceService;
 import bisq.security.DigestUtil;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,19 +43,32 @@ public class MailboxDataStorageService extends DataStorageService<MailboxRequest
         void onAdded(MailboxData mailboxData);
 
         void onRemoved(MailboxData mailboxData);
+
+        default void onAdded(Collection<MailboxData> mailboxDataList) {
+            mailboxDataList.forEach(this::onAdded);
+        }
+
+        default void onRemoved(Collection<MailboxData> mailboxDataList) {
+            mailboxDataList.forEach(this::onRemoved);
+        }
     }
 
     private final Set<Listener> listeners = new CopyOnWriteArraySet<>();
     private final Object mapAccessLock = new Object();
 
-    public MailboxDataStorageService(PersistenceService persistenceService, PruneExpiredEntriesService pruneExpiredEntriesService, String storeName, String storeKey) {
-        super(persistenceService, storeName, storeKey);
+    public MailboxDataStorageService(PersistenceService persistenceService,
+                                     PruneExpiredEntriesService pruneExpiredEntriesService,
+                                     String storeName,
+                                     String storeKey,
+                                     boolean useJournal) {
+        super(persistenceService, storeName, storeKey, useJournal);
         pruneExpiredEntriesService.addTask(this::pruneExpired);
     }
 
     @Override
     public void onPersistedApplied(DataStore<MailboxRequest> persisted) {
         maybeLogMapState("onPersistedApplied", persisted);
+        inventoryIndex.rebuild(persistableStore.getMap());
     }
 
     @Override
@@ -60,10 +79,180 @@ public class MailboxDataStorageService extends DataStorageService<MailboxRequest
 
     public DataStorageResult add(AddMailboxRequest request) {
         maybeLogMapState("add", persistableStore);
+        DataStorageResult result = putAddRequest(request);
+        if (!result.isSuccess()) {
+            return result;
+        }
+
+        persist();
+
+        MailboxData mailboxData = request.getMailboxSequentialData().getMailboxData();
+        listeners.forEach(listener -> {
+            try {
+                listener.onAdded(mailboxData);
+            } catch (Exception e) {
+                log.error("Calling onAdded at listener {} failed", listener, e);
+            }
+        });
+        maybeLogMapState("add success", persistableStore);
+        return result;
+    }
+
+    public DataStorageResult remove(RemoveMailboxRequest request) {
+        maybeLogMapState("remove ", persistableStore);
+        DataStorageResult result = putRemoveRequest(request);
+        if (!result.isSuccess()) {
+            return result;
+        }
+
+        persist();
+
+        if (result.getRemovedData() instanceof MailboxData mailboxData) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onRemoved(mailboxData);
+                } catch (Exception e) {
+                    log.error("Calling onRemoved at listener {} failed", listener, e);
+                }
+            });
+            maybeLogMapState("remove success", persistableStore);
+        }
+        return result;
+    }
+
+    /**
+     * Verifies the signatures of the add and remove requests in parallel on the VERIFICATION_POOL and applies them
+     * with a single task on the DISPATCHER thread while holding the map lock. We persist once and notify the listeners
+     * with the collections of added and removed data.
+     */
+    public CompletableFuture<List<DataStorageResult>> processBatchAsync(List<MailboxRequest> requests) {
+        List<CompletableFuture<Supplier<DataStorageResult>>> verifiedRequests = requests.stream()
+                .map(request -> CompletableFuture.supplyAsync(() -> verifyForBatch(request), VERIFICATION_POOL))
+                .toList();
+        return CompletableFuture.allOf(verifiedRequests.toArray(new CompletableFuture[0]))
+                .thenApplyAsync(nil -> applyBatch(requests, verifiedRequests.stream()
+                                .map(CompletableFuture::join)
+                                .toList()),
+                        NetworkService.DISPATCHER);
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+
+    /* --------------------------------------------------------------------- */
+    // Private
+    /* --------------------------------------------------------------------- */
+
+    private Supplier<DataStorageResult> verifyForBatch(MailboxRequest request) {
+        if (request instanceof AddMailboxRequest addRequest) {
+            ByteArray byteArray = getHash(addRequest);
+            Optional<DataStorageResult> result = verify(addRequest);
+            return () -> putAddRequest(addRequest, byteArray, () -> result);
+        } else if (request instanceof RemoveMailboxRequest removeRequest) {
+            Optional<Boolean> isSignatureInvalid = isSignatureInvalid(removeRequest);
+            return () -> putRemoveRequest(removeRequest, isSignatureInvalid);
+        } else {
+            throw new IllegalArgumentException("Unexpected request type in batch: " + request.getClass().getSimpleName());
+        }
+    }
+
+    private List<DataStorageResult> applyBatch(List<MailboxRequest> requests,
+                                               List<Supplier<DataStorageResult>> verifiedRequests) {
+        maybeLogMapState("processBatch", persistableStore);
+        List<DataStorageResult> results = new ArrayList<>(requests.size());
+        List<MailboxData> added = new ArrayList<>();
+        List<MailboxData> removed = new ArrayList<>();
+        synchronized (mapAccessLock) {
+            for (int i = 0; i < requests.size(); i++) {
+                DataStorageResult result = verifiedRequests.get(i).get();
+                results.add(result);
+                if (requests.get(i) instanceof AddMailboxRequest addRequest) {
+                    if (result.isSuccess()) {
+                        added.add(addRequest.getMailboxSequentialData().getMailboxData());
+                    }
+                } else if (result.getRemovedData() instanceof MailboxData mailboxData) {
+                    removed.add(mailboxData);
+                }
+            }
+        }
+
+        if (results.stream().anyMatch(DataStorageResult::isSuccess)) {
+            persist();
+        }
+
+        if (!added.isEmpty()) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onAdded(added);
+                } catch (Exception e) {
+                    log.error("Calling onAdded at listener {} failed", listener, e);
+                }
+            });
+        }
+        if (!removed.isEmpty()) {
+            listeners.forEach(listener -> {
+                try {
+                    listener.onRemoved(removed);
+                } catch (Exception e) {
+                    log.error("Calling onRemoved at listener {} failed", listener, e);
+                }
+            });
+        }
+        log.info("Processed batch of {} requests. Added: {}; removed: {}", requests.size(), added.size(), removed.size());
+        return results;
+    }
+
+    private ByteArray getHash(AddMailboxRequest request) {
+        MailboxData mailboxData = request.getMailboxSequentialData().getMailboxData();
+        return new ByteArray(DigestUtil.hash(mailboxData.serializeForHash()));
+    }
+
+    // Checks which do not depend on the state of the map. Those are the expensive ones (e.g. signature verification).
+    private Optional<DataStorageResult> verify(AddMailboxRequest request) {
+        MailboxSequentialData mailboxSequentialData = request.getMailboxSequentialData();
+        if (mailboxSequentialData.isExpired()) {
+            return Optional.of(new DataStorageResult(false).expired());
+        }
+
+        if (mailboxSequentialData.getMailboxData().isDataInvalid(mailboxSequentialData.getSenderPublicKeyHash())) {
+            return Optional.of(new DataStorageResult(false).dataInvalid());
+        }
+
+        if (request.isPublicKeyInvalid()) {
+            return Optional.of(new DataStorageResult(false).publicKeyHashInvalid());
+        }
+
+        if (request.isSignatureInvalid()) {
+            return Optional.of(new DataStorageResult(false).signatureInvalid());
+        }
+        return Optional.empty();
+    }
+
+    // We only verify the signature if we have an entry we could remove
+    private Optional<Boolean> isSignatureInvalid(RemoveMailboxRequest request) {
+        return persistableStore.getMap().get(new ByteArray(request.getHash())) instanceof AddMailboxRequest ?
+                Optional.of(request.isSignatureInvalid()) :
+                Optional.empty();
+    }
+
+    private DataStorageResult putAddRequest(AddMailboxRequest request) {
+        return putAddRequest(request, getHash(request), () -> verify(request));
+    }
+
+    /**
+     * @param verification Provides the result of {@link #verify(AddMailboxRequest)}. It is only called if the
+     *                     request passed the checks against the map.
+     */
+    private DataStorageResult putAddRequest(AddMailboxRequest request,
+                                            ByteArray byteArray,
+                                            Supplier<Optional<DataStorageResult>> verification) {
         MailboxSequentialData mailboxSequentialData = request.getMailboxSequentialData();
-        MailboxData mailboxData = mailboxSequentialData.getMailboxData();
-        byte[] hash = DigestUtil.hash(mailboxData.serializeForHash());
-        ByteArray byteArray = new ByteArray(hash);
         MailboxRequest requestFromMap;
         Map<ByteArray, MailboxRequest> map = persistableStore.getMap();
         synchronized (mapAccessLock) {
@@ -81,40 +270,21 @@ public class MailboxDataStorageService extends DataStorageService<MailboxRequest
                 return new DataStorageResult(false).sequenceNrInvalid();
             }
 
-            if (mailboxSequentialData.isExpired()) {
-                return new DataStorageResult(false).expired();
-            }
-
-            if (mailboxData.isDataInvalid(mailboxSequentialData.getSenderPublicKeyHash())) {
-                return new DataStorageResult(false).dataInvalid();
+            Optional<DataStorageResult> failedVerification = verification.get();
+            if (failedVerification.isPresent()) {
+                return failedVerification.get();
             }
-
-            if (request.isPublicKeyInvalid()) {
-                return new DataStorageResult(false).publicKeyHashInvalid();
-            }
-
-            if (request.isSignatureInvalid()) {
-                return new DataStorageResult(false).signatureInvalid();
-            }
-            map.put(byteArray, request);
+            persistableStore.put(byteArray, request);
+            inventoryIndex.put(byteArray, request);
         }
-
-        persist();
-
-        listeners.forEach(listener -> {
-            try {
-                listener.onAdded(mailboxData);
-            } catch (Exception e) {
-                log.error("Calling onAdded at listener {} failed", listener, e);
-            }
-        });
-        maybeLogMapState("add success", persistableStore);
         return new DataStorageResult(true);
     }
 
+    private DataStorageResult putRemoveRequest(RemoveMailboxRequest request) {
+        return putRemoveRequest(request, Optional.empty());
+    }
 
-    public DataStorageResult remove(RemoveMailboxRequest request) {
-        maybeLogMapState("remove ", persistableStore);
+    private DataStorageResult putRemoveRequest(RemoveMailboxRequest request, Optional<Boolean> isSignatureInvalid) {
         ByteArray byteArray = new ByteArray(request.getHash());
         Map<ByteArray, MailboxRequest> map = persistableStore.getMap();
         MailboxRequest requestFromMap = map.get(byteArray);
@@ -123,8 +293,8 @@ public class MailboxDataStorageService extends DataStorageService<MailboxRequest
             if (requestFromMap == null) {
                 // We don't have any entry, but it might be that we would receive later an add request, so we need to keep
                 // track of the sequence number
-                map.put(byteArray, request);
-                persist();
+                persistableStore.put(byteArray, request);
+                inventoryIndex.put(byteArray, request);
                 return new DataStorageResult(true).noEntry();
             }
 
@@ -132,8 +302,8 @@ public class MailboxDataStorageService extends DataStorageService<MailboxRequest
                 // We have had the entry already removed.
                 if (!request.isSequenceNrInvalid(requestFromMap.getSequenceNumber())) {
                     // We update the request, so we have the latest sequence number.
-                    map.put(byteArray, request);
-                    persist();
+                    persistableStore.put(byteArray, request);
+                    inventoryIndex.put(byteArray, request);
                 }
                 return new DataStorageResult(true).alreadyRemoved();
             }
@@ -152,7 +322,7 @@ public class MailboxDataStorageService extends DataStorageService<MailboxRequest
                 return new DataStorageResult(false).publicKeyHashInvalid();
             }
 
-            if (request.isSignatureInvalid()) {
+            if (isSignatureInvalid.orElseGet(request::isSignatureInvalid)) {
                 return new DataStorageResult(false).signatureInvalid();
             }
 
@@ -170,34 +340,12 @@ public class MailboxDataStorageService extends DataStorageService<MailboxRequest
                         metaDataFromMailboxData);
             }
 
-            map.put(byteArray, request);
-            listeners.forEach(listener -> {
-                try {
-                    listener.onRemoved(sequentialDataFromMap.getMailboxData());
-                } catch (Exception e) {
-                    log.error("Calling onRemoved at listener {} failed", listener, e);
-                }
-            });
+            persistableStore.put(byteArray, request);
+            inventoryIndex.put(byteArray, request);
         }
-
-        persist();
-        maybeLogMapState("remove success", persistableStore);
         return new DataStorageResult(true).removedData(sequentialDataFromMap.getMailboxData());
     }
 
-    public void addListener(Listener listener) {
-        listeners.add(listener);
-    }
-
-    public void removeListener(Listener listener) {
-        listeners.remove(listener);
-    }
-
-
-    /* --------------------------------------------------------------------- */
-    // Private
-    /* --------------------------------------------------------------------- */
-
     int getSequenceNumber(byte[] hash) {
         ByteArray byteArray = new ByteArray(hash);
         int sequenceNumber = 0;
@@ -235,7 +383,10 @@ public class MailboxDataStorageService extends DataStorageService<MailboxRequest
                 .collect(Collectors.toSet());
         if (!expiredEntries.isEmpty()) {
             log.info("We remove {} expired entries from our {} map", expiredEntries.size(), getStoreKey());
-            expiredEntries.forEach(entry -> persistableStore.getMap().remove(entry.getKey()));
+            expiredEntries.forEach(entry -> {
+                persistableStore.remove(entry.getKey());
+                inventoryIndex.remove(entry.getKey());
+            });
         }
     }
 
@@ -30,6 +30,7 @@ import bisq.network.p2p.node.authorization.AuthorizationToken;
 import bisq.network.p2p.node.authorization.AuthorizationTokenType;
 import bisq.network.p2p.node.envelope.parser.DefaultProtoBufInputStream;
 import bisq.network.p2p.node.envelope.parser.ProtoBufMessageLengthParser;
+import bisq.network.p2p.node.envelope.parser.nio.NetworkEnvelopeDeserializer;
 import bisq.network.p2p.node.envelope.parser.nio.NioProtoBufInputStream;
 import bisq.network.p2p.node.envelope.parser.nio.ProtoBufMessageLengthWriter;
 import bisq.network.p2p.node.handshake.ConnectionHandshake;
@@ -48,6 +49,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class ProtoBufMessageLengthTests {
 
@@ -104,6 +106,37 @@ public class ProtoBufMessageLengthTests {
         assertThat(parsedLength).isEqualTo(envelopeInBytes.length);
     }
 
+    @Test
+    void oversizedMessageLengthIsRejected() {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(1024);
+        ProtoBufMessageLengthWriter.writeToBuffer(NetworkEnvelopeDeserializer.MAX_ENVELOPE_SIZE + 1, byteBuffer);
+        byteBuffer.flip();
+
+        var deserializer = new NetworkEnvelopeDeserializer(byteBuffer);
+        assertThatThrownBy(deserializer::readFromByteBuffer).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void overlongMessageLengthIsRejected() {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(new byte[]{(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80,
+                (byte) 0x80, (byte) 0x80, 0x01});
+
+        var deserializer = new NetworkEnvelopeDeserializer(byteBuffer);
+        assertThatThrownBy(deserializer::readFromByteBuffer).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void invalidMessageIsRejected() {
+        byte[] invalidMessage = new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+        ByteBuffer byteBuffer = ByteBuffer.allocate(1024);
+        ProtoBufMessageLengthWriter.writeToBuffer(invalidMessage.length, byteBuffer);
+        byteBuffer.put(invalidMessage);
+        byteBuffer.flip();
+
+        var deserializer = new NetworkEnvelopeDeserializer(byteBuffer);
+        assertThatThrownBy(deserializer::readFromByteBuffer).isInstanceOf(IOException.class);
+    }
+
     private AuthorizationService createAuthorizationService() {
         return new AuthorizationService(new AuthorizationService.Config(List.of(AuthorizationTokenType.HASH_CASH)),
                 new HashCashProofOfWorkService(),
@@ -0,0 +1,74 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.message;
+
+import bisq.common.application.ApplicationVersion;
+import bisq.common.network.DefaultLocalhostFacade;
+import bisq.common.network.TransportType;
+import bisq.network.p2p.node.Capability;
+import bisq.network.p2p.node.Feature;
+import bisq.network.p2p.node.authorization.AuthorizationService;
+import bisq.network.p2p.node.authorization.AuthorizationToken;
+import bisq.network.p2p.node.authorization.AuthorizationTokenType;
+import bisq.network.p2p.node.handshake.ConnectionHandshake;
+import bisq.network.p2p.node.network_load.NetworkLoad;
+import bisq.security.pow.equihash.EquihashProofOfWorkService;
+import bisq.security.pow.hashcash.HashCashProofOfWorkService;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NetworkEnvelopeTest {
+    @Test
+    void serializedMessageHasSameWireFormat() throws IOException {
+        AuthorizationService authorizationService = new AuthorizationService(new AuthorizationService.Config(List.of(AuthorizationTokenType.HASH_CASH)),
+                new HashCashProofOfWorkService(),
+                new EquihashProofOfWorkService(),
+                Set.of(Feature.AUTHORIZATION_HASH_CASH));
+        Capability capability = new Capability(Capability.VERSION,
+                DefaultLocalhostFacade.toLocalHostAddress(2345),
+                List.of(TransportType.CLEAR),
+                new ArrayList<>(),
+                ApplicationVersion.getVersion().getVersionAsString());
+        ConnectionHandshake.Request request = new ConnectionHandshake.Request(capability, Optional.empty(), new NetworkLoad(), 0);
+        SerializedMessage serializedMessage = new SerializedMessage(request);
+        AuthorizationToken token = authorizationService.createToken(serializedMessage,
+                new NetworkLoad(),
+                DefaultLocalhostFacade.toLocalHostAddress(1234).getFullAddress(),
+                0, new ArrayList<>());
+
+        NetworkEnvelope networkEnvelope = new NetworkEnvelope(token, request);
+        NetworkEnvelope networkEnvelopeWithSerializedMessage = new NetworkEnvelope(token, serializedMessage);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        networkEnvelope.writeDelimitedTo(expected);
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        networkEnvelopeWithSerializedMessage.writeDelimitedTo(actual);
+
+        assertThat(actual.toByteArray()).isEqualTo(expected.toByteArray());
+        assertThat(networkEnvelopeWithSerializedMessage.getSerializedSize()).isEqualTo(networkEnvelope.getSerializedSize());
+        assertThat(networkEnvelopeWithSerializedMessage).isEqualTo(networkEnvelope);
+    }
+}
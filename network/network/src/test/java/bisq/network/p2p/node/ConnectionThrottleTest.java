@@ -0,0 +1,110 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.network.p2p.node;
+
+import bisq.network.p2p.node.network_load.NetworkLoad;
+import bisq.network.p2p.node.network_load.NetworkLoadSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static bisq.network.p2p.node.ConnectionThrottle.MAX_THROTTLE_TIME;
+import static bisq.network.p2p.node.ConnectionThrottle.MIN_THROTTLE_TIME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionThrottleTest {
+    private static final long NOW = 1_000_000;
+
+    @Test
+    void firstMessageIsNotDelayed() {
+        ConnectionThrottle throttle = createThrottle(200, 1);
+        assertThat(throttle.reserveSendSlot(NOW)).isZero();
+        assertThat(throttle.reserveReceiveSlot(NOW)).isZero();
+    }
+
+    @Test
+    void slotsAreReservedAfterEachOther() {
+        ConnectionThrottle throttle = createThrottle(200, 1);
+        long throttleTime = MIN_THROTTLE_TIME + 200;
+
+        assertThat(throttle.reserveSendSlot(NOW)).isZero();
+        assertThat(throttle.reserveSendSlot(NOW)).isEqualTo(throttleTime);
+        assertThat(throttle.reserveSendSlot(NOW)).isEqualTo(2 * throttleTime);
+        // Enough time passed since the last reserved slot
+        assertThat(throttle.reserveSendSlot(NOW + 2 * throttleTime + throttleTime)).isZero();
+    }
+
+    @Test
+    void networkLoadIncreasesThrottleTime() {
+        ConnectionThrottle throttle = createThrottle(200, 0.5);
+        throttle.reserveSendSlot(NOW);
+        assertThat(throttle.reserveSendSlot(NOW)).isEqualTo(MIN_THROTTLE_TIME + 100);
+    }
+
+    @Test
+    void pauseIsCappedAtMaxThrottleTime() {
+        ConnectionThrottle throttle = createThrottle(5000, 1);
+        throttle.reserveSendSlot(NOW);
+        assertThat(throttle.reserveSendSlot(NOW)).isEqualTo(MAX_THROTTLE_TIME);
+
+        // Even if many messages get sent at once, no message gets delayed by more than the max. throttle time
+        throttle = createThrottle(200, 1);
+        for (int i = 0; i < 100; i++) {
+            assertThat(throttle.reserveSendSlot(NOW)).isBetween(0L, MAX_THROTTLE_TIME);
+        }
+    }
+
+    @Test
+    void cappedPausesKeepOrderOfMessages() {
+        ConnectionThrottle throttle = createThrottle(200, 1);
+        long previousDueTime = 0;
+        long now = NOW;
+        for (int i = 0; i < 100; i++) {
+            // Messages sent in a burst with some sent in the same ms
+            now += i % 3 == 0 ? 1 : 0;
+            long dueTime = now + throttle.reserveSendSlot(now);
+            assertThat(dueTime).isGreaterThanOrEqualTo(previousDueTime);
+            previousDueTime = dueTime;
+        }
+    }
+
+    @Test
+    void sendAndReceiveSlotsAreIndependent() {
+        ConnectionThrottle throttle = createThrottle(200, 1);
+        throttle.reserveSendSlot(NOW);
+        throttle.reserveSendSlot(NOW);
+        assertThat(throttle.reserveReceiveSlot(NOW)).isZero();
+    }
+
+    private static ConnectionThrottle createThrottle(int throttleTime, double load) {
+        Node.Config config = new Node.Config(null,
+                Set.of(),
+                Set.of(),
+                null,
+                0,
+                0,
+                0,
+                throttleTime,
+                throttleTime,
+                Optional.empty());
+        NetworkLoadSnapshot networkLoadSnapshot = new NetworkLoadSnapshot(new NetworkLoad(load, 1));
+        return new ConnectionThrottle(networkLoadSnapshot, networkLoadSnapshot, config);
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.network.p2p.node;
+
+import bisq.network.p2p.message.NetworkEnvelope;
+import bisq.network.p2p.node.authorization.token.hash_cash.HashCashToken;
+import bisq.network.p2p.node.envelope.NetworkEnvelopeSocketChannel;
+import bisq.network.p2p.node.envelope.parser.nio.NetworkEnvelopeDeserializer;
+import bisq.network.p2p.node.network_load.NetworkLoad;
+import bisq.network.p2p.node.network_load.NetworkLoadSnapshot;
+import bisq.network.p2p.services.peer_group.keep_alive.Ping;
+import bisq.security.pow.ProofOfWork;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class MultiplexedChannelTest {
+    private static final int TIMEOUT = 5000;
+    private static final int SMALL_BUFFER_SIZE = 64 * 1024;
+
+    private SelectorLoop selectorLoop;
+    private ScheduledExecutorService timer;
+    private ServerSocketChannel serverSocketChannel;
+    private SocketChannel peer;
+    private SocketChannel socketChannel;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        selectorLoop = new SelectorLoop("MultiplexedChannelTest");
+        selectorLoop.start();
+        timer = Executors.newSingleThreadScheduledExecutor();
+        serverSocketChannel = ServerSocketChannel.open();
+        serverSocketChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        peer = SocketChannel.open();
+        // Small buffers, so that large envelopes require partial reads and writes
+        peer.socket().setReceiveBufferSize(SMALL_BUFFER_SIZE);
+        peer.connect(serverSocketChannel.getLocalAddress());
+        socketChannel = serverSocketChannel.accept();
+        socketChannel.socket().setSendBufferSize(SMALL_BUFFER_SIZE);
+        connection = mock(Connection.class);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        selectorLoop.shutdown();
+        timer.shutdownNow();
+        peer.close();
+        socketChannel.close();
+        serverSocketChannel.close();
+    }
+
+    @Test
+    void receiveMultipleEnvelopesFromOneWrite() throws IOException {
+        createChannel(0, mock(ConnectionThrottle.class));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (int i = 0; i < 3; i++) {
+            createEnvelope(i, 100).writeDelimitedTo(outputStream);
+        }
+        write(outputStream.toByteArray());
+
+        assertThat(captureReceivedNonces(3)).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void receiveEnvelopesFromPartialReads() throws IOException {
+        createChannel(0, mock(ConnectionThrottle.class));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // Larger than the read buffer
+        createEnvelope(0, 1024 * 1024).writeDelimitedTo(outputStream);
+        createEnvelope(1, 100).writeDelimitedTo(outputStream);
+        byte[] bytes = outputStream.toByteArray();
+        // Split the message length of the first envelope
+        write(new byte[]{bytes[0]});
+        write(new byte[]{bytes[1]});
+        write(Arrays.copyOfRange(bytes, 2, bytes.length));
+
+        assertThat(captureReceivedNonces(2)).containsExactly(0, 1);
+    }
+
+    @Test
+    void sendEnvelopesFromPartialWritesInOrder() throws IOException {
+        MultiplexedChannel multiplexedChannel = createChannel(0, mock(ConnectionThrottle.class));
+
+        int numEnvelopes = 5;
+        for (int i = 0; i < numEnvelopes; i++) {
+            multiplexedChannel.send(createEnvelope(i, 1024 * 1024));
+        }
+        // Peer has not read yet, so the envelopes cannot have been written completely
+        assertThat(multiplexedChannel.getNumPendingWriteBytes()).isPositive();
+
+        assertThat(readNonces(numEnvelopes)).containsExactly(0, 1, 2, 3, 4);
+        ArgumentCaptor<NetworkEnvelope> captor = ArgumentCaptor.forClass(NetworkEnvelope.class);
+        verify(connection, timeout(TIMEOUT).times(numEnvelopes)).onSent(captor.capture(), anyLong());
+        assertThat(toNonces(captor.getAllValues())).containsExactly(0, 1, 2, 3, 4);
+        assertThat(multiplexedChannel.getNumPendingWriteBytes()).isZero();
+    }
+
+    @Test
+    void sendFailsIfPendingWriteBytesExceedLimit() throws IOException {
+        MultiplexedChannel multiplexedChannel = createChannel(0, mock(ConnectionThrottle.class));
+        int size = 9 * 1024 * 1024;
+        assertThat(3L * size).isGreaterThan(MultiplexedChannel.MAX_PENDING_WRITE_BYTES);
+
+        // Peer does not read
+        multiplexedChannel.send(createEnvelope(0, size));
+        multiplexedChannel.send(createEnvelope(1, size));
+        assertThatThrownBy(() -> multiplexedChannel.send(createEnvelope(2, size)))
+                .isInstanceOf(IOException.class);
+        assertThat(multiplexedChannel.getNumPendingWriteBytes()).isLessThanOrEqualTo(MultiplexedChannel.MAX_PENDING_WRITE_BYTES);
+    }
+
+    @Test
+    void closeByPeerClosesConnection() throws IOException {
+        createChannel(0, mock(ConnectionThrottle.class));
+
+        peer.close();
+
+        verify(connection, timeout(TIMEOUT)).closeOnException(any(EOFException.class));
+    }
+
+    @Test
+    void oversizedMessageLengthClosesConnection() throws IOException {
+        createChannel(0, mock(ConnectionThrottle.class));
+
+        byte[] bytes = new byte[5];
+        CodedOutputStream.newInstance(bytes).writeUInt32NoTag(NetworkEnvelopeDeserializer.MAX_ENVELOPE_SIZE + 1);
+        write(bytes);
+
+        verify(connection, timeout(TIMEOUT)).closeOnException(any(IOException.class));
+        verify(connection, never()).onReceived(any(), anyLong());
+    }
+
+    @Test
+    void malformedEnvelopeClosesConnection() throws IOException {
+        createChannel(0, mock(ConnectionThrottle.class));
+
+        write(new byte[]{3, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF});
+
+        verify(connection, timeout(TIMEOUT)).closeOnException(any(IOException.class));
+        verify(connection, never()).onReceived(any(), anyLong());
+    }
+
+    @Test
+    void exceptionAtReceiveHandlerClosesConnection() throws IOException {
+        createChannel(0, mock(ConnectionThrottle.class));
+        RuntimeException exception = new RuntimeException("Test");
+        doThrow(exception).when(connection).onReceived(any(), anyLong());
+
+        write(NetworkEnvelopeSocketChannel.toByteBuffer(createEnvelope(0, 100)).array());
+
+        verify(connection, timeout(TIMEOUT)).closeOnException(exception);
+    }
+
+    @Test
+    void idleChannelGetsClosed() throws IOException {
+        createChannel(100, mock(ConnectionThrottle.class));
+
+        verify(connection, timeout(TIMEOUT)).closeOnException(any(SocketTimeoutException.class));
+    }
+
+    @Test
+    void channelWithinIdleTimeoutDoesNotGetClosed() throws IOException {
+        createChannel(TIMEOUT, mock(ConnectionThrottle.class));
+
+        verify(connection, after(2 * (int) SelectorLoop.IDLE_CHECK_INTERVAL).never()).closeOnException(any());
+    }
+
+    @Test
+    void throttledEnvelopesKeepOrder() throws IOException {
+        int throttleTime = 200;
+        Node.Config config = new Node.Config(null,
+                Set.of(),
+                Set.of(),
+                null,
+                0,
+                0,
+                0,
+                throttleTime,
+                throttleTime,
+                Optional.empty());
+        NetworkLoadSnapshot networkLoadSnapshot = new NetworkLoadSnapshot(new NetworkLoad(1, 1));
+        MultiplexedChannel multiplexedChannel = createChannel(0,
+                new ConnectionThrottle(networkLoadSnapshot, networkLoadSnapshot, config));
+        int numEnvelopes = 5;
+        // Each envelope after the first one gets delayed by at least the throttle time
+        long minDuration = (numEnvelopes - 1) * throttleTime;
+
+        long ts = System.currentTimeMillis();
+        for (int i = 0; i < numEnvelopes; i++) {
+            multiplexedChannel.send(createEnvelope(i, 100));
+        }
+        assertThat(readNonces(numEnvelopes)).containsExactly(0, 1, 2, 3, 4);
+        assertThat(System.currentTimeMillis() - ts).isGreaterThanOrEqualTo(minDuration);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (int i = 0; i < numEnvelopes; i++) {
+            createEnvelope(i, 100).writeDelimitedTo(outputStream);
+        }
+        ts = System.currentTimeMillis();
+        write(outputStream.toByteArray());
+        assertThat(captureReceivedNonces(numEnvelopes)).containsExactly(0, 1, 2, 3, 4);
+        assertThat(System.currentTimeMillis() - ts).isGreaterThanOrEqualTo(minDuration);
+    }
+
+    private MultiplexedChannel createChannel(long idleTimeout, ConnectionThrottle connectionThrottle) throws IOException {
+        return new MultiplexedChannel(connection, socketChannel, connectionThrottle, selectorLoop, timer, idleTimeout);
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+        while (byteBuffer.hasRemaining()) {
+            peer.write(byteBuffer);
+        }
+    }
+
+    private List<Integer> readNonces(int numEnvelopes) throws IOException {
+        InputStream inputStream = peer.socket().getInputStream();
+        List<NetworkEnvelope> networkEnvelopes = new ArrayList<>();
+        for (int i = 0; i < numEnvelopes; i++) {
+            networkEnvelopes.add(NetworkEnvelope.fromProto(bisq.network.protobuf.NetworkEnvelope.parseDelimitedFrom(inputStream)));
+        }
+        return toNonces(networkEnvelopes);
+    }
+
+    private List<Integer> captureReceivedNonces(int numEnvelopes) {
+        ArgumentCaptor<NetworkEnvelope> captor = ArgumentCaptor.forClass(NetworkEnvelope.class);
+        verify(connection, timeout(TIMEOUT).times(numEnvelopes)).onReceived(captor.capture(), anyLong());
+        return toNonces(captor.getAllValues());
+    }
+
+    private static List<Integer> toNonces(List<NetworkEnvelope> networkEnvelopes) {
+        return networkEnvelopes.stream()
+                .map(networkEnvelope -> ((Ping) networkEnvelope.getEnvelopePayloadMessage()).getNonce())
+                .toList();
+    }
+
+    private static NetworkEnvelope createEnvelope(int nonce, int payloadSize) {
+        ProofOfWork proofOfWork = new ProofOfWork(new byte[payloadSize], 0, null, 0, new byte[0], 0);
+        return new NetworkEnvelope(new HashCashToken(proofOfWork, 0), new Ping(nonce));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.node.authorization;
+
+import org.junit.jupiter.api.Test;
+
+import static bisq.network.p2p.node.authorization.MessageCounterReplayFilter.WINDOW_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MessageCounterReplayFilterTest {
+    @Test
+    public void testReplayedCounterIsRejected() {
+        MessageCounterReplayFilter filter = new MessageCounterReplayFilter();
+        assertTrue(filter.tryAdd(1));
+        assertTrue(filter.tryAdd(2));
+        assertFalse(filter.tryAdd(1));
+        assertFalse(filter.tryAdd(2));
+        assertTrue(filter.tryAdd(3));
+    }
+
+    @Test
+    public void testOutOfOrderCountersInsideWindowAreAccepted() {
+        MessageCounterReplayFilter filter = new MessageCounterReplayFilter();
+        assertTrue(filter.tryAdd(10));
+        assertTrue(filter.tryAdd(5));
+        assertTrue(filter.tryAdd(12));
+        assertTrue(filter.tryAdd(11));
+        assertFalse(filter.tryAdd(5));
+        assertFalse(filter.tryAdd(11));
+    }
+
+    @Test
+    public void testCountersBelowLowWatermarkAreRejected() {
+        MessageCounterReplayFilter filter = new MessageCounterReplayFilter();
+        assertTrue(filter.tryAdd(1));
+        assertTrue(filter.tryAdd(WINDOW_SIZE + 10));
+        assertEquals(11, filter.getLowWatermark());
+        assertFalse(filter.tryAdd(10));
+        assertTrue(filter.tryAdd(11));
+        assertFalse(filter.tryAdd(11));
+    }
+
+    @Test
+    public void testSlotsOfCountersLeavingTheWindowAreReused() {
+        MessageCounterReplayFilter filter = new MessageCounterReplayFilter();
+        for (int counter = 1; counter <= 3 * WINDOW_SIZE; counter++) {
+            assertTrue(filter.tryAdd(counter));
+        }
+        for (int counter = 2 * WINDOW_SIZE + 1; counter <= 3 * WINDOW_SIZE; counter++) {
+            assertFalse(filter.tryAdd(counter));
+        }
+        assertFalse(filter.tryAdd(2 * WINDOW_SIZE));
+    }
+}
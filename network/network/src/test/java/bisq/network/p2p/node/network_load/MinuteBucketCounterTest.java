@@ -0,0 +1,50 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.node.network_load;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MinuteBucketCounterTest {
+
+    @Test
+    void testSumOfLastMinutes() {
+        MinuteBucketCounter counter = new MinuteBucketCounter();
+        counter.add(0, 1);
+        counter.add(0, 2);
+        counter.add(1, 10);
+        counter.add(5, 100);
+        assertEquals(113, counter.sumOfLastMinutes(5, 60));
+        assertEquals(100, counter.sumOfLastMinutes(5, 1));
+        assertEquals(110, counter.sumOfLastMinutes(5, 5));
+        assertEquals(113, counter.getTotal());
+
+        // Minute 60 reuses the bucket of minute 0, minute 0 is outside the last hour
+        counter.add(60, 1000);
+        assertEquals(1110, counter.sumOfLastMinutes(60, 60));
+        assertEquals(1000, counter.sumOfLastMinutes(60, 1));
+        // Minute 1 and 5 are not within the last hour anymore
+        assertEquals(0, counter.sumOfLastMinutes(130, 60));
+        assertEquals(1113, counter.getTotal());
+
+        counter.clear();
+        assertEquals(0, counter.sumOfLastMinutes(60, 60));
+        assertEquals(0, counter.getTotal());
+    }
+}
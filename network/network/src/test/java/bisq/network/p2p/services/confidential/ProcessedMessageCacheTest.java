@@ -0,0 +1,67 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.services.confidential;
+
+import bisq.common.data.ByteArray;
+import bisq.network.p2p.services.confidential.ack.AckMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProcessedMessageCacheTest {
+    @Test
+    void duplicatesAreDetected() {
+        ProcessedMessageCache cache = new ProcessedMessageCache(10, 1000);
+        AckMessage message = new AckMessage("1");
+        assertTrue(cache.add(hash(1), message, 0));
+        assertFalse(cache.add(hash(1), message, 10));
+        assertEquals(Set.of(message), cache.getMessages(10));
+    }
+
+    @Test
+    void expiredEntriesAreEvicted() {
+        ProcessedMessageCache cache = new ProcessedMessageCache(10, 1000);
+        cache.add(hash(1), new AckMessage("1"), 0);
+        AckMessage message2 = new AckMessage("2");
+        cache.add(hash(2), message2, 500);
+
+        assertEquals(Set.of(message2), cache.getMessages(1200));
+        assertEquals(1, cache.size());
+        // After eviction the message is not detected as duplicate anymore
+        assertTrue(cache.add(hash(1), new AckMessage("1"), 1200));
+    }
+
+    @Test
+    void oldestEntriesAreEvictedIfMaxSizeIsExceeded() {
+        ProcessedMessageCache cache = new ProcessedMessageCache(2, 1000);
+        cache.add(hash(1), new AckMessage("1"), 0);
+        cache.add(hash(2), new AckMessage("2"), 1);
+        cache.add(hash(3), new AckMessage("3"), 2);
+
+        assertEquals(2, cache.size());
+        assertEquals(Set.of(new AckMessage("2"), new AckMessage("3")), cache.getMessages(2));
+    }
+
+    private static ByteArray hash(int value) {
+        return new ByteArray(new byte[]{(byte) value});
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.network.p2p.services.confidential;
+
+import bisq.common.data.ByteArray;
+import bisq.common.network.TransportType;
+import bisq.persistence.DbSubDirectory;
+import bisq.persistence.Persistence;
+import bisq.persistence.PersistenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SeenMailboxMessagesServiceTest {
+    private Persistence<SeenMailboxMessagesStore> persistence;
+    private SeenMailboxMessagesService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        persistence = mock(Persistence.class);
+        when(persistence.persistAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+        PersistenceService persistenceService = mock(PersistenceService.class);
+        when(persistenceService.<SeenMailboxMessagesStore>getOrCreatePersistence(any(), eq(DbSubDirectory.CACHE), anyString(), any()))
+                .thenReturn(persistence);
+        service = new SeenMailboxMessagesService(persistenceService, TransportType.CLEAR);
+    }
+
+    @Test
+    void addedHashesAreContained() {
+        service.add(hash(1));
+
+        assertTrue(service.contains(hash(1)));
+        assertFalse(service.contains(hash(2)));
+        verify(persistence).persistAsync(any());
+    }
+
+    @Test
+    void expiredHashesArePrunedAtAdd() {
+        long now = System.currentTimeMillis();
+        service.add(hash(1), now);
+        // Pruning is done at most once per hour
+        service.add(hash(2), now + SeenMailboxMessagesService.MAX_AGE);
+        assertTrue(service.contains(hash(1)));
+
+        service.add(hash(3), now + SeenMailboxMessagesService.MAX_AGE + TimeUnit.HOURS.toMillis(2));
+        assertFalse(service.contains(hash(1)));
+        assertTrue(service.contains(hash(2)));
+        assertTrue(service.contains(hash(3)));
+        verify(persistence, times(3)).persistAsync(any());
+    }
+
+    @Test
+    void expiredHashesArePrunedAtLoad() {
+        long now = System.currentTimeMillis();
+        SeenMailboxMessagesStore persisted = new SeenMailboxMessagesStore(Map.of(
+                hash(1), now - SeenMailboxMessagesService.MAX_AGE - 1,
+                hash(2), now));
+
+        SeenMailboxMessagesStore pruned = service.prunePersisted(persisted);
+
+        assertEquals(Map.of(hash(2), now), pruned.getDateByMessageHash());
+    }
+
+    @Test
+    void protoRoundTrip() {
+        SeenMailboxMessagesStore store = new SeenMailboxMessagesStore(Map.of(hash(1), 10L, hash(2), 20L));
+
+        SeenMailboxMessagesStore fromProto = (SeenMailboxMessagesStore) SeenMailboxMessagesStore.fromProto(store.toProto(false));
+
+        assertEquals(store.getDateByMessageHash(), fromProto.getDateByMessageHash());
+    }
+
+    private static ByteArray hash(int value) {
+        byte[] bytes = new byte[20];
+        bytes[19] = (byte) value;
+        return new ByteArray(bytes);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.network.p2p.services.data.inventory.filter.mini_sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MiniSketchFilterServiceTest {
+    @Test
+    public void saltIsStablePerEpoch() {
+        long time = 1_700_000_000_000L;
+        long epoch = MiniSketchFilterService.getEpoch(time);
+        assertEquals(epoch, MiniSketchFilterService.getEpoch(time + 1));
+        assertEquals(MiniSketchFilterService.getSalt(epoch), MiniSketchFilterService.getSalt(epoch));
+        assertNotEquals(MiniSketchFilterService.getSalt(epoch), MiniSketchFilterService.getSalt(epoch + 1));
+    }
+
+    @Test
+    public void onlySaltsOfAdjacentEpochsAreAccepted() {
+        long time = 1_700_000_000_000L;
+        long epoch = MiniSketchFilterService.getEpoch(time);
+        assertTrue(MiniSketchFilterService.isAcceptedSalt(MiniSketchFilterService.getSalt(epoch - 1), time));
+        assertTrue(MiniSketchFilterService.isAcceptedSalt(MiniSketchFilterService.getSalt(epoch), time));
+        assertTrue(MiniSketchFilterService.isAcceptedSalt(MiniSketchFilterService.getSalt(epoch + 1), time));
+        assertFalse(MiniSketchFilterService.isAcceptedSalt(MiniSketchFilterService.getSalt(epoch - 2), time));
+        assertFalse(MiniSketchFilterService.isAcceptedSalt(MiniSketchFilterService.getSalt(epoch + 2), time));
+        assertFalse(MiniSketchFilterService.isAcceptedSalt(42, time));
+    }
+}
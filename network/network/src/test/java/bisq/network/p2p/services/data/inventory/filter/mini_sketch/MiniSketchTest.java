@@ -0,0 +1,103 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.services.data.inventory.filter.mini_sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MiniSketchTest {
+    private final Random random = new Random(42);
+
+    @Test
+    public void fieldArithmetic() {
+        long a = random.nextLong();
+        long b = random.nextLong();
+        long c = random.nextLong();
+        assertEquals(MiniSketch.mul(a, b), MiniSketch.mul(b, a));
+        assertEquals(MiniSketch.mul(a, b ^ c), MiniSketch.mul(a, b) ^ MiniSketch.mul(a, c));
+        assertEquals(1, MiniSketch.mul(a, MiniSketch.inv(a)));
+        assertEquals(a, MiniSketch.mul(a, 1));
+    }
+
+    @Test
+    public void decodeSymmetricDifference() {
+        int capacity = 32;
+        for (int differenceSize : new int[]{0, 1, 7, capacity}) {
+            MiniSketch mySketch = new MiniSketch(capacity);
+            MiniSketch peersSketch = new MiniSketch(capacity);
+            for (int i = 0; i < 1000; i++) {
+                long element = nonZeroElement();
+                mySketch.add(element);
+                peersSketch.add(element);
+            }
+            Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < differenceSize; i++) {
+                long element = nonZeroElement();
+                expected.add(element);
+                if (i % 2 == 0) {
+                    mySketch.add(element);
+                } else {
+                    peersSketch.add(element);
+                }
+            }
+
+            MiniSketch deserialized = MiniSketch.fromBytes(peersSketch.toBytes());
+            assertEquals(peersSketch, deserialized);
+
+            Optional<long[]> decoded = mySketch.merge(deserialized).decode();
+            assertTrue(decoded.isPresent());
+            assertEquals(expected, Arrays.stream(decoded.get()).boxed().collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void decodeFailsIfCapacityIsExceeded() {
+        int capacity = 16;
+        MiniSketch sketch = new MiniSketch(capacity);
+        for (int i = 0; i < capacity + 4; i++) {
+            sketch.add(nonZeroElement());
+        }
+        assertTrue(sketch.decode().isEmpty());
+    }
+
+    @Test
+    public void addingTwiceRemovesElement() {
+        MiniSketch sketch = new MiniSketch(8);
+        long element = nonZeroElement();
+        sketch.add(element);
+        sketch.add(element);
+        assertEquals(new MiniSketch(8), sketch);
+        assertThrows(IllegalArgumentException.class, () -> sketch.add(0));
+    }
+
+    private long nonZeroElement() {
+        long element;
+        do {
+            element = random.nextLong();
+        } while (element == 0);
+        return element;
+    }
+}
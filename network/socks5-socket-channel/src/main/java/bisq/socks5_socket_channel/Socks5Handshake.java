@@ -0,0 +1,173 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.socks5_socket_channel;
+
+import bisq.socks5_socket_channel.messages.Socks5ConnectMessage;
+import bisq.socks5_socket_channel.messages.Socks5RequestMessage;
+import lombok.Getter;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * SOCKS5 client handshake as a state machine which can be driven by the readiness events of a selector.
+ * <p>
+ * {@link #start()} initiates the connection to the proxy. Afterwards {@link #proceed()} is called whenever the channel
+ * is ready for the returned interest set (see {@link #getInterestOps()}). Each call advances the handshake as far as
+ * possible without blocking. Once {@link #isCompleted()} returns true, the channel is connected to the destination.
+ * <p>
+ * The server replies are read exactly up to their length, thus replies split over multiple reads are supported and no
+ * data of the destination gets consumed by the handshake.
+ * <p>
+ * With a channel in blocking mode, calling {@link #proceed()} until the handshake is completed results in a blocking
+ * handshake.
+ */
+public class Socks5Handshake {
+    public enum State {
+        CONNECTING_TO_PROXY,
+        SENDING_GREETING,
+        RECEIVING_METHOD_SELECTION,
+        SENDING_CONNECT_REQUEST,
+        RECEIVING_CONNECT_REPLY,
+        COMPLETED
+    }
+
+    @Getter
+    private final SocketChannel socketChannel;
+    private final Socks5ConnectionData connectionData;
+    private final ByteBuffer byteBuffer;
+    private final Socks5RequestMessage connectRequestMessage;
+    @Getter
+    private State state = State.CONNECTING_TO_PROXY;
+    @Getter
+    private int interestOps = SelectionKey.OP_CONNECT;
+    private int connectReplyLength = -1;
+
+    /**
+     * @param byteBuffer Used for the handshake messages. Needs to hold the longest server reply (262 bytes).
+     */
+    public Socks5Handshake(SocketChannel socketChannel, Socks5ConnectionData connectionData, ByteBuffer byteBuffer) {
+        this.socketChannel = socketChannel;
+        this.connectionData = connectionData;
+        this.byteBuffer = byteBuffer;
+        connectRequestMessage = new Socks5RequestMessage(connectionData.getDestinationHostName(),
+                connectionData.getDestinationPort());
+    }
+
+    /**
+     * @return The interest set for the next readiness event, or 0 if the handshake is completed.
+     */
+    public int start() throws IOException {
+        if (state != State.CONNECTING_TO_PROXY || socketChannel.isConnectionPending() || socketChannel.isConnected()) {
+            throw new IllegalStateException("Handshake has already been started");
+        }
+        socketChannel.connect(connectionData.getSocks5ProxySocketAddress());
+        return proceed();
+    }
+
+    /**
+     * @return The interest set for the next readiness event, or 0 if the handshake is completed.
+     */
+    public int proceed() throws IOException {
+        interestOps = advance();
+        return interestOps;
+    }
+
+    public boolean isCompleted() {
+        return state == State.COMPLETED;
+    }
+
+    private int advance() throws IOException {
+        while (true) {
+            switch (state) {
+                case CONNECTING_TO_PROXY -> {
+                    if (!socketChannel.finishConnect()) {
+                        return SelectionKey.OP_CONNECT;
+                    }
+                    byteBuffer.clear();
+                    Socks5ConnectMessage.writeToByteBuffer(byteBuffer);
+                    byteBuffer.flip();
+                    state = State.SENDING_GREETING;
+                }
+                case SENDING_GREETING -> {
+                    if (!flush()) {
+                        return SelectionKey.OP_WRITE;
+                    }
+                    prepareRead(Socks5ConnectMessage.REPLY_LENGTH);
+                    state = State.RECEIVING_METHOD_SELECTION;
+                }
+                case RECEIVING_METHOD_SELECTION -> {
+                    if (!fill()) {
+                        return SelectionKey.OP_READ;
+                    }
+                    byteBuffer.flip();
+                    Socks5ConnectMessage.processServerReply(byteBuffer);
+
+                    byteBuffer.clear();
+                    connectRequestMessage.writeToByteBuffer(byteBuffer);
+                    byteBuffer.flip();
+                    state = State.SENDING_CONNECT_REQUEST;
+                }
+                case SENDING_CONNECT_REQUEST -> {
+                    if (!flush()) {
+                        return SelectionKey.OP_WRITE;
+                    }
+                    prepareRead(Socks5RequestMessage.REPLY_HEADER_LENGTH);
+                    state = State.RECEIVING_CONNECT_REPLY;
+                }
+                case RECEIVING_CONNECT_REPLY -> {
+                    if (!fill()) {
+                        return SelectionKey.OP_READ;
+                    }
+                    if (connectReplyLength < 0) {
+                        // The header tells us the length of the bound address which follows
+                        connectRequestMessage.processServerReply(byteBuffer.duplicate().flip());
+                        connectReplyLength = Socks5RequestMessage.getReplyLength(byteBuffer);
+                        byteBuffer.limit(connectReplyLength);
+                        continue;
+                    }
+                    byteBuffer.clear();
+                    state = State.COMPLETED;
+                }
+                case COMPLETED -> {
+                    return 0;
+                }
+            }
+        }
+    }
+
+    private void prepareRead(int numBytes) {
+        byteBuffer.clear();
+        byteBuffer.limit(numBytes);
+    }
+
+    private boolean flush() throws IOException {
+        socketChannel.write(byteBuffer);
+        return !byteBuffer.hasRemaining();
+    }
+
+    private boolean fill() throws IOException {
+        if (socketChannel.read(byteBuffer) < 0) {
+            throw new EOFException("SOCKS5 proxy closed the connection during the handshake at state " + state);
+        }
+        return !byteBuffer.hasRemaining();
+    }
+}
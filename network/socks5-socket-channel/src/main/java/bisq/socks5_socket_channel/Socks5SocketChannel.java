@@ -17,9 +17,6 @@
 
 package bisq.socks5_socket_channel;
 
-import bisq.socks5_socket_channel.messages.Socks5ConnectMessage;
-import bisq.socks5_socket_channel.messages.Socks5RequestMessage;
-
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -39,48 +36,15 @@ public class Socks5SocketChannel implements Closeable, ReadableByteChannel, Writ
     }
 
     public SocketChannel connect(Socks5ConnectionData connectionData, ByteBuffer byteBuffer) throws IOException {
-        socketChannel.connect(connectionData.getSocks5ProxySocketAddress());
-
-        negotiateProtocol(byteBuffer);
-        connectToDestination(
-                byteBuffer,
-                connectionData.getDestinationHostName(),
-                connectionData.getDestinationPort()
-        );
-
-        byteBuffer.clear();
+        Socks5Handshake handshake = new Socks5Handshake(socketChannel, connectionData, byteBuffer);
+        handshake.start();
+        // The channel is in blocking mode, so each step completes or blocks until data is available
+        while (!handshake.isCompleted()) {
+            handshake.proceed();
+        }
         return socketChannel;
     }
 
-    private void negotiateProtocol(ByteBuffer byteBuffer) throws IOException {
-        byteBuffer.clear();
-        Socks5ConnectMessage.writeToByteBuffer(byteBuffer);
-
-        byteBuffer.flip();
-        write(byteBuffer);
-
-        byteBuffer.clear();
-        read(byteBuffer);
-
-        byteBuffer.flip();
-        Socks5ConnectMessage.processServerReply(byteBuffer);
-    }
-
-    private void connectToDestination(ByteBuffer byteBuffer, String hostName, int port) throws IOException {
-        byteBuffer.clear();
-        Socks5RequestMessage connectionRequestMessage = new Socks5RequestMessage(hostName, port);
-        connectionRequestMessage.writeToByteBuffer(byteBuffer);
-
-        byteBuffer.flip();
-        socketChannel.write(byteBuffer);
-
-        byteBuffer.clear();
-        socketChannel.read(byteBuffer);
-        byteBuffer.flip();
-
-        connectionRequestMessage.processServerReply(byteBuffer);
-    }
-
     @Override
     public void close() throws IOException {
         socketChannel.close();
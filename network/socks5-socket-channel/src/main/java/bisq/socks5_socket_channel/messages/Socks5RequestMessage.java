@@ -23,10 +23,16 @@ public class Socks5RequestMessage {
     private static final byte VERSION = 5;
     private static final byte CONNECT_CMD = 1;
     private static final byte RESERVED_FIELD = 0;
+    private static final byte IPV4_ADDRESS_TYPE = 1;
     private static final byte DOMAIN_ADDRESS_TYPE = 3;
+    private static final byte IPV6_ADDRESS_TYPE = 4;
 
     private static final byte CONNECTION_SUCCEEDED_RESPONSE = 0;
 
+    // Version, reply field, reserved field, address type and the first byte of the bound address, which is the
+    // length of the address if it is a domain name.
+    public static final int REPLY_HEADER_LENGTH = 5;
+
     private final String hostName;
     private final int port;
 
@@ -63,4 +69,20 @@ public class Socks5RequestMessage {
             throw new IllegalStateException("Couldn't connect to destination.");
         }
     }
+
+    /**
+     * @param byteBuffer Buffer containing at least the reply header starting at index 0.
+     * @return The total length of the server reply including the bound address and port.
+     */
+    public static int getReplyLength(ByteBuffer byteBuffer) {
+        byte addressType = byteBuffer.get(3);
+        int addressLength = switch (addressType) {
+            case IPV4_ADDRESS_TYPE -> 4;
+            case DOMAIN_ADDRESS_TYPE -> 1 + (byteBuffer.get(4) & 0xFF);
+            case IPV6_ADDRESS_TYPE -> 16;
+            default -> throw new IllegalStateException("Unknown address type in server reply: " + addressType);
+        };
+        // Version, reply field, reserved field and address type, followed by the address and the 2 bytes port
+        return 4 + addressLength + 2;
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.socks5_socket_channel;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class Socks5HandshakeTest {
+    private static final String DESTINATION = "example.onion";
+    private static final byte[] APPLICATION_DATA = "hello".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void nonBlockingHandshakeWithSplitReplies() throws Exception {
+        // Domain name as bound address, so the reply length depends on the header
+        byte[] connectReply = {5, 0, 0, 3, 4, 'h', 'o', 's', 't', 0, 80};
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             Selector selector = Selector.open();
+             SocketChannel socketChannel = SocketChannel.open()) {
+            CompletableFuture<String> proxy = runProxy(serverSocket, connectReply);
+
+            socketChannel.configureBlocking(false);
+            Socks5Handshake handshake = new Socks5Handshake(socketChannel, createConnectionData(serverSocket), ByteBuffer.allocate(512));
+            int interestOps = handshake.start();
+            while (!handshake.isCompleted()) {
+                socketChannel.register(selector, interestOps);
+                selector.select(1000);
+                selector.selectedKeys().clear();
+                interestOps = handshake.proceed();
+            }
+            assertEquals(0, handshake.getInterestOps());
+            assertEquals(DESTINATION + ":9999", proxy.get(5, TimeUnit.SECONDS));
+
+            // Data sent after the reply must not have been consumed by the handshake
+            socketChannel.register(selector, SelectionKey.OP_READ);
+            ByteBuffer byteBuffer = ByteBuffer.allocate(APPLICATION_DATA.length);
+            while (byteBuffer.hasRemaining()) {
+                selector.select(1000);
+                selector.selectedKeys().clear();
+                socketChannel.read(byteBuffer);
+            }
+            assertArrayEquals(APPLICATION_DATA, byteBuffer.array());
+        }
+    }
+
+    @Test
+    void blockingConnect() throws Exception {
+        byte[] connectReply = {5, 0, 0, 1, 127, 0, 0, 1, 0, 80};
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             Socks5SocketChannel socks5SocketChannel = Socks5SocketChannel.open()) {
+            CompletableFuture<String> proxy = runProxy(serverSocket, connectReply);
+
+            ByteBuffer byteBuffer = ByteBuffer.allocate(512);
+            SocketChannel socketChannel = socks5SocketChannel.connect(createConnectionData(serverSocket), byteBuffer);
+            assertTrue(socketChannel.isConnected());
+            assertEquals(DESTINATION + ":9999", proxy.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void failedConnectReply() throws Exception {
+        // General SOCKS server failure
+        byte[] connectReply = {5, 1, 0, 1, 0, 0, 0, 0, 0, 0};
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             Socks5SocketChannel socks5SocketChannel = Socks5SocketChannel.open()) {
+            runProxy(serverSocket, connectReply);
+
+            assertThrows(IllegalStateException.class,
+                    () -> socks5SocketChannel.connect(createConnectionData(serverSocket), ByteBuffer.allocate(512)));
+        }
+    }
+
+    private static Socks5ConnectionData createConnectionData(ServerSocket serverSocket) {
+        InetSocketAddress proxyAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        return new Socks5ConnectionData(proxyAddress, DESTINATION, 9999);
+    }
+
+    /**
+     * Minimal SOCKS5 server which writes its replies byte by byte to simulate fragmented reads.
+     *
+     * @return Future with the requested destination as host:port
+     */
+    private static CompletableFuture<String> runProxy(ServerSocket serverSocket, byte[] connectReply) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Socket socket = serverSocket.accept()) {
+                DataInputStream inputStream = new DataInputStream(socket.getInputStream());
+                OutputStream outputStream = socket.getOutputStream();
+
+                byte[] greeting = new byte[3];
+                inputStream.readFully(greeting);
+                writeFragmented(outputStream, new byte[]{5, 0});
+
+                byte[] requestHeader = new byte[5];
+                inputStream.readFully(requestHeader);
+                byte[] hostName = new byte[requestHeader[4]];
+                inputStream.readFully(hostName);
+                int port = inputStream.readUnsignedShort();
+
+                writeFragmented(outputStream, connectReply);
+                outputStream.write(APPLICATION_DATA);
+                outputStream.flush();
+                return new String(hostName, StandardCharsets.UTF_8) + ":" + port;
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static void writeFragmented(OutputStream outputStream, byte[] bytes) throws IOException {
+        for (byte b : bytes) {
+            outputStream.write(b);
+            outputStream.flush();
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -42,6 +42,7 @@ import net.freehaven.tor.control.PasswordDigest;
 import java.io.File;
 import java.io.IOException;
 import java.net.*;
+import java.nio.channels.ServerSocketChannel;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
@@ -187,12 +188,22 @@ public class TorService implements Service {
     }
 
     public CompletableFuture<ServerSocket> createOnionService(int port, TorKeyPair torKeyPair) {
+        return createOnionService(port, torKeyPair, false);
+    }
+
+    /**
+     * @param useServerSocketChannel If true, the local server socket is created from a ServerSocketChannel, so that
+     *                               the accepted sockets have a channel and can be used with non-blocking IO.
+     */
+    public CompletableFuture<ServerSocket> createOnionService(int port, TorKeyPair torKeyPair, boolean useServerSocketChannel) {
         log.info("Start hidden service with port {}", port);
         long ts = System.currentTimeMillis();
         try {
             InetAddress bindAddress = !LinuxDistribution.isWhonix() ? Inet4Address.getLoopbackAddress()
                     : Inet4Address.getByName("0.0.0.0");
-            var localServerSocket = new ServerSocket(RANDOM_PORT, 50, bindAddress);
+            ServerSocket localServerSocket = useServerSocketChannel ?
+                    ServerSocketChannel.open().bind(new InetSocketAddress(bindAddress, RANDOM_PORT), 50).socket() :
+                    new ServerSocket(RANDOM_PORT, 50, bindAddress);
 
             String onionAddress = torKeyPair.getOnionAddress();
             if (!publishedOnionServices.contains(onionAddress)) {
@@ -18,6 +18,7 @@
 package bisq.offer;
 
 import bisq.common.application.Service;
+import bisq.common.observable.collection.ObservableHashSet;
 import bisq.common.observable.collection.ObservableSet;
 import bisq.identity.Identity;
 import bisq.identity.IdentityService;
@@ -37,7 +38,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 @Slf4j
 public class OfferMessageService implements Service, DataService.Listener {
     @Getter
-    private final ObservableSet<Offer<?, ?>> offers = new ObservableSet<>();
+    private final ObservableSet<Offer<?, ?>> offers = new ObservableHashSet<>();
     private final NetworkService networkService;
     private final IdentityService identityService;
 
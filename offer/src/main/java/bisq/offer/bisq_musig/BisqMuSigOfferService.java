@@ -20,6 +20,7 @@ package bisq.offer.bisq_musig;
 import bisq.common.application.Service;
 import bisq.common.observable.Pin;
 import bisq.common.observable.collection.CollectionObserver;
+import bisq.common.observable.collection.ObservableHashSet;
 import bisq.common.observable.collection.ObservableSet;
 import bisq.common.timer.Scheduler;
 import bisq.common.util.CompletableFutureUtils;
@@ -40,7 +41,7 @@ public class BisqMuSigOfferService implements Service {
     private final MyBisqMuSigOffersService myBisqMuSigOffersService;
     private final OfferMessageService offerMessageService;
     @Getter
-    private final ObservableSet<BisqMuSigOffer> offers = new ObservableSet<>();
+    private final ObservableSet<BisqMuSigOffer> offers = new ObservableHashSet<>();
     private final CollectionObserver<Offer<?, ?>> offersObserver;
     private Pin offersObserverPin;
 
@@ -18,6 +18,9 @@
 package bisq.persistence;
 
 import bisq.common.file.FileUtils;
+import bisq.common.metrics.Counter;
+import bisq.common.metrics.Histogram;
+import bisq.common.metrics.MetricsRegistry;
 import com.google.protobuf.Any;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,11 +37,19 @@ public class PersistableStoreReaderWriter<T extends PersistableStore<T>> {
     private final PersistableStoreFileManager storeFileManager;
     private final Path storeFilePath;
     private final Path parentDirectoryPath;
+    private final Histogram writeDuration;
+    private final Counter writtenBytes;
 
     public PersistableStoreReaderWriter(PersistableStoreFileManager storeFileManager) {
         this.storeFileManager = storeFileManager;
         this.storeFilePath = storeFileManager.getStoreFilePath();
         this.parentDirectoryPath = storeFilePath.getParent();
+
+        String storeFileName = storeFilePath.getFileName().toString();
+        writeDuration = MetricsRegistry.DEFAULT.histogram("bisq_persistence_write_duration_ms",
+                "Duration of writing a persistable store to disk", "store", storeFileName);
+        writtenBytes = MetricsRegistry.DEFAULT.counter("bisq_persistence_written_bytes",
+                "Number of bytes written to disk for a persistable store", "store", storeFileName);
     }
 
     public synchronized Optional<T> read() {
@@ -65,7 +76,11 @@ public class PersistableStoreReaderWriter<T extends PersistableStore<T>> {
         return Optional.empty();
     }
 
-    public synchronized void write(T persistableStore) {
+    /**
+     * @return true if the store has been written to disk
+     */
+    public synchronized boolean write(T persistableStore) {
+        long ts = System.currentTimeMillis();
         storeFileManager.createParentDirectoriesIfNotExisting();
         try {
             writeStoreToTempFile(persistableStore);
@@ -75,11 +90,14 @@ public class PersistableStoreReaderWriter<T extends PersistableStore<T>> {
                 FileUtils.deleteFile(storeFile);
             }
             storeFileManager.renameTempFileToCurrentFile();
+            writeDuration.observe(System.currentTimeMillis() - ts);
+            return true;
         } catch (CouldNotSerializePersistableStore e) {
             log.error("Couldn't serialize {}", persistableStore, e);
         } catch (Exception e) {
             log.error("Couldn't write persistable store to disk.", e);
         }
+        return false;
     }
 
     public void pruneBackups() {
@@ -119,6 +137,7 @@ public class PersistableStoreReaderWriter<T extends PersistableStore<T>> {
             // it requires static access).
             Any any = persistableStore.toAny();
             any.writeDelimitedTo(fileOutputStream);
+            writtenBytes.add(any.getSerializedSize());
         } catch (IOException e) {
             throw new CouldNotSerializePersistableStore(e);
         }
@@ -17,6 +17,7 @@
 
 package bisq.persistence;
 
+import bisq.common.platform.PlatformUtils;
 import bisq.common.threading.ExecutorFactory;
 import bisq.common.util.StringUtils;
 import bisq.persistence.backup.MaxBackupSize;
@@ -33,14 +34,18 @@ import java.util.function.Consumer;
 @Slf4j
 public class Persistence<T extends PersistableStore<T>> {
     public static final String EXTENSION = ".protobuf";
-    private static final ExecutorService executorService = ExecutorFactory.newSingleThreadExecutor("Persistence");
+    protected static final ExecutorService executorService = ExecutorFactory.newSingleThreadExecutor("Persistence");
+    // Reading and parsing of different stores can be done in parallel. Reads and writes of the same store are
+    // synchronized at the PersistableStoreReaderWriter.
+    protected static final ExecutorService readExecutorService = ExecutorFactory.newFixedThreadPool("Persistence-read",
+            Math.min(4, PlatformUtils.availableProcessors()));
 
     @Getter
     private final Path storePath;
     @Getter
     private final String fileName;
 
-    private final PersistableStoreReaderWriter<T> persistableStoreReaderWriter;
+    protected final PersistableStoreReaderWriter<T> persistableStoreReaderWriter;
 
     public Persistence(String directory, String fileName, MaxBackupSize maxBackupSize) {
         this.fileName = fileName;
@@ -55,15 +60,15 @@ public class Persistence<T extends PersistableStore<T>> {
     }
 
     public CompletableFuture<Optional<T>> readAsync() {
-        return CompletableFuture.supplyAsync(persistableStoreReaderWriter::read, executorService);
+        return CompletableFuture.supplyAsync(persistableStoreReaderWriter::read, readExecutorService);
     }
 
     public CompletableFuture<Void> persistAsync(T serializable) {
         return CompletableFuture.runAsync(() -> persist(serializable), executorService);
     }
 
-    protected void persist(T persistableStore) {
-        persistableStoreReaderWriter.write(persistableStore);
+    protected boolean persist(T persistableStore) {
+        return persistableStoreReaderWriter.write(persistableStore);
     }
 
     public CompletableFuture<Void> pruneBackups() {
@@ -25,11 +25,23 @@ import java.util.concurrent.CompletableFuture;
  */
 public interface PersistenceClient<T extends PersistableStore<T>> {
     default CompletableFuture<Optional<T>> readPersisted() {
-        return getPersistence().readAsync(persisted -> {
-            persisted = prunePersisted(persisted);
-            getPersistableStore().applyPersisted(persisted);
-            onPersistedApplied(persisted);
-        });
+        return readPersisted(CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Reads the persisted store and applies it once the given future has completed. This allows to read and parse
+     * stores concurrently while applying them in a defined order.
+     */
+    default CompletableFuture<Optional<T>> readPersisted(CompletableFuture<?> applyAfter) {
+        return getPersistence().readAsync()
+                .thenCombine(applyAfter, (result, nil) -> {
+                    result.ifPresent(persisted -> {
+                        persisted = prunePersisted(persisted);
+                        getPersistableStore().applyPersisted(persisted);
+                        onPersistedApplied(persisted);
+                    });
+                    return result;
+                });
     }
 
     default T prunePersisted(T persisted) {
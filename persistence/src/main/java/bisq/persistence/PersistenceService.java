@@ -20,14 +20,19 @@ package bisq.persistence;
 import bisq.common.proto.PersistableProto;
 import bisq.common.util.CompletableFutureUtils;
 import bisq.persistence.backup.MaxBackupSize;
+import bisq.persistence.journal.JournalPersistence;
+import bisq.persistence.journal.JournaledPersistableStore;
 import com.google.common.base.Joiner;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -97,6 +102,22 @@ public class PersistenceService {
         return persistence;
     }
 
+    public <T extends JournaledPersistableStore<T>> JournalPersistence<T> getOrCreateJournalPersistence(PersistenceClient<T> client,
+                                                                                                        String subDir,
+                                                                                                        String fileName,
+                                                                                                        T persistableStore,
+                                                                                                        MaxBackupSize maxBackupSize,
+                                                                                                        Supplier<T> emptyStoreFactory) {
+        PersistableStoreResolver.addResolver(persistableStore.getResolver());
+        clients.add(client);
+        JournalPersistence<T> persistence = new JournalPersistence<>(baseDir + File.separator + subDir,
+                fileName,
+                maxBackupSize,
+                emptyStoreFactory);
+        persistenceInstances.add(persistence);
+        return persistence;
+    }
+
     public CompletableFuture<Void> pruneAllBackups() {
         List<CompletableFuture<Void>> list = clients.stream()
                 .map(PersistenceClient::getPersistence)
@@ -112,21 +133,30 @@ public class PersistenceService {
                 .sorted()
                 .collect(Collectors.toList());
         log.info("Read persisted data from:\n{}", Joiner.on("\n").join(storagePaths));
-        return CompletableFutureUtils.allOf(clients.stream()
-                        .map(persistenceClient -> persistenceClient.readPersisted()
-                                .whenComplete((optionalResult, throwable) -> {
-                                    String storagePath = persistenceClient.getPersistence().getStorePath()
-                                            .toAbsolutePath().toString();
-                                    if (throwable == null) {
-                                        if (optionalResult.isPresent()) {
-                                            log.debug("Read persisted data from {}", storagePath);
-                                        } else {
-                                            log.debug("No persisted data at {} found", storagePath);
-                                        }
-                                    } else {
-                                        log.error("Error at read persisted data from: {}", storagePath, throwable);
-                                    }
-                                })))
+        // Stores are read and parsed concurrently, but applied in the order the clients have been added, as some
+        // clients access the data of previously added stores when their store gets applied.
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        CompletableFuture<?> previousApplied = CompletableFuture.completedFuture(null);
+        for (PersistenceClient<? extends PersistableProto> persistenceClient : clients) {
+            CompletableFuture<? extends Optional<?>> future = persistenceClient.readPersisted(previousApplied)
+                    .whenComplete((optionalResult, throwable) -> {
+                        String storagePath = persistenceClient.getPersistence().getStorePath()
+                                .toAbsolutePath().toString();
+                        if (throwable == null) {
+                            if (optionalResult.isPresent()) {
+                                log.debug("Read persisted data from {}", storagePath);
+                            } else {
+                                log.debug("No persisted data at {} found", storagePath);
+                            }
+                        } else {
+                            log.error("Error at read persisted data from: {}", storagePath, throwable);
+                        }
+                    });
+            // A failure at one store must not prevent applying the following stores
+            previousApplied = future.handle((result, throwable) -> null);
+            futures.add(future.thenApply(result -> true));
+        }
+        return CompletableFutureUtils.allOf(futures)
                 .thenApply(list -> true);
     }
 
@@ -0,0 +1,158 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.persistence.journal;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of length-delimited journal records.
+ * <p>
+ * Each record is written as: length (int), CRC32 of the payload (int), payload. The payload consists of the record
+ * type (byte), the key length (int), the key bytes and the value bytes.
+ * If the application got terminated while writing, the last record might be incomplete. At reading, we stop at the
+ * first incomplete or corrupted record and truncate the file to the last valid record.
+ * <p>
+ * Not thread safe. Access is expected from the single persistence thread.
+ */
+@Slf4j
+public class JournalFile {
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    @Getter
+    private final Path path;
+    @Getter
+    private int numRecords;
+
+    public JournalFile(Path path) {
+        this.path = path;
+    }
+
+    public List<JournalRecord> read() throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        if (!Files.exists(path)) {
+            numRecords = 0;
+            return records;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        int validLength = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length < 1 + Integer.BYTES || length > buffer.remaining()) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(payload);
+                if (getChecksum(payload) != checksum) {
+                    break;
+                }
+                records.add(fromPayload(payload));
+                validLength = buffer.position();
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            log.warn("Reading journal record at {} failed", path, e);
+        }
+
+        if (validLength < buffer.capacity()) {
+            log.warn("Journal {} has an incomplete or corrupted record at position {}. We truncate the journal and " +
+                    "ignore the remaining {} bytes.", path, validLength, buffer.capacity() - validLength);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+        numRecords = records.size();
+        return records;
+    }
+
+    public void append(List<JournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(path.getParent());
+        try (FileOutputStream fileOutputStream = new FileOutputStream(path.toFile(), true);
+             DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(fileOutputStream))) {
+            for (JournalRecord record : records) {
+                byte[] payload = toPayload(record);
+                outputStream.writeInt(payload.length);
+                outputStream.writeInt(getChecksum(payload));
+                outputStream.write(payload);
+            }
+            outputStream.flush();
+            // The records are only durable once they have been synced to the device
+            fileOutputStream.getFD().sync();
+        }
+        numRecords += records.size();
+    }
+
+    public void clear() throws IOException {
+        Files.deleteIfExists(path);
+        numRecords = 0;
+    }
+
+    private static byte[] toPayload(JournalRecord record) {
+        byte[] key = record.getKey();
+        byte[] value = record.getValue();
+        return ByteBuffer.allocate(1 + Integer.BYTES + key.length + value.length)
+                .put((byte) record.getType().ordinal())
+                .putInt(key.length)
+                .put(key)
+                .put(value)
+                .array();
+    }
+
+    private static JournalRecord fromPayload(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        int typeOrdinal = buffer.get();
+        JournalRecord.Type[] types = JournalRecord.Type.values();
+        if (typeOrdinal < 0 || typeOrdinal >= types.length) {
+            throw new IllegalArgumentException("Invalid journal record type " + typeOrdinal);
+        }
+        int keyLength = buffer.getInt();
+        if (keyLength < 0 || keyLength > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid journal record key length " + keyLength);
+        }
+        byte[] key = new byte[keyLength];
+        buffer.get(key);
+        byte[] value = new byte[buffer.remaining()];
+        buffer.get(value);
+        return new JournalRecord(types[typeOrdinal], key, value);
+    }
+
+    private static int getChecksum(byte[] payload) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        return (int) crc32.getValue();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.persistence.journal;
+
+import bisq.persistence.Persistence;
+import bisq.persistence.backup.MaxBackupSize;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Persistence which appends the changed entries to a journal file instead of writing the complete store at each
+ * change. Once the journal exceeds MAX_JOURNAL_RECORDS we compact it by writing a snapshot of the store and deleting
+ * the journal. At reading, the journal records are applied to the snapshot.
+ * <p>
+ * All writes are done on the persistence thread. The records and the snapshot are provided by suppliers which
+ * are called on that thread, so that a snapshot includes all changes of the records written before. Reading is done
+ * on the read pool and is synchronized with the writes on the journal file.
+ */
+@Slf4j
+public class JournalPersistence<T extends JournaledPersistableStore<T>> extends Persistence<T> {
+    public static final String JOURNAL_EXTENSION = ".journal";
+    public static final int MAX_JOURNAL_RECORDS = 10_000;
+
+    private final JournalFile journalFile;
+    private final Supplier<T> emptyStoreFactory;
+    // Records which have been drained from the store but could neither be appended nor be covered by a snapshot.
+    // They get appended together with the next records. Access is synchronized on the journalFile.
+    private final List<JournalRecord> unwrittenRecords = new ArrayList<>();
+
+    public JournalPersistence(String directory,
+                              String fileName,
+                              MaxBackupSize maxBackupSize,
+                              Supplier<T> emptyStoreFactory) {
+        super(directory, fileName, maxBackupSize);
+        this.emptyStoreFactory = emptyStoreFactory;
+        Path storePath = getStorePath();
+        String journalFileName = storePath.getFileName().toString().replace(EXTENSION, JOURNAL_EXTENSION);
+        journalFile = new JournalFile(storePath.resolveSibling(journalFileName));
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> readAsync() {
+        return CompletableFuture.supplyAsync(this::readSnapshotAndJournal, readExecutorService);
+    }
+
+    /**
+     * Appends the records provided by the recordsSupplier to the journal and compacts the journal if it got too large.
+     */
+    public CompletableFuture<Void> appendAsync(Supplier<List<JournalRecord>> recordsSupplier,
+                                               Supplier<T> snapshotSupplier) {
+        return CompletableFuture.runAsync(() -> {
+            synchronized (journalFile) {
+                unwrittenRecords.addAll(recordsSupplier.get());
+                try {
+                    journalFile.append(unwrittenRecords);
+                    unwrittenRecords.clear();
+                } catch (IOException e) {
+                    log.error("Couldn't append to journal {}. We write a snapshot instead.", journalFile.getPath(), e);
+                    compact(snapshotSupplier);
+                    return;
+                }
+                if (journalFile.getNumRecords() >= MAX_JOURNAL_RECORDS) {
+                    compact(snapshotSupplier);
+                }
+            }
+        }, executorService);
+    }
+
+    public CompletableFuture<Void> compactAsync(Supplier<T> snapshotSupplier) {
+        return CompletableFuture.runAsync(() -> compact(snapshotSupplier), executorService);
+    }
+
+    /**
+     * @return true if the snapshot has been written. Only in that case the journal gets deleted, and the unwritten
+     * records are dropped as their changes are contained in the snapshot.
+     */
+    private boolean compact(Supplier<T> snapshotSupplier) {
+        synchronized (journalFile) {
+            if (!persist(snapshotSupplier.get())) {
+                log.warn("Couldn't write snapshot for journal {}. We keep the journal.", journalFile.getPath());
+                return false;
+            }
+            unwrittenRecords.clear();
+            try {
+                journalFile.clear();
+            } catch (IOException e) {
+                log.error("Couldn't delete journal {}", journalFile.getPath(), e);
+            }
+            return true;
+        }
+    }
+
+    private Optional<T> readSnapshotAndJournal() {
+        Optional<T> snapshot;
+        List<JournalRecord> records;
+        // Snapshot and journal have to be read without a compaction in between
+        synchronized (journalFile) {
+            snapshot = persistableStoreReaderWriter.read();
+            try {
+                records = journalFile.read();
+            } catch (IOException e) {
+                log.error("Couldn't read journal {}", journalFile.getPath(), e);
+                return snapshot;
+            }
+        }
+        if (records.isEmpty()) {
+            return snapshot;
+        }
+
+        T store = snapshot.orElseGet(emptyStoreFactory);
+        records.forEach(record -> {
+            try {
+                store.applyJournalRecord(record);
+            } catch (Exception e) {
+                log.warn("Couldn't apply journal record {}", record, e);
+            }
+        });
+        log.info("Applied {} journal records from {}", records.size(), journalFile.getPath());
+        return Optional.of(store);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.persistence.journal;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A change of a single entry of a journaled store. The key and value are the serialized bytes of the store entry.
+ * Remove records do not carry a value.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class JournalRecord {
+    public enum Type {
+        PUT,
+        REMOVE
+    }
+
+    private static final byte[] EMPTY = new byte[0];
+
+    public static JournalRecord put(byte[] key, byte[] value) {
+        return new JournalRecord(Type.PUT, key, value);
+    }
+
+    public static JournalRecord remove(byte[] key) {
+        return new JournalRecord(Type.REMOVE, key, EMPTY);
+    }
+
+    private final Type type;
+    private final byte[] key;
+    private final byte[] value;
+
+    JournalRecord(Type type, byte[] key, byte[] value) {
+        this.type = type;
+        this.key = key;
+        this.value = value;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package bisq.persistence;
+
+import bisq.persistence.backup.MaxBackupSize;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PersistenceServiceTests {
+    private static class TimestampClient implements PersistenceClient<TimestampStore> {
+        @Getter
+        private final TimestampStore persistableStore = new TimestampStore();
+        @Getter
+        private final Persistence<TimestampStore> persistence;
+        private final String name;
+        private final List<String> appliedNames;
+
+        private TimestampClient(PersistenceService persistenceService, String name, List<String> appliedNames) {
+            this.name = name;
+            this.appliedNames = appliedNames;
+            persistence = persistenceService.getOrCreatePersistence(this, "db", name, persistableStore, MaxBackupSize.ZERO);
+        }
+
+        @Override
+        public void onPersistedApplied(TimestampStore persisted) {
+            appliedNames.add(name);
+        }
+    }
+
+    @Test
+    void readAllPersistedAppliesInOrderOfClients(@TempDir Path tempDir) {
+        List<String> appliedNames = new CopyOnWriteArrayList<>();
+        PersistenceService persistenceService = new PersistenceService(tempDir.toString());
+        List<TimestampClient> clients = IntStream.range(0, 20)
+                .mapToObj(i -> new TimestampClient(persistenceService, "Store" + i, appliedNames))
+                .toList();
+        clients.forEach(client -> {
+            client.getPersistableStore().getTimestampsByProfileId().put(client.name, 1L);
+            client.persist().join();
+        });
+
+        clients.forEach(client -> client.getPersistableStore().getTimestampsByProfileId().clear());
+        assertThat(persistenceService.readAllPersisted().join()).isTrue();
+
+        assertThat(appliedNames).isEqualTo(clients.stream().map(client -> client.name).toList());
+        clients.forEach(client ->
+                assertThat(client.getPersistableStore().getTimestampsByProfileId()).containsEntry(client.name, 1L));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.persistence.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JournalFileTests {
+
+    @Test
+    void readNotExistingJournal(@TempDir Path tempDir) throws IOException {
+        var journalFile = new JournalFile(tempDir.resolve("store.journal"));
+        assertThat(journalFile.read()).isEmpty();
+        assertThat(journalFile.getNumRecords()).isZero();
+    }
+
+    @Test
+    void appendAndRead(@TempDir Path tempDir) throws IOException {
+        Path path = tempDir.resolve("store.journal");
+        var journalFile = new JournalFile(path);
+        JournalRecord put = JournalRecord.put(new byte[]{1, 2}, new byte[]{3, 4, 5});
+        JournalRecord remove = JournalRecord.remove(new byte[]{6});
+        JournalRecord putEmptyValue = JournalRecord.put(new byte[]{7}, new byte[0]);
+        journalFile.append(List.of(put, remove));
+        journalFile.append(List.of(putEmptyValue));
+        assertThat(journalFile.getNumRecords()).isEqualTo(3);
+
+        List<JournalRecord> records = new JournalFile(path).read();
+        assertThat(records).containsExactly(put, remove, putEmptyValue);
+    }
+
+    @Test
+    void incompleteRecordIsTruncated(@TempDir Path tempDir) throws IOException {
+        Path path = tempDir.resolve("store.journal");
+        var journalFile = new JournalFile(path);
+        JournalRecord first = JournalRecord.put(new byte[]{1}, new byte[]{2});
+        journalFile.append(List.of(first));
+        long sizeOfFirstRecord = Files.size(path);
+        journalFile.append(List.of(JournalRecord.put(new byte[]{3}, new byte[]{4, 5, 6})));
+
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 2));
+
+        List<JournalRecord> records = new JournalFile(path).read();
+        assertThat(records).containsExactly(first);
+        assertThat(Files.size(path)).isEqualTo(sizeOfFirstRecord);
+    }
+
+    @Test
+    void clear(@TempDir Path tempDir) throws IOException {
+        Path path = tempDir.resolve("store.journal");
+        var journalFile = new JournalFile(path);
+        journalFile.append(List.of(JournalRecord.remove(new byte[]{1})));
+        journalFile.clear();
+        assertThat(Files.exists(path)).isFalse();
+        assertThat(journalFile.getNumRecords()).isZero();
+    }
+}
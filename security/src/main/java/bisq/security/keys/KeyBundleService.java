@@ -162,6 +162,14 @@ public class KeyBundleService implements PersistenceClient<KeyBundleStore> {
         return findKeyBundle(keyId).map(KeyBundle::getKeyPair);
     }
 
+    /**
+     * Cheap lookup whether we have a key bundle for the given key ID. Can be used to filter out data not addressed to
+     * us before doing any crypto operations.
+     */
+    public boolean hasKeyBundle(String keyId) {
+        return persistableStore.containsKeyId(keyId);
+    }
+
     public KeyBundle createKeyBundle(String keyId) {
         return createKeyBundle(keyId, TorKeyGeneration.generateKeyPair());
     }
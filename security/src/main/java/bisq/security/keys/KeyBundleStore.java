@@ -98,6 +98,11 @@ public final class KeyBundleStore implements PersistableStore<KeyBundleStore> {
         }
     }
 
+    // The map is a ConcurrentHashMap, thus we do not need to synchronize for a lookup of the key
+    boolean containsKeyId(String keyId) {
+        return keyBundleById.containsKey(keyId);
+    }
+
     public void putKeyBundle(String keyId, KeyBundle keyBundle) {
         synchronized (keyBundleById) {
             if (keyBundleById.put(keyId, keyBundle) != null) {
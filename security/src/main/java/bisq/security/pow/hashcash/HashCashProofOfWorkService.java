@@ -17,6 +17,8 @@
 
 package bisq.security.pow.hashcash;
 
+import bisq.common.metrics.Histogram;
+import bisq.common.metrics.MetricsRegistry;
 import bisq.security.DigestUtil;
 import bisq.security.pow.ProofOfWork;
 import bisq.security.pow.ProofOfWorkService;
@@ -34,6 +36,12 @@ import java.nio.charset.StandardCharsets;
  */
 @Slf4j
 public class HashCashProofOfWorkService extends ProofOfWorkService {
+    private static final Histogram MINT_DURATION = MetricsRegistry.DEFAULT.histogram("bisq_pow_mint_duration_ms",
+            "Duration of minting a HashCash proof of work");
+    private static final Histogram VERIFY_DURATION = MetricsRegistry.DEFAULT.histogram("bisq_pow_verify_duration_us",
+            "Duration of verifying a HashCash proof of work in microseconds",
+            new long[]{10, 50, 100, 500, 1000, 5000});
+
     public HashCashProofOfWorkService() {
     }
 
@@ -50,15 +58,20 @@ public class HashCashProofOfWorkService extends ProofOfWorkService {
         }
         while (numberOfLeadingZeros(hash) <= log2Difficulty);
         byte[] solution = Longs.toByteArray(counter);
-        return new ProofOfWork(payload, counter, challenge, difficulty, solution, System.currentTimeMillis() - ts);
+        long duration = System.currentTimeMillis() - ts;
+        MINT_DURATION.observe(duration);
+        return new ProofOfWork(payload, counter, challenge, difficulty, solution, duration);
     }
 
     @Override
     public boolean verify(ProofOfWork proofOfWork) {
+        long ts = System.nanoTime();
         byte[] hash = toSha256Hash(proofOfWork.getPayload(),
                 proofOfWork.getChallenge(),
                 proofOfWork.getSolution());
-        return numberOfLeadingZeros(hash) > toNumLeadingZeros(proofOfWork.getDifficulty());
+        boolean isValid = numberOfLeadingZeros(hash) > toNumLeadingZeros(proofOfWork.getDifficulty());
+        VERIFY_DURATION.observe((System.nanoTime() - ts) / 1000);
+        return isValid;
     }
 
     @Override
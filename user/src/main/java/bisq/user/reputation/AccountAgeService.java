@@ -19,7 +19,6 @@ package bisq.user.reputation;
 
 import bisq.bonded_roles.bonded_role.AuthorizedBondedRolesService;
 import bisq.common.data.ByteArray;
-import bisq.common.data.Pair;
 import bisq.common.timer.Scheduler;
 import bisq.common.util.MathUtils;
 import bisq.network.NetworkService;
@@ -115,10 +114,7 @@ public class AccountAgeService extends SourceReputationService<AuthorizedAccount
                 userProfileService.findUserProfile(userProfileId)
                         .map(this::getUserProfileKey)
                         .ifPresent(dataSetByHash::remove);
-                if (scoreByUserProfileId.containsKey(userProfileId)) {
-                    scoreByUserProfileId.remove(userProfileId);
-                    userProfileIdScorePair.set(new Pair<>(userProfileId, 0L));
-                }
+                removeScore(userProfileId);
             }
         }
     }
@@ -161,6 +157,11 @@ public class AccountAgeService extends SourceReputationService<AuthorizedAccount
         return doCalculateScore(getAgeInDays(data.getDate()));
     }
 
+    @Override
+    protected long getNextScoreChangeTime(AuthorizedAccountAgeData data, long now) {
+        return getNextDayOfAgeTime(data.getDate(), now, MAX_DAYS_AGE_SCORE);
+    }
+
     public static long doCalculateScore(long ageInDays) {
         checkArgument(ageInDays >= 0);
         long boundedAgeInDays = Math.min(MAX_DAYS_AGE_SCORE, ageInDays);
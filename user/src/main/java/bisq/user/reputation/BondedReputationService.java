@@ -87,6 +87,11 @@ public class BondedReputationService extends SourceReputationService<AuthorizedB
         return doCalculateScore(data.getAmount(), data.getBlockTime());
     }
 
+    @Override
+    protected long getNextScoreChangeTime(AuthorizedBondedReputationData data, long now) {
+        return getNextAgeBoostChangeTime(data.getBlockTime(), now);
+    }
+
     public static long doCalculateScore(long amount, long blockTime) {
         checkArgument(amount >= 0);
         checkArgument(blockTime < System.currentTimeMillis() + TimeUnit.HOURS.toMillis(4),
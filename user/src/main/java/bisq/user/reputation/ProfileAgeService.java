@@ -19,7 +19,6 @@ package bisq.user.reputation;
 
 import bisq.bonded_roles.bonded_role.AuthorizedBondedRolesService;
 import bisq.common.data.ByteArray;
-import bisq.common.data.Pair;
 import bisq.common.threading.ExecutorFactory;
 import bisq.common.timer.Scheduler;
 import bisq.network.NetworkService;
@@ -97,10 +96,7 @@ public class ProfileAgeService extends SourceReputationService<AuthorizedTimesta
                 userProfileService.findUserProfile(userProfileId)
                         .map(this::getUserProfileKey)
                         .ifPresent(dataSetByHash::remove);
-                if (scoreByUserProfileId.containsKey(userProfileId)) {
-                    scoreByUserProfileId.remove(userProfileId);
-                    userProfileIdScorePair.set(new Pair<>(userProfileId, 0L));
-                }
+                removeScore(userProfileId);
             }
         }
     }
@@ -83,6 +83,11 @@ public class ProofOfBurnService extends SourceReputationService<AuthorizedProofO
         return doCalculateScore(data.getAmount(), data.getBlockTime());
     }
 
+    @Override
+    protected long getNextScoreChangeTime(AuthorizedProofOfBurnData data, long now) {
+        return getNextAgeBoostChangeTime(data.getBlockTime(), now);
+    }
+
     public static long doCalculateScore(long amount, long blockTime) {
         checkArgument(amount >= 0);
         checkArgument(blockTime < System.currentTimeMillis() + TimeUnit.HOURS.toMillis(4),
@@ -0,0 +1,189 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.user.reputation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Order statistics of the reputation scores for rank lookups and paging in O(log n).
+ * <p>
+ * Uses a treap (randomized balanced binary search tree) ordered by score and userProfileId, where each node keeps
+ * the size of its subtree. Score changes are applied incrementally by removing the old and inserting the new entry.
+ */
+class ReputationRankIndex {
+    private static final class Node {
+        private final long score;
+        private final String userProfileId;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(long score, String userProfileId) {
+            this.score = score;
+            this.userProfileId = userProfileId;
+        }
+    }
+
+    private final Map<String, Long> scoreByUserProfileId = new HashMap<>();
+    private Node root;
+
+    synchronized void put(String userProfileId, long score) {
+        Long previousScore = scoreByUserProfileId.put(userProfileId, score);
+        if (previousScore != null) {
+            if (previousScore == score) {
+                return;
+            }
+            root = delete(root, previousScore, userProfileId);
+        }
+        Node node = new Node(score, userProfileId);
+        Node[] split = split(root, score, userProfileId);
+        root = merge(merge(split[0], node), split[1]);
+    }
+
+    synchronized void remove(String userProfileId) {
+        Long previousScore = scoreByUserProfileId.remove(userProfileId);
+        if (previousScore != null) {
+            root = delete(root, previousScore, userProfileId);
+        }
+    }
+
+    synchronized int size() {
+        return size(root);
+    }
+
+    /**
+     * @return The ranking of the given score, which is the number of entries with the same or a higher score.
+     */
+    synchronized int getRanking(long score) {
+        return size(root) - countLowerScores(score);
+    }
+
+    /**
+     * @return The userProfileIds ordered by descending score, starting at the given offset.
+     */
+    synchronized List<String> getUserProfileIdsByRanking(int offset, int limit) {
+        checkArgument(offset >= 0, "offset must not be negative");
+        checkArgument(limit >= 0, "limit must not be negative");
+        List<String> result = new ArrayList<>(Math.min(limit, Math.max(0, size(root) - offset)));
+        collectDescending(root, offset, limit, result);
+        return result;
+    }
+
+    private int countLowerScores(long score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.score < score) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    // Traverses from the highest to the lowest entry and skips subtrees which are fully before the offset.
+    private static void collectDescending(Node node, int offset, int limit, List<String> result) {
+        if (node == null || result.size() >= limit) {
+            return;
+        }
+        int rightSize = size(node.right);
+        if (offset < rightSize) {
+            collectDescending(node.right, offset, limit, result);
+        }
+        if (result.size() < limit && offset <= rightSize) {
+            result.add(node.userProfileId);
+        }
+        collectDescending(node.left, Math.max(0, offset - rightSize - 1), limit, result);
+    }
+
+    // Splits into the entries lower than (score, userProfileId) and the entries equal or higher.
+    private static Node[] split(Node node, long score, String userProfileId) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(node, score, userProfileId) < 0) {
+            Node[] split = split(node.right, score, userProfileId);
+            node.right = split[0];
+            update(node);
+            return new Node[]{node, split[1]};
+        } else {
+            Node[] split = split(node.left, score, userProfileId);
+            node.left = split[1];
+            update(node);
+            return new Node[]{split[0], node};
+        }
+    }
+
+    // All entries of the lower tree must be lower than the entries of the higher tree.
+    private static Node merge(Node lower, Node higher) {
+        if (lower == null) {
+            return higher;
+        }
+        if (higher == null) {
+            return lower;
+        }
+        if (lower.priority > higher.priority) {
+            lower.right = merge(lower.right, higher);
+            update(lower);
+            return lower;
+        } else {
+            higher.left = merge(lower, higher.left);
+            update(higher);
+            return higher;
+        }
+    }
+
+    private static Node delete(Node node, long score, String userProfileId) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(node, score, userProfileId);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.right = delete(node.right, score, userProfileId);
+        } else {
+            node.left = delete(node.left, score, userProfileId);
+        }
+        update(node);
+        return node;
+    }
+
+    private static int compare(Node node, long score, String userProfileId) {
+        int result = Long.compare(node.score, score);
+        return result != 0 ? result : node.userProfileId.compareTo(userProfileId);
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
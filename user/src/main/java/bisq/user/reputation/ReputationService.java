@@ -28,6 +28,7 @@ import bisq.user.identity.UserIdentityService;
 import bisq.user.profile.UserProfile;
 import bisq.user.profile.UserProfileService;
 import com.google.common.annotations.VisibleForTesting;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,6 +45,8 @@ public class ReputationService implements Service {
     private final SignedWitnessService signedWitnessService;
     private final Observable<String> userProfileIdWithScoreChange = new Observable<>();
     private final Map<String, Long> scoreByUserProfileId = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final ReputationRankIndex rankIndex = new ReputationRankIndex();
     private final ProfileAgeService profileAgeService;
     private final NetworkService networkService;
 
@@ -88,6 +91,12 @@ public class ReputationService implements Service {
         accountAgeService.getUserProfileIdScorePair().addObserver(this::onUserProfileScoreChanged);
         signedWitnessService.getUserProfileIdScorePair().addObserver(this::onUserProfileScoreChanged);
         profileAgeService.getUserProfileIdScorePair().addObserver(this::onUserProfileScoreChanged);
+
+        proofOfBurnService.getChangedUserProfileScores().addObserver(this::onUserProfileScoresChanged);
+        bondedReputationService.getChangedUserProfileScores().addObserver(this::onUserProfileScoresChanged);
+        accountAgeService.getChangedUserProfileScores().addObserver(this::onUserProfileScoresChanged);
+        signedWitnessService.getChangedUserProfileScores().addObserver(this::onUserProfileScoresChanged);
+        profileAgeService.getChangedUserProfileScores().addObserver(this::onUserProfileScoresChanged);
     }
 
 
@@ -138,11 +147,19 @@ public class ReputationService implements Service {
         }
         long score = scoreByUserProfileId.get(userProfileId);
         double fiveSystemScore = getFiveSystemScore(score);
-        int index = getIndex(score, scoreByUserProfileId.values());
-        int rank = scoreByUserProfileId.size() - index;
+        int rank = rankIndex.getRanking(score);
         return Optional.of(new ReputationScore(score, fiveSystemScore, rank));
     }
 
+    /**
+     * @param offset Number of entries to skip, starting from the highest score.
+     * @param limit  Max. number of entries to return.
+     * @return The userProfileIds ordered by descending reputation score.
+     */
+    public List<String> getUserProfileIdsByRanking(int offset, int limit) {
+        return rankIndex.getUserProfileIdsByRanking(offset, limit);
+    }
+
     private void onUserProfileScoreChanged(Pair<String, Long> userProfileIdScorePair) {
         if (userProfileIdScorePair == null) {
             return;
@@ -154,9 +171,16 @@ public class ReputationService implements Service {
                 signedWitnessService.getScore(userProfileId) +
                 profileAgeService.getScore(userProfileId);
         scoreByUserProfileId.put(userProfileId, score);
+        rankIndex.put(userProfileId, score);
         userProfileIdWithScoreChange.set(userProfileId);
     }
 
+    private void onUserProfileScoresChanged(List<Pair<String, Long>> userProfileIdScorePairs) {
+        if (userProfileIdScorePairs != null) {
+            userProfileIdScorePairs.forEach(this::onUserProfileScoreChanged);
+        }
+    }
+
     @VisibleForTesting
     static double getFiveSystemScore(long candidateScore) {
         if (candidateScore < 1_200) {
@@ -183,11 +207,4 @@ public class ReputationService implements Service {
             return 5;
         }
     }
-
-    @VisibleForTesting
-    static int getIndex(long candidateScore, Collection<Long> scores) {
-        List<Long> list = new ArrayList<>(scores);
-        Collections.sort(list);
-        return list.indexOf(candidateScore);
-    }
 }
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.user.reputation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Priority queue of keys ordered by the time when their score needs to be recomputed.
+ * Each key is scheduled at most once. Rescheduling a key replaces its previous due time, outdated queue entries
+ * are skipped when polled.
+ */
+class ScoreRecomputationQueue<K> {
+    private record Entry<K>(long dueTime, K key) {
+    }
+
+    private final PriorityQueue<Entry<K>> queue = new PriorityQueue<>((a, b) -> Long.compare(a.dueTime, b.dueTime));
+    private final Map<K, Long> dueTimeByKey = new HashMap<>();
+
+    synchronized void schedule(K key, long dueTime) {
+        if (dueTime == Long.MAX_VALUE) {
+            dueTimeByKey.remove(key);
+            return;
+        }
+        Long previous = dueTimeByKey.put(key, dueTime);
+        if (previous == null || previous != dueTime) {
+            queue.add(new Entry<>(dueTime, key));
+        }
+    }
+
+    synchronized void remove(K key) {
+        dueTimeByKey.remove(key);
+    }
+
+    /**
+     * Removes and returns all keys with a due time not after the given time.
+     */
+    synchronized List<K> pollDue(long now) {
+        List<K> result = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().dueTime <= now) {
+            Entry<K> entry = queue.poll();
+            Long dueTime = dueTimeByKey.get(entry.key);
+            if (dueTime != null && dueTime == entry.dueTime) {
+                dueTimeByKey.remove(entry.key);
+                result.add(entry.key);
+            }
+        }
+        // Outdated entries accumulate only if keys get rescheduled frequently before being due.
+        if (queue.size() > 2 * dueTimeByKey.size() + 1024) {
+            queue.removeIf(entry -> {
+                Long dueTime = dueTimeByKey.get(entry.key);
+                return dueTime == null || dueTime != entry.dueTime;
+            });
+        }
+        return result;
+    }
+
+    synchronized int size() {
+        return dueTimeByKey.size();
+    }
+}
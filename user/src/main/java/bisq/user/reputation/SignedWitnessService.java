@@ -164,6 +164,17 @@ public class SignedWitnessService extends SourceReputationService<AuthorizedSign
         return doCalculateScore(getAgeInDays(data.getWitnessSignDate()));
     }
 
+    @Override
+    protected long getNextScoreChangeTime(AuthorizedSignedWitnessData data, long now) {
+        long witnessSignDate = data.getWitnessSignDate();
+        // Score stays 0 until 61 days of age
+        long firstScoreTime = witnessSignDate + 61 * DAY_AS_MS;
+        if (now < firstScoreTime) {
+            return firstScoreTime;
+        }
+        return getNextDayOfAgeTime(witnessSignDate, now, MAX_DAYS_AGE_SCORE);
+    }
+
     public static long doCalculateScore(long ageInDays) {
         checkArgument(ageInDays >= 0);
         if (ageInDays <= 60) {
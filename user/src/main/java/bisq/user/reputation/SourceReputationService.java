@@ -25,6 +25,7 @@ import bisq.common.data.Pair;
 import bisq.common.observable.Observable;
 import bisq.common.observable.Pin;
 import bisq.common.observable.map.HashMapObserver;
+import bisq.common.timer.Scheduler;
 import bisq.network.NetworkService;
 import bisq.network.p2p.message.EnvelopePayloadMessage;
 import bisq.network.p2p.services.data.storage.auth.authorized.AuthorizedData;
@@ -37,7 +38,9 @@ import bisq.user.profile.UserProfileService;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -54,6 +57,9 @@ public abstract class SourceReputationService<T extends AuthorizedDistributedDat
     protected static final long DAY_AS_MS = TimeUnit.DAYS.toMillis(1);
     public static final int MAX_AGE_BOOST_DAYS = 365;
     public static final double MAX_AGE_BOOST_PERIOD = TimeUnit.DAYS.toMillis(MAX_AGE_BOOST_DAYS);
+    // The age boost changes continuously, we recompute it only once per day.
+    protected static final long AGE_BOOST_RECOMPUTE_INTERVAL = DAY_AS_MS;
+    private static final long RECOMPUTE_CHECK_INTERVAL = TimeUnit.MINUTES.toMillis(1);
 
     public static long getAgeInDays(long date) {
         return (System.currentTimeMillis() - date) / DAY_AS_MS;
@@ -70,9 +76,14 @@ public abstract class SourceReputationService<T extends AuthorizedDistributedDat
     protected final Map<String, Long> scoreByUserProfileId = new ConcurrentHashMap<>();
     @Getter
     protected final Observable<Pair<String, Long>> userProfileIdScorePair = new Observable<>();
+    // Scores changed by the periodic recomputation are published as one batch
+    @Getter
+    protected final Observable<List<Pair<String, Long>>> changedUserProfileScores = new Observable<>();
     private final Map<ByteArray, Set<T>> pendingDataSetByHash = new ConcurrentHashMap<>();
     private final Map<ByteArray, UserProfile> userProfileByUserProfileKey = new ConcurrentHashMap<>();
+    private final ScoreRecomputationQueue<String> scoreRecomputationQueue = new ScoreRecomputationQueue<>();
     private Pin userProfileByIdPin;
+    private Scheduler recomputeScoresScheduler;
 
 
     public SourceReputationService(NetworkService networkService,
@@ -105,16 +116,27 @@ public abstract class SourceReputationService<T extends AuthorizedDistributedDat
 
             @Override
             public void remove(Object key) {
+                if (key instanceof String userProfileId) {
+                    scoreRecomputationQueue.remove(userProfileId);
+                }
             }
 
             @Override
             public void clear() {
             }
         });
+        recomputeScoresScheduler = Scheduler.run(this::recomputeDueScores)
+                .host(this)
+                .runnableName("recomputeDueScores")
+                .periodically(RECOMPUTE_CHECK_INTERVAL);
         return CompletableFuture.completedFuture(true);
     }
 
     public CompletableFuture<Boolean> shutdown() {
+        if (recomputeScoresScheduler != null) {
+            recomputeScoresScheduler.stop();
+            recomputeScoresScheduler = null;
+        }
         if (userProfileByIdPin != null) {
             userProfileByIdPin.unbind();
             userProfileByIdPin = null;
@@ -156,9 +178,46 @@ public abstract class SourceReputationService<T extends AuthorizedDistributedDat
     protected void putScore(String userProfileId, Set<T> dataSet) {
         long score = dataSet.stream().mapToLong(this::calculateScore).sum();
         scoreByUserProfileId.put(userProfileId, score);
+        scheduleScoreRecomputation(userProfileId, dataSet);
         userProfileIdScorePair.set(new Pair<>(userProfileId, score));
     }
 
+    protected void removeScore(String userProfileId) {
+        scoreRecomputationQueue.remove(userProfileId);
+        if (scoreByUserProfileId.remove(userProfileId) != null) {
+            userProfileIdScorePair.set(new Pair<>(userProfileId, 0L));
+        }
+    }
+
+    /**
+     * As the score depends on the age of the data it changes over time. Implementations return the time when the
+     * score of the given data changes next, so that we only need to recompute the scores which are due.
+     *
+     * @return The next time the score changes, or Long.MAX_VALUE if the score will not change anymore.
+     */
+    protected long getNextScoreChangeTime(T data, long now) {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * @return The start of the next day of age if the age is below maxDays, otherwise Long.MAX_VALUE.
+     */
+    protected static long getNextDayOfAgeTime(long date, long now, long maxDays) {
+        long ageInDays = Math.max(0, (now - date) / DAY_AS_MS);
+        if (ageInDays >= maxDays) {
+            return Long.MAX_VALUE;
+        }
+        return date + (ageInDays + 1) * DAY_AS_MS;
+    }
+
+    protected static long getNextAgeBoostChangeTime(long eventTime, long now) {
+        long maxAgeBoostTime = eventTime + (long) MAX_AGE_BOOST_PERIOD;
+        if (now >= maxAgeBoostTime) {
+            return Long.MAX_VALUE;
+        }
+        return Math.min(maxAgeBoostTime, now + AGE_BOOST_RECOMPUTE_INTERVAL);
+    }
+
     protected boolean send(UserIdentity userIdentity, EnvelopePayloadMessage request) {
         checkArgument(!bannedUserService.isUserProfileBanned(userIdentity.getUserProfile()));
         if (authorizedBondedRolesService.getAuthorizedOracleNodes().isEmpty()) {
@@ -186,6 +245,40 @@ public abstract class SourceReputationService<T extends AuthorizedDistributedDat
         return 1 + ageFactor;
     }
 
+    private void scheduleScoreRecomputation(String userProfileId, Set<T> dataSet) {
+        long now = System.currentTimeMillis();
+        long nextScoreChangeTime = dataSet.stream()
+                .mapToLong(data -> getNextScoreChangeTime(data, now))
+                .min()
+                .orElse(Long.MAX_VALUE);
+        scoreRecomputationQueue.schedule(userProfileId, nextScoreChangeTime);
+    }
+
+    private void recomputeDueScores() {
+        List<String> dueUserProfileIds = scoreRecomputationQueue.pollDue(System.currentTimeMillis());
+        if (dueUserProfileIds.isEmpty()) {
+            return;
+        }
+
+        List<Pair<String, Long>> changedScores = new ArrayList<>();
+        dueUserProfileIds.forEach(userProfileId -> userProfileService.findUserProfile(userProfileId)
+                .flatMap(userProfile -> Optional.ofNullable(dataSetByHash.get(getUserProfileKey(userProfile))))
+                .ifPresent(dataSet -> {
+                    // Clone to avoid ConcurrentModificationException
+                    Set<T> clone = new HashSet<>(dataSet);
+                    long score = clone.stream().mapToLong(this::calculateScore).sum();
+                    Long previousScore = scoreByUserProfileId.put(userProfileId, score);
+                    scheduleScoreRecomputation(userProfileId, clone);
+                    if (previousScore == null || previousScore != score) {
+                        changedScores.add(new Pair<>(userProfileId, score));
+                    }
+                }));
+        log.debug("Recomputed {} due scores, {} have changed", dueUserProfileIds.size(), changedScores.size());
+        if (!changedScores.isEmpty()) {
+            changedUserProfileScores.set(List.copyOf(changedScores));
+        }
+    }
+
     private void handleAddedUserProfile(UserProfile userProfile) {
         ByteArray userProfileKey = getUserProfileKey(userProfile);
         userProfileByUserProfileKey.putIfAbsent(userProfileKey, userProfile);
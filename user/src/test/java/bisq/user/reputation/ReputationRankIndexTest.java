@@ -0,0 +1,70 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.user.reputation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReputationRankIndexTest {
+
+    @Test
+    void testGetRanking() {
+        ReputationRankIndex rankIndex = new ReputationRankIndex();
+        assertEquals(0, rankIndex.getRanking(1));
+
+        rankIndex.put("a", 1);
+        rankIndex.put("b", 2);
+        rankIndex.put("c", 2);
+        rankIndex.put("d", 4);
+        rankIndex.put("e", 5);
+        assertEquals(5, rankIndex.size());
+        assertEquals(5, rankIndex.getRanking(1));
+        assertEquals(4, rankIndex.getRanking(2));
+        assertEquals(2, rankIndex.getRanking(4));
+        assertEquals(1, rankIndex.getRanking(5));
+
+        // Score change of an existing entry
+        rankIndex.put("a", 6);
+        assertEquals(5, rankIndex.size());
+        assertEquals(1, rankIndex.getRanking(6));
+        assertEquals(5, rankIndex.getRanking(2));
+
+        rankIndex.remove("a");
+        assertEquals(4, rankIndex.size());
+        assertEquals(1, rankIndex.getRanking(5));
+    }
+
+    @Test
+    void testGetUserProfileIdsByRanking() {
+        ReputationRankIndex rankIndex = new ReputationRankIndex();
+        for (int i = 0; i < 100; i++) {
+            rankIndex.put("id" + i, i);
+        }
+        assertEquals(List.of("id99", "id98", "id97"), rankIndex.getUserProfileIdsByRanking(0, 3));
+        assertEquals(List.of("id49", "id48"), rankIndex.getUserProfileIdsByRanking(50, 2));
+        assertEquals(List.of("id1", "id0"), rankIndex.getUserProfileIdsByRanking(98, 10));
+        assertEquals(List.of(), rankIndex.getUserProfileIdsByRanking(100, 10));
+        assertEquals(100, rankIndex.getUserProfileIdsByRanking(0, 1000).size());
+
+        rankIndex.put("id0", 1000);
+        assertEquals(List.of("id0", "id99"), rankIndex.getUserProfileIdsByRanking(0, 2));
+    }
+}
@@ -19,22 +19,10 @@ package bisq.user.reputation;
 
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class ReputationServiceTest {
 
-    @Test
-    void testGetIndex() {
-        List<Long> scores = List.of(1L, 2L, 3L, 4L, 5L);
-        assertEquals(0, ReputationService.getIndex(1, scores));
-        assertEquals(4, ReputationService.getIndex(5, scores));
-        assertEquals(1, ReputationService.getIndex(2, List.of(1L, 2L, 2L, 4L, 5L)));
-        assertEquals(-1, ReputationService.getIndex(0, scores));
-        assertEquals(-1, ReputationService.getIndex(1, List.of()));
-    }
-
     @Test
     void testGetFiveSystemScore() {
         assertEquals(0, ReputationService.getFiveSystemScore(0));
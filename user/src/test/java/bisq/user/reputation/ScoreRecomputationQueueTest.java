@@ -0,0 +1,50 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.user.reputation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ScoreRecomputationQueueTest {
+
+    @Test
+    void testPollDue() {
+        ScoreRecomputationQueue<String> queue = new ScoreRecomputationQueue<>();
+        queue.schedule("a", 10);
+        queue.schedule("b", 20);
+        queue.schedule("c", 30);
+        queue.schedule("d", Long.MAX_VALUE);
+        assertEquals(3, queue.size());
+
+        assertEquals(List.of(), queue.pollDue(5));
+        assertEquals(List.of("a"), queue.pollDue(10));
+        assertEquals(List.of(), queue.pollDue(10));
+
+        // Rescheduling replaces the previous due time
+        queue.schedule("b", 40);
+        assertEquals(List.of("c"), queue.pollDue(35));
+
+        queue.schedule("a", 50);
+        queue.remove("a");
+        assertEquals(List.of("b"), queue.pollDue(100));
+        assertEquals(0, queue.size());
+    }
+}